@@ -0,0 +1,66 @@
+package de.gurkenlabs.litiengine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import de.gurkenlabs.litiengine.configuration.ClientConfiguration;
+
+/**
+ * The built-in {@code IFramePacer} strategies that can be selected via the {@code ClientConfiguration}.
+ *
+ * <p>
+ * The strategies trade CPU usage for timing precision:
+ * </p>
+ * <ul>
+ * <li>{@link #SLEEP}: Lowest CPU usage, millisecond precision. Suitable for servers and headless simulations.</li>
+ * <li>{@link #PARK}: Low CPU usage, precision bound by the OS timer slack (typically well below a millisecond).</li>
+ * <li>{@link #PRECISE}: Parks the thread for most of the remaining time and spins for the last fraction of a
+ * millisecond. Lowest jitter, recommended for clients with high refresh rates.</li>
+ * </ul>
+ *
+ * @see ClientConfiguration#setFramePacing(FramePacing)
+ */
+public enum FramePacing implements IFramePacer {
+  SLEEP {
+    @Override
+    public void waitUntil(long deadline) throws InterruptedException {
+      final long remaining = deadline - System.nanoTime();
+      if (remaining > 0) {
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(remaining), (int) (remaining % 1_000_000L));
+      }
+    }
+  },
+
+  PARK {
+    @Override
+    public void waitUntil(long deadline) throws InterruptedException {
+      park(deadline, 0);
+    }
+  },
+
+  PRECISE {
+    @Override
+    public void waitUntil(long deadline) throws InterruptedException {
+      park(deadline, SPIN_THRESHOLD);
+      while (deadline - System.nanoTime() > 0) {
+        Thread.onSpinWait();
+      }
+    }
+  };
+
+  /**
+   * The remaining time in nanoseconds for which the {@link #PRECISE} pacing busy-waits instead of parking the thread.
+   * This covers the typical wake-up latency of {@link LockSupport#parkNanos(long)}.
+   */
+  public static final long SPIN_THRESHOLD = TimeUnit.MICROSECONDS.toNanos(500);
+
+  private static void park(long deadline, long threshold) throws InterruptedException {
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > threshold) {
+      LockSupport.parkNanos(remaining - threshold);
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+  }
+}
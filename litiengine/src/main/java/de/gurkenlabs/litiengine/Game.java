@@ -5,6 +5,7 @@ import java.awt.event.KeyEvent;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -20,8 +21,10 @@ import de.gurkenlabs.litiengine.configuration.GameConfiguration;
 import de.gurkenlabs.litiengine.configuration.GraphicConfiguration;
 import de.gurkenlabs.litiengine.configuration.InputConfiguration;
 import de.gurkenlabs.litiengine.configuration.SoundConfiguration;
+import de.gurkenlabs.litiengine.coroutines.CoroutineEngine;
 import de.gurkenlabs.litiengine.entities.ICollisionEntity;
 import de.gurkenlabs.litiengine.entities.IMobileEntity;
+import de.gurkenlabs.litiengine.environment.BackgroundSimulation;
 import de.gurkenlabs.litiengine.environment.Environment;
 import de.gurkenlabs.litiengine.environment.GameWorld;
 import de.gurkenlabs.litiengine.environment.tilemap.ICustomPropertyProvider;
@@ -37,6 +40,8 @@ import de.gurkenlabs.litiengine.gui.screens.ScreenManager;
 import de.gurkenlabs.litiengine.input.Input;
 import de.gurkenlabs.litiengine.input.Input.InputGameAdapter;
 import de.gurkenlabs.litiengine.physics.PhysicsEngine;
+import de.gurkenlabs.litiengine.replay.ReplayPlayer;
+import de.gurkenlabs.litiengine.replay.ReplayRecorder;
 import de.gurkenlabs.litiengine.resources.Resources;
 import de.gurkenlabs.litiengine.sound.Sound;
 import de.gurkenlabs.litiengine.sound.SoundEngine;
@@ -76,6 +81,20 @@ public final class Game {
   public static final String COMMANDLINE_ARG_RELEASE = "-release";
   public static final String COMMANDLINE_ARG_NOGUI = "-nogui";
 
+  /**
+   * Records the session to the replay log that is specified by the subsequent argument.
+   *
+   * @see ReplayRecorder
+   */
+  public static final String COMMANDLINE_ARG_RECORD = "-record";
+
+  /**
+   * Drives the game from the replay log that is specified by the subsequent argument and exits once it has finished.
+   *
+   * @see ReplayPlayer
+   */
+  public static final String COMMANDLINE_ARG_REPLAY = "-replay";
+
   private static final List<GameListener> gameListeners = new CopyOnWriteArrayList<>();
 
   private static final RenderEngine graphicsEngine = new RenderEngine();
@@ -89,6 +108,7 @@ public final class Game {
   private static final GameRandom random = new GameRandom();
   private static GameInfo gameInfo = new GameInfo();
   private static final TweenEngine tweenEngine = new TweenEngine();
+  private static final CoroutineEngine coroutineEngine = new CoroutineEngine();
 
   private static GameLoop gameLoop;
   private static ScreenManager screenManager;
@@ -309,13 +329,20 @@ public final class Game {
    * world.</i>
    * </p>
    *
+   * <p>
+   * <i>While an environment is simulated in the background, this returns the physics engine of that environment on the
+   * simulating thread.</i>
+   * </p>
+   *
    * @return The engine's {@code PhysicsEngine} component.
    * @see PhysicsEngine
+   * @see BackgroundSimulation
    * @see PhysicsEngine#move(IMobileEntity, float)
    * @see ICollisionEntity
    */
   public static PhysicsEngine physics() {
-    return physicsEngine;
+    PhysicsEngine simulationPhysics = BackgroundSimulation.currentPhysics();
+    return simulationPhysics != null ? simulationPhysics : physicsEngine;
   }
 
   /**
@@ -351,14 +378,42 @@ public final class Game {
    * framerate.</i>
    * </p>
    *
+   * <p>
+   * <i>While an environment is simulated in the background, this returns the loop of that environment on the simulating
+   * thread.</i>
+   * </p>
+   *
    * @return The game's main loop.
    * @see ClientConfiguration#getMaxFps()
+   * @see BackgroundSimulation
    * @see IUpdateable
    * @see ILoop#attach(IUpdateable)
    * @see ILoop#detach(IUpdateable)
    */
   public static IGameLoop loop() {
-    return gameLoop;
+    IGameLoop simulationLoop = BackgroundSimulation.currentLoop();
+    return simulationLoop != null ? simulationLoop : gameLoop;
+  }
+
+  /**
+   * Executes the specified operation on the game loop's thread. This is the preferred way for foreign threads (e.g. Swing
+   * listeners) to modify the game state without stalling the loop by acquiring its lock.
+   *
+   * <p>
+   * If the game has not been initialized yet, the operation is executed immediately.
+   * </p>
+   *
+   * @param operation
+   *          The operation to execute.
+   * @see IGameLoop#execute(Runnable)
+   */
+  public static void invokeOnLoop(Runnable operation) {
+    if (gameLoop == null) {
+      operation.run();
+      return;
+    }
+
+    gameLoop.execute(operation);
   }
 
   /**
@@ -433,6 +488,16 @@ public final class Game {
     return tweenEngine;
   }
 
+  /**
+   * Gets the game's coroutine manager that resumes all currently running {@code Coroutine} instances with every tick of
+   * the game loop.
+   *
+   * @return The game's coroutine manager.
+   */
+  public static CoroutineEngine coroutines() {
+    return coroutineEngine;
+  }
+
   /**
    *
    * @param preInitialization
@@ -504,6 +569,12 @@ public final class Game {
       Locale.setDefault(Locale.of(config().client().getCountry(), config().client().getLanguage()));
 
       gameLoop = new GameLoop("Main Update Loop", config().client().getMaxFps());
+      gameLoop.setFramePacer(config().client().getFramePacing());
+      config().client().onChanged(event -> {
+        if ("framePacing".equals(event.getPropertyName())) {
+          gameLoop.setFramePacer(config().client().getFramePacing());
+        }
+      });
       loop().attach(physics());
       loop().attach(world());
 
@@ -607,6 +678,7 @@ public final class Game {
 
       gameLoop.start();
       tweenEngine.start();
+      coroutineEngine.start();
       soundEngine.start();
 
       for (final GameListener listener : gameListeners) {
@@ -701,6 +773,7 @@ public final class Game {
     config().save();
     gameLoop.terminate();
     tweenEngine.terminate();
+    coroutineEngine.terminate();
     soundEngine.terminate();
 
     world().clear();
@@ -730,5 +803,42 @@ public final class Game {
     if (ArrayUtilities.contains(args, COMMANDLINE_ARG_NOGUI, true)) {
       hideGUI(true);
     }
+
+    String recordFile = getArgumentValue(args, COMMANDLINE_ARG_RECORD);
+    if (recordFile != null) {
+      launchWithGame(new ReplayRecorder(Path.of(recordFile)));
+    }
+
+    String replayFile = getArgumentValue(args, COMMANDLINE_ARG_REPLAY);
+    if (replayFile != null) {
+      ReplayPlayer player = new ReplayPlayer(Path.of(replayFile));
+      player.onFinished(p -> exit());
+      launchWithGame(player);
+    }
+  }
+
+  private static String getArgumentValue(String[] args, String argument) {
+    for (int i = 0; i < args.length - 1; i++) {
+      if (argument.equalsIgnoreCase(args[i])) {
+        return args[i + 1];
+      }
+    }
+
+    return null;
+  }
+
+  private static void launchWithGame(ILaunchable launchable) {
+    addGameListener(new GameListener() {
+      @Override
+      public void initialized(String... args) {
+        // the launchable is armed before the game loop is started and begins on the loop's thread with the first tick
+        launchable.start();
+      }
+
+      @Override
+      public void terminated() {
+        launchable.terminate();
+      }
+    });
   }
 }
@@ -2,12 +2,20 @@ package de.gurkenlabs.litiengine;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import de.gurkenlabs.litiengine.environment.Environment;
 import de.gurkenlabs.litiengine.graphics.RenderComponent;
 import de.gurkenlabs.litiengine.input.Input;
+import de.gurkenlabs.litiengine.input.InputInterceptor;
 import de.gurkenlabs.litiengine.input.Keyboard;
 import de.gurkenlabs.litiengine.input.Mouse;
+import de.gurkenlabs.litiengine.resources.FrameCache;
+import de.gurkenlabs.litiengine.resources.Resources;
 
 /**
  * The main update loop that executes the game logic by calling the update functions on all registered
@@ -19,6 +27,8 @@ import de.gurkenlabs.litiengine.input.Mouse;
  * @see RenderComponent#render()
  */
 public final class GameLoop extends UpdateLoop implements IGameLoop {
+  private static final Logger log = Logger.getLogger(GameLoop.class.getName());
+
   /**
    * The tick {@link #getDeltaTime()} at which we consider the game not to run fluently anymore.
    * <ul>
@@ -32,6 +42,7 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
   private static int executionIndex = -1;
 
   private final List<TimedAction> actions;
+  private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
 
   private float timeScale;
 
@@ -51,6 +62,20 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
     return a.getId();
   }
 
+  @Override
+  public void execute(Runnable command) {
+    if (command == null) {
+      return;
+    }
+
+    if (Thread.currentThread() == this || !this.isAlive() || this.isLockHeldByCurrentThread()) {
+      command.run();
+      return;
+    }
+
+    this.commands.add(command);
+  }
+
   @Override
   public float getTimeScale() {
     return this.timeScale;
@@ -76,12 +101,15 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
   }
 
   /**
-   * In addition to the normal base implementation, the {@code GameLoop} performs registered action at the required time
-   * and tracks some detailed metrics.
+   * In addition to the normal base implementation, the {@code GameLoop} executes commands that were queued by other
+   * threads, performs registered action at the required time and tracks some detailed metrics.
+   *
+   * @see #execute(Runnable)
    */
   @Override
   protected void process() {
     this.updateInvariableEngineComponents();
+    this.executeCommands();
 
     if (this.getTimeScale() > 0) {
       super.process();
@@ -90,6 +118,12 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
 
     Game.world().camera().updateFocus();
     if (!Game.isInNoGUIMode()) {
+      // late update: determine the visible entities and their render order for the frame of the current tick
+      final Environment environment = Game.world().environment();
+      if (environment != null) {
+        environment.updateRenderLists();
+      }
+
       Game.window().getRenderComponent().render();
     }
 
@@ -102,6 +136,27 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
     return (long) (1000 / (this.getTickRate() * scale));
   }
 
+  @Override
+  protected long getExpectedDeltaNanos() {
+    final float scale = this.getTimeScale() > 0 ? this.getTimeScale() : 1;
+    return (long) (1_000_000_000.0 / (this.getTickRate() * scale));
+  }
+
+  private void executeCommands() {
+    Runnable command;
+    while ((command = this.commands.poll()) != null) {
+      try {
+        command.run();
+      } catch (final Exception e) {
+        if (Game.config().client().exitOnError()) {
+          throw e;
+        }
+
+        log.log(Level.SEVERE, e.getMessage(), e);
+      }
+    }
+  }
+
   private void executeTimedActions() {
     final List<TimedAction> executed = new ArrayList<>();
     for (final TimedAction action : this.actions) {
@@ -118,13 +173,22 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
   private void trackRenderMetric() {
     Game.metrics().setEstimatedMaxFramesPerSecond((int) (1000.0 / this.getProcessTime()));
     if (Game.config().debug().trackRenderTimes()) {
-      Game.metrics().trackRenderTime("total", this.getProcessTime());
+      // the frame cache counts its lookups since it was last cleared
+      final FrameCache frames = Resources.frames();
+      Game.metrics().trackRenderTime("total", this.getProcessTime(),
+          new GameMetrics.RenderInfo("frame cache hits", frames.getHits()),
+          new GameMetrics.RenderInfo("frame cache misses", frames.getMisses()));
     }
   }
 
   private void updateInvariableEngineComponents() {
     Game.audio().update();
 
+    final InputInterceptor interceptor = Input.getInterceptor();
+    if (interceptor != null) {
+      interceptor.update();
+    }
+
     ((Keyboard) Input.keyboard()).update();
     ((Mouse) Input.mouse()).update();
 
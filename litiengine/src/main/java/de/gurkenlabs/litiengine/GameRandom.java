@@ -27,6 +27,16 @@ public final class GameRandom extends java.util.Random {
   GameRandom() {
   }
 
+  /**
+   * Initializes a new random number generator with the specified seed. This can be used to provide a deterministic
+   * random stream that is independent of the game's {@code Game.random()} instance.
+   *
+   * @param seed The initial seed.
+   */
+  public GameRandom(long seed) {
+    super(seed);
+  }
+
   /**
    * Sets the seed of this random number generator using a {@code String} seed.
    *
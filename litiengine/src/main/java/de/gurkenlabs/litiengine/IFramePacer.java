@@ -0,0 +1,28 @@
+package de.gurkenlabs.litiengine;
+
+/**
+ * The functional interface {@code IFramePacer} defines how a loop waits for the remaining time of a tick once the actual
+ * processing has been performed.
+ *
+ * <p>
+ * Deadlines are absolute points in time on the {@link System#nanoTime()} scale. Because the loop advances its deadline
+ * by exactly one expected delta per tick, a pacer never needs to compensate for rounding errors or overruns itself.
+ * </p>
+ *
+ * @see FramePacing
+ * @see ILoop#setFramePacer(IFramePacer)
+ */
+@FunctionalInterface
+public interface IFramePacer {
+
+  /**
+   * Blocks the calling thread until the specified deadline has been reached. Implementations must return immediately if
+   * the deadline already passed.
+   *
+   * @param deadline
+   *          The absolute deadline in nanoseconds, as returned by {@link System#nanoTime()}.
+   * @throws InterruptedException
+   *           If the thread was interrupted while waiting.
+   */
+  void waitUntil(long deadline) throws InterruptedException;
+}
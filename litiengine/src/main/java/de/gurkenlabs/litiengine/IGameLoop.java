@@ -37,6 +37,29 @@ public interface IGameLoop extends ILoop {
    */
   void removeAction(int id);
 
+  /**
+   * Executes the specified command on the loop's thread.
+   *
+   * <p>
+   * If called from the loop's thread itself, from a thread that holds the loop's lock or while the loop is not running,
+   * the command is executed immediately.
+   * Otherwise, it is added to a lock-free command queue that is drained at the beginning of the next tick, right after
+   * input processing and before any attached {@code IUpdateable} is updated. Commands are executed in the order they were
+   * added and the calling thread never blocks on the loop's lock.
+   * </p>
+   *
+   * <p>
+   * This should be used by foreign threads (e.g. Swing listeners, network handlers or loading threads) that need to
+   * modify the game state.
+   * </p>
+   *
+   * @param command
+   *          The command to execute on the loop's thread.
+   *
+   * @see Game#invokeOnLoop(Runnable)
+   */
+  void execute(Runnable command);
+
   /**
    * Gets the game loop's current time scale (default = 1).
    * 
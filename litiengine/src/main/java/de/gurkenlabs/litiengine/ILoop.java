@@ -87,4 +87,22 @@ public interface ILoop extends ILaunchable {
    *          The tickrate of the loop.
    */
   void setTickRate(int tickRate);
+
+  /**
+   * Gets the {@code IFramePacer} that is used to wait for the remainder of each tick.
+   *
+   * @return The frame pacer of this loop.
+   */
+  IFramePacer getFramePacer();
+
+  /**
+   * Sets the {@code IFramePacer} that is used to wait for the remainder of each tick. This allows choosing between low
+   * CPU usage (e.g. for servers) and low frame time jitter (e.g. for clients).
+   *
+   * @param framePacer
+   *          The frame pacer to use; {@code null} resets the default {@link FramePacing#SLEEP} pacing.
+   *
+   * @see FramePacing
+   */
+  void setFramePacer(IFramePacer framePacer);
 }
@@ -19,15 +19,16 @@ import de.gurkenlabs.litiengine.util.TimeUtilities;
 public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
   private static final Logger log = Logger.getLogger(UpdateLoop.class.getName());
   private final Set<IUpdateable> updatables = ConcurrentHashMap.newKeySet();
-  private final Lock lock = new ReentrantLock();
+  private final ReentrantLock lock = new ReentrantLock();
 
   private int tickRate;
+  private IFramePacer framePacer = FramePacing.SLEEP;
 
   private long totalTicks;
 
   private long deltaTime;
   private double processTime;
-  private double delayError;
+  private long tickDeadline;
 
   protected UpdateLoop(String name, int tickRate) {
     super(name);
@@ -46,6 +47,7 @@ public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
    */
   @Override
   public void run() {
+    this.tickDeadline = System.nanoTime();
     while (!interrupted()) {
       ++this.totalTicks;
 
@@ -117,15 +119,38 @@ public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
     return this.deltaTime;
   }
 
+  /**
+   * Overrides the delta time of the current tick. The override is replaced by the measured delta time once the tick has
+   * been processed. This is used to replay the timing of a recorded session.
+   *
+   * @param deltaTime
+   *          The delta time in milliseconds that is reported for the current tick.
+   * @see #getDeltaTime()
+   */
+  public void overrideDeltaTime(long deltaTime) {
+    this.deltaTime = deltaTime;
+  }
+
   @Override
   public double getProcessTime() {
     return this.processTime;
   }
 
+  @Override
   public void setTickRate(int tickRate) {
     this.tickRate = tickRate;
   }
 
+  @Override
+  public IFramePacer getFramePacer() {
+    return this.framePacer;
+  }
+
+  @Override
+  public void setFramePacer(IFramePacer framePacer) {
+    this.framePacer = framePacer != null ? framePacer : FramePacing.SLEEP;
+  }
+
   protected Set<IUpdateable> getUpdatables() {
     return this.updatables;
   }
@@ -142,6 +167,16 @@ public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
     return (long) (1000.0 / this.tickRate);
   }
 
+  /**
+   * Gets the expected delta time of a tick in nanoseconds. In contrast to {@link #getExpectedDelta()}, this is not
+   * truncated to whole milliseconds and therefore used to schedule the tick deadlines.
+   *
+   * @return The expected delta time of a tick in nanoseconds.
+   */
+  protected long getExpectedDeltaNanos() {
+    return (long) (1_000_000_000.0 / this.tickRate);
+  }
+
   /**
    * Calls the {@code update()} procedure on all registered instances.
    * 
@@ -164,37 +199,47 @@ public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
   }
 
   /**
-   * This method determines how long the current tick should be delayed to match the expected delta time for the specified
-   * tick rate. It then delays the execution of this loop by pausing the thread for the necessary delay.
-   * 
-   * @return The delay for which this tick was paused after the actual processing.
+   * This method determines the deadline of the current tick and delays the execution of this loop until the deadline is
+   * met, using the configured {@code IFramePacer}.
+   *
+   * <p>
+   * Deadlines are scheduled on an absolute time line: each tick's deadline is the previous deadline plus the expected
+   * delta time. A tick that overruns its deadline is therefore compensated by a shorter delay of the subsequent tick
+   * instead of shifting all following ticks. If the loop falls behind by more than one whole tick (e.g. after loading a
+   * map), the schedule is re-anchored to the current time to prevent a burst of catch-up ticks.
+   * </p>
+   *
+   * @return The delay in milliseconds for which this tick was paused after the actual processing.
    * @throws InterruptedException
-   *           If the thread was interrupted while sleeping
+   *           If the thread was interrupted while waiting
+   *
+   * @see #getFramePacer()
    */
   protected double delay() throws InterruptedException {
-    double delay = Math.max(0, this.getExpectedDelta() - this.getProcessTime());
-    long sleepDelay = Math.round(delay);
-
-    // since thread sleep only supports long values and no double values, there will always be some
-    // error that we need to account for
-    // we'll aggregate the error until its absolute value is greater than 1 and then add it to the
-    // current delay and subtract it from the current delay error
-    this.delayError += delay - sleepDelay;
-    if (Math.abs(this.delayError) > 1) {
-      long errorAdjustment = (long) this.delayError;
-      sleepDelay += errorAdjustment;
-      this.delayError -= errorAdjustment;
-    }
+    final long expected = this.getExpectedDeltaNanos();
+    final long now = System.nanoTime();
 
-    if (delay > 0) {
-      sleep(sleepDelay);
+    this.tickDeadline += expected;
+    if (now - this.tickDeadline > expected) {
+      this.tickDeadline = now;
     }
 
-    return delay;
+    this.getFramePacer().waitUntil(this.tickDeadline);
+    return TimeUtilities.nanoToMs(System.nanoTime() - now);
   }
 
   @Override
   public Lock getLock() {
     return this.lock;
   }
+
+  /**
+   * Determines whether the current thread holds the lock of this loop, i.e. whether the loop is guaranteed not to
+   * process concurrently.
+   *
+   * @return True if the current thread holds the lock of this loop; otherwise false.
+   */
+  protected boolean isLockHeldByCurrentThread() {
+    return this.lock.isHeldByCurrentThread();
+  }
 }
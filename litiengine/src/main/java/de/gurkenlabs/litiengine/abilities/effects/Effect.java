@@ -6,6 +6,7 @@ import de.gurkenlabs.litiengine.abilities.Ability;
 import de.gurkenlabs.litiengine.entities.EntityDistanceComparator;
 import de.gurkenlabs.litiengine.entities.ICombatEntity;
 import de.gurkenlabs.litiengine.entities.RelativeEntityComparator;
+import de.gurkenlabs.litiengine.environment.Environment;
 import java.awt.Shape;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -18,8 +19,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
- * The Class Effect seeks for affected entities in the game's current environment to apply certain
- * effects to them defined by the overwritten implementation of apply/cease.
+ * The Class Effect seeks for affected entities in the environment of the executing entity to apply
+ * certain effects to them defined by the overwritten implementation of apply/cease.
  */
 public abstract class Effect implements IUpdateable {
 
@@ -181,8 +182,21 @@ public abstract class Effect implements IUpdateable {
     this.getFollowUpEffects().forEach(followUp -> followUp.apply(appliance.getImpactArea()));
   }
 
+  /**
+   * Gets all combat entities within the impact area in the environment of the executing entity. This
+   * is not necessarily the active environment because abilities can also be executed in environments
+   * that are simulated in the background.
+   *
+   * @param impactArea The impact area
+   * @return All combat entities whose hit box intersects the impact area.
+   */
   protected Collection<ICombatEntity> getEntitiesInImpactArea(final Shape impactArea) {
-    return Game.world().environment().findCombatEntities(impactArea);
+    final Environment environment = this.getAbility().getExecutor().getEnvironment();
+    if (environment == null) {
+      return Collections.emptyList();
+    }
+
+    return environment.findCombatEntities(impactArea);
   }
 
   protected long getTotalDuration() {
@@ -2,6 +2,8 @@ package de.gurkenlabs.litiengine.configuration;
 
 import java.util.Locale;
 
+import de.gurkenlabs.litiengine.FramePacing;
+
 /**
  * The client configuration contains client specific configuration elements.
  */
@@ -18,6 +20,8 @@ public class ClientConfiguration extends ConfigurationGroup {
 
   private boolean exitOnError;
 
+  private FramePacing framePacing;
+
   /**
    * Instantiates a new client configuration.
    */
@@ -26,6 +30,7 @@ public class ClientConfiguration extends ConfigurationGroup {
     this.setMaxFps(60);
     this.setShowGameMetrics(false);
     this.setExitOnError(false);
+    this.setFramePacing(FramePacing.SLEEP);
 
     this.setLanguage(Locale.getDefault().getLanguage());
     this.setCountry(Locale.getDefault().getCountry());
@@ -73,6 +78,27 @@ public class ClientConfiguration extends ConfigurationGroup {
     this.set("maxFps", Math.max(1, maxFps));
   }
 
+  /**
+   * Gets the strategy that is used by the game loop to wait for the remainder of each tick.
+   *
+   * @return The frame pacing strategy.
+   */
+  public FramePacing getFramePacing() {
+    return this.framePacing;
+  }
+
+  /**
+   * Sets the strategy that is used by the game loop to wait for the remainder of each tick. The default is the
+   * low-CPU {@link FramePacing#SLEEP} pacing. Clients with high refresh rates can opt in to the low-jitter
+   * {@link FramePacing#PRECISE} pacing, which busy-waits for the last fraction of each tick.
+   *
+   * @param framePacing
+   *          The frame pacing strategy.
+   */
+  public void setFramePacing(final FramePacing framePacing) {
+    this.set("framePacing", framePacing);
+  }
+
   public void setShowGameMetrics(final boolean showGameMetrics) {
     this.set("showGameMetrics", showGameMetrics);
   }
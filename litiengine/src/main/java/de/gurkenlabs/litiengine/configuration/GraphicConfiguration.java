@@ -26,6 +26,20 @@ public class GraphicConfiguration extends ConfigurationGroup {
 
   private boolean colorInterpolation;
 
+  private boolean packTextureAtlas;
+
+  private int lightmapResolution;
+
+  private int frameCacheSize;
+
+  private int lightStampCacheSize;
+
+  private int particleStampCacheSize;
+
+  private int rotationVariantCacheSize;
+
+  private int rotationVariants;
+
   /**
    * Instantiates a new graphic configuration.
    */
@@ -40,6 +54,13 @@ public class GraphicConfiguration extends ConfigurationGroup {
     this.setReduceFramesWhenNotFocused(true);
     this.setAntiAliasing(false);
     this.setColorInterpolation(false);
+    this.setPackTextureAtlas(false);
+    this.setLightmapResolution(2);
+    this.setFrameCacheSize(64);
+    this.setLightStampCacheSize(16);
+    this.setParticleStampCacheSize(8);
+    this.setRotationVariantCacheSize(32);
+    this.setRotationVariants(0);
   }
 
   /**
@@ -87,6 +108,86 @@ public class GraphicConfiguration extends ConfigurationGroup {
     return this.colorInterpolation;
   }
 
+  /**
+   * Determines whether the images of all spritesheets and tilesets are packed into texture atlas pages when the game
+   * resources are loaded. This is disabled by default.
+   *
+   * @return True if texture atlas packing is enabled; otherwise false.
+   * @see de.gurkenlabs.litiengine.resources.Spritesheets#pack()
+   */
+  public boolean packTextureAtlas() {
+    return this.packTextureAtlas;
+  }
+
+  /**
+   * Gets the resolution divisor of the lightmap into which dynamic lights are rendered every frame. A value of 2 means
+   * that the lightmap has half the width and height of the viewport.
+   *
+   * @return The resolution divisor of the lightmap.
+   * @see de.gurkenlabs.litiengine.entities.LightSource#isDynamic()
+   */
+  public int getLightmapResolution() {
+    return this.lightmapResolution;
+  }
+
+  /**
+   * Gets the memory budget of the cache for rendered animation frames. Once the cached frames exceed this budget, the
+   * least recently used frames are evicted.
+   *
+   * @return The memory budget of the frame cache in megabytes.
+   * @see de.gurkenlabs.litiengine.resources.FrameCache
+   */
+  public int getFrameCacheSize() {
+    return this.frameCacheSize;
+  }
+
+  /**
+   * Gets the memory budget of the cache for the pre-rendered stamp images of light sources. Once the cached stamps
+   * exceed this budget, the least recently used stamps are evicted.
+   *
+   * @return The memory budget of the light stamp cache in megabytes.
+   */
+  public int getLightStampCacheSize() {
+    return this.lightStampCacheSize;
+  }
+
+  /**
+   * Gets the memory budget of the cache for the pre-rasterized stamp images of shape particles. Once the cached stamps
+   * exceed this budget, the least recently used stamps are evicted.
+   *
+   * @return The memory budget of the particle stamp cache in megabytes.
+   */
+  public int getParticleStampCacheSize() {
+    return this.particleStampCacheSize;
+  }
+
+  /**
+   * Gets the memory budget of the cache for the pre-rendered rotation variants of sprites. Once the cached variants
+   * exceed this budget, the least recently used variants are evicted.
+   *
+   * @return The memory budget of the rotation variant cache in megabytes.
+   * @see #getRotationVariants()
+   */
+  public int getRotationVariantCacheSize() {
+    return this.rotationVariantCacheSize;
+  }
+
+  /**
+   * Gets the number of discrete variants into which rotation angles of sprites are quantized. Each rotated variant of a
+   * sprite is rendered once and then reused for all angles that fall into it. A value of 0 disables the quantization,
+   * so that sprites are rotated by their exact angle every time they are rendered. This is disabled by default because
+   * quantized angles visibly change the rotation of sprites and of the {@code RotationImageEffect}; 64 variants are a
+   * reasonable value for particles and projectiles.
+   *
+   * @return The number of rotation variants per full rotation.
+   * @see de.gurkenlabs.litiengine.graphics.ImageRenderer#renderRotationVariant(java.awt.Graphics2D, java.awt.Image,
+   *      double, double, double)
+   * @see de.gurkenlabs.litiengine.graphics.RotationImageEffect
+   */
+  public int getRotationVariants() {
+    return this.rotationVariants;
+  }
+
   public DisplayMode getDisplayMode() {
     return displayMode;
   }
@@ -140,4 +241,32 @@ public class GraphicConfiguration extends ConfigurationGroup {
   public void setColorInterpolation(boolean colorInterpolation) {
     this.set("colorInterpolation", colorInterpolation);
   }
+
+  public void setPackTextureAtlas(boolean packTextureAtlas) {
+    this.set("packTextureAtlas", packTextureAtlas);
+  }
+
+  public void setLightmapResolution(int lightmapResolution) {
+    this.set("lightmapResolution", Math.max(1, lightmapResolution));
+  }
+
+  public void setFrameCacheSize(int frameCacheSize) {
+    this.set("frameCacheSize", Math.max(0, frameCacheSize));
+  }
+
+  public void setLightStampCacheSize(int lightStampCacheSize) {
+    this.set("lightStampCacheSize", Math.max(0, lightStampCacheSize));
+  }
+
+  public void setParticleStampCacheSize(int particleStampCacheSize) {
+    this.set("particleStampCacheSize", Math.max(0, particleStampCacheSize));
+  }
+
+  public void setRotationVariantCacheSize(int rotationVariantCacheSize) {
+    this.set("rotationVariantCacheSize", Math.max(0, rotationVariantCacheSize));
+  }
+
+  public void setRotationVariants(int rotationVariants) {
+    this.set("rotationVariants", Math.max(0, rotationVariants));
+  }
 }
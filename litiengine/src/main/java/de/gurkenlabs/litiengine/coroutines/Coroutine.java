@@ -0,0 +1,222 @@
+package de.gurkenlabs.litiengine.coroutines;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import de.gurkenlabs.litiengine.Game;
+
+/**
+ * A {@code Coroutine} executes a {@code CoroutineScript} on its own virtual thread and hands control back and forth with
+ * the {@code CoroutineEngine}.
+ *
+ * <p>
+ * At any point in time, either the game loop or exactly one coroutine is running. When the script calls one of the
+ * {@code await} methods, it suspends and the loop continues; once the awaited condition is met, the engine resumes the
+ * coroutine from within its update and waits until it suspends again. Scripts therefore run inside the loop's tick and
+ * never race the simulation, while costing no more than a parked virtual thread when suspended.
+ * </p>
+ *
+ * <p>
+ * Because the loop thread holds the loop's lock on behalf of the coroutine, scripts must not acquire
+ * {@code Game.loop().getLock()} themselves (e.g. by calling {@code GameWorld#loadEnvironment}). Such operations should be
+ * deferred via {@code Game.loop().perform(0, ...)}.
+ * </p>
+ *
+ * @see CoroutineEngine#start(CoroutineScript)
+ */
+public final class Coroutine {
+  private static final AtomicInteger coroutineIndex = new AtomicInteger();
+
+  private final int id;
+  private final CoroutineScript script;
+  private final CoroutineEngine engine;
+  private final Semaphore resumed = new Semaphore(0);
+  private final Semaphore suspended = new Semaphore(0);
+
+  private Thread thread;
+  private BooleanSupplier resumeCondition;
+  private RuntimeException failure;
+  private volatile boolean cancelled;
+  private volatile boolean done;
+
+  Coroutine(CoroutineEngine engine, CoroutineScript script) {
+    this.engine = engine;
+    this.script = script;
+    this.id = coroutineIndex.getAndIncrement();
+  }
+
+  /**
+   * Gets the unique id of this coroutine. Coroutines are resumed in the order of their ids.
+   *
+   * @return The id of this coroutine.
+   */
+  public int getId() {
+    return this.id;
+  }
+
+  /**
+   * Determines whether this coroutine has finished, either because its script completed or because it was cancelled.
+   *
+   * @return True if this coroutine has finished; otherwise false.
+   */
+  public boolean isDone() {
+    return this.done;
+  }
+
+  /**
+   * Determines whether this coroutine has been cancelled.
+   *
+   * @return True if this coroutine has been cancelled; otherwise false.
+   */
+  public boolean isCancelled() {
+    return this.cancelled;
+  }
+
+  /**
+   * Cancels this coroutine. A suspended coroutine is resumed on the next tick by throwing a
+   * {@code CancellationException} from the pending {@code await} call, which allows the script to clean up in
+   * {@code finally} blocks.
+   */
+  public void cancel() {
+    this.cancelled = true;
+  }
+
+  /**
+   * Suspends this coroutine for the specified number of ticks of the {@code CoroutineEngine}.
+   *
+   * @param ticks
+   *          The number of ticks to wait; values smaller than 1 still yield until the next tick.
+   * @throws CancellationException
+   *           If the coroutine was cancelled while waiting.
+   */
+  public void awaitTicks(long ticks) {
+    final long resumeTick = this.engine.getTicks() + Math.max(1, ticks);
+    this.suspend(() -> this.engine.getTicks() >= resumeTick);
+  }
+
+  /**
+   * Suspends this coroutine for the specified number of milliseconds, converted to ticks by using the game loop's tick
+   * rate.
+   *
+   * @param milliseconds
+   *          The time to wait in milliseconds.
+   * @throws CancellationException
+   *           If the coroutine was cancelled while waiting.
+   *
+   * @see Game#time()
+   */
+  public void awaitMilliseconds(int milliseconds) {
+    this.awaitTicks(Game.time().toTicks(milliseconds));
+  }
+
+  /**
+   * Suspends this coroutine until the specified condition is met. The condition is evaluated once per tick on the game
+   * loop's thread, starting with the next tick.
+   *
+   * @param condition
+   *          The condition to wait for.
+   * @throws CancellationException
+   *           If the coroutine was cancelled while waiting.
+   */
+  public void awaitCondition(BooleanSupplier condition) {
+    this.suspend(condition);
+  }
+
+  /**
+   * Suspends this coroutine until the specified signal is fired.
+   *
+   * @param <T>
+   *          The type of the signal's value.
+   * @param signal
+   *          The signal to wait for.
+   * @return The most recent value with which the signal was fired.
+   * @throws CancellationException
+   *           If the coroutine was cancelled while waiting.
+   */
+  public <T> T awaitEvent(CoroutineSignal<T> signal) {
+    final long version = signal.getVersion();
+    this.suspend(() -> signal.getVersion() != version);
+    return signal.getValue();
+  }
+
+  /**
+   * Resumes this coroutine if its resume condition is met and blocks the calling thread until it suspends again or
+   * finishes. This must only be called by the {@code CoroutineEngine}.
+   */
+  void step() {
+    if (this.done) {
+      return;
+    }
+
+    if (this.thread == null) {
+      this.thread = Thread.ofVirtual().name("Coroutine-" + this.id).unstarted(this::execute);
+      this.thread.start();
+    } else if (this.cancelled || this.resumeCondition.getAsBoolean()) {
+      this.resumed.release();
+    } else {
+      return;
+    }
+
+    this.suspended.acquireUninterruptibly();
+
+    if (this.failure != null) {
+      RuntimeException e = this.failure;
+      this.failure = null;
+      throw e;
+    }
+  }
+
+  /**
+   * Cancels this coroutine and interrupts its thread without waiting for the script to unwind. This is used when the
+   * game loop is no longer running.
+   */
+  void abort() {
+    this.cancel();
+    if (this.thread != null) {
+      this.thread.interrupt();
+    } else {
+      this.done = true;
+    }
+  }
+
+  private void suspend(BooleanSupplier condition) {
+    if (Thread.currentThread() != this.thread) {
+      throw new IllegalStateException("A coroutine can only be suspended from within its own script.");
+    }
+
+    this.throwIfCancelled();
+    this.resumeCondition = condition;
+    this.suspended.release();
+    try {
+      this.resumed.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      this.cancel();
+    }
+
+    this.throwIfCancelled();
+  }
+
+  private void throwIfCancelled() {
+    if (this.cancelled) {
+      throw new CancellationException("Coroutine " + this.id + " was cancelled.");
+    }
+  }
+
+  private void execute() {
+    try {
+      if (!this.cancelled) {
+        this.script.run(this);
+      }
+    } catch (CancellationException e) {
+      // the script was cancelled while being suspended, which is the expected way to unwind it
+    } catch (RuntimeException e) {
+      this.failure = e;
+    } finally {
+      this.done = true;
+      this.suspended.release();
+    }
+  }
+}
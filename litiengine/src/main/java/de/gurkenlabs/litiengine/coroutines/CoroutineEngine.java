@@ -0,0 +1,124 @@
+package de.gurkenlabs.litiengine.coroutines;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.ILaunchable;
+import de.gurkenlabs.litiengine.IUpdateable;
+
+/**
+ * The {@code CoroutineEngine} is the central manager for {@code Coroutines}. It resumes all suspended coroutines whose
+ * awaited condition is met with every {@code GameLoop} update.
+ *
+ * <p>
+ * Coroutines are resumed one after another in the order in which they were started, so the execution of scripts is
+ * deterministic across runs. Coroutines that are started during a tick begin their execution on the subsequent tick.
+ * </p>
+ *
+ * @see Game#coroutines()
+ * @see Coroutine
+ */
+public class CoroutineEngine implements IUpdateable, ILaunchable {
+  private static final Logger log = Logger.getLogger(CoroutineEngine.class.getName());
+
+  private final List<Coroutine> coroutines = new CopyOnWriteArrayList<>();
+  private final Queue<Coroutine> started = new ConcurrentLinkedQueue<>();
+
+  private volatile long ticks;
+
+  /**
+   * Starts a new coroutine for the specified script. The script begins its execution on the next tick of this engine.
+   *
+   * @param script
+   *          The script to execute.
+   * @return The coroutine that executes the script.
+   */
+  public Coroutine start(CoroutineScript script) {
+    Coroutine coroutine = new Coroutine(this, script);
+    this.started.add(coroutine);
+    return coroutine;
+  }
+
+  /**
+   * Gets all coroutines that are currently managed by this instance, in the order in which they are resumed.
+   *
+   * @return All running and suspended coroutines.
+   */
+  public Collection<Coroutine> getCoroutines() {
+    return Collections.unmodifiableList(this.coroutines);
+  }
+
+  /**
+   * Gets the number of ticks that this engine has performed.
+   *
+   * @return The total amount of elapsed ticks.
+   */
+  public long getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   * Cancels all coroutines. Suspended coroutines unwind on the next tick.
+   */
+  public void cancelAll() {
+    this.coroutines.forEach(Coroutine::cancel);
+    this.started.forEach(Coroutine::cancel);
+  }
+
+  @Override
+  public void start() {
+    Game.loop().attach(this);
+  }
+
+  @Override
+  public void terminate() {
+    Game.loop().detach(this);
+
+    this.addStartedCoroutines();
+    this.coroutines.forEach(Coroutine::abort);
+    this.coroutines.clear();
+  }
+
+  @Override
+  public void update() {
+    ++this.ticks;
+    this.addStartedCoroutines();
+
+    for (Coroutine coroutine : this.coroutines) {
+      try {
+        coroutine.step();
+      } catch (RuntimeException e) {
+        if (Game.config().client().exitOnError()) {
+          throw e;
+        }
+
+        log.log(Level.SEVERE, e.getMessage(), e);
+      }
+    }
+
+    this.coroutines.removeIf(Coroutine::isDone);
+  }
+
+  private void addStartedCoroutines() {
+    if (this.started.isEmpty()) {
+      return;
+    }
+
+    // add all new coroutines at once to avoid copying the underlying array for each of them
+    final List<Coroutine> newCoroutines = new ArrayList<>();
+    Coroutine coroutine;
+    while ((coroutine = this.started.poll()) != null) {
+      newCoroutines.add(coroutine);
+    }
+
+    this.coroutines.addAll(newCoroutines);
+  }
+}
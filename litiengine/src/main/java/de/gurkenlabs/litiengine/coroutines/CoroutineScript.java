@@ -0,0 +1,27 @@
+package de.gurkenlabs.litiengine.coroutines;
+
+/**
+ * The functional interface {@code CoroutineScript} contains sequential game logic that is executed as a
+ * {@code Coroutine}.
+ *
+ * <p>
+ * The script can suspend itself by calling one of the {@code await} methods of the provided coroutine. The
+ * {@code CoroutineEngine} resumes it on the tick at which the awaited condition is met.
+ * </p>
+ *
+ * @see CoroutineEngine#start(CoroutineScript)
+ * @see Coroutine#awaitTicks(long)
+ * @see Coroutine#awaitCondition(java.util.function.BooleanSupplier)
+ * @see Coroutine#awaitEvent(CoroutineSignal)
+ */
+@FunctionalInterface
+public interface CoroutineScript {
+
+  /**
+   * Runs the script. This is executed on a dedicated virtual thread, but never concurrently to the game loop.
+   *
+   * @param coroutine
+   *          The coroutine that executes this script and provides the methods to suspend it.
+   */
+  void run(Coroutine coroutine);
+}
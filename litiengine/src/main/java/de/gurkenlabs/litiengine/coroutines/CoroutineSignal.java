@@ -0,0 +1,55 @@
+package de.gurkenlabs.litiengine.coroutines;
+
+/**
+ * A {@code CoroutineSignal} is an event source that coroutines can wait for by calling
+ * {@link Coroutine#awaitEvent(CoroutineSignal)}.
+ *
+ * <p>
+ * Signals can be fired from any thread (e.g. from within an event listener). Waiting coroutines are not resumed
+ * immediately but on the next tick of the {@code CoroutineEngine}, which keeps their execution deterministic. If the
+ * signal is fired multiple times in between, the coroutine receives the most recent value.
+ * </p>
+ *
+ * <pre>
+ * CoroutineSignal&lt;ICombatEntity&gt; died = new CoroutineSignal&lt;&gt;();
+ * boss.onDeath(died::fire);
+ *
+ * Game.coroutines().start(co -&gt; {
+ *   co.awaitEvent(died);
+ *   door.open();
+ * });
+ * </pre>
+ *
+ * @param <T>
+ *          The type of the value that is passed to the waiting coroutines.
+ */
+public class CoroutineSignal<T> {
+  private long version;
+  private T value;
+
+  /**
+   * Fires this signal with the specified value.
+   *
+   * @param value
+   *          The value that is passed to all coroutines currently waiting for this signal.
+   */
+  public synchronized void fire(T value) {
+    this.value = value;
+    this.version++;
+  }
+
+  /**
+   * Fires this signal without a value.
+   */
+  public void fire() {
+    this.fire(null);
+  }
+
+  synchronized long getVersion() {
+    return this.version;
+  }
+
+  synchronized T getValue() {
+    return this.value;
+  }
+}
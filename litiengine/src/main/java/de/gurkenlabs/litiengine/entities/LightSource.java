@@ -62,9 +62,15 @@ public class LightSource extends Entity implements IRenderable {
   @TmxProperty(name = MapObjectProperty.LIGHT_SHAPE)
   private Type lightShapeType;
 
+  @TmxProperty(name = MapObjectProperty.LIGHT_DYNAMIC)
+  private boolean dynamic;
+
   private Color color;
   private Shape lightShape;
 
+  // lazily created and read concurrently by the tiles of the ambient light layer
+  private volatile RadialGradientPaint gradientPaint;
+
   /**
    * Constructor for the LightSource class.
    *
@@ -109,7 +115,23 @@ public class LightSource extends Entity implements IRenderable {
     return color;
   }
 
+  /**
+   * Gets the radial gradient paint of this light. The paint is cached until the color, the size or the location of the
+   * light changes.
+   *
+   * @return The gradient paint of this light.
+   */
   public RadialGradientPaint getGradientPaint() {
+    RadialGradientPaint paint = this.gradientPaint;
+    if (paint == null) {
+      paint = this.createGradientPaint();
+      this.gradientPaint = paint;
+    }
+
+    return paint;
+  }
+
+  private RadialGradientPaint createGradientPaint() {
     final Color[] transColors =
       new Color[] {
         getColor().brighter(),
@@ -138,8 +160,20 @@ public class LightSource extends Entity implements IRenderable {
     return activated;
   }
 
+  /**
+   * Determines whether this light is dynamic. Dynamic lights are not baked into the ambient light layer but rendered
+   * into a lightmap with a reduced resolution every frame, which makes them cheap to move, resize or recolor.
+   *
+   * @return True if this light is dynamic; otherwise false.
+   * @see de.gurkenlabs.litiengine.configuration.GraphicConfiguration#getLightmapResolution()
+   */
+  public boolean isDynamic() {
+    return dynamic;
+  }
+
   public void setColor(final Color color) {
     this.color = color;
+    this.gradientPaint = null;
     updateAmbientLayers();
   }
 
@@ -150,6 +184,25 @@ public class LightSource extends Entity implements IRenderable {
 
   public void setLightShapeType(final Type shapeType) {
     this.lightShapeType = shapeType;
+    updateShape();
+    updateAmbientLayers();
+  }
+
+  /**
+   * Sets whether this light is dynamic.
+   *
+   * @param dynamic A flag indicating whether this light is rendered every frame instead of being baked into the ambient light layer.
+   * @see #isDynamic()
+   */
+  public void setDynamic(final boolean dynamic) {
+    if (this.dynamic == dynamic) {
+      return;
+    }
+
+    this.dynamic = dynamic;
+
+    // the light has to be added to or removed from the static ambient layers
+    invalidateAmbientLayers();
   }
 
 
@@ -200,6 +253,15 @@ public class LightSource extends Entity implements IRenderable {
    * Updates the ambient layers of the environment.
    */
   private void updateAmbientLayers() {
+    // dynamic lights are not part of the ambient layers and don't require them to be updated
+    if (isDynamic()) {
+      return;
+    }
+
+    invalidateAmbientLayers();
+  }
+
+  private void invalidateAmbientLayers() {
     if (!isLoaded()) {
       return;
     }
@@ -219,6 +281,7 @@ public class LightSource extends Entity implements IRenderable {
    * Updates the shape of the light source based on its type.
    */
   private void updateShape() {
+    this.gradientPaint = null;
     if (getLightShapeType() == Type.RECTANGLE) {
       this.lightShape =
         new Rectangle2D.Double(getX(), getY(), getWidth(), getHeight());
@@ -22,7 +22,9 @@ public class StaticShadow extends MapArea {
   private int shadowOffset;
 
   private final CollisionBox origin;
-  private Area area;
+
+  // lazily created and read concurrently by the tiles of the static shadow layer
+  private volatile Area area;
 
   /**
    * Instantiates a new {@code StaticShadow} entity.
@@ -197,17 +199,15 @@ public class StaticShadow extends MapArea {
       return null;
     }
 
-    if (area == null) {
-      createArea();
+    Area shadowArea = this.area;
+    if (shadowArea == null) {
+      shadowArea = createArea();
+      this.area = shadowArea;
     }
-    return area;
+    return shadowArea;
   }
 
-  private void createArea() {
-    if (getShadowType() == StaticShadowType.NONE) {
-      return;
-    }
-
+  private Area createArea() {
     final Path2D parallelogram = new Path2D.Double();
     final double right = this.getX() + this.getWidth();
     final double bottom = this.getY() + this.getHeight();
@@ -261,7 +261,7 @@ public class StaticShadow extends MapArea {
     }
 
     parallelogram.closePath();
-    this.area = new Area(parallelogram);
+    return new Area(parallelogram);
   }
 
   public int getOffset() {
@@ -283,7 +283,7 @@ public class Trigger extends CollisionEntity implements IUpdateable {
 
   @Override
   public void update() {
-    if (Game.world().environment() == null
+    if (this.getEnvironment() == null
         || !this.isLoaded()
         || this.activationType != TriggerActivation.COLLISION) {
       return;
@@ -0,0 +1,367 @@
+package de.gurkenlabs.litiengine.environment;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.IFramePacer;
+import de.gurkenlabs.litiengine.IGameLoop;
+import de.gurkenlabs.litiengine.IUpdateable;
+import de.gurkenlabs.litiengine.UpdateLoop;
+import de.gurkenlabs.litiengine.physics.PhysicsEngine;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@code BackgroundSimulation} keeps environments that are not currently active ticking on a separate worker thread
+ * at a reduced tick rate. This allows e.g. NPCs on other maps to keep moving and acting while the player is elsewhere,
+ * instead of freezing until their map is loaded again.
+ *
+ * <p>
+ * Each simulated environment has its own {@code PhysicsEngine} and its own set of updatables. While an environment is
+ * being simulated, {@code Game.loop()} and {@code Game.physics()} resolve to these instances on the worker thread, so
+ * entities, controllers and abilities don't need to be aware of whether they are simulated in the background. Ticks
+ * and time scale are still shared with the game's main loop, which keeps {@code Game.time()} consistent across all
+ * environments. Timed actions that are scheduled via {@code Game.loop().perform(...)} on the worker thread are kept by
+ * the simulated environment and executed by its own ticks. Background environments are never rendered.
+ * </p>
+ *
+ * <p>
+ * Scripts running on the worker thread should not switch the active environment themselves but defer such operations to
+ * the main loop by calling {@code Game.invokeOnLoop(Runnable)}.
+ * </p>
+ *
+ * @see GameWorld#setSimulatedInBackground(String, boolean)
+ * @see GameWorld#backgroundSimulation()
+ */
+public final class BackgroundSimulation extends UpdateLoop {
+  public static final int DEFAULT_TICK_RATE = 10;
+
+  private static final Logger log = Logger.getLogger(BackgroundSimulation.class.getName());
+  private static final ThreadLocal<SimulatedEnvironment> current = new ThreadLocal<>();
+
+  private final IGameLoop gameLoop;
+  private final Map<Environment, SimulatedEnvironment> environments = new ConcurrentHashMap<>();
+
+  BackgroundSimulation(IGameLoop gameLoop) {
+    super("Background Simulation", DEFAULT_TICK_RATE);
+    this.gameLoop = gameLoop;
+    this.setDaemon(true);
+  }
+
+  /**
+   * Gets the loop of the environment that is currently being simulated on the calling thread.
+   *
+   * @return The loop of the simulated environment or null if the calling thread is not simulating an environment.
+   * @see Game#loop()
+   */
+  public static IGameLoop currentLoop() {
+    return current.get();
+  }
+
+  /**
+   * Gets the physics engine of the environment that is currently being simulated on the calling thread.
+   *
+   * @return The physics engine of the simulated environment or null if the calling thread is not simulating an
+   *         environment.
+   * @see Game#physics()
+   */
+  public static PhysicsEngine currentPhysics() {
+    SimulatedEnvironment simulated = current.get();
+    return simulated != null ? simulated.physics : null;
+  }
+
+  /**
+   * Gets all environments that are currently simulated in the background.
+   *
+   * @return The simulated environments.
+   */
+  public Collection<Environment> getEnvironments() {
+    return Collections.unmodifiableSet(this.environments.keySet());
+  }
+
+  /**
+   * Determines whether the specified environment is currently simulated in the background.
+   *
+   * @param environment
+   *          The environment to check.
+   * @return True if the environment is currently simulated by this instance; otherwise false.
+   */
+  public boolean isSimulated(Environment environment) {
+    return environment != null && this.environments.containsKey(environment);
+  }
+
+  @Override
+  public void terminate() {
+    Lock lock = this.getLock();
+    lock.lock();
+    try {
+      for (Environment environment : this.environments.keySet()) {
+        this.remove(environment);
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    super.terminate();
+  }
+
+  /**
+   * Starts simulating the specified environment by loading all of its entities into a separate loop and physics engine.
+   * The worker thread is started lazily with the first simulated environment.
+   *
+   * @param environment
+   *          The environment to simulate.
+   */
+  void add(Environment environment) {
+    Lock lock = this.getLock();
+    lock.lock();
+    try {
+      if (environment.isLoaded() || this.environments.containsKey(environment)) {
+        return;
+      }
+
+      SimulatedEnvironment simulated = new SimulatedEnvironment(environment);
+      simulated.run(environment::startSimulation);
+      this.environments.put(environment, simulated);
+      this.attach(simulated);
+    } finally {
+      lock.unlock();
+    }
+
+    synchronized (this) {
+      if (this.getState() == State.NEW) {
+        this.start();
+      }
+    }
+  }
+
+  /**
+   * Stops simulating the specified environment and unloads its entities from the separate loop and physics engine. This
+   * waits for a tick that is currently in progress to complete, so the environment can safely be loaded afterwards.
+   * Timed actions that are still pending are handed over to the game's main loop with their remaining delay.
+   *
+   * @param environment
+   *          The environment to stop simulating.
+   */
+  void remove(Environment environment) {
+    Lock lock = this.getLock();
+    lock.lock();
+    try {
+      SimulatedEnvironment simulated = this.environments.remove(environment);
+      if (simulated == null) {
+        return;
+      }
+
+      this.detach(simulated);
+      simulated.run(environment::stopSimulation);
+      simulated.handOverTimedActions();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  protected void process() {
+    // background environments pause along with the game
+    if (this.gameLoop.getTimeScale() > 0) {
+      super.process();
+    }
+  }
+
+  /**
+   * The loop and physics context of a single environment that is simulated in the background. It is returned by
+   * {@code Game.loop()} on the worker thread, which is why it implements {@code IGameLoop} by maintaining its own
+   * updatables and timed actions and delegating everything that concerns the game's time line to the main loop.
+   */
+  private final class SimulatedEnvironment implements IGameLoop, IUpdateable {
+    private final Environment environment;
+    private final PhysicsEngine physics = PhysicsEngine.createIsolated();
+    private final Set<IUpdateable> updatables = ConcurrentHashMap.newKeySet();
+    private final List<TimedAction> actions = new CopyOnWriteArrayList<>();
+    private int actionIndex = -1;
+
+    private SimulatedEnvironment(Environment environment) {
+      this.environment = environment;
+    }
+
+    @Override
+    public void update() {
+      this.run(() -> {
+        this.physics.update();
+        for (IUpdateable updatable : this.updatables) {
+          try {
+            updatable.update();
+          } catch (final Exception e) {
+            if (Game.config().client().exitOnError()) {
+              throw e;
+            }
+
+            log.log(Level.SEVERE, e.getMessage(), e);
+          }
+        }
+
+        this.executeTimedActions();
+        Game.world().update(this.environment);
+      });
+    }
+
+    private void executeTimedActions() {
+      final List<TimedAction> executed = new ArrayList<>();
+      for (final TimedAction action : this.actions) {
+        if (action.execution <= this.getTicks()) {
+          action.action.run();
+          executed.add(action);
+        }
+      }
+
+      this.actions.removeAll(executed);
+    }
+
+    private void handOverTimedActions() {
+      for (final TimedAction action : this.actions) {
+        final long remaining = Math.max(0, action.execution - this.getTicks());
+        gameLoop.perform((int) Game.time().toMilliseconds(remaining), action.action);
+      }
+
+      this.actions.clear();
+    }
+
+    private void run(Runnable operation) {
+      SimulatedEnvironment previous = current.get();
+      current.set(this);
+      try {
+        operation.run();
+      } finally {
+        if (previous != null) {
+          current.set(previous);
+        } else {
+          current.remove();
+        }
+      }
+    }
+
+    @Override
+    public void attach(IUpdateable updatable) {
+      if (updatable != null) {
+        this.updatables.add(updatable);
+      }
+    }
+
+    @Override
+    public void detach(IUpdateable updatable) {
+      this.updatables.remove(updatable);
+    }
+
+    @Override
+    public int getUpdatableCount() {
+      return this.updatables.size();
+    }
+
+    @Override
+    public long getTicks() {
+      return gameLoop.getTicks();
+    }
+
+    @Override
+    public int getTickRate() {
+      return gameLoop.getTickRate();
+    }
+
+    @Override
+    public long getDeltaTime() {
+      return BackgroundSimulation.this.getDeltaTime();
+    }
+
+    @Override
+    public double getProcessTime() {
+      return BackgroundSimulation.this.getProcessTime();
+    }
+
+    @Override
+    public Lock getLock() {
+      return BackgroundSimulation.this.getLock();
+    }
+
+    @Override
+    public void setTickRate(int tickRate) {
+      BackgroundSimulation.this.setTickRate(tickRate);
+    }
+
+    @Override
+    public IFramePacer getFramePacer() {
+      return BackgroundSimulation.this.getFramePacer();
+    }
+
+    @Override
+    public void setFramePacer(IFramePacer framePacer) {
+      BackgroundSimulation.this.setFramePacer(framePacer);
+    }
+
+    @Override
+    public int perform(int delay, Runnable action) {
+      final long execution = this.getTicks() + Game.time().toTicks(delay);
+      final TimedAction timedAction = new TimedAction(++this.actionIndex, execution, action);
+      this.actions.add(timedAction);
+      return timedAction.id;
+    }
+
+    @Override
+    public void alterExecutionTime(int id, long tick) {
+      for (TimedAction action : this.actions) {
+        if (action.id == id) {
+          action.execution = tick;
+        }
+      }
+    }
+
+    @Override
+    public void removeAction(int id) {
+      this.actions.removeIf(x -> x.id == id);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      // this context is only visible to the worker thread, which is allowed to mutate the simulated environment
+      command.run();
+    }
+
+    @Override
+    public float getTimeScale() {
+      return gameLoop.getTimeScale();
+    }
+
+    @Override
+    public void setTimeScale(float timeScale) {
+      gameLoop.setTimeScale(timeScale);
+    }
+
+    @Override
+    public void start() {
+      // the lifecycle is managed by the background simulation
+    }
+
+    @Override
+    public void terminate() {
+      // the lifecycle is managed by the background simulation
+    }
+  }
+
+  private static final class TimedAction {
+    private final int id;
+    private final Runnable action;
+    private volatile long execution;
+
+    private TimedAction(int id, long execution, Runnable action) {
+      this.id = id;
+      this.execution = execution;
+      this.action = action;
+    }
+  }
+}
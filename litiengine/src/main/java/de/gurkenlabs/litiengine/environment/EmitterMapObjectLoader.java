@@ -98,6 +98,7 @@ public class EmitterMapObjectLoader extends MapObjectLoader {
     data.setFadeOnCollision(mapObject.getBoolValue(MapObjectProperty.Particle.FADEONCOLLISION, false));
     data.setOutlineOnly(mapObject.getBoolValue(MapObjectProperty.Particle.OUTLINEONLY, false));
     data.setAntiAliasing(mapObject.getBoolValue(MapObjectProperty.Particle.ANTIALIASING, false));
+    data.setBufferParticles(mapObject.getBoolValue(MapObjectProperty.Particle.BUFFER, false));
     return data;
   }
 
@@ -163,6 +164,7 @@ public class EmitterMapObjectLoader extends MapObjectLoader {
     mo.setValue(MapObjectProperty.Particle.FADEONCOLLISION, emitterData.isFadingOnCollision());
     mo.setValue(MapObjectProperty.Particle.OUTLINEONLY, emitterData.isOutlineOnly());
     mo.setValue(MapObjectProperty.Particle.ANTIALIASING, emitterData.isAntiAliased());
+    mo.setValue(MapObjectProperty.Particle.BUFFER, emitterData.isBufferingParticles());
   }
 
   public static IMapObject createMapObject(EmitterData emitterData) {
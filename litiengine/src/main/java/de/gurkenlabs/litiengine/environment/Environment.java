@@ -32,12 +32,14 @@ import de.gurkenlabs.litiengine.environment.tilemap.xml.Blueprint;
 import de.gurkenlabs.litiengine.graphics.AmbientLight;
 import de.gurkenlabs.litiengine.graphics.ColorLayer;
 import de.gurkenlabs.litiengine.graphics.DebugRenderer;
+import de.gurkenlabs.litiengine.graphics.EntityRenderList;
 import de.gurkenlabs.litiengine.graphics.IRenderable;
 import de.gurkenlabs.litiengine.graphics.RenderEngine;
 import de.gurkenlabs.litiengine.graphics.RenderType;
 import de.gurkenlabs.litiengine.graphics.StaticShadowLayer;
 import de.gurkenlabs.litiengine.graphics.StaticShadowType;
 import de.gurkenlabs.litiengine.graphics.emitters.Emitter;
+import de.gurkenlabs.litiengine.graphics.emitters.particles.ShapeParticle;
 import de.gurkenlabs.litiengine.physics.GravityForce;
 import de.gurkenlabs.litiengine.physics.IMovementController;
 import de.gurkenlabs.litiengine.resources.Resources;
@@ -81,6 +83,8 @@ public final class Environment implements IRenderable {
   private final Map<RenderType, Map<Integer, IEntity>> miscEntities = Collections.synchronizedMap(
     new EnumMap<>(RenderType.class));
   private final Map<IMapObjectLayer, List<IEntity>> layerEntities = new ConcurrentHashMap<>();
+  private final Map<RenderType, EntityRenderList> renderLists = new EnumMap<>(RenderType.class);
+  private final Map<IMapObjectLayer, EntityRenderList> layerRenderLists = new ConcurrentHashMap<>();
   private final Map<String, Collection<IEntity>> entitiesByTag = new ConcurrentHashMap<>();
   private final Map<Integer, IEntity> allEntities = new ConcurrentHashMap<>();
 
@@ -104,13 +108,15 @@ public final class Environment implements IRenderable {
 
   private AmbientLight ambientLight;
   private StaticShadowLayer staticShadowLayer;
-  private boolean loaded;
+  private volatile boolean loaded;
+  private volatile boolean simulated;
   private boolean initialized;
   private final IMap map;
 
   private int gravity;
 
   private boolean rendering;
+  private long renderListTick = -1;
 
   static {
     registerMapObjectLoader(new PropMapObjectLoader());
@@ -138,6 +144,7 @@ public final class Environment implements IRenderable {
     }
     for (RenderType renderType : RenderType.values()) {
       this.miscEntities.put(renderType, new ConcurrentHashMap<>());
+      this.renderLists.put(renderType, new EntityRenderList(renderType == RenderType.NORMAL));
       this.renderListeners.put(renderType, ConcurrentHashMap.newKeySet());
       this.renderables.put(renderType, ConcurrentHashMap.newKeySet());
     }
@@ -294,6 +301,10 @@ public final class Environment implements IRenderable {
    * Adds the specified entity to the environment container. This also loads the entity (registers entity and controllers for update) if the
    * environment has already been loaded. The entity will not be bound to a layer.
    *
+   * <p>
+   * If the environment is loaded and this is called from a foreign thread, the operation is marshalled onto the game loop's thread.
+   * </p>
+   *
    * @param entity The entity to add to the environment.
    * @see #isLoaded()
    * @see IEntity#loaded(Environment)
@@ -303,9 +314,12 @@ public final class Environment implements IRenderable {
     if (entity == null) {
       return;
     }
-    this.addEntity(entity);
-    assignRenderType(entity,entity.getRenderType());
-    this.fireEntityEvent(l -> l.entityAdded(entity));
+
+    this.runOnLoop(() -> {
+      this.addEntity(entity);
+      assignRenderType(entity, entity.getRenderType());
+      this.fireEntityEvent(l -> l.entityAdded(entity));
+    });
   }
 
   /**
@@ -432,6 +446,7 @@ public final class Environment implements IRenderable {
     this.mobileEntities.clear();
     this.gravityForces.clear();
     this.layerEntities.clear();
+    this.layerRenderLists.clear();
     this.entitiesByTag.clear();
     this.allEntities.clear();
 
@@ -1094,6 +1109,67 @@ public final class Environment implements IRenderable {
     return Collections.unmodifiableCollection(this.layerEntities.get(layer));
   }
 
+  /**
+   * Renders the entities that are bound to the specified layer. If the layer has the {@code RenderType.NORMAL}, the
+   * entities are rendered in the order of their max y-coordinate.
+   *
+   * <p>
+   * The render order is maintained across frames instead of being sorted from scratch for each frame.
+   * </p>
+   *
+   * @param g     The graphics object to render on.
+   * @param layer The layer that the entities are bound to.
+   * @see #getEntities(IMapObjectLayer)
+   * @see EntityRenderList
+   */
+  public void renderEntities(final Graphics2D g, final IMapObjectLayer layer) {
+    final List<IEntity> entities = layer != null ? this.layerEntities.get(layer) : null;
+    if (entities == null) {
+      if (layer != null) {
+        this.layerRenderLists.remove(layer);
+      }
+
+      return;
+    }
+
+    final EntityRenderList renderList = this.getRenderList(layer);
+    if (!this.areRenderListsUpdated()) {
+      renderList.update(entities, Game.world().camera().getViewport());
+    }
+
+    Game.graphics().renderEntities(g, renderList);
+  }
+
+  /**
+   * Updates the sorted lists of the entities that are visible in the viewport of the current tick.
+   *
+   * <p>
+   * This is called by the game loop during its late-update phase, i.e. after all entities have been updated and the
+   * camera focus has been determined. The rendering of the same tick then renders the entities of these lists in their
+   * order without culling and sorting them again. Environments that are rendered outside of the game loop update their
+   * lists when they are rendered.
+   * </p>
+   *
+   * @see EntityRenderList#update(Collection, Rectangle2D)
+   */
+  public void updateRenderLists() {
+    final Rectangle2D viewport = Game.world().camera().getViewport();
+    for (final Map.Entry<RenderType, EntityRenderList> entry : this.renderLists.entrySet()) {
+      if (entry.getKey() == RenderType.NONE) {
+        continue;
+      }
+
+      entry.getValue().update(this.miscEntities.get(entry.getKey()).values(), viewport);
+    }
+
+    for (final Map.Entry<IMapObjectLayer, List<IEntity>> entry : this.layerEntities.entrySet()) {
+      this.getRenderList(entry.getKey()).update(entry.getValue(), viewport);
+    }
+
+    this.layerRenderLists.keySet().retainAll(this.layerEntities.keySet());
+    this.renderListTick = Game.loop().getTicks();
+  }
+
   /**
    * Gets the entities that are bound to layer with the specified name.
    * <p>
@@ -1758,6 +1834,16 @@ public final class Environment implements IRenderable {
     return this.loaded;
   }
 
+  /**
+   * Determines whether this environment is currently simulated in the background while another environment is active.
+   *
+   * @return True if this environment is simulated in the background; otherwise false.
+   * @see GameWorld#setSimulatedInBackground(String, boolean)
+   */
+  public boolean isSimulated() {
+    return this.simulated;
+  }
+
   /**
    * Initializes and loads this environment and all its entities.
    *
@@ -1806,13 +1892,20 @@ public final class Environment implements IRenderable {
    * Reloads the map object with the specified map ID from the map by first removing any previously loaded entity and then loading it freshly from its
    * map definition.
    *
+   * <p>
+   * While the environment is loaded, the removal and the loading are performed as a single command on the game loop, so the reloaded entity is
+   * registered with the map ID of the removed one, even if this method is called from another thread (e.g. an editor).
+   * </p>
+   *
    * @param mapId The map ID of the map object.
    * @see #remove(int)
    * @see Environment#loadFromMap(int)
    */
   public void reloadFromMap(final int mapId) {
-    this.remove(mapId);
-    this.loadFromMap(mapId);
+    this.runOnLoop(() -> {
+      this.remove(mapId);
+      this.loadFromMap(mapId);
+    });
   }
 
   /**
@@ -1840,24 +1933,27 @@ public final class Environment implements IRenderable {
     }
 
     if (loader != null) {
-      Collection<IEntity> loadedEntities;
-      loadedEntities = loader.load(this, mapObject);
+      final Collection<IEntity> loadedEntities = loader.load(this, mapObject);
       loader.afterLoad(loadedEntities, mapObject);
-      for (IEntity entity : loadedEntities) {
-        if (entity != null) {
-
-          // only add the entity to be rendered with it's layer if its RenderType equals the layer's
-          // RenderType
-          if (mapObject.getLayer() != null && entity.renderWithLayer()) {
-            this.addEntity(entity);
-            this.layerEntities.computeIfAbsent(mapObject.getLayer(),
-              m -> new CopyOnWriteArrayList<>()).add(entity);
-            this.fireEntityEvent(l -> l.entityAdded(entity));
-          } else {
-            this.add(entity);
+
+      // all entities are registered by one command so that they are added in the same order as removals that were queued before
+      this.runOnLoop(() -> {
+        for (IEntity entity : loadedEntities) {
+          if (entity != null) {
+
+            // only add the entity to be rendered with it's layer if its RenderType equals the layer's
+            // RenderType
+            if (mapObject.getLayer() != null && entity.renderWithLayer()) {
+              this.addEntity(entity);
+              this.layerEntities.computeIfAbsent(mapObject.getLayer(),
+                m -> new CopyOnWriteArrayList<>()).add(entity);
+              this.fireEntityEvent(l -> l.entityAdded(entity));
+            } else {
+              this.add(entity);
+            }
           }
         }
-      }
+      });
 
       return loadedEntities;
     }
@@ -1899,6 +1995,10 @@ public final class Environment implements IRenderable {
   /**
    * Removes the specified entity from this environment and unloads is.
    *
+   * <p>
+   * If the environment is loaded and this is called from a foreign thread, the operation is marshalled onto the game loop's thread.
+   * </p>
+   *
    * @param entity The entity to be removed.
    * @see #remove(int)
    * @see #remove(String)
@@ -1913,75 +2013,7 @@ public final class Environment implements IRenderable {
       return;
     }
 
-    this.allEntities.remove(entity.getMapId());
-    this.layerEntities.values().removeIf(layer -> layer.remove(entity) && layer.isEmpty());
-    if (this.miscEntities.get(entity.getRenderType()) != null) {
-      this.miscEntities.get(entity.getRenderType()).values().remove(entity);
-    }
-
-    for (String tag : entity.getTags()) {
-      if (this.getEntitiesByTag().containsKey(tag)) {
-        this.getEntitiesByTag().get(tag).remove(entity);
-
-        if (this.getEntitiesByTag().get(tag).isEmpty()) {
-          this.getEntitiesByTag().remove(tag);
-        }
-      }
-    }
-
-    if (entity instanceof Emitter emitter) {
-      this.removeEmitter(emitter);
-    }
-
-    if (entity instanceof MapArea mapArea) {
-      this.mapAreas.remove(mapArea);
-    }
-
-    if (entity instanceof Prop) {
-      this.props.remove(entity);
-    }
-
-    if (entity instanceof Creature) {
-      this.creatures.remove(entity);
-    }
-
-    if (entity instanceof CollisionBox) {
-      this.colliders.remove(entity);
-      this.staticShadows.removeIf(x -> x.getOrigin() != null && x.getOrigin().equals(entity));
-    }
-
-    if (entity instanceof LightSource) {
-      this.lightSources.remove(entity);
-      this.updateLighting(entity);
-    }
-
-    if (entity instanceof Trigger) {
-      this.triggers.remove(entity);
-    }
-
-    if (entity instanceof Spawnpoint) {
-      this.spawnPoints.remove(entity);
-    }
-    if (entity instanceof SoundSource) {
-      this.soundSources.remove(entity);
-    }
-
-    if (entity instanceof StaticShadow) {
-      this.staticShadows.remove(entity);
-      this.updateLighting(entity);
-    }
-
-    if (entity instanceof IMobileEntity) {
-      this.mobileEntities.values().remove(entity);
-    }
-
-    if (entity instanceof ICombatEntity) {
-      this.combatEntities.values().remove(entity);
-    }
-
-    this.unload(entity);
-
-    this.fireEntityEvent(l -> l.entityRemoved(entity));
+    this.runOnLoop(() -> this.removeEntity(entity));
   }
 
   /**
@@ -2061,6 +2093,11 @@ public final class Environment implements IRenderable {
     }
   }
 
+  /**
+   * Renders this environment with the current render scale of the camera.
+   *
+   * @see RenderEngine#renderWorld(Graphics2D, IRenderable)
+   */
   @Override
   public void render(final Graphics2D g) {
     long renderStart = System.nanoTime();
@@ -2069,46 +2106,10 @@ public final class Environment implements IRenderable {
     this.rendering = true;
 
     try {
-      g.scale(Game.world().camera().getRenderScale(), Game.world().camera().getRenderScale());
-      if (this.getMap() != null && this.getMap().getBackgroundColor() != null) {
-        g.setColor(this.getMap().getBackgroundColor());
-        g.fill(new Rectangle2D.Double(0.0, 0.0, Game.world().camera().getViewport().getWidth(),
-          Game.world().camera().getViewport().getHeight()));
-      }
-
-      this.render(g, RenderType.BACKGROUND);
-
-      this.render(g, RenderType.GROUND);
-      DebugRenderer.renderMapDebugInfo(g, this.getMap());
-
-      this.render(g, RenderType.SURFACE);
-      this.render(g, RenderType.NORMAL);
-      this.render(g, RenderType.OVERLAY);
-
-      long ambientStart = System.nanoTime();
-      if (Game.config().graphics().getGraphicQuality().ordinal() >= Quality.MEDIUM.ordinal()
-        && this.getAmbientLight() != null && this.getAmbientLight().getColor().getAlpha() != 0) {
-        this.getAmbientLight().render(g);
-      }
-
-      final double ambientTime = TimeUtilities.nanoToMs(System.nanoTime() - ambientStart);
-
-      long shadowRenderStart = System.nanoTime();
-      if (this.getStaticShadows().stream()
-        .anyMatch(x -> x.getShadowType() != StaticShadowType.NONE)) {
-        this.getStaticShadowLayer().render(g);
-      }
-
-      final double shadowTime = TimeUtilities.nanoToMs(System.nanoTime() - shadowRenderStart);
-
-      this.render(g, RenderType.UI);
+      Game.graphics().renderWorld(g, this::renderWorld);
 
       if (Game.config().debug().trackRenderTimes()) {
-
         final double totalRenderTime = TimeUtilities.nanoToMs(System.nanoTime() - renderStart);
-
-        Game.metrics().trackRenderTime("shadow", shadowTime);
-        Game.metrics().trackRenderTime("ambient", ambientTime);
         Game.metrics().trackRenderTime("world", totalRenderTime);
       }
     } finally {
@@ -2175,10 +2176,49 @@ public final class Environment implements IRenderable {
       this.unload(entity);
     }
 
+    // the light and particle stamps of this environment are not needed by the next environment
+    AmbientLight.clearLightStamps();
+    ShapeParticle.clearStamps();
     this.loaded = false;
     this.fireEvent(l -> l.unloaded(this));
   }
 
+  /**
+   * Loads all entities of this environment into the loop and physics engine of the current background simulation
+   * context. In contrast to {@link #load()}, this neither updates the lighting nor fires any loaded events.
+   */
+  void startSimulation() {
+    this.init();
+    if (this.loaded || this.simulated) {
+      return;
+    }
+
+    if (this.getMap() != null) {
+      Game.physics().setBounds(
+        new Rectangle2D.Double(0, 0, this.getMap().getSizeInPixels().getWidth(),
+          this.getMap().getSizeInPixels().getHeight()));
+    }
+
+    this.allEntities.values().forEach(this::load);
+    this.simulated = true;
+  }
+
+  /**
+   * Unloads all entities of this environment from the loop and physics engine of the current background simulation
+   * context.
+   */
+  void stopSimulation() {
+    if (!this.simulated) {
+      return;
+    }
+
+    for (final IEntity entity : this.allEntities.values()) {
+      this.unload(entity);
+    }
+
+    this.simulated = false;
+  }
+
   public boolean isRendering() {
     return this.rendering;
   }
@@ -2246,8 +2286,12 @@ public final class Environment implements IRenderable {
     }
 
     // 3. Render entities
-    Game.graphics().renderEntities(g, this.miscEntities.get(renderType).values(),
-      renderType == RenderType.NORMAL);
+    final EntityRenderList renderList = this.renderLists.get(renderType);
+    if (!this.areRenderListsUpdated()) {
+      renderList.update(this.miscEntities.get(renderType).values(), Game.world().camera().getViewport());
+    }
+
+    Game.graphics().renderEntities(g, renderList);
 
     // 4. fire event
     this.fireRenderEvent(g, renderType);
@@ -2379,6 +2423,22 @@ public final class Environment implements IRenderable {
     entity.removed(this);
   }
 
+  /**
+   * Executes operations that modify the entities of this environment. While the environment is loaded, it is updated and rendered by the game loop,
+   * so foreign threads must not modify it concurrently.
+   *
+   * @param operation The operation to execute.
+   * @see Game#invokeOnLoop(Runnable)
+   */
+  private void runOnLoop(Runnable operation) {
+    if (!this.loaded) {
+      operation.run();
+      return;
+    }
+
+    Game.invokeOnLoop(operation);
+  }
+
   private void addEntity(final IEntity entity) {
     int desiredID = entity.getMapId();
     // assign local map id if the entity's mapID is invalid
@@ -2447,15 +2507,87 @@ public final class Environment implements IRenderable {
       this.getEntitiesByTag().computeIfAbsent(tag, t -> new CopyOnWriteArrayList<>()).add(entity);
     }
 
-    // if the environment has already been loaded,
+    // if the environment has already been loaded or is simulated in the background,
     // we need to load the new entity manually
-    if (this.loaded) {
+    if (this.loaded || this.simulated) {
       this.load(entity);
     }
 
     this.allEntities.put(entity.getMapId(), entity);
   }
 
+  private void removeEntity(final IEntity entity) {
+    this.allEntities.remove(entity.getMapId());
+    this.layerEntities.values().removeIf(layer -> layer.remove(entity) && layer.isEmpty());
+    if (this.miscEntities.get(entity.getRenderType()) != null) {
+      this.miscEntities.get(entity.getRenderType()).values().remove(entity);
+    }
+
+    for (String tag : entity.getTags()) {
+      if (this.getEntitiesByTag().containsKey(tag)) {
+        this.getEntitiesByTag().get(tag).remove(entity);
+
+        if (this.getEntitiesByTag().get(tag).isEmpty()) {
+          this.getEntitiesByTag().remove(tag);
+        }
+      }
+    }
+
+    if (entity instanceof Emitter emitter) {
+      this.removeEmitter(emitter);
+    }
+
+    if (entity instanceof MapArea mapArea) {
+      this.mapAreas.remove(mapArea);
+    }
+
+    if (entity instanceof Prop) {
+      this.props.remove(entity);
+    }
+
+    if (entity instanceof Creature) {
+      this.creatures.remove(entity);
+    }
+
+    if (entity instanceof CollisionBox) {
+      this.colliders.remove(entity);
+      this.staticShadows.removeIf(x -> x.getOrigin() != null && x.getOrigin().equals(entity));
+    }
+
+    if (entity instanceof LightSource) {
+      this.lightSources.remove(entity);
+      this.updateLighting(entity);
+    }
+
+    if (entity instanceof Trigger) {
+      this.triggers.remove(entity);
+    }
+
+    if (entity instanceof Spawnpoint) {
+      this.spawnPoints.remove(entity);
+    }
+    if (entity instanceof SoundSource) {
+      this.soundSources.remove(entity);
+    }
+
+    if (entity instanceof StaticShadow) {
+      this.staticShadows.remove(entity);
+      this.updateLighting(entity);
+    }
+
+    if (entity instanceof IMobileEntity) {
+      this.mobileEntities.values().remove(entity);
+    }
+
+    if (entity instanceof ICombatEntity) {
+      this.combatEntities.values().remove(entity);
+    }
+
+    this.unload(entity);
+
+    this.fireEntityEvent(l -> l.entityRemoved(entity));
+  }
+
   private void addEmitter(Emitter emitter) {
     this.manageEmitterRenderables(emitter, Collection::add);
     this.emitters.add(emitter);
@@ -2487,6 +2619,61 @@ public final class Environment implements IRenderable {
     miscEntities.get(renderType).put(entity.getMapId(), entity);
   }
 
+  private void renderWorld(final Graphics2D g) {
+    if (this.getMap() != null && this.getMap().getBackgroundColor() != null) {
+      g.setColor(this.getMap().getBackgroundColor());
+      g.fill(new Rectangle2D.Double(0.0, 0.0, Game.world().camera().getViewport().getWidth(),
+        Game.world().camera().getViewport().getHeight()));
+    }
+
+    this.render(g, RenderType.BACKGROUND);
+
+    this.render(g, RenderType.GROUND);
+    DebugRenderer.renderMapDebugInfo(g, this.getMap());
+
+    this.render(g, RenderType.SURFACE);
+    this.render(g, RenderType.NORMAL);
+    this.render(g, RenderType.OVERLAY);
+
+    long ambientStart = System.nanoTime();
+    if (Game.config().graphics().getGraphicQuality().ordinal() >= Quality.MEDIUM.ordinal()
+      && this.getAmbientLight() != null && this.getAmbientLight().getColor().getAlpha() != 0) {
+      this.getAmbientLight().render(g);
+    }
+
+    final double ambientTime = TimeUtilities.nanoToMs(System.nanoTime() - ambientStart);
+
+    long shadowRenderStart = System.nanoTime();
+    if (this.getStaticShadows().stream()
+      .anyMatch(x -> x.getShadowType() != StaticShadowType.NONE)) {
+      this.getStaticShadowLayer().render(g);
+    }
+
+    final double shadowTime = TimeUtilities.nanoToMs(System.nanoTime() - shadowRenderStart);
+
+    this.render(g, RenderType.UI);
+
+    if (Game.config().debug().trackRenderTimes()) {
+      Game.metrics().trackRenderTime("shadow", shadowTime);
+      Game.metrics().trackRenderTime("ambient", ambientTime);
+    }
+  }
+
+  private boolean areRenderListsUpdated() {
+    return this.renderListTick == Game.loop().getTicks();
+  }
+
+  private EntityRenderList getRenderList(final IMapObjectLayer layer) {
+    final boolean sorted = layer.getRenderType() == RenderType.NORMAL;
+    EntityRenderList renderList = this.layerRenderLists.get(layer);
+    if (renderList == null || renderList.isSorted() != sorted) {
+      renderList = new EntityRenderList(sorted);
+      this.layerRenderLists.put(layer, renderList);
+    }
+
+    return renderList;
+  }
+
   private void updateLighting(IEntity entity) {
     if (entity instanceof StaticShadow staticShadow) {
       this.updateLighting(staticShadow.getArea() != null ? staticShadow.getArea().getBounds2D()
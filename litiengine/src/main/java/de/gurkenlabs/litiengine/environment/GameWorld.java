@@ -43,6 +43,9 @@ public final class GameWorld implements IUpdateable {
   private final Map<String, Collection<IUpdateable>> updatables = new ConcurrentHashMap<>();
 
   private final Map<String, Environment> environments = new ConcurrentHashMap<>();
+  private final Collection<String> backgroundMaps = ConcurrentHashMap.newKeySet();
+
+  private BackgroundSimulation backgroundSimulation;
 
   private Environment environment;
   private ICamera camera;
@@ -70,7 +73,16 @@ public final class GameWorld implements IUpdateable {
       return;
     }
 
-    String mapName = getMapName(this.environment());
+    this.update(this.environment());
+  }
+
+  /**
+   * Calls all updatables that were attached for the map of the specified environment.
+   *
+   * @param env The environment whose map specific updatables are called.
+   */
+  void update(Environment env) {
+    String mapName = getMapName(env);
     if (mapName != null && this.updatables.containsKey(mapName)) {
       for (IUpdateable updatable : this.updatables.get(mapName)) {
         updatable.update();
@@ -78,6 +90,65 @@ public final class GameWorld implements IUpdateable {
     }
   }
 
+  /**
+   * Gets the background simulation that keeps environments ticking while they are not the active environment.
+   *
+   * @return The background simulation of the game world.
+   * @see #setSimulatedInBackground(String, boolean)
+   */
+  public synchronized BackgroundSimulation backgroundSimulation() {
+    if (this.backgroundSimulation == null) {
+      this.backgroundSimulation = new BackgroundSimulation(Game.loop());
+    }
+
+    return this.backgroundSimulation;
+  }
+
+  /**
+   * Specifies whether the environment of the specified map keeps being simulated at the reduced tick rate of the
+   * {@link BackgroundSimulation} while another environment is active.
+   *
+   * <p>
+   * The simulation starts once the environment gets unloaded and stops before it is loaded again. Background environments
+   * keep their state in memory and are not rendered.
+   * </p>
+   *
+   * @param mapName  The map name by which the environment is identified.
+   * @param simulate True if the environment should be simulated in the background; otherwise false.
+   * @see #backgroundSimulation()
+   */
+  public void setSimulatedInBackground(String mapName, boolean simulate) {
+    if (mapName == null || mapName.isEmpty()) {
+      return;
+    }
+
+    String mapIdentifier = mapName.toLowerCase();
+    if (simulate) {
+      this.backgroundMaps.add(mapIdentifier);
+      Environment env = this.environments.get(mapIdentifier);
+      if (env != null && env != this.environment()) {
+        this.backgroundSimulation().add(env);
+      }
+    } else {
+      this.backgroundMaps.remove(mapIdentifier);
+      Environment env = this.environments.get(mapIdentifier);
+      if (env != null) {
+        this.stopSimulation(env);
+      }
+    }
+  }
+
+  /**
+   * Determines whether the environment of the specified map is simulated in the background while another environment
+   * is active.
+   *
+   * @param mapName The map name by which the environment is identified.
+   * @return True if the environment is simulated in the background; otherwise false.
+   */
+  public boolean isSimulatedInBackground(String mapName) {
+    return mapName != null && this.backgroundMaps.contains(mapName.toLowerCase());
+  }
+
   /**
    * Adds the specified environment listener to receive events about the basic life-cycle of environments. This is a global event that gets called for
    * any map.
@@ -249,6 +320,14 @@ public final class GameWorld implements IUpdateable {
    */
   public void clear() {
     this.unloadEnvironment();
+    synchronized (this) {
+      if (this.backgroundSimulation != null) {
+        this.backgroundSimulation.terminate();
+        this.backgroundSimulation = null;
+      }
+    }
+
+    this.backgroundMaps.clear();
     this.environments.clear();
     this.setCamera(null);
     Game.physics().clear();
@@ -337,6 +416,7 @@ public final class GameWorld implements IUpdateable {
       this.environment = env;
       if (env != null) {
         this.addEnvironment(env);
+        this.stopSimulation(env);
 
         if (env.getGravity() == 0 && this.gravity() != 0) {
           env.setGravity(this.gravity());
@@ -422,6 +502,10 @@ public final class GameWorld implements IUpdateable {
           listener.unloaded(this.environment());
         }
       }
+
+      if (mapName != null && this.backgroundMaps.contains(mapName)) {
+        this.backgroundSimulation().add(this.environment());
+      }
     }
 
     this.environment = null;
@@ -471,6 +555,7 @@ public final class GameWorld implements IUpdateable {
       String mapName = getMapName(env);
       if (mapName != null) {
         this.environments.remove(mapName);
+        this.stopSimulation(env);
 
         // unwire all registered listeners for this particular map
         if (this.environmentListeners.containsKey(mapName)) {
@@ -541,6 +626,12 @@ public final class GameWorld implements IUpdateable {
     listeners.get(mapIdentifier).remove(listener);
   }
 
+  private synchronized void stopSimulation(Environment env) {
+    if (this.backgroundSimulation != null) {
+      this.backgroundSimulation.remove(env);
+    }
+  }
+
   private static String getMapName(Environment env) {
     if (env.getMap() != null && env.getMap().getName() != null) {
       return env.getMap().getName().toLowerCase();
@@ -54,6 +54,96 @@ public interface IMapOrientation {
    */
   public Point getLocation(Point tile, IMap map);
 
+  /**
+   * Determines the rendered location of a tile within the given {@code IMap} like {@link #getLocation(int, int, IMap)},
+   * but stores the result in the specified point instead of allocating a new one. This is used when iterating over a
+   * large number of tiles, e.g. during rendering.
+   *
+   * @param x
+   *          The saved X coordinate of the tile
+   * @param y
+   *          The saved Y coordinate of the tile
+   * @param map
+   *          The {@code IMap} that the tile is in
+   * @param location
+   *          The point that receives the location of the tile
+   * @return The specified point, set to the location of the tile
+   */
+  public default Point getLocation(int x, int y, IMap map, Point location) {
+    location.setLocation(this.getLocation(x, y, map));
+    return location;
+  }
+
+  /**
+   * Determines the first row of tiles that can have a location (as returned by {@link #getLocation(int, int, IMap)})
+   * within the specified bounds. Together with {@link #getLastRow(Rectangle2D, IMap)},
+   * {@link #getFirstColumn(int, Rectangle2D, IMap)} and {@link #getLastColumn(int, Rectangle2D, IMap)}, this allows to
+   * only iterate over the tiles that are visible in a viewport instead of the whole map.
+   *
+   * <p>
+   * The returned range is conservative, i.e. it may contain tiles outside the bounds but never misses a tile inside them.
+   * The default implementation returns the first row of the map.
+   * </p>
+   *
+   * @param locations
+   *          The bounds that contain the tile locations of interest
+   * @param map
+   *          The {@code IMap} that the tiles are in
+   * @return The index of the first row, clamped to the size of the map
+   */
+  public default int getFirstRow(Rectangle2D locations, IMap map) {
+    return 0;
+  }
+
+  /**
+   * Determines the last row of tiles that can have a location within the specified bounds. The default implementation
+   * returns the last row of the map.
+   *
+   * @param locations
+   *          The bounds that contain the tile locations of interest
+   * @param map
+   *          The {@code IMap} that the tiles are in
+   * @return The index of the last row, clamped to the size of the map
+   * @see #getFirstRow(Rectangle2D, IMap)
+   */
+  public default int getLastRow(Rectangle2D locations, IMap map) {
+    return map.getHeight() - 1;
+  }
+
+  /**
+   * Determines the first tile in the specified row that can have a location within the specified bounds. The default
+   * implementation returns the first column of the map.
+   *
+   * @param row
+   *          The row of the tiles
+   * @param locations
+   *          The bounds that contain the tile locations of interest
+   * @param map
+   *          The {@code IMap} that the tiles are in
+   * @return The index of the first column, clamped to the size of the map
+   * @see #getFirstRow(Rectangle2D, IMap)
+   */
+  public default int getFirstColumn(int row, Rectangle2D locations, IMap map) {
+    return 0;
+  }
+
+  /**
+   * Determines the last tile in the specified row that can have a location within the specified bounds. The default
+   * implementation returns the last column of the map.
+   *
+   * @param row
+   *          The row of the tiles
+   * @param locations
+   *          The bounds that contain the tile locations of interest
+   * @param map
+   *          The {@code IMap} that the tiles are in
+   * @return The index of the last column, clamped to the size of the map
+   * @see #getFirstRow(Rectangle2D, IMap)
+   */
+  public default int getLastColumn(int row, Rectangle2D locations, IMap map) {
+    return map.getWidth() - 1;
+  }
+
   /**
    * Creates a {@code Shape} for the tile at the given coordinates. The shapes returned by this method should reflect the
    * intended shape of a tile in this orientation, and in general should not overlap.
@@ -53,6 +53,7 @@ public final class MapObjectProperty {
   public static final String LIGHT_INTENSITY = "lightIntensity";
   public static final String LIGHT_SHAPE = "lightShape";
   public static final String LIGHT_ACTIVE = "lightActive";
+  public static final String LIGHT_DYNAMIC = "lightDynamic";
 
   // sound source
   public static final String SOUND_VOLUME = "soundVolume";
@@ -133,6 +134,7 @@ public final class MapObjectProperty {
     public static final String FADEONCOLLISION = "particleFadeOnCollision";
     public static final String OUTLINEONLY = "particleOutlineOnly";
     public static final String ANTIALIASING = "particleAntiAliasing";
+    public static final String BUFFER = "particleBuffer";
 
     private Particle() {
 
@@ -91,6 +91,11 @@ public class MapOrientations {
   }
 
   private abstract static class Base implements IMapOrientation {
+    @Override
+    public Point getLocation(int x, int y, IMap map) {
+      return this.getLocation(x, y, map, new Point());
+    }
+
     @Override
     public Point getLocation(Point tile, IMap map) {
       return this.getLocation(tile.x, tile.y, map);
@@ -136,6 +141,30 @@ public class MapOrientations {
       return this.getTile(location.getX(), location.getY(), map);
     }
 
+    /**
+     * Converts the lower end of a (fractional) range of tile indices into the index of the first tile, padded by one tile
+     * to compensate for rounding in {@link #getLocation(int, int, IMap)}.
+     */
+    protected static int first(double index, int size) {
+      if (Double.isNaN(index)) {
+        return 0;
+      }
+
+      return (int) Math.max(0, Math.min(size, Math.floor(index) - 1));
+    }
+
+    /**
+     * Converts the upper end of a (fractional) range of tile indices into the index of the last tile, padded by one tile
+     * to compensate for rounding in {@link #getLocation(int, int, IMap)}.
+     */
+    protected static int last(double index, int size) {
+      if (Double.isNaN(index)) {
+        return size - 1;
+      }
+
+      return (int) Math.max(-1, Math.min(size - 1, Math.ceil(index) + 1));
+    }
+
     protected static void checkTileSize(IMap map) {
       if (map.getTileWidth() == 0) {
         throw new ArithmeticException("tile width == 0");
@@ -158,8 +187,29 @@ public class MapOrientations {
     }
 
     @Override
-    public Point getLocation(int x, int y, IMap map) {
-      return new Point(x * map.getTileWidth(), (y + 1) * map.getTileHeight());
+    public Point getLocation(int x, int y, IMap map, Point location) {
+      location.setLocation(x * map.getTileWidth(), (y + 1) * map.getTileHeight());
+      return location;
+    }
+
+    @Override
+    public int getFirstRow(Rectangle2D locations, IMap map) {
+      return first(locations.getMinY() / map.getTileHeight() - 1, map.getHeight());
+    }
+
+    @Override
+    public int getLastRow(Rectangle2D locations, IMap map) {
+      return last(locations.getMaxY() / map.getTileHeight() - 1, map.getHeight());
+    }
+
+    @Override
+    public int getFirstColumn(int row, Rectangle2D locations, IMap map) {
+      return first(locations.getMinX() / map.getTileWidth(), map.getWidth());
+    }
+
+    @Override
+    public int getLastColumn(int row, Rectangle2D locations, IMap map) {
+      return last(locations.getMaxX() / map.getTileWidth(), map.getWidth());
     }
 
     @Override
@@ -189,9 +239,49 @@ public class MapOrientations {
     }
 
     @Override
-    public Point getLocation(int x, int y, IMap map) {
+    public Point getLocation(int x, int y, IMap map, Point location) {
       checkSizeParity(map);
-      return new Point((x - y + map.getHeight() - 1) * map.getTileWidth() / 2, (x + y + 2) * map.getTileHeight() / 2);
+      location.setLocation((x - y + map.getHeight() - 1) * map.getTileWidth() / 2, (x + y + 2) * map.getTileHeight() / 2);
+      return location;
+    }
+
+    // the location of a tile only depends on x - y horizontally and on x + y vertically, so the bounds are transformed
+    // into ranges of these two values first
+
+    @Override
+    public int getFirstRow(Rectangle2D locations, IMap map) {
+      return first((minSum(locations, map) - maxDifference(locations, map)) / 2, map.getHeight());
+    }
+
+    @Override
+    public int getLastRow(Rectangle2D locations, IMap map) {
+      return last((maxSum(locations, map) - minDifference(locations, map)) / 2, map.getHeight());
+    }
+
+    @Override
+    public int getFirstColumn(int row, Rectangle2D locations, IMap map) {
+      return first(Math.max(minDifference(locations, map) + row, minSum(locations, map) - row), map.getWidth());
+    }
+
+    @Override
+    public int getLastColumn(int row, Rectangle2D locations, IMap map) {
+      return last(Math.min(maxDifference(locations, map) + row, maxSum(locations, map) - row), map.getWidth());
+    }
+
+    private static double minDifference(Rectangle2D locations, IMap map) {
+      return 2 * locations.getMinX() / map.getTileWidth() - map.getHeight() + 1;
+    }
+
+    private static double maxDifference(Rectangle2D locations, IMap map) {
+      return 2 * locations.getMaxX() / map.getTileWidth() - map.getHeight() + 1;
+    }
+
+    private static double minSum(Rectangle2D locations, IMap map) {
+      return 2 * locations.getMinY() / map.getTileHeight() - 2;
+    }
+
+    private static double maxSum(Rectangle2D locations, IMap map) {
+      return 2 * locations.getMaxY() / map.getTileHeight() - 2;
     }
 
     @Override
@@ -255,23 +345,70 @@ public class MapOrientations {
     }
 
     @Override
-    public Point getLocation(int x, int y, IMap map) {
+    public Point getLocation(int x, int y, IMap map, Point location) {
       this.checkValidity(map);
-      Dimension tileSize = map.getTileSize();
-      int sx = x * tileSize.width;
-      int sy = y * tileSize.height;
+      int tileWidth = map.getTileWidth();
+      int tileHeight = map.getTileHeight();
+      int sx = x * tileWidth;
+      int sy = y * tileHeight;
       if (map.getStaggerAxis() == StaggerAxis.X) {
         sx /= 2;
         if (x % 2 == 0 ^ map.getStaggerIndex() == StaggerIndex.ODD) {
-          sy += tileSize.height / 2;
+          sy += tileHeight / 2;
         }
       } else {
         sy /= 2;
         if (y % 2 == 0 ^ map.getStaggerIndex() == StaggerIndex.ODD) {
-          sx += tileSize.width / 2;
+          sx += tileWidth / 2;
         }
       }
-      return new Point(sx, sy + tileSize.height);
+      location.setLocation(sx, sy + tileHeight);
+      return location;
+    }
+
+    // the staggered tiles are shifted by half a tile, which is covered by the padding of the ranges
+
+    @Override
+    public int getFirstRow(Rectangle2D locations, IMap map) {
+      if (map.getStaggerAxis() == StaggerAxis.X) {
+        return first((locations.getMinY() - map.getTileHeight() * 1.5) / map.getTileHeight(), map.getHeight());
+      }
+
+      return first((locations.getMinY() - map.getTileHeight()) / this.getStaggerStep(map.getTileHeight(), map), map.getHeight());
+    }
+
+    @Override
+    public int getLastRow(Rectangle2D locations, IMap map) {
+      if (map.getStaggerAxis() == StaggerAxis.X) {
+        return last((locations.getMaxY() - map.getTileHeight()) / map.getTileHeight(), map.getHeight());
+      }
+
+      return last((locations.getMaxY() - map.getTileHeight()) / this.getStaggerStep(map.getTileHeight(), map), map.getHeight());
+    }
+
+    @Override
+    public int getFirstColumn(int row, Rectangle2D locations, IMap map) {
+      if (map.getStaggerAxis() == StaggerAxis.X) {
+        return first(locations.getMinX() / this.getStaggerStep(map.getTileWidth(), map), map.getWidth());
+      }
+
+      return first((locations.getMinX() - map.getTileWidth() / 2.0) / map.getTileWidth(), map.getWidth());
+    }
+
+    @Override
+    public int getLastColumn(int row, Rectangle2D locations, IMap map) {
+      if (map.getStaggerAxis() == StaggerAxis.X) {
+        return last(locations.getMaxX() / this.getStaggerStep(map.getTileWidth(), map), map.getWidth());
+      }
+
+      return last(locations.getMaxX() / map.getTileWidth(), map.getWidth());
+    }
+
+    /**
+     * Gets the distance between two adjacent tiles on the stagger axis.
+     */
+    protected double getStaggerStep(int tileSize, IMap map) {
+      return tileSize / 2.0;
     }
 
     @Override
@@ -358,8 +495,8 @@ public class MapOrientations {
     }
 
     @Override
-    public Point getLocation(int x, int y, IMap map) {
-      Point p = super.getLocation(x, y, map);
+    public Point getLocation(int x, int y, IMap map, Point location) {
+      Point p = super.getLocation(x, y, map, location);
       if (map.getStaggerAxis() == StaggerAxis.X) {
         p.x += x * map.getHexSideLength() / 2;
       } else {
@@ -368,6 +505,11 @@ public class MapOrientations {
       return p;
     }
 
+    @Override
+    protected double getStaggerStep(int tileSize, IMap map) {
+      return (tileSize + map.getHexSideLength()) / 2.0;
+    }
+
     @Override
     public Shape getShape(int x, int y, IMap map) {
       Point loc = this.getLocation(x, y, map);
@@ -4,16 +4,20 @@ import java.awt.AlphaComposite;
 import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.Collection;
 import java.util.EventListener;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
-import de.gurkenlabs.litiengine.Game;
-import de.gurkenlabs.litiengine.entities.IEntity;
 import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TileLayer;
 import de.gurkenlabs.litiengine.graphics.ImageRenderer;
 import de.gurkenlabs.litiengine.graphics.RenderType;
 import de.gurkenlabs.litiengine.graphics.Spritesheet;
@@ -22,6 +26,11 @@ import de.gurkenlabs.litiengine.resources.Resources;
 public class MapRenderer {
   private static final Collection<LayerRenderedListener> layerRenderedListeners = ConcurrentHashMap.newKeySet();
   private static final Collection<LayerRenderCondition> layerRenderConditions = ConcurrentHashMap.newKeySet();
+  private static final Map<TileLayer, TileChunkCache> chunkCaches = new WeakHashMap<>();
+  private static final long CHUNK_SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private static volatile boolean chunkCaching = true;
+  private static long lastChunkSweep = System.nanoTime();
 
   private MapRenderer() {
     throw new UnsupportedOperationException();
@@ -63,12 +72,102 @@ public class MapRenderer {
     layerRenderConditions.remove(condition);
   }
 
+  /**
+   * Determines whether the tiles of tile layers are cached in pre-rendered chunk images when rendering an
+   * {@code Environment}.
+   *
+   * @return True if the chunk cache is used; otherwise false.
+   * @see #setChunkCaching(boolean)
+   */
+  public static boolean isChunkCaching() {
+    return chunkCaching;
+  }
+
+  /**
+   * Sets whether the tiles of tile layers are cached in pre-rendered chunk images when rendering an {@code Environment}.
+   *
+   * <p>
+   * With the chunk cache, the static tiles of a layer are rasterized once into images of a fixed size that are accelerated
+   * by the graphics device if possible. Each frame then only renders the few chunks that intersect with the viewport
+   * instead of every single tile. Chunks are updated when a tile inside them is changed via
+   * {@link ITileLayer#setTile(int, int, int)}. On orthogonal maps whose tiles all have the size of a grid cell, animated
+   * tiles are rendered on top of the chunks so that their frames can advance without updating the chunks. On all other
+   * maps, tiles can overlap each other and chunks that contain animated tiles are updated whenever one of these tiles
+   * advances to another frame, which keeps the render order of the tiles.
+   * </p>
+   *
+   * <p>
+   * Only layers of the type {@link TileLayer} are cached because they report changes of their tiles. Layers of other
+   * {@code ITileLayer} implementations are always rendered tile by tile.
+   * </p>
+   *
+   * <p>
+   * Chunks that haven't been rendered for a while are released. The cache is enabled by default.
+   * </p>
+   *
+   * @param caching
+   *          True if the chunk cache should be used; otherwise false.
+   * @see #clearChunkCache()
+   */
+  public static void setChunkCaching(boolean caching) {
+    chunkCaching = caching;
+    if (!caching) {
+      clearChunkCache();
+    }
+  }
+
+  /**
+   * Releases all pre-rendered chunks of all tile layers. This needs to be called if the images of any tilesets were
+   * changed.
+   *
+   * @see #setChunkCaching(boolean)
+   */
+  public static void clearChunkCache() {
+    synchronized (chunkCaches) {
+      for (Map.Entry<TileLayer, TileChunkCache> entry : chunkCaches.entrySet()) {
+        entry.getValue().dispose(entry.getKey());
+      }
+
+      chunkCaches.clear();
+    }
+  }
+
+  /**
+   * Renders the layers of the specified map tile by tile.
+   *
+   * @param g
+   *          The graphics object to render on.
+   * @param map
+   *          The map to render.
+   * @param viewport
+   *          The section of the map to render.
+   * @param renderTypes
+   *          The render types of the layers to render or none to render all layers.
+   */
   public static void render(Graphics2D g, IMap map, Rectangle2D viewport, RenderType... renderTypes) {
     renderLayers(g, map, map, viewport, null, renderTypes, 1f);
   }
 
+  /**
+   * Renders the layers of the specified map along with the entities of the specified environment. Tile layers are
+   * rendered from the chunk cache, if enabled.
+   *
+   * @param g
+   *          The graphics object to render on.
+   * @param map
+   *          The map to render.
+   * @param viewport
+   *          The section of the map to render.
+   * @param env
+   *          The environment that provides the entities of the map object layers.
+   * @param renderTypes
+   *          The render types of the layers to render or none to render all layers.
+   *
+   * @see #setChunkCaching(boolean)
+   */
   public static void render(final Graphics2D g, final IMap map, final Rectangle2D viewport, Environment env, RenderType... renderTypes) {
     renderLayers(g, map, map, viewport, env, renderTypes, 1f);
+    sweepChunkCaches();
   }
 
   private static void renderLayers(final Graphics2D g, final IMap map, ILayerList layers, final Rectangle2D viewport, Environment env,
@@ -82,14 +181,11 @@ public class MapRenderer {
       float layerOpacity = layer.getOpacity() * opacity;
 
       if (layer instanceof ITileLayer itl) {
-        renderTileLayer(g, itl, map, viewport, layerOpacity);
+        renderTileLayer(g, itl, map, viewport, layerOpacity, env != null && isChunkCaching());
       }
 
       if (env != null && layer instanceof IMapObjectLayer imol) {
-        Collection<IEntity> entities = env.getEntities(imol);
-        if (entities != null) {
-          Game.graphics().renderEntities(g, entities, layer.getRenderType() == RenderType.NORMAL);
-        }
+        env.renderEntities(g, imol);
       }
 
       if (layer instanceof IImageLayer iil) {
@@ -102,17 +198,13 @@ public class MapRenderer {
     }
   }
 
-  private static void renderTileLayer(final Graphics2D g, final ITileLayer layer, final IMap map, final Rectangle2D viewport, float opacity) {
-    // TODO: possibly implement the same render order that Tiled uses for staggered maps: undo the staggering, and then render it right-down
+  private static void renderTileLayer(final Graphics2D g, final ITileLayer layer, final IMap map, final Rectangle2D viewport, float opacity,
+    boolean cached) {
     g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
-    if (map.getRenderOrder().btt) {
-      for (int y = map.getHeight() - 1; y >= 0; y--) {
-        drawRow(g, layer, y, map, viewport);
-      }
+    if (cached && layer instanceof TileLayer tileLayer) {
+      getChunkCache(tileLayer).render(g, tileLayer, map, viewport);
     } else {
-      for (int y = 0; y < map.getHeight(); y++) {
-        drawRow(g, layer, y, map, viewport);
-      }
+      renderTiles(g, layer, map, viewport, true);
     }
 
     final LayerRenderEvent event = new LayerRenderEvent(g, map, layer);
@@ -121,38 +213,144 @@ public class MapRenderer {
     }
   }
 
-  private static void drawRow(Graphics2D g, ITileLayer layer, int y, IMap map, Rectangle2D viewport) {
+  static void renderTiles(final Graphics2D g, final ITileLayer layer, final IMap map, final Rectangle2D viewport, boolean animated) {
+    // TODO: possibly implement the same render order that Tiled uses for staggered maps: undo the staggering, and then render it right-down
+    // only iterate the tiles whose location can result in an image that intersects with the viewport
+    final Rectangle2D locations = getTileLocationBounds(map, viewport);
+    final Point location = new Point();
+    final int firstRow = map.getOrientation().getFirstRow(locations, map);
+    final int lastRow = map.getOrientation().getLastRow(locations, map);
+    if (map.getRenderOrder().btt) {
+      for (int y = lastRow; y >= firstRow; y--) {
+        drawRow(g, layer, y, map, viewport, locations, location, animated);
+      }
+    } else {
+      for (int y = firstRow; y <= lastRow; y++) {
+        drawRow(g, layer, y, map, viewport, locations, location, animated);
+      }
+    }
+  }
+
+  private static void drawRow(Graphics2D g, ITileLayer layer, int y, IMap map, Rectangle2D viewport, Rectangle2D locations, Point location,
+    boolean animated) {
+    final int firstColumn = map.getOrientation().getFirstColumn(y, locations, map);
+    final int lastColumn = map.getOrientation().getLastColumn(y, locations, map);
     if (map.getRenderOrder().rtl) {
-      for (int x = map.getWidth() - 1; x >= 0; x--) {
-        drawTile(g, layer, x, y, map, viewport);
+      for (int x = lastColumn; x >= firstColumn; x--) {
+        drawTile(g, layer.getTile(x, y), x, y, map, viewport, location, animated);
       }
     } else {
-      for (int x = 0; x < map.getWidth(); x++) {
-        drawTile(g, layer, x, y, map, viewport);
+      for (int x = firstColumn; x <= lastColumn; x++) {
+        drawTile(g, layer.getTile(x, y), x, y, map, viewport, location, animated);
       }
     }
   }
 
-  private static void drawTile(Graphics2D g, ITileLayer layer, int x, int y, IMap map, Rectangle2D viewport) {
-    ITile tile = layer.getTile(x, y);
-    if (tile == null) {
+  static void drawTile(Graphics2D g, ITile tile, int x, int y, IMap map, Rectangle2D viewport, Point location, boolean animated) {
+    if (tile == null || !animated && isAnimated(tile)) {
       return;
     }
     BufferedImage image = tile.getImage();
     if (image != null) {
-      Point p = map.getOrientation().getLocation(x, y, map);
-      p.y -= image.getHeight();
-      ITileOffset offset = tile.getTilesetEntry().getTileset().getTileOffset();
-      if (offset != null) {
-        p.x += offset.getX();
-        p.y += offset.getY();
-      }
+      Point p = getImageLocation(tile, image, x, y, map, location);
       if (viewport.intersects(p.x, p.y, image.getWidth(), image.getHeight())) {
         ImageRenderer.render(g, image, p.x - viewport.getX(), p.y - viewport.getY());
       }
     }
   }
 
+  /**
+   * Determines the top-left corner of the specified tile's image on the map.
+   */
+  static Point getImageLocation(ITile tile, BufferedImage image, int x, int y, IMap map, Point location) {
+    Point p = map.getOrientation().getLocation(x, y, map, location);
+    p.y -= image.getHeight();
+    ITileOffset offset = tile.getTilesetEntry().getTileset().getTileOffset();
+    if (offset != null) {
+      p.x += offset.getX();
+      p.y += offset.getY();
+    }
+
+    return p;
+  }
+
+  static boolean isAnimated(ITile tile) {
+    return tile.getTilesetEntry() != null && tile.getTilesetEntry().getAnimation() != null;
+  }
+
+  /**
+   * Determines the bounds in which the location of a tile (as provided by its map orientation) must lie for the tile's
+   * image to intersect with the viewport.
+   */
+  static Rectangle2D getTileLocationBounds(IMap map, Rectangle2D viewport) {
+    final Rectangle extent = getTileImageExtent(map);
+    return new Rectangle2D.Double(
+        viewport.getX() - extent.x - extent.width,
+        viewport.getY() - extent.y - extent.height,
+        viewport.getWidth() + extent.width,
+        viewport.getHeight() + extent.height);
+  }
+
+  /**
+   * Determines the area relative to the location of a tile that can be covered by the tile's image. This accounts for the
+   * largest tile size and the tile offsets of all tilesets of the map because tile images are rendered above their
+   * location.
+   */
+  static Rectangle getTileImageExtent(IMap map) {
+    int maxSize = Math.max(map.getTileWidth(), map.getTileHeight());
+    int minOffsetX = 0;
+    int maxOffsetX = 0;
+    int minOffsetY = 0;
+    int maxOffsetY = 0;
+
+    final List<ITileset> tilesets = map.getTilesets();
+    for (int i = 0; i < tilesets.size(); i++) {
+      final ITileset tileset = tilesets.get(i);
+      // rotated tiles swap their width and height
+      maxSize = Math.max(maxSize, Math.max(tileset.getTileWidth(), tileset.getTileHeight()));
+      final ITileOffset offset = tileset.getTileOffset();
+      if (offset != null) {
+        minOffsetX = Math.min(minOffsetX, offset.getX());
+        maxOffsetX = Math.max(maxOffsetX, offset.getX());
+        minOffsetY = Math.min(minOffsetY, offset.getY());
+        maxOffsetY = Math.max(maxOffsetY, offset.getY());
+      }
+    }
+
+    return new Rectangle(minOffsetX, minOffsetY - maxSize, maxSize + maxOffsetX - minOffsetX, maxSize + maxOffsetY - minOffsetY);
+  }
+
+  private static TileChunkCache getChunkCache(TileLayer layer) {
+    synchronized (chunkCaches) {
+      TileChunkCache cache = chunkCaches.get(layer);
+      if (cache == null) {
+        cache = new TileChunkCache(layer);
+        chunkCaches.put(layer, cache);
+      }
+
+      return cache;
+    }
+  }
+
+  private static void sweepChunkCaches() {
+    final long now = System.nanoTime();
+    if (now - lastChunkSweep < CHUNK_SWEEP_INTERVAL) {
+      return;
+    }
+
+    lastChunkSweep = now;
+    synchronized (chunkCaches) {
+      final Iterator<Map.Entry<TileLayer, TileChunkCache>> iterator = chunkCaches.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<TileLayer, TileChunkCache> entry = iterator.next();
+        if (entry.getValue().evict(now)) {
+          entry.getValue().dispose(entry.getKey());
+          iterator.remove();
+        }
+      }
+    }
+  }
+
   protected static boolean shouldBeRendered(final Graphics2D g, final IMap map, ILayer layer, RenderType[] renderTypes) {
     final LayerRenderEvent event = new LayerRenderEvent(g, map, layer);
     for (LayerRenderCondition condition : layerRenderConditions) {
@@ -0,0 +1,20 @@
+package de.gurkenlabs.litiengine.environment.tilemap;
+
+import java.util.EventListener;
+
+/**
+ * This listener provides callbacks for when a tile of a {@code TileLayer} was changed.
+ *
+ * @see de.gurkenlabs.litiengine.environment.tilemap.xml.TileLayer#onTileChanged(TileChangedListener)
+ */
+@FunctionalInterface
+public interface TileChangedListener extends EventListener {
+
+  /**
+   * This method is called after the grid id of a tile was changed.
+   *
+   * @param tile
+   *          The tile that was changed.
+   */
+  void changed(ITile tile);
+}
@@ -0,0 +1,322 @@
+package de.gurkenlabs.litiengine.environment.tilemap;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.Transparency;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TileLayer;
+import de.gurkenlabs.litiengine.graphics.ImageRenderer;
+import de.gurkenlabs.litiengine.util.MathUtilities;
+
+/**
+ * Caches the tiles of a {@code TileLayer} in pre-rendered chunk images of a fixed size. The chunks are aligned to a
+ * grid on the map and are only rasterized when they intersect with the viewport for the first time, when a tile inside
+ * them was changed or when their accelerated image was lost.
+ *
+ * @see MapRenderer#setChunkCaching(boolean)
+ */
+final class TileChunkCache {
+  static final int CHUNK_SIZE = 256;
+  private static final long CHUNK_LIFETIME = TimeUnit.SECONDS.toNanos(2);
+
+  private final Map<Long, Chunk> chunks = new HashMap<>();
+  private final Queue<Point> changedTiles = new ConcurrentLinkedQueue<>();
+  private final TileChangedListener tileChangedListener = this::tileChanged;
+  private final Point location = new Point();
+
+  TileChunkCache(TileLayer layer) {
+    layer.onTileChanged(this.tileChangedListener);
+  }
+
+  /**
+   * Renders all chunks that intersect with the viewport, rasterizing them if necessary.
+   */
+  synchronized void render(Graphics2D g, ITileLayer layer, IMap map, Rectangle2D viewport) {
+    final long now = System.nanoTime();
+    this.invalidateChangedTiles(map);
+
+    final boolean overlay = canOverlayAnimatedTiles(map);
+    final GraphicsConfiguration config = g.getDeviceConfiguration();
+
+    final int firstX = (int) Math.floor(viewport.getMinX() / CHUNK_SIZE);
+    final int lastX = (int) Math.ceil(viewport.getMaxX() / CHUNK_SIZE) - 1;
+    final int firstY = (int) Math.floor(viewport.getMinY() / CHUNK_SIZE);
+    final int lastY = (int) Math.ceil(viewport.getMaxY() / CHUNK_SIZE) - 1;
+    for (int y = firstY; y <= lastY; y++) {
+      for (int x = firstX; x <= lastX; x++) {
+        final long key = MathUtilities.getGridKey(x, y);
+        Chunk chunk = this.chunks.get(key);
+        if (chunk == null) {
+          chunk = new Chunk(x, y);
+          this.chunks.put(key, chunk);
+        }
+
+        chunk.lastUsed = now;
+        if (chunk.needsUpdate(config, overlay)) {
+          chunk.update(g, layer, map, config, overlay);
+        }
+
+        chunk.render(g, map, viewport);
+      }
+    }
+  }
+
+  /**
+   * Releases all chunks that haven't been rendered recently.
+   *
+   * @return True if this cache doesn't contain any chunks anymore.
+   */
+  synchronized boolean evict(long now) {
+    final Iterator<Chunk> iterator = this.chunks.values().iterator();
+    while (iterator.hasNext()) {
+      final Chunk chunk = iterator.next();
+      if (now - chunk.lastUsed > CHUNK_LIFETIME) {
+        chunk.flush();
+        iterator.remove();
+      }
+    }
+
+    return this.chunks.isEmpty();
+  }
+
+  synchronized void dispose(TileLayer layer) {
+    layer.removeTileChangedListener(this.tileChangedListener);
+    for (Chunk chunk : this.chunks.values()) {
+      chunk.flush();
+    }
+
+    this.chunks.clear();
+    this.changedTiles.clear();
+  }
+
+  private void tileChanged(ITile tile) {
+    // tiles are changed on the game loop; the chunks are invalidated on the next render
+    if (tile.getTileCoordinate() != null) {
+      this.changedTiles.add(tile.getTileCoordinate());
+    }
+  }
+
+  private void invalidateChangedTiles(IMap map) {
+    Rectangle extent = null;
+    Point tile;
+    while ((tile = this.changedTiles.poll()) != null) {
+      if (extent == null) {
+        extent = MapRenderer.getTileImageExtent(map);
+      }
+
+      final Point tileLocation = map.getOrientation().getLocation(tile.x, tile.y, map, this.location);
+      final int minX = Math.floorDiv(tileLocation.x + extent.x, CHUNK_SIZE);
+      final int maxX = Math.floorDiv(tileLocation.x + extent.x + extent.width, CHUNK_SIZE);
+      final int minY = Math.floorDiv(tileLocation.y + extent.y, CHUNK_SIZE);
+      final int maxY = Math.floorDiv(tileLocation.y + extent.y + extent.height, CHUNK_SIZE);
+      for (int y = minY; y <= maxY; y++) {
+        for (int x = minX; x <= maxX; x++) {
+          final Chunk chunk = this.chunks.get(MathUtilities.getGridKey(x, y));
+          if (chunk != null) {
+            chunk.dirty = true;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Animated tiles can only be rendered on top of the chunks if they cannot overlap other tiles. This is the case on
+   * orthogonal maps whose tiles all fit exactly into a cell of the grid. On all other maps, tiles need to be rendered in
+   * the order of their rows, so animated tiles are rasterized into the chunks.
+   */
+  private static boolean canOverlayAnimatedTiles(IMap map) {
+    if (map.getOrientation() != MapOrientations.ORTHOGONAL) {
+      return false;
+    }
+
+    final List<ITileset> tilesets = map.getTilesets();
+    for (int i = 0; i < tilesets.size(); i++) {
+      final ITileset tileset = tilesets.get(i);
+      final ITileOffset offset = tileset.getTileOffset();
+      if (tileset.getTileWidth() != map.getTileWidth()
+          || tileset.getTileHeight() != map.getTileHeight()
+          || offset != null && (offset.getX() != 0 || offset.getY() != 0)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int getCurrentFrame(ITile tile) {
+    return tile.getTilesetEntry().getAnimation().getCurrentFrame().getTileId();
+  }
+
+  private static final class Chunk {
+    private final Rectangle2D bounds;
+    private final List<ITile> animatedTiles = new ArrayList<>();
+    private final Point location = new Point();
+
+    private Image image;
+    private int[] frames = new int[0];
+    private boolean overlay;
+    private boolean dirty = true;
+    private long lastUsed;
+
+    private Chunk(int x, int y) {
+      this.bounds = new Rectangle2D.Double((double) x * CHUNK_SIZE, (double) y * CHUNK_SIZE, CHUNK_SIZE, CHUNK_SIZE);
+    }
+
+    private boolean needsUpdate(GraphicsConfiguration config, boolean overlay) {
+      if (this.dirty || this.overlay != overlay) {
+        return true;
+      }
+
+      if (this.image instanceof VolatileImage volatileImage && volatileImage.validate(config) != VolatileImage.IMAGE_OK) {
+        return true;
+      }
+
+      if (!overlay) {
+        for (int i = 0; i < this.animatedTiles.size(); i++) {
+          if (getCurrentFrame(this.animatedTiles.get(i)) != this.frames[i]) {
+            return true;
+          }
+        }
+      }
+
+      return false;
+    }
+
+    private void update(Graphics2D g, ITileLayer layer, IMap map, GraphicsConfiguration config, boolean overlay) {
+      this.overlay = overlay;
+      this.dirty = false;
+
+      final boolean rasterize = this.collectTiles(layer, map, overlay);
+      if (!rasterize) {
+        // nothing to rasterize, e.g. in an empty area of the layer
+        this.flush();
+        return;
+      }
+
+      if (this.image instanceof VolatileImage volatileImage && volatileImage.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+        this.flush();
+      }
+
+      if (this.image == null) {
+        this.image = createImage(config);
+      }
+
+      final Graphics2D chunkGraphics = (Graphics2D) this.image.getGraphics();
+      chunkGraphics.setRenderingHints(g.getRenderingHints());
+      chunkGraphics.setComposite(AlphaComposite.Clear);
+      chunkGraphics.fillRect(0, 0, CHUNK_SIZE, CHUNK_SIZE);
+      chunkGraphics.setComposite(AlphaComposite.SrcOver);
+      MapRenderer.renderTiles(chunkGraphics, layer, map, this.bounds, !overlay);
+      chunkGraphics.dispose();
+
+      if (this.image instanceof VolatileImage volatileImage && volatileImage.contentsLost()) {
+        this.dirty = true;
+      }
+    }
+
+    /**
+     * Collects the animated tiles whose images intersect with this chunk.
+     *
+     * @return True if there are any tiles that need to be rasterized into this chunk.
+     */
+    private boolean collectTiles(ITileLayer layer, IMap map, boolean overlay) {
+      this.animatedTiles.clear();
+      boolean staticTiles = false;
+
+      final IMapOrientation orientation = map.getOrientation();
+      final Rectangle2D locations = MapRenderer.getTileLocationBounds(map, this.bounds);
+      final int lastRow = orientation.getLastRow(locations, map);
+      for (int y = orientation.getFirstRow(locations, map); y <= lastRow; y++) {
+        final int lastColumn = orientation.getLastColumn(y, locations, map);
+        for (int x = orientation.getFirstColumn(y, locations, map); x <= lastColumn; x++) {
+          final ITile tile = layer.getTile(x, y);
+          final BufferedImage tileImage = tile != null ? tile.getImage() : null;
+          if (tileImage == null) {
+            continue;
+          }
+
+          final Point p = MapRenderer.getImageLocation(tile, tileImage, x, y, map, this.location);
+          if (!this.bounds.intersects(p.x, p.y, tileImage.getWidth(), tileImage.getHeight())) {
+            continue;
+          }
+
+          if (MapRenderer.isAnimated(tile)) {
+            this.animatedTiles.add(tile);
+          } else {
+            staticTiles = true;
+          }
+        }
+      }
+
+      if (overlay) {
+        return staticTiles;
+      }
+
+      this.frames = new int[this.animatedTiles.size()];
+      for (int i = 0; i < this.frames.length; i++) {
+        this.frames[i] = getCurrentFrame(this.animatedTiles.get(i));
+      }
+
+      return staticTiles || !this.animatedTiles.isEmpty();
+    }
+
+    private void render(Graphics2D g, IMap map, Rectangle2D viewport) {
+      if (this.image != null) {
+        ImageRenderer.render(g, this.image, this.bounds.getX() - viewport.getX(), this.bounds.getY() - viewport.getY());
+      }
+
+      if (!this.overlay || this.animatedTiles.isEmpty()) {
+        return;
+      }
+
+      // animated tiles that span multiple chunks are clipped to each chunk to render them exactly once
+      final Shape clip = g.getClip();
+      g.clip(new Rectangle2D.Double(this.bounds.getX() - viewport.getX(), this.bounds.getY() - viewport.getY(), CHUNK_SIZE, CHUNK_SIZE));
+      for (int i = 0; i < this.animatedTiles.size(); i++) {
+        final ITile tile = this.animatedTiles.get(i);
+        final Point coordinate = tile.getTileCoordinate();
+        MapRenderer.drawTile(g, tile, coordinate.x, coordinate.y, map, viewport, this.location, true);
+      }
+
+      g.setClip(clip);
+    }
+
+    private void flush() {
+      if (this.image != null) {
+        this.image.flush();
+        this.image = null;
+      }
+    }
+
+    private static Image createImage(GraphicsConfiguration config) {
+      if (config == null) {
+        return new BufferedImage(CHUNK_SIZE, CHUNK_SIZE, BufferedImage.TYPE_INT_ARGB);
+      }
+
+      // offscreen targets can't benefit from an accelerated image
+      if (config.getDevice().getType() == GraphicsDevice.TYPE_IMAGE_BUFFER) {
+        return config.createCompatibleImage(CHUNK_SIZE, CHUNK_SIZE, Transparency.TRANSLUCENT);
+      }
+
+      return config.createCompatibleVolatileImage(CHUNK_SIZE, CHUNK_SIZE, Transparency.TRANSLUCENT);
+    }
+  }
+}
@@ -15,6 +15,26 @@ public class Frame implements ITileAnimationFrame {
   @XmlAttribute
   private int duration;
 
+  /**
+   * Instantiates a new {@code Frame} instance.
+   */
+  public Frame() {
+    // keep for serialization
+  }
+
+  /**
+   * Instantiates a new {@code Frame} instance.
+   *
+   * @param tileId
+   *          The id of the tile that is displayed in this frame.
+   * @param duration
+   *          The duration of this frame in milliseconds.
+   */
+  public Frame(int tileId, int duration) {
+    this.tileid = tileId;
+    this.duration = duration;
+  }
+
   @Override
   @XmlTransient
   public int getTileId() {
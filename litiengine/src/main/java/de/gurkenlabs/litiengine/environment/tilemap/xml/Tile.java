@@ -14,6 +14,7 @@ import jakarta.xml.bind.annotation.XmlAttribute;
 
 import de.gurkenlabs.litiengine.environment.tilemap.ICustomProperty;
 import de.gurkenlabs.litiengine.environment.tilemap.ITile;
+import de.gurkenlabs.litiengine.environment.tilemap.ITileAnimation;
 import de.gurkenlabs.litiengine.environment.tilemap.ITilesetEntry;
 
 @XmlAccessorType(XmlAccessType.FIELD)
@@ -123,24 +124,19 @@ public class Tile extends CustomPropertyProvider implements ITile {
       return null;
     }
     BufferedImage base = this.getTilesetEntry().getImage();
-    if (!this.isFlipped()) {
+    if (!this.isFlipped() || base == null) {
       return base;
     }
-    // save some overhead by doing all the reflection at once
-    // affine transforms are confusing: this actually does represent the correct order
-    AffineTransform tx = new AffineTransform();
-    if (this.isFlippedHorizontally()) {
-      tx.translate(base.getWidth(), 0.0);
-      tx.scale(-1.0, 1.0);
-    }
-    if (this.isFlippedVertically()) {
-      tx.translate(0.0, base.getHeight());
-      tx.scale(1.0, -1.0);
-    }
-    if (this.isFlippedDiagonally()) {
-      tx.concatenate(TX_DIAGONAL_FLIP);
+
+    final int flags = this.getFlipFlags();
+    if (this.getTilesetEntry().getTileset() instanceof Tileset tileset) {
+      // animated tiles are flipped with the image of their current frame
+      final ITileAnimation animation = this.getTilesetEntry().getAnimation();
+      final int tileId = animation != null ? animation.getCurrentFrame().getTileId() : this.getTilesetEntry().getId();
+      return tileset.getTransformedImage(tileId, base, flags);
     }
-    return (new AffineTransformOp(tx, AffineTransformOp.TYPE_NEAREST_NEIGHBOR)).filter(base, null);
+
+    return transform(base, flags);
   }
 
   @Override
@@ -177,19 +173,7 @@ public class Tile extends CustomPropertyProvider implements ITile {
 
   @Override
   public int hashCode() {
-    int hash = this.getGridId();
-    if (this.isFlipped()) {
-      if (this.isFlippedDiagonally()) {
-        hash |= FLIPPED_DIAGONALLY_FLAG;
-      }
-      if (this.isFlippedHorizontally()) {
-        hash |= FLIPPED_HORIZONTALLY_FLAG;
-      }
-      if (this.isFlippedVertically()) {
-        hash |= FLIPPED_VERTICALLY_FLAG;
-      }
-    }
-    return hash ^ Objects.hashCode(this.getTilesetEntry());
+    return (this.getGridId() | this.getFlipFlags()) ^ Objects.hashCode(this.getTilesetEntry());
   }
 
   @Override
@@ -197,6 +181,48 @@ public class Tile extends CustomPropertyProvider implements ITile {
     return this.getGridId() + String.valueOf(this.getTilesetEntry());
   }
 
+  /**
+   * Transforms the specified image according to the specified flip flags.
+   *
+   * @param image
+   *          The image to transform.
+   * @param flags
+   *          A combination of {@link #FLIPPED_HORIZONTALLY_FLAG}, {@link #FLIPPED_VERTICALLY_FLAG} and
+   *          {@link #FLIPPED_DIAGONALLY_FLAG}.
+   * @return A new image that contains the transformed image.
+   */
+  static BufferedImage transform(BufferedImage image, int flags) {
+    // save some overhead by doing all the reflection at once
+    // affine transforms are confusing: this actually does represent the correct order
+    AffineTransform tx = new AffineTransform();
+    if ((flags & FLIPPED_HORIZONTALLY_FLAG) != 0) {
+      tx.translate(image.getWidth(), 0.0);
+      tx.scale(-1.0, 1.0);
+    }
+    if ((flags & FLIPPED_VERTICALLY_FLAG) != 0) {
+      tx.translate(0.0, image.getHeight());
+      tx.scale(1.0, -1.0);
+    }
+    if ((flags & FLIPPED_DIAGONALLY_FLAG) != 0) {
+      tx.concatenate(TX_DIAGONAL_FLIP);
+    }
+    return (new AffineTransformOp(tx, AffineTransformOp.TYPE_NEAREST_NEIGHBOR)).filter(image, null);
+  }
+
+  private int getFlipFlags() {
+    int flags = 0;
+    if (this.isFlippedHorizontally()) {
+      flags |= FLIPPED_HORIZONTALLY_FLAG;
+    }
+    if (this.isFlippedVertically()) {
+      flags |= FLIPPED_VERTICALLY_FLAG;
+    }
+    if (this.isFlippedDiagonally()) {
+      flags |= FLIPPED_DIAGONALLY_FLAG;
+    }
+    return flags;
+  }
+
   void setTilesetEntry(ITilesetEntry entry) {
     this.tilesetEntry = entry;
   }
@@ -17,6 +17,28 @@ public class TileAnimation implements ITileAnimation {
 
   private transient int totalDuration;
 
+  private transient int[] frameEnds;
+
+  // the most recently resolved frame, packed as (time << 32 | index) to be shared between the loop and the render thread
+  private transient volatile long resolvedFrame = -1;
+
+  /**
+   * Instantiates a new {@code TileAnimation} instance.
+   */
+  public TileAnimation() {
+    // keep for serialization
+  }
+
+  /**
+   * Instantiates a new {@code TileAnimation} instance with the specified frames.
+   *
+   * @param frames
+   *          The frames of this animation.
+   */
+  public TileAnimation(List<ITileAnimationFrame> frames) {
+    this.frames = frames;
+  }
+
   @Override
   public List<ITileAnimationFrame> getFrames() {
     return this.frames;
@@ -41,15 +63,64 @@ public class TileAnimation implements ITileAnimation {
     return this.totalDuration;
   }
 
+  /**
+   * Gets the current frame of this animation. The frame is resolved only once for each point in time, i.e. once per tick
+   * of the game loop, no matter how many tiles use this animation.
+   */
   @Override
   public ITileAnimationFrame getCurrentFrame() {
-    long time = Game.time().sinceEnvironmentLoad() % this.getTotalDuration();
-    for (ITileAnimationFrame frame : this.getFrames()) {
-      time -= frame.getDuration();
-      if (time <= 0) {
-        return frame;
+    final long time = Game.time().sinceEnvironmentLoad() % this.getTotalDuration();
+    final long resolved = this.resolvedFrame;
+    if (resolved != -1 && resolved >> 32 == time) {
+      return this.getFrames().get((int) resolved);
+    }
+
+    final int index = this.getFrameIndex(time);
+    this.resolvedFrame = time << 32 | index;
+    return this.getFrames().get(index);
+  }
+
+  /**
+   * Gets the index of the frame that is displayed at the specified time of this animation.
+   *
+   * @param time
+   *          The time in milliseconds, relative to the start of the animation.
+   * @return The index of the first frame that ends at or after the specified time.
+   */
+  int getFrameIndex(long time) {
+    // binary search over the precomputed end times of the frames
+    final int[] ends = this.getFrameEnds();
+    int low = 0;
+    int high = ends.length - 1;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (ends[mid] < time) {
+        low = mid + 1;
+      } else {
+        high = mid;
       }
     }
-    throw new AssertionError(); // we should never reach this line
+
+    return low;
+  }
+
+  private int[] getFrameEnds() {
+    if (this.frameEnds != null) {
+      return this.frameEnds;
+    }
+
+    final int[] ends = new int[this.getFrames().size()];
+    int end = 0;
+    for (int i = 0; i < ends.length; i++) {
+      final ITileAnimationFrame frame = this.getFrames().get(i);
+      if (frame != null) {
+        end += frame.getDuration();
+      }
+
+      ends[i] = end;
+    }
+
+    this.frameEnds = ends;
+    return ends;
   }
 }
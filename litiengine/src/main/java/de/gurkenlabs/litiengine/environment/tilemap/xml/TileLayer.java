@@ -3,8 +3,10 @@ package de.gurkenlabs.litiengine.environment.tilemap.xml;
 import java.awt.Point;
 import java.awt.geom.Point2D;
 import java.net.URL;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.xml.bind.annotation.XmlElement;
@@ -12,6 +14,7 @@ import jakarta.xml.bind.annotation.XmlElement;
 import de.gurkenlabs.litiengine.environment.tilemap.ITile;
 import de.gurkenlabs.litiengine.environment.tilemap.ITileLayer;
 import de.gurkenlabs.litiengine.environment.tilemap.ITilesetEntry;
+import de.gurkenlabs.litiengine.environment.tilemap.TileChangedListener;
 
 public class TileLayer extends Layer implements ITileLayer {
 
@@ -22,6 +25,8 @@ public class TileLayer extends Layer implements ITileLayer {
 
   private transient Tile[][] tiles;
 
+  private final transient Collection<TileChangedListener> tileChangedListeners = ConcurrentHashMap.newKeySet();
+
   /**
    * Instantiates a new {@code TileLayer} instance.
    */
@@ -82,6 +87,32 @@ public class TileLayer extends Layer implements ITileLayer {
         tile.setTilesetEntry(entry);
       }
     }
+
+    for (TileChangedListener listener : this.tileChangedListeners) {
+      listener.changed(tile);
+    }
+  }
+
+  /**
+   * Adds the specified tile changed listener to receive events when a tile of this layer was changed.
+   *
+   * @param listener
+   *          The listener to add.
+   *
+   * @see #setTile(int, int, int)
+   */
+  public void onTileChanged(TileChangedListener listener) {
+    this.tileChangedListeners.add(listener);
+  }
+
+  /**
+   * Removes the specified tile changed listener.
+   *
+   * @param listener
+   *          The listener to remove.
+   */
+  public void removeTileChangedListener(TileChangedListener listener) {
+    this.tileChangedListeners.remove(listener);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package de.gurkenlabs.litiengine.environment.tilemap.xml;
 
 import java.awt.Dimension;
+import java.awt.image.BufferedImage;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -89,8 +90,13 @@ public class Tileset extends CustomPropertyProvider implements ITileset {
 
   private transient Spritesheet spriteSheet;
 
+  private transient BufferedImage[][] transformedImages;
+
   public Tileset() {
-    Resources.images().addClearedListener(() -> this.spriteSheet = null);
+    Resources.images().addClearedListener(() -> {
+      this.spriteSheet = null;
+      this.transformedImages = null;
+    });
   }
 
   public Tileset(Tileset source) {
@@ -233,6 +239,50 @@ public class Tileset extends CustomPropertyProvider implements ITileset {
     return this.allTiles.get(id);
   }
 
+  /**
+   * Gets the image of the tile with the specified id, transformed according to the specified flip flags. The transformed
+   * images are cached lazily, so that flipped and rotated tiles don't need to be transformed each time they are rendered.
+   *
+   * @param tileId
+   *          The id of the tile within this tileset that provides the image.
+   * @param image
+   *          The untransformed image of the tile.
+   * @param flags
+   *          The flip flags of the tile; a combination of {@code Tile#FLIPPED_HORIZONTALLY_FLAG},
+   *          {@code Tile#FLIPPED_VERTICALLY_FLAG} and {@code Tile#FLIPPED_DIAGONALLY_FLAG}.
+   * @return The transformed image.
+   */
+  BufferedImage getTransformedImage(int tileId, BufferedImage image, int flags) {
+    if (this.sourceTileset != null) {
+      return this.sourceTileset.getTransformedImage(tileId, image, flags);
+    }
+
+    if (tileId < 0 || tileId >= this.getTileCount()) {
+      return Tile.transform(image, flags);
+    }
+
+    BufferedImage[][] cache = this.transformedImages;
+    if (cache == null) {
+      cache = new BufferedImage[this.getTileCount()][];
+      this.transformedImages = cache;
+    }
+
+    // the first element holds the untransformed image to detect changes, e.g. of animated tiles or reloaded images
+    BufferedImage[] images = cache[tileId];
+    if (images == null || images[0] != image) {
+      images = new BufferedImage[8];
+      images[0] = image;
+      cache[tileId] = images;
+    }
+
+    final int index = flags >>> 29;
+    if (images[index] == null) {
+      images[index] = Tile.transform(image, flags);
+    }
+
+    return images[index];
+  }
+
   public TileTransformations getTransformations() {
     return this.transformations;
   }
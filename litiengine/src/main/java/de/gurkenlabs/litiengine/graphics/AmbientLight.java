@@ -1,20 +1,26 @@
 package de.gurkenlabs.litiengine.graphics;
 
+import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.entities.LightSource;
 import de.gurkenlabs.litiengine.entities.StaticShadow;
 import de.gurkenlabs.litiengine.environment.Environment;
 import de.gurkenlabs.litiengine.util.MathUtilities;
 import de.gurkenlabs.litiengine.util.geom.GeometricUtilities;
-import de.gurkenlabs.litiengine.util.geom.Vector2D;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.Paint;
+import java.awt.Shape;
 import java.awt.geom.Area;
 import java.awt.geom.Line2D;
-import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
 
 /**
  * This class represents the ambient light in an environment. It extends the ColorLayer class and provides methods to render light sources and
@@ -26,6 +32,13 @@ public class AmbientLight extends ColorLayer {
    */
   public static final Color DEFAULT_COLOR = new Color(0, 0, 0, 0);
 
+  // the cached light areas and a grid of the lights by the bounds of their cached areas; both are guarded by lightAreas
+  private final Map<LightSource, CachedLightArea> lightAreas = new HashMap<>();
+  private final Map<Long, Set<LightSource>> lightAreaBuckets = new HashMap<>();
+  private int lightAreaGeneration;
+  private final Lightmap lightmap = new Lightmap();
+  private volatile StaticShadowGrid shadowGrid;
+
   /**
    * Constructor for the AmbientLight class.
    *
@@ -36,6 +49,62 @@ public class AmbientLight extends ColorLayer {
     super(environment, ambientColor);
   }
 
+  /**
+   * Renders the ambient light. If any dynamic light is visible, the dynamic lights are rendered into a lightmap with the
+   * resolution that is defined by the graphic configuration and composited with the ambient light at full resolution.
+   *
+   * @param g The graphics object to render on.
+   * @see LightSource#isDynamic()
+   */
+  @Override
+  public void render(Graphics2D g) {
+    final Rectangle2D viewport = Game.world().camera().getViewport();
+    final List<LightSource> dynamicLights = new ArrayList<>();
+    for (LightSource light : getEnvironment().getLightSources()) {
+      if (light.isDynamic() && light.isActive() && light.getBoundingBox().intersects(viewport)) {
+        dynamicLights.add(light);
+      }
+    }
+
+    if (dynamicLights.isEmpty()) {
+      this.render(g, viewport);
+      return;
+    }
+
+    this.lightmap.render(g, viewport, this, dynamicLights, Game.config().graphics().getLightmapResolution());
+  }
+
+  /**
+   * Releases the pre-rendered stamp images that are shared by the lights of all environments. This is called when an
+   * environment is unloaded.
+   */
+  public static void clearLightStamps() {
+    LightStamps.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   * This also updates the static shadows within the section and invalidates the cached areas of the lights that
+   * intersect with the section.
+   * </p>
+   */
+  @Override
+  public void updateSection(Rectangle2D section) {
+    if (section != null) {
+      // static shadows within the section might have been added, removed or moved
+      final StaticShadowGrid grid = this.shadowGrid;
+      if (grid != null) {
+        this.shadowGrid = grid.update(getEnvironment().getStaticShadows(), section);
+      }
+
+      this.invalidateLightAreas(section);
+    }
+
+    super.updateSection(section);
+  }
+
   /**
    * Renders a section of the environment with the ambient light and light sources.
    *
@@ -76,7 +145,7 @@ public class AmbientLight extends ColorLayer {
    * @param section The section of the environment to carve from.
    */
   private void carveOutLight(Graphics2D g, LightSource light, Rectangle2D section) {
-    if (!light.getBoundingBox().intersects(section) || !light.isActive()) {
+    if (!light.getBoundingBox().intersects(section) || !light.isActive() || light.isDynamic()) {
       return;
     }
     renderLightSource(g, light, section);
@@ -92,6 +161,7 @@ public class AmbientLight extends ColorLayer {
   private void renderActualLight(Graphics2D g, LightSource light, Rectangle2D section) {
     if (!light.getBoundingBox().intersects(section)
       || !light.isActive()
+      || light.isDynamic()
       || light.getIntensity() <= 0) {
       return;
     }
@@ -114,59 +184,157 @@ public class AmbientLight extends ColorLayer {
   }
 
   /**
-   * Subtracts a shadow from a light area.
+   * Gets the area of the specified light that is not blocked by any static shadow. The area is cached until the light
+   * shape changes or a section that intersects with the light is updated.
    *
-   * @param lightArea The light area to subtract from.
-   * @param shadow    The shadow to subtract.
+   * @param light The light source.
+   * @return The shadowed light area.
    */
-  private void subtractShadow(Area lightArea, StaticShadow shadow) {
-    if (!lightArea.intersects(shadow.getBoundingBox())) {
-      return;
+  Shape getLightArea(LightSource light) {
+    final Shape lightShape = light.getLightShape();
+    final int currentGeneration;
+    synchronized (this.lightAreas) {
+      final CachedLightArea cached = this.lightAreas.get(light);
+      if (cached != null && cached.lightShape == lightShape) {
+        return cached.area;
+      }
+
+      currentGeneration = this.lightAreaGeneration;
     }
 
-    final double mapWidth = getEnvironment().getMap().getSizeInPixels().width;
-    final double mapHeight = getEnvironment().getMap().getSizeInPixels().height;
-    double longerDimension = Math.max(mapWidth, mapHeight);
-    Point2D center = new Point2D.Double(lightArea.getBounds2D().getCenterX(), lightArea.getBounds2D().getCenterY());
+    final Shape area = this.createLightArea(lightShape);
+    final CachedLightArea cached = new CachedLightArea(lightShape, area, lightShape.getBounds2D());
+    synchronized (this.lightAreas) {
+      // don't cache areas that were created while a section was invalidated concurrently
+      if (currentGeneration != this.lightAreaGeneration) {
+        return area;
+      }
 
+      this.removeLightArea(light);
+      this.lightAreas.put(light, cached);
+      forEachBucket(cached.bounds, key -> this.lightAreaBuckets.computeIfAbsent(key, k -> new HashSet<>()).add(light));
+    }
 
-    final Area boxInLight = new Area(shadow.getBoundingBox());
+    return area;
+  }
 
-    final Line2D[] bounds = GeometricUtilities.getLines(shadow.getBoundingBox());
-    for (final Line2D line : bounds) {
-      final Vector2D lineVector = new Vector2D(line.getP1(), line.getP2());
-      final Vector2D lightVector = new Vector2D(center, line.getP1());
+  /**
+   * Removes the cached areas of all lights whose area intersects with the specified section. Only the lights within the
+   * buckets of the section are tested.
+   *
+   * @param section The section of the map that has changed.
+   */
+  private void invalidateLightAreas(Rectangle2D section) {
+    synchronized (this.lightAreas) {
+      this.lightAreaGeneration++;
+      final List<LightSource> invalid = new ArrayList<>();
+      forEachBucket(section, key -> {
+        final Set<LightSource> bucket = this.lightAreaBuckets.get(key);
+        if (bucket == null) {
+          return;
+        }
 
-      if (center.getY() < line.getY1()
-        && center.getY() < line.getY2()
-        && shadow.getBoundingBox().contains(center)
-        || lineVector.normalVector().dotProduct(lightVector) >= 0) {
-        continue;
+        for (LightSource light : bucket) {
+          if (this.lightAreas.get(light).bounds.intersects(section)) {
+            invalid.add(light);
+          }
+        }
+      });
+
+      invalid.forEach(this::removeLightArea);
+    }
+  }
+
+  private void removeLightArea(LightSource light) {
+    final CachedLightArea cached = this.lightAreas.remove(light);
+    if (cached == null) {
+      return;
+    }
+
+    forEachBucket(cached.bounds, key -> {
+      final Set<LightSource> bucket = this.lightAreaBuckets.get(key);
+      if (bucket != null && bucket.remove(light) && bucket.isEmpty()) {
+        this.lightAreaBuckets.remove(key);
       }
+    });
+  }
 
-      final Path2D shadowParallelogram = new Path2D.Double();
-      final Point2D shadowPoint1 =
-        GeometricUtilities.project(center, line.getP1(), longerDimension);
-      final Point2D shadowPoint2 =
-        GeometricUtilities.project(center, line.getP2(), longerDimension);
-
-      // construct a shape from our points
-      shadowParallelogram.moveTo(line.getP1().getX(), line.getP1().getY());
-      shadowParallelogram.lineTo(shadowPoint1.getX(), shadowPoint1.getY());
-      shadowParallelogram.lineTo(shadowPoint2.getX(), shadowPoint2.getY());
-      shadowParallelogram.lineTo(line.getP2().getX(), line.getP2().getY());
-      shadowParallelogram.closePath();
-
-      final Area shadowArea = new Area(shadowParallelogram);
-      if (center.getY() < shadow.getBoundingBox().getMaxY()
-        && !shadow.getBoundingBox().contains(center)) {
-        shadowArea.add(boxInLight);
+  private static void forEachBucket(Rectangle2D bounds, LongConsumer consumer) {
+    final int maxRow = (int) Math.floor(bounds.getMaxY() / TILE_SIZE);
+    final int maxColumn = (int) Math.floor(bounds.getMaxX() / TILE_SIZE);
+    for (int row = (int) Math.floor(bounds.getMinY() / TILE_SIZE); row <= maxRow; row++) {
+      for (int column = (int) Math.floor(bounds.getMinX() / TILE_SIZE); column <= maxColumn; column++) {
+        consumer.accept(MathUtilities.getGridKey(column, row));
       }
-      shadowArea.intersect(lightArea);
-      lightArea.subtract(shadowArea);
     }
   }
 
+  /**
+   * Creates the area of a light by intersecting its shape with the polygon that is visible from the center of the light.
+   * The edges of all nearby static shadows block the light (this simulates light falling into and out of rooms).
+   *
+   * @param lightShape The shape of the light.
+   * @return The shadowed light area.
+   */
+  private Shape createLightArea(Shape lightShape) {
+    final Rectangle2D bounds = lightShape.getBounds2D();
+    final Point2D center = new Point2D.Double(bounds.getCenterX(), bounds.getCenterY());
+    final List<Line2D> occluders = new ArrayList<>();
+    for (StaticShadow shadow : this.getShadowGrid().getShadows(bounds)) {
+      addOccluders(occluders, shadow.getBoundingBox(), center);
+    }
+
+    if (occluders.isEmpty()) {
+      return lightShape;
+    }
+
+    final Area lightArea = new Area(lightShape);
+    lightArea.intersect(new Area(GeometricUtilities.getVisibilityPolygon(center, bounds, occluders)));
+    return lightArea;
+  }
+
+  /**
+   * Adds the edges of a shadow box that block the light from the specified center.
+   *
+   * <p>
+   * The edges that face away from the light always cast a shadow. If the light is located above the bottom of the box,
+   * the box itself is shadowed and all its edges block the light. If the light is located within the box, the light
+   * falls out of the box through its bottom edge.
+   * </p>
+   *
+   * @param occluders The list to add the edges to.
+   * @param box       The bounding box of the shadow.
+   * @param center    The center of the light.
+   */
+  static void addOccluders(List<Line2D> occluders, Rectangle2D box, Point2D center) {
+    final boolean inside = box.contains(center);
+    final boolean shadowed = !inside && center.getY() < box.getMaxY();
+
+    // top edge
+    occluders.add(new Line2D.Double(box.getMaxX(), box.getMinY(), box.getMinX(), box.getMinY()));
+    if (shadowed || center.getX() > box.getMinX()) {
+      occluders.add(new Line2D.Double(box.getMinX(), box.getMinY(), box.getMinX(), box.getMaxY()));
+    }
+
+    if (shadowed || center.getX() < box.getMaxX()) {
+      occluders.add(new Line2D.Double(box.getMaxX(), box.getMaxY(), box.getMaxX(), box.getMinY()));
+    }
+
+    if (shadowed) {
+      occluders.add(new Line2D.Double(box.getMinX(), box.getMaxY(), box.getMaxX(), box.getMaxY()));
+    }
+  }
+
+  private StaticShadowGrid getShadowGrid() {
+    StaticShadowGrid grid = this.shadowGrid;
+    if (grid == null) {
+      grid = new StaticShadowGrid(getEnvironment().getStaticShadows(), TILE_SIZE);
+      this.shadowGrid = grid;
+    }
+
+    return grid;
+  }
+
   /**
    * Renders a light source on the environment.
    *
@@ -175,25 +343,19 @@ public class AmbientLight extends ColorLayer {
    * @param section The section of the environment to render on.
    */
   private void renderLightSource(final Graphics2D g, final LightSource light, Rectangle2D section) {
+    // rectangular lights are not blocked by static shadows
+    LightStamps.render(g, light, light.getLightShapeType() == LightSource.Type.RECTANGLE ? null : this.getLightArea(light), 1);
+  }
 
-    Area lightArea = new Area(light.getLightShape());
-    if (light.getLightShapeType() == LightSource.Type.RECTANGLE) {
-      g.setColor(light.getColor());
-      ShapeRenderer.render(g, new Rectangle2D.Double(
-        light.getBoundingBox().getX() - section.getX(),
-        light.getBoundingBox().getY() - section.getY(),
-        light.getBoundingBox().getWidth(),
-        light.getBoundingBox().getHeight()));
-      return;
-    }
-
-    // cut the light area where shadow Boxes are (this simulates light falling into and out of rooms)
-    getEnvironment().getStaticShadows().forEach(shadow -> subtractShadow(lightArea, shadow));
-
-    final Paint oldPaint = g.getPaint();
+  private static final class CachedLightArea {
+    private final Shape lightShape;
+    private final Shape area;
+    private final Rectangle2D bounds;
 
-    g.setPaint(light.getGradientPaint());
-    ShapeRenderer.render(g, lightArea);
-    g.setPaint(oldPaint);
+    private CachedLightArea(Shape lightShape, Shape area, Rectangle2D bounds) {
+      this.lightShape = lightShape;
+      this.area = area;
+      this.bounds = bounds;
+    }
   }
 }
@@ -15,6 +15,23 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * The default {@code ICamera} implementation.
+ *
+ * <p>
+ * All operations that change the focus, zoom or shake of this camera are marshalled onto the game loop's thread when
+ * called from a foreign thread (e.g. a Swing listener).
+ * </p>
+ *
+ * <p>
+ * While the game loop is running, such a change is only applied with the loop's next tick. Until then, the getters
+ * (e.g. {@link #getFocus()} or {@link #getZoom()}) still return the previous values on the foreign thread. Callers that
+ * need to read the changed state should therefore do so on the game loop, e.g. by using
+ * {@link Game#invokeOnLoop(Runnable)} themselves.
+ * </p>
+ *
+ * @see Game#invokeOnLoop(Runnable)
+ */
 public class Camera implements ICamera {
   private final Collection<ZoomChangedListener> zoomListeners = ConcurrentHashMap.newKeySet();
   private final Collection<FocusChangedListener> focusChangedListeners =
@@ -136,26 +153,28 @@ public class Camera implements ICamera {
 
   @Override
   public void setFocus(final Point2D focus) {
-    this.focus = this.clampToMap(focus);
-
-    // dunno why but without the factor of 0.01 sometimes everything starts to
-    // get wavy while rendering ...
-    // it seems to be an issue with the focus location being exactly dividable
-    // by up to 4?? (maybe even more for higher renderscales)
-    // this is somehow related to the rendering scale: if the rendering scale is
-    // lower this will only be affected by lower dividable numbers (e.g.
-    // renderscale of 6 only has an issue with 1 and 0.5)
-    // seems like java cannot place certain images onto their exact pixel
-    // location with an AffineTransform...
-    final double fraction = this.focus.getY() - Math.floor(this.focus.getY());
-    if (MathUtilities.isInt(fraction * 4)) {
-      this.focus.setLocation(this.focus.getX(), this.focus.getY() + 0.01);
-    }
+    Game.invokeOnLoop(() -> {
+      this.focus = this.clampToMap(focus);
+
+      // dunno why but without the factor of 0.01 sometimes everything starts to
+      // get wavy while rendering ...
+      // it seems to be an issue with the focus location being exactly dividable
+      // by up to 4?? (maybe even more for higher renderscales)
+      // this is somehow related to the rendering scale: if the rendering scale is
+      // lower this will only be affected by lower dividable numbers (e.g.
+      // renderscale of 6 only has an issue with 1 and 0.5)
+      // seems like java cannot place certain images onto their exact pixel
+      // location with an AffineTransform...
+      final double fraction = this.focus.getY() - Math.floor(this.focus.getY());
+      if (MathUtilities.isInt(fraction * 4)) {
+        this.focus.setLocation(this.focus.getX(), this.focus.getY() + 0.01);
+      }
 
-    final FocusChangedEvent event = new FocusChangedEvent(this, this.focus);
-    for (FocusChangedListener listener : this.focusChangedListeners) {
-      listener.focusChanged(event);
-    }
+      final FocusChangedEvent event = new FocusChangedEvent(this, this.focus);
+      for (FocusChangedListener listener : this.focusChangedListeners) {
+        listener.focusChanged(event);
+      }
+    });
   }
 
   @Override
@@ -165,36 +184,40 @@ public class Camera implements ICamera {
 
   @Override
   public void setZoom(final float targetZoom, final int delay) {
-    if (delay == 0) {
+    Game.invokeOnLoop(() -> {
+      if (delay == 0) {
 
-      this.zoom = targetZoom;
-      this.targetZoom = 0;
-      this.zoomDelay = 0;
-      this.zoomTick = 0;
-      this.zoomStep = 0;
+        this.zoom = targetZoom;
+        this.targetZoom = 0;
+        this.zoomDelay = 0;
+        this.zoomTick = 0;
+        this.zoomStep = 0;
 
-      final ZoomChangedEvent event = new ZoomChangedEvent(this, targetZoom);
-      for (final ZoomChangedListener listener : this.zoomListeners) {
-        listener.zoomChanged(event);
+        final ZoomChangedEvent event = new ZoomChangedEvent(this, targetZoom);
+        for (final ZoomChangedListener listener : this.zoomListeners) {
+          listener.zoomChanged(event);
+        }
+      } else {
+        this.zoomTick = Game.time().now();
+        this.targetZoom = targetZoom;
+        this.zoomDelay = delay;
+
+        final double tickduration = 1000 / (double) Game.loop().getTickRate();
+        final double tickAmount = delay / tickduration;
+        final float totalDelta = this.targetZoom - this.zoom;
+        this.zoomStep = tickAmount > 0 ? (float) (totalDelta / tickAmount) : totalDelta;
       }
-    } else {
-      this.zoomTick = Game.time().now();
-      this.targetZoom = targetZoom;
-      this.zoomDelay = delay;
-
-      final double tickduration = 1000 / (double) Game.loop().getTickRate();
-      final double tickAmount = delay / tickduration;
-      final float totalDelta = this.targetZoom - this.zoom;
-      this.zoomStep = tickAmount > 0 ? (float) (totalDelta / tickAmount) : totalDelta;
-    }
+    });
   }
 
   @Override
   public void shake(final double intensity, final int delay, final int shakeDuration) {
-    this.shakeTick = Game.time().now();
-    this.shakeDelay = delay;
-    this.shakeIntensity = intensity;
-    this.shakeDuration = shakeDuration;
+    Game.invokeOnLoop(() -> {
+      this.shakeTick = Game.time().now();
+      this.shakeDelay = delay;
+      this.shakeIntensity = intensity;
+      this.shakeDuration = shakeDuration;
+    });
   }
 
   @Override
@@ -283,8 +306,10 @@ public class Camera implements ICamera {
 
   @Override
   public void pan(Point2D focus, int duration) {
-    this.targetFocus = this.clampToMap(focus);
-    this.panTime = duration;
+    Game.invokeOnLoop(() -> {
+      this.targetFocus = this.clampToMap(focus);
+      this.panTime = duration;
+    });
   }
 
   @Override
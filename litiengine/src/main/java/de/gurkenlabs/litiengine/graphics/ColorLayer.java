@@ -8,29 +8,56 @@ import de.gurkenlabs.litiengine.util.MathUtilities;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Rectangle;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * A {@code ColorLayer} renders a colored overlay for the whole map (e.g. the ambient light or the static shadows).
+ *
+ * <p>
+ * The layer is split into square tiles of {@link #TILE_SIZE} pixels that are only allocated when they become visible in
+ * the viewport. Updating a section of the layer just marks the affected tiles as dirty; they are re-rendered the next
+ * time they are visible. Tiles that have not been visible for a while are evicted in least recently used order, so the
+ * memory of this layer scales with the size of the viewport instead of the size of the map.
+ * </p>
+ *
+ * <p>
+ * If multiple visible tiles are dirty, they are rendered concurrently on the common {@code ForkJoinPool}. Therefore,
+ * implementations of {@link #renderSection(Graphics2D, Rectangle2D)} and {@link #clearSection(Graphics2D, Rectangle2D)}
+ * must be thread-safe.
+ * </p>
+ */
 public abstract class ColorLayer implements IRenderable {
+  /**
+   * The width and height of a single tile of the layer in pixels.
+   */
+  public static final int TILE_SIZE = 256;
+
+  // the number of tiles around the viewport that are kept in memory after they have been rendered
+  private static final int TILE_MARGIN = 1;
+
   private final Environment environment;
-  private final BufferedImage layer;
+
+  // access ordered, so that the first entry is always the least recently rendered tile
+  private final Map<Long, Tile> tiles = new LinkedHashMap<>(16, 0.75f, true);
 
   private Color color;
 
   protected ColorLayer(Environment env, final Color color) {
     this.environment = env;
     this.color = color;
-
-    Dimension size = env.getMap().getSizeInPixels();
-    this.layer = Imaging.getCompatibleImage(size.width, size.height);
-    this.updateSection(this.environment.getMap().getBounds());
   }
 
   @Override
   public void render(Graphics2D g) {
-    final Rectangle2D viewport = Game.world().camera().getViewport();
-    ImageRenderer.render(g, this.layer, -viewport.getX(), -viewport.getY());
+    this.render(g, Game.world().camera().getViewport());
   }
 
   public Color getColor() {
@@ -56,16 +83,25 @@ public abstract class ColorLayer implements IRenderable {
     this.updateSection(this.environment.getMap().getBounds());
   }
 
+  /**
+   * Marks all tiles of this layer that intersect with the specified section as dirty. The tiles will be re-rendered
+   * the next time they are visible.
+   *
+   * @param section
+   *          The section of the map that has changed.
+   */
   public void updateSection(Rectangle2D section) {
-    if (this.getColor() == null) {
+    if (section == null) {
       return;
     }
-    final Graphics2D g = layer.createGraphics();
-    clearSection(g, section);
-    g.setClip(section);
-//    g.translate(section.getX(),section.getY());
-    renderSection(g, section);
-    g.dispose();
+
+    synchronized (this.tiles) {
+      for (Tile tile : this.tiles.values()) {
+        if (tile.bounds.intersects(section)) {
+          tile.dirty = true;
+        }
+      }
+    }
   }
 
   protected abstract void renderSection(Graphics2D g, Rectangle2D section);
@@ -75,4 +111,99 @@ public abstract class ColorLayer implements IRenderable {
   protected Environment getEnvironment() {
     return this.environment;
   }
+
+  void render(Graphics2D g, Rectangle2D viewport) {
+    final Dimension size = this.environment.getMap().getSizeInPixels();
+    final int minColumn = Math.max(0, (int) Math.floor(viewport.getMinX() / TILE_SIZE));
+    final int minRow = Math.max(0, (int) Math.floor(viewport.getMinY() / TILE_SIZE));
+    final int maxColumn = Math.min((size.width - 1) / TILE_SIZE, (int) Math.ceil(viewport.getMaxX() / TILE_SIZE) - 1);
+    final int maxRow = Math.min((size.height - 1) / TILE_SIZE, (int) Math.ceil(viewport.getMaxY() / TILE_SIZE) - 1);
+    if (minColumn > maxColumn || minRow > maxRow) {
+      return;
+    }
+
+    synchronized (this.tiles) {
+      final List<Tile> visibleTiles = new ArrayList<>();
+      for (int row = minRow; row <= maxRow; row++) {
+        for (int column = minColumn; column <= maxColumn; column++) {
+          visibleTiles.add(this.getTile(column, row, size));
+        }
+      }
+
+      this.renderDirtyTiles(visibleTiles);
+      for (Tile tile : visibleTiles) {
+        ImageRenderer.render(g, tile.image, tile.bounds.x - viewport.getX(), tile.bounds.y - viewport.getY());
+      }
+
+      this.evictTiles((maxColumn - minColumn + 1 + 2 * TILE_MARGIN) * (maxRow - minRow + 1 + 2 * TILE_MARGIN));
+    }
+  }
+
+  int getTileCount() {
+    synchronized (this.tiles) {
+      return this.tiles.size();
+    }
+  }
+
+  private Tile getTile(int column, int row, Dimension size) {
+    final long key = MathUtilities.getGridKey(column, row);
+    Tile tile = this.tiles.get(key);
+    if (tile == null) {
+      final int x = column * TILE_SIZE;
+      final int y = row * TILE_SIZE;
+      tile = new Tile(new Rectangle(x, y, Math.min(TILE_SIZE, size.width - x), Math.min(TILE_SIZE, size.height - y)));
+      this.tiles.put(key, tile);
+    }
+
+    return tile;
+  }
+
+  private void renderDirtyTiles(List<Tile> visibleTiles) {
+    final List<Tile> dirtyTiles = visibleTiles.stream().filter(tile -> tile.dirty).toList();
+    if (dirtyTiles.size() > 1) {
+      // every tile is rendered with its own graphics object and clip, so the tiles can be rasterized concurrently
+      dirtyTiles.parallelStream().forEach(this::renderTile);
+      return;
+    }
+
+    dirtyTiles.forEach(this::renderTile);
+  }
+
+  private void renderTile(Tile tile) {
+    final Graphics2D g = tile.image.createGraphics();
+    try {
+      // the sections are rendered in map coordinates
+      g.translate(-tile.bounds.x, -tile.bounds.y);
+      this.clearSection(g, tile.bounds);
+      g.setClip(tile.bounds);
+      if (this.getColor() != null) {
+        this.renderSection(g, tile.bounds);
+      }
+    } finally {
+      g.dispose();
+    }
+
+    tile.dirty = false;
+  }
+
+  private void evictTiles(int capacity) {
+    final Iterator<Tile> iterator = this.tiles.values().iterator();
+    while (this.tiles.size() > capacity && iterator.hasNext()) {
+      iterator.next().image.flush();
+      iterator.remove();
+    }
+  }
+
+  private static final class Tile {
+    private final Rectangle bounds;
+    private final BufferedImage image;
+    private boolean dirty = true;
+
+    private Tile(Rectangle bounds) {
+      this.bounds = bounds;
+      this.image = GraphicsEnvironment.isHeadless()
+          ? new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB)
+          : Imaging.getCompatibleImage(bounds.width, bounds.height);
+    }
+  }
 }
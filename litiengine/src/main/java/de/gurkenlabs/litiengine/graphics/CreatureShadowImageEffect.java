@@ -63,6 +63,15 @@ public class CreatureShadowImageEffect extends ImageEffect {
     return this;
   }
 
+  @Override
+  public int getVariant() {
+    if (this.getCreature().isDead()) {
+      return 0;
+    }
+
+    return 31 * (31 + Float.floatToIntBits(this.offsetX)) + Float.floatToIntBits(this.offsetY);
+  }
+
   @Override
   public BufferedImage apply(BufferedImage image) {
     if (this.getCreature().isDead()) {
@@ -0,0 +1,209 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import de.gurkenlabs.litiengine.entities.EntityYComparator;
+import de.gurkenlabs.litiengine.entities.ICollisionEntity;
+import de.gurkenlabs.litiengine.entities.IEntity;
+import de.gurkenlabs.litiengine.graphics.emitters.Emitter;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code EntityRenderList} maintains the render order of a group of entities across frames, e.g. of all entities with
+ * the same {@code RenderType} or of all entities on the same {@code IMapObjectLayer}.
+ *
+ * <p>
+ * In order to render entities in a 2.5D manner, they need to be sorted by their max y-coordinate (see
+ * {@link EntityYComparator}). Since entities usually only move a few pixels between two frames, the order of the previous
+ * frame is still almost correct. Instead of sorting all entities from scratch each frame, this list keeps its order and
+ * restores it with an insertion sort, which performs in nearly linear time on almost sorted data. The y-coordinates are
+ * captured once per frame before sorting, so entities that are moved concurrently by the game loop cannot violate the
+ * contract of the sort.
+ * </p>
+ *
+ * <p>
+ * If a viewport is provided on update, only the entities that intersect it are retained and sorted. Hence, the costs of
+ * maintaining the render order depend on the number of visible entities rather than on the size of the environment.
+ * </p>
+ *
+ * <p>
+ * The list only determines which entities are visible and in which order they are rendered. The entities themselves are
+ * still rendered from their live state by the {@code RenderEngine}.
+ * </p>
+ *
+ * <p>
+ * <i>This class is not thread-safe. It's meant to be updated and rendered on the game loop's thread.</i>
+ * </p>
+ *
+ * @see RenderEngine#renderEntities(java.awt.Graphics2D, EntityRenderList)
+ */
+public final class EntityRenderList {
+  private static final Comparator<Entry> BY_Y = (e1, e2) -> Double.compare(e1.y, e2.y);
+
+  // if the order changed too much, e.g. after loading an environment, insertion sort is slower than a merge sort
+  private static final int MAX_SHIFTS_PER_ENTITY = 8;
+
+  private final Map<IEntity, Entry> entries = new IdentityHashMap<>();
+  private final List<Entry> order = new ArrayList<>();
+  private final boolean sorted;
+  private long generation;
+
+  /**
+   * Initializes a new {@code EntityRenderList} that sorts its entities by their max y-coordinate.
+   */
+  public EntityRenderList() {
+    this(true);
+  }
+
+  /**
+   * Initializes a new {@code EntityRenderList}.
+   *
+   * @param sorted
+   *          Defines whether the entities should be sorted by their max y-coordinate or rendered in the order they were
+   *          added.
+   */
+  public EntityRenderList(boolean sorted) {
+    this.sorted = sorted;
+  }
+
+  /**
+   * Determines whether this instance sorts its entities by their max y-coordinate.
+   *
+   * @return True if the entities are sorted; otherwise false.
+   */
+  public boolean isSorted() {
+    return this.sorted;
+  }
+
+  /**
+   * Updates this list to contain exactly the specified entities and restores the render order.
+   *
+   * @param entities
+   *          The entities to be rendered.
+   */
+  public void update(Collection<? extends IEntity> entities) {
+    this.update(entities, null);
+  }
+
+  /**
+   * Updates this list to contain exactly those of the specified entities that intersect the viewport and restores the
+   * render order. Emitters are always retained because they determine on a per-particle basis whether they are rendered.
+   *
+   * @param entities
+   *          The entities to be rendered.
+   * @param viewport
+   *          The viewport that the entities need to intersect or null if all entities should be retained.
+   */
+  public void update(Collection<? extends IEntity> entities, Rectangle2D viewport) {
+    final long currentGeneration = ++this.generation;
+    if (!this.sorted) {
+      // unsorted lists render in the order of the specified collection, so there is no order to be maintained
+      this.order.clear();
+    }
+
+    int count = 0;
+    for (IEntity entity : entities) {
+      if (viewport != null && !(entity instanceof Emitter) && !viewport.intersects(entity.getBoundingBox())) {
+        continue;
+      }
+
+      Entry entry = this.entries.get(entity);
+      if (entry == null) {
+        entry = new Entry(entity);
+        this.entries.put(entity, entry);
+        if (this.sorted) {
+          this.order.add(entry);
+        }
+      }
+
+      if (!this.sorted && entry.generation != currentGeneration) {
+        this.order.add(entry);
+      }
+
+      if (entry.generation != currentGeneration) {
+        entry.generation = currentGeneration;
+        count++;
+      }
+    }
+
+    if (count < this.entries.size()) {
+      this.order.removeIf(e -> e.generation != currentGeneration);
+      this.entries.values().removeIf(e -> e.generation != currentGeneration);
+    }
+
+    if (this.sorted) {
+      this.sort();
+    }
+  }
+
+  /**
+   * Gets the number of entities in this list.
+   *
+   * @return The number of entities.
+   */
+  public int size() {
+    return this.order.size();
+  }
+
+  /**
+   * Gets the entity at the specified position in the render order.
+   *
+   * @param index
+   *          The position in the render order.
+   * @return The entity at the specified position.
+   */
+  public IEntity get(int index) {
+    return this.order.get(index).entity;
+  }
+
+  /**
+   * Removes all entities from this list.
+   */
+  public void clear() {
+    this.entries.clear();
+    this.order.clear();
+  }
+
+  private void sort() {
+    final int size = this.order.size();
+    for (int i = 0; i < size; i++) {
+      this.order.get(i).y = getMaxY(this.order.get(i).entity);
+    }
+
+    final int maxShifts = size * MAX_SHIFTS_PER_ENTITY;
+    int shifts = 0;
+    for (int i = 1; i < size; i++) {
+      final Entry entry = this.order.get(i);
+      int j = i - 1;
+      while (j >= 0 && this.order.get(j).y > entry.y) {
+        this.order.set(j + 1, this.order.get(j));
+        j--;
+        shifts++;
+      }
+
+      this.order.set(j + 1, entry);
+      if (shifts > maxShifts) {
+        this.order.sort(BY_Y);
+        return;
+      }
+    }
+  }
+
+  private static double getMaxY(IEntity entity) {
+    return entity instanceof ICollisionEntity collisionEntity ? collisionEntity.getCollisionBox().getMaxY() : entity.getBoundingBox().getMaxY();
+  }
+
+  private static final class Entry {
+    private final IEntity entity;
+    private double y;
+    private long generation;
+
+    private Entry(IEntity entity) {
+      this.entity = entity;
+    }
+  }
+}
@@ -138,6 +138,7 @@ public interface ICamera extends IUpdateable {
    * Combines this camera's zoom with the game's render scale.
    *
    * @see RenderEngine#setBaseRenderScale(float)
+   * @see RenderEngine#getWorldScale()
    * @return the scale factor
    */
   default float getRenderScale() {
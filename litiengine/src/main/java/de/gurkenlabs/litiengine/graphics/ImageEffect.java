@@ -40,6 +40,18 @@ public abstract class ImageEffect implements ITimeToLive, Comparable<ImageEffect
     return this.getTimeToLive() > 0 && this.getAliveTime() > this.getTimeToLive();
   }
 
+  /**
+   * Gets an identifier of the current state of this effect that changes the result of {@link #apply(BufferedImage)},
+   * e.g. the angle of a rotation. Animation frames are cached per effect name and variant, so effects whose result
+   * changes over time must return a different variant for each distinct result.
+   *
+   * @return The current variant of this effect or 0 if the result of this effect never changes.
+   * @see de.gurkenlabs.litiengine.resources.FrameCache
+   */
+  public int getVariant() {
+    return 0;
+  }
+
   public int getPriority() {
     return priority;
   }
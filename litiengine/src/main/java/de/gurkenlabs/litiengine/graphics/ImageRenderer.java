@@ -1,9 +1,12 @@
 package de.gurkenlabs.litiengine.graphics;
 
+import de.gurkenlabs.litiengine.resources.Resources;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
 
 /**
  * This static implementation renders an {@code Image} to a given {@code Graphics2D} object at the specified screen
@@ -25,7 +28,7 @@ public final class ImageRenderer {
     }
 
     final AffineTransform t = AffineTransform.getTranslateInstance(x, y);
-    g.drawImage(image, t, null);
+    drawImage(g, image, t);
   }
 
   public static void render(final Graphics2D g, final Image image, final Point2D renderLocation) {
@@ -62,7 +65,7 @@ public final class ImageRenderer {
     t.translate(x, y);
     t.rotate(Math.toRadians(angle), image.getWidth(null) * 0.5, image.getHeight(null) * 0.5);
 
-    g.drawImage(image, t, null);
+    drawImage(g, image, t);
   }
 
   public static void renderRotated(
@@ -70,6 +73,47 @@ public final class ImageRenderer {
     renderRotated(g, image, renderLocation.getX(), renderLocation.getY(), angle);
   }
 
+  /**
+   * Renders the specified image rotated around its center, with the angle quantized into one of a fixed number of
+   * rotation variants. The rotated image of each variant is rendered once and then drawn with a plain blit, which makes
+   * this cheaper than {@link #renderRotated(Graphics2D, Image, double, double, double)} for sprites that are rotated
+   * by constantly changing angles (e.g. particles). If the quantization is disabled by the graphics configuration, the
+   * image is rotated by the exact angle.
+   *
+   * @param g
+   *          The graphics object to draw on.
+   * @param image
+   *          The image to be drawn
+   * @param x
+   *          The x-coordinate of the image.
+   * @param y
+   *          The y-coordinate of the image
+   * @param angle
+   *          The angle by which the image will be rotated.
+   * @see de.gurkenlabs.litiengine.configuration.GraphicConfiguration#getRotationVariants()
+   */
+  public static void renderRotationVariant(
+      final Graphics2D g, final Image image, final double x, final double y, final double angle) {
+    if (image == null) {
+      return;
+    }
+
+    if (!RotationVariants.isEnabled()) {
+      renderRotated(g, image, x, y, angle);
+      return;
+    }
+
+    RotationVariants.render(g, image, x, y, angle);
+  }
+
+  /**
+   * Releases the pre-rendered rotation variants of all images. This is called when all resources are cleared, so that
+   * the variants don't keep the images of unloaded resources alive.
+   */
+  public static void clearRotationVariants() {
+    RotationVariants.getCache().clear();
+  }
+
   public static void renderScaled(
       final Graphics2D g, final Image image, final double x, final double y, final double scale) {
     renderScaled(g, image, x, y, scale, scale);
@@ -110,7 +154,7 @@ public final class ImageRenderer {
     t.translate(x, y);
     t.scale(scaleX, scaleY);
 
-    g.drawImage(image, t, null);
+    drawImage(g, image, t);
   }
 
   public static void renderTransformed(
@@ -132,7 +176,7 @@ public final class ImageRenderer {
     t.translate(x, y);
     t.concatenate(transform);
 
-    g.drawImage(image, t, null);
+    drawImage(g, image, t);
   }
 
   public static void renderTransformed(
@@ -141,6 +185,46 @@ public final class ImageRenderer {
       return;
     }
 
+    drawImage(g, image, transform);
+  }
+
+  /**
+   * Draws the specified image with the specified transform. If the image is a region of a texture atlas page, the region
+   * is drawn from the page itself because Java2D only keeps the page, but none of its sub-images, in an accelerated
+   * surface.
+   *
+   * @param g
+   *          The graphics object to draw on.
+   * @param image
+   *          The image to be drawn.
+   * @param transform
+   *          The transform from the image space into the user space.
+   * @see de.gurkenlabs.litiengine.resources.Spritesheets#pack()
+   */
+  static void drawImage(final Graphics2D g, final Image image, final AffineTransform transform) {
+    if (image instanceof BufferedImage buffered) {
+      final Raster raster = buffered.getRaster();
+      Raster root = raster;
+      while (root.getParent() != null) {
+        root = root.getParent();
+      }
+
+      final BufferedImage page = root != raster ? Resources.spritesheets().getAtlasPage(root) : null;
+      if (page != null) {
+        // the sample model translation of a child raster is the negated location of the child within its root raster
+        final int x = root.getSampleModelTranslateX() - raster.getSampleModelTranslateX();
+        final int y = root.getSampleModelTranslateY() - raster.getSampleModelTranslateY();
+        final int width = buffered.getWidth();
+        final int height = buffered.getHeight();
+
+        final AffineTransform old = g.getTransform();
+        g.transform(transform);
+        g.drawImage(page, 0, 0, width, height, x, y, x + width, y + height, null);
+        g.setTransform(old);
+        return;
+      }
+    }
+
     g.drawImage(image, transform, null);
   }
 }
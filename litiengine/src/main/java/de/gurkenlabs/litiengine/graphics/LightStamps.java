@@ -0,0 +1,137 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.entities.LightSource;
+import de.gurkenlabs.litiengine.resources.ImageCache;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * Provides pre-rendered stamp images of light sources that allow to draw a light with a single image blit instead of
+ * filling its shape with a {@code RadialGradientPaint}.
+ *
+ * <p>
+ * Stamps are shared between all lights with the same size and color. The intensity of a light is not part of its stamp
+ * because it is applied by the alpha composite that the stamp is drawn with. Rectangular lights have a uniform color
+ * and are just filled, so they don't need a stamp.
+ * </p>
+ *
+ * <p>
+ * The stamps are held by an {@link ImageCache} whose memory budget is configured by
+ * {@link de.gurkenlabs.litiengine.configuration.GraphicConfiguration#getLightStampCacheSize()}. It is cleared when an
+ * environment is unloaded.
+ * </p>
+ */
+final class LightStamps {
+  private static final ImageCache<Key> stamps =
+      new ImageCache<>(() -> Game.config().graphics().getLightStampCacheSize());
+
+  private LightStamps() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Draws the specified light in map coordinates with the current composite of the graphics object. Rectangular lights
+   * are filled with their color; all other lights are drawn as their stamp.
+   *
+   * @param g
+   *          The graphics object to render on.
+   * @param light
+   *          The light to render.
+   * @param lightArea
+   *          The area of the light that is not blocked by static shadows or null if the whole light is rendered.
+   * @param resolution
+   *          The resolution divisor of the stamp.
+   */
+  static void render(Graphics2D g, LightSource light, Shape lightArea, int resolution) {
+    final Shape lightShape = light.getLightShape();
+    if (lightShape == null) {
+      return;
+    }
+
+    if (light.getLightShapeType() == LightSource.Type.RECTANGLE) {
+      g.setColor(light.getColor());
+      ShapeRenderer.render(g, lightShape);
+      return;
+    }
+
+    final Shape clip = g.getClip();
+    if (lightArea != null && lightArea != lightShape) {
+      // only the light area that is not blocked by static shadows is rendered
+      g.clip(lightArea);
+    }
+
+    final Rectangle2D bounds = lightShape.getBounds2D();
+    final BufferedImage stamp = get(light, bounds, resolution);
+    final AffineTransform transform = AffineTransform.getTranslateInstance(bounds.getX(), bounds.getY());
+    transform.scale(bounds.getWidth() / stamp.getWidth(), bounds.getHeight() / stamp.getHeight());
+    g.drawImage(stamp, transform, null);
+    g.setClip(clip);
+  }
+
+  /**
+   * Releases all stamps.
+   */
+  static void clear() {
+    stamps.clear();
+  }
+
+  static ImageCache<?> getCache() {
+    return stamps;
+  }
+
+  private static BufferedImage get(LightSource light, Rectangle2D bounds, int resolution) {
+    final int width = Math.max(1, (int) Math.ceil(bounds.getWidth() / resolution));
+    final int height = Math.max(1, (int) Math.ceil(bounds.getHeight() / resolution));
+    final Key key = new Key(width, height, light.getColor().getRGB());
+    final BufferedImage cached = stamps.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    final BufferedImage stamp = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    final Graphics2D g = stamp.createGraphics();
+    g.scale(width / bounds.getWidth(), height / bounds.getHeight());
+    g.translate(-bounds.getX(), -bounds.getY());
+    g.setPaint(light.getGradientPaint());
+    ShapeRenderer.render(g, light.getLightShape());
+    g.dispose();
+
+    stamps.add(key, stamp);
+    return stamp;
+  }
+
+  private static final class Key {
+    private final int width;
+    private final int height;
+    private final int color;
+
+    private Key(int width, int height, int color) {
+      this.width = width;
+      this.height = height;
+      this.color = color;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof Key other)) {
+        return false;
+      }
+
+      return this.width == other.width && this.height == other.height && this.color == other.color;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.width, this.height, this.color);
+    }
+  }
+}
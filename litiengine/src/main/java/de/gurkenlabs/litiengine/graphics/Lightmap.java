@@ -0,0 +1,129 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import de.gurkenlabs.litiengine.entities.LightSource;
+import de.gurkenlabs.litiengine.util.MathUtilities;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Collection;
+
+/**
+ * A viewport-sized lightmap with a reduced resolution into which all dynamic lights are rendered every frame.
+ *
+ * <p>
+ * Only the dynamic lights are rendered at the reduced resolution. The cached ambient light layer keeps its full
+ * resolution: it is copied into a viewport-sized buffer, the dynamic lights are carved out of this buffer and their
+ * colors are drawn on top of it. Both low resolution images are scaled to the viewport with bilinear filtering.
+ * </p>
+ *
+ * <p>
+ * Every dynamic light is drawn as a pre-rendered stamp image with the resolution of the lightmap.
+ * </p>
+ *
+ * @see LightSource#isDynamic()
+ */
+final class Lightmap {
+  private final AffineTransform transform = new AffineTransform();
+
+  // the ambient light layer at full resolution
+  private BufferedImage ambientImage;
+
+  // the coverage of all dynamic lights, which is carved out of the ambient light, and the colors of the dynamic lights
+  private BufferedImage coverageImage;
+  private BufferedImage lightImage;
+
+  /**
+   * Renders the ambient light and the dynamic lights to the specified graphics.
+   *
+   * @param g
+   *          The graphics object to render on.
+   * @param viewport
+   *          The viewport of the camera.
+   * @param ambientLight
+   *          The ambient light that provides the static part of the lighting.
+   * @param lights
+   *          The dynamic lights within the viewport.
+   * @param resolution
+   *          The resolution divisor of the dynamic lights.
+   */
+  void render(Graphics2D g, Rectangle2D viewport, AmbientLight ambientLight, Collection<LightSource> lights, int resolution) {
+    final int width = Math.max(1, (int) Math.ceil(viewport.getWidth() / resolution));
+    final int height = Math.max(1, (int) Math.ceil(viewport.getHeight() / resolution));
+    this.coverageImage = ensureImage(this.coverageImage, width, height);
+    this.lightImage = ensureImage(this.lightImage, width, height);
+    this.ambientImage = ensureImage(this.ambientImage, Math.max(1, (int) Math.ceil(viewport.getWidth())), Math.max(1, (int) Math.ceil(viewport.getHeight())));
+
+    final Graphics2D cg = this.createLightGraphics(this.coverageImage, viewport, resolution);
+    final Graphics2D lg = this.createLightGraphics(this.lightImage, viewport, resolution);
+    try {
+      for (LightSource light : lights) {
+        this.renderLight(cg, ambientLight, light, resolution);
+        if (light.getIntensity() > 0) {
+          lg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, MathUtilities.clamp(light.getIntensity() / 255f, 0, 1)));
+          this.renderLight(lg, ambientLight, light, resolution);
+        }
+      }
+    } finally {
+      cg.dispose();
+      lg.dispose();
+    }
+
+    this.transform.setToScale(resolution, resolution);
+    final Graphics2D ag = this.ambientImage.createGraphics();
+    try {
+      ag.setComposite(AlphaComposite.Clear);
+      ag.fillRect(0, 0, this.ambientImage.getWidth(), this.ambientImage.getHeight());
+      ag.setComposite(AlphaComposite.SrcOver);
+      ambientLight.render(ag, viewport);
+
+      // carving out the accumulated coverage at once equals carving out every light on its own
+      ag.setComposite(AlphaComposite.DstOut);
+      ag.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      ag.drawImage(this.coverageImage, this.transform, null);
+    } finally {
+      ag.dispose();
+    }
+
+    g.drawImage(this.ambientImage, 0, 0, null);
+    final Object interpolation = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g.drawImage(this.lightImage, this.transform, null);
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation != null ? interpolation : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+  }
+
+  BufferedImage getAmbientImage() {
+    return this.ambientImage;
+  }
+
+  BufferedImage getLightImage() {
+    return this.lightImage;
+  }
+
+  private Graphics2D createLightGraphics(BufferedImage image, Rectangle2D viewport, int resolution) {
+    final Graphics2D g = image.createGraphics();
+    g.setComposite(AlphaComposite.Clear);
+    g.fillRect(0, 0, image.getWidth(), image.getHeight());
+    g.setComposite(AlphaComposite.SrcOver);
+
+    // dynamic lights are rendered in map coordinates
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g.scale(1.0 / resolution, 1.0 / resolution);
+    g.translate(-viewport.getX(), -viewport.getY());
+    return g;
+  }
+
+  private void renderLight(Graphics2D g, AmbientLight ambientLight, LightSource light, int resolution) {
+    LightStamps.render(g, light, light.getLightShapeType() == LightSource.Type.RECTANGLE ? null : ambientLight.getLightArea(light), resolution);
+  }
+
+  private static BufferedImage ensureImage(BufferedImage image, int width, int height) {
+    if (image != null && image.getWidth() == width && image.getHeight() == height) {
+      return image;
+    }
+
+    return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+  }
+}
@@ -0,0 +1,116 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.VolatileImage;
+
+/**
+ * Renders the world at its native resolution into an offscreen image and scales this image to the target with a single
+ * draw call.
+ *
+ * @see RenderScaleMode#OFFSCREEN
+ */
+final class OffscreenWorldBuffer {
+  private final AffineTransform upscale = new AffineTransform();
+  private Image image;
+  private GraphicsConfiguration config;
+  private volatile Point2D offset = new Point2D.Double();
+
+  /**
+   * Renders the world into the offscreen image and draws it to the specified graphics.
+   *
+   * @param g
+   *          The graphics object of the game window.
+   * @param world
+   *          The renderable that renders the world in map coordinates.
+   * @param width
+   *          The width of the game window.
+   * @param height
+   *          The height of the game window.
+   * @param scale
+   *          The render scale of the camera, which determines the size of the viewport in world pixels.
+   * @param letterbox
+   *          Defines whether the offscreen image is only scaled by the integer part of the render scale and centered in
+   *          the game window.
+   */
+  void render(Graphics2D g, IRenderable world, double width, double height, double scale, boolean letterbox) {
+    // the image covers the viewport of the camera; letterboxing only renders complete world pixels
+    final int imageWidth = Math.max(1, (int) (letterbox ? Math.floor(width / scale) : Math.ceil(width / scale)));
+    final int imageHeight = Math.max(1, (int) (letterbox ? Math.floor(height / scale) : Math.ceil(height / scale)));
+    final double blitScale = letterbox ? getIntegerScale(scale) : scale;
+    final double x = letterbox ? Math.floor((width - imageWidth * blitScale) / 2.0) : 0;
+    final double y = letterbox ? Math.floor((height - imageHeight * blitScale) / 2.0) : 0;
+
+    final GraphicsConfiguration config = g.getDeviceConfiguration();
+    if (this.image == null
+        || config != this.config
+        || this.image.getWidth(null) != imageWidth
+        || this.image.getHeight(null) != imageHeight
+        || this.image instanceof VolatileImage volatileImage && volatileImage.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+      this.flush();
+      this.image = createImage(config, imageWidth, imageHeight);
+      this.config = config;
+    }
+
+    this.offset = new Point2D.Double(x, y);
+
+    final Graphics2D imageGraphics = (Graphics2D) this.image.getGraphics();
+    try {
+      imageGraphics.setRenderingHints(g.getRenderingHints());
+      imageGraphics.setColor(g.getBackground() != null ? g.getBackground() : Color.BLACK);
+      imageGraphics.fillRect(0, 0, imageWidth, imageHeight);
+      world.render(imageGraphics);
+    } finally {
+      imageGraphics.dispose();
+    }
+
+    this.upscale.setTransform(blitScale, 0, 0, blitScale, x, y);
+    g.drawImage(this.image, this.upscale, null);
+  }
+
+  /**
+   * Gets the offset of the rendered world within the game window, which is not zero if the world is letterboxed.
+   *
+   * @return The offset in screen pixels.
+   */
+  Point2D getOffset() {
+    return this.offset;
+  }
+
+  /**
+   * Rounds the specified render scale down to an integer, so that every world pixel covers the same number of screen
+   * pixels.
+   *
+   * @param scale
+   *          The render scale.
+   * @return The integer scale, which is at least 1.
+   */
+  static double getIntegerScale(double scale) {
+    return Math.max(1, Math.floor(scale));
+  }
+
+  void flush() {
+    if (this.image != null) {
+      this.image.flush();
+      this.image = null;
+      this.config = null;
+    }
+
+    this.offset = new Point2D.Double();
+  }
+
+  private static Image createImage(GraphicsConfiguration config, int width, int height) {
+    // offscreen targets (e.g. screenshots) can't benefit from an accelerated image
+    if (config.getDevice().getType() == GraphicsDevice.TYPE_IMAGE_BUFFER) {
+      return config.createCompatibleImage(width, height, Transparency.OPAQUE);
+    }
+
+    return config.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+  }
+}
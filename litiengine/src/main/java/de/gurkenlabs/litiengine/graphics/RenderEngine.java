@@ -49,7 +49,10 @@ public final class RenderEngine {
   private final List<EntityRenderedListener> entityRenderedListener = new CopyOnWriteArrayList<>();
   private final List<EntityRenderListener> entityRenderListener = new CopyOnWriteArrayList<>();
 
+  private final OffscreenWorldBuffer offscreenBuffer = new OffscreenWorldBuffer();
+
   private float baseRenderScale = DEFAULT_RENDERSCALE;
+  private RenderScaleMode renderScaleMode = RenderScaleMode.DIRECT;
 
   /**
    * <b>You should never call this manually! Instead use the {@code Game.graphics()} instance.</b>
@@ -126,6 +129,82 @@ public final class RenderEngine {
     this.baseRenderScale = scale;
   }
 
+  /**
+   * Gets the mode that defines how the game world is scaled to the resolution of the game window.
+   *
+   * @return The render scale mode.
+   */
+  public RenderScaleMode getRenderScaleMode() {
+    return this.renderScaleMode;
+  }
+
+  /**
+   * Sets the mode that defines how the game world is scaled to the resolution of the game window.
+   *
+   * @param renderScaleMode The render scale mode.
+   * @see #renderWorld(Graphics2D, IRenderable)
+   */
+  public void setRenderScaleMode(RenderScaleMode renderScaleMode) {
+    this.renderScaleMode = renderScaleMode != null ? renderScaleMode : RenderScaleMode.DIRECT;
+    if (!this.renderScaleMode.isOffscreen()) {
+      this.offscreenBuffer.flush();
+    }
+  }
+
+  /**
+   * Gets the offset of the rendered world within the game window. This is only different from (0, 0) if the world is
+   * letterboxed by the {@code RenderScaleMode.OFFSCREEN_INTEGER} mode.
+   *
+   * @return The offset of the world in screen pixels.
+   */
+  public Point2D getWorldOffset() {
+    return this.renderScaleMode == RenderScaleMode.OFFSCREEN_INTEGER ? this.offscreenBuffer.getOffset() : new Point2D.Double();
+  }
+
+  /**
+   * Gets the scale by which a pixel of the world is scaled to the game window. This equals the render scale of the camera
+   * unless the world is rendered by the {@code RenderScaleMode.OFFSCREEN_INTEGER} mode, which only scales the offscreen
+   * image by the integer part of the render scale.
+   *
+   * @return The scale between world pixels and screen pixels.
+   * @see ICamera#getRenderScale()
+   */
+  public float getWorldScale() {
+    final float scale = Game.world().camera().getRenderScale();
+    return this.renderScaleMode == RenderScaleMode.OFFSCREEN_INTEGER ? (float) OffscreenWorldBuffer.getIntegerScale(scale) : scale;
+  }
+
+  /**
+   * Renders the game world with the current render scale of the camera and with respect to the {@code RenderScaleMode}.
+   *
+   * <p>
+   * The specified renderable renders the world in map coordinates. In the {@code DIRECT} mode, the graphics object is
+   * scaled before passing it to the renderable. Otherwise, the world is rendered without any scaling into an offscreen
+   * image with the size of the viewport and this image is scaled to the game window with a single draw call.
+   *
+   * @param g     The graphics object of the game window.
+   * @param world The renderable that renders the world in map coordinates.
+   * @see #setRenderScaleMode(RenderScaleMode)
+   */
+  public void renderWorld(final Graphics2D g, final IRenderable world) {
+    final float scale = Game.world().camera().getRenderScale();
+    if (!this.renderScaleMode.isOffscreen()) {
+      final AffineTransform otx = g.getTransform();
+      try {
+        g.scale(scale, scale);
+        world.render(g);
+      } finally {
+        g.setTransform(otx);
+      }
+
+      return;
+    }
+
+    final Rectangle2D viewport = Game.world().camera().getViewport();
+    this.offscreenBuffer.render(g, world, viewport.getWidth() * scale, viewport.getHeight() * scale, scale,
+      this.renderScaleMode == RenderScaleMode.OFFSCREEN_INTEGER);
+  }
+
   /**
    * Renders the specified text to the defined map location.
    *
@@ -140,9 +219,8 @@ public final class RenderEngine {
     if (text == null || text.isEmpty()) {
       return;
     }
-    final AffineTransform newT = new AffineTransform();
     final AffineTransform oldT = g.getTransform();
-    newT.scale(Game.world().camera().getRenderScale(), Game.world().camera().getRenderScale());
+    final AffineTransform newT = isRenderingWorld() ? new AffineTransform(oldT) : this.getScreenTransform();
     newT.translate(Game.world().camera().getPixelOffsetX(),
       Game.world().camera().getPixelOffsetY());
     g.setTransform(newT);
@@ -225,11 +303,7 @@ public final class RenderEngine {
     g.setRenderingHint(
       RenderingHints.KEY_ANTIALIASING,
       antialiasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
-    final AffineTransform t = new AffineTransform();
-    if (Game.world().environment() == null || !Game.world().environment().isRendering()) {
-      t.scale(Game.world().camera().getRenderScale(), Game.world().camera().getRenderScale());
-    }
-
+    final AffineTransform t = isRenderingWorld() ? new AffineTransform() : this.getScreenTransform();
     t.translate(Game.world().camera().getPixelOffsetX(), Game.world().camera().getPixelOffsetY());
     t.rotate(
       Math.toRadians(angle),
@@ -318,13 +392,8 @@ public final class RenderEngine {
     g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, hint);
   }
 
-  private static AffineTransform getAffineTransform(Shape shape, double angle) {
-    final AffineTransform t = new AffineTransform();
-
-    if (Game.world().environment() == null || !Game.world().environment().isRendering()) {
-      t.scale(Game.world().camera().getRenderScale(), Game.world().camera().getRenderScale());
-    }
-
+  private AffineTransform getAffineTransform(Shape shape, double angle) {
+    final AffineTransform t = isRenderingWorld() ? new AffineTransform() : this.getScreenTransform();
     t.translate(Game.world().camera().getPixelOffsetX(), Game.world().camera().getPixelOffsetY());
     t.rotate(
       Math.toRadians(angle),
@@ -354,11 +423,30 @@ public final class RenderEngine {
    */
   public void renderImage(Graphics2D g, final Image image, Point2D location) {
     Point2D viewPortLocation = Game.world().camera().getViewportLocation(location);
+    Point2D worldOffset = this.getWorldOffset();
     ImageRenderer.render(
       g,
       image,
-      viewPortLocation.getX() * Game.world().camera().getRenderScale(),
-      viewPortLocation.getY() * Game.world().camera().getRenderScale());
+      worldOffset.getX() + viewPortLocation.getX() * this.getWorldScale(),
+      worldOffset.getY() + viewPortLocation.getY() * this.getWorldScale());
+  }
+
+  /**
+   * Renders the specified image with a transform that maps the image space to map coordinates.
+   *
+   * @param g         The graphics object to render on.
+   * @param image     The image to be rendered.
+   * @param transform The transform from image space to map coordinates.
+   */
+  public void renderImage(Graphics2D g, final Image image, AffineTransform transform) {
+    if (image == null || transform == null) {
+      return;
+    }
+
+    final AffineTransform t = isRenderingWorld() ? new AffineTransform() : this.getScreenTransform();
+    t.translate(Game.world().camera().getPixelOffsetX(), Game.world().camera().getPixelOffsetY());
+    t.concatenate(transform);
+    ImageRenderer.renderTransformed(g, image, t);
   }
 
   /**
@@ -413,6 +501,30 @@ public final class RenderEngine {
     }
   }
 
+  /**
+   * Renders the entities of the specified render list in their render order. Entities that are outside the viewport are
+   * skipped.
+   *
+   * <p>
+   * In contrast to {@link #renderEntities(Graphics2D, Collection, boolean)}, this doesn't sort the entities from scratch
+   * each frame but relies on the order that the {@code EntityRenderList} maintains across frames.
+   *
+   * @param g        The graphics object to render on.
+   * @param entities The render list that provides the entities and their order; it needs to be updated beforehand.
+   * @see EntityRenderList#update(Collection, Rectangle2D)
+   */
+  public void renderEntities(final Graphics2D g, final EntityRenderList entities) {
+    final Rectangle2D viewport = Game.world().camera().getViewport();
+    for (int i = 0; i < entities.size(); i++) {
+      final IEntity entity = entities.get(i);
+
+      // always include emitters which have an internal mechanism do determine on a per-particle basis whether it should be rendered
+      if (entity instanceof Emitter || viewport.intersects(entity.getBoundingBox())) {
+        this.renderEntity(g, entity);
+      }
+    }
+  }
+
   /**
    * Renders the specified entity at its current location in the environment.
    *
@@ -442,14 +554,7 @@ public final class RenderEngine {
     }
 
     final EntityRenderEvent renderEvent = new EntityRenderEvent(g, entity);
-
-    if (entity instanceof EntityRenderListener erl) {
-      erl.rendering(renderEvent);
-    }
-
-    for (final EntityRenderListener listener : this.entityRenderListener) {
-      listener.rendering(renderEvent);
-    }
+    this.fireRendering(entity, renderEvent);
 
     final IEntityAnimationController<?> animationController = entity.animations();
     if (animationController != null) {
@@ -506,17 +611,7 @@ public final class RenderEngine {
       ir.render(g);
     }
 
-    if (entity instanceof EntityRenderListener erl) {
-      erl.rendered(renderEvent);
-    }
-
-    for (final EntityRenderListener listener : this.entityRenderListener) {
-      listener.rendered(renderEvent);
-    }
-
-    for (final EntityRenderedListener listener : this.entityRenderedListener) {
-      listener.rendered(renderEvent);
-    }
+    this.fireRendered(entity, renderEvent);
   }
 
   /**
@@ -549,4 +644,40 @@ public final class RenderEngine {
 
     return true;
   }
+
+  private void fireRendering(final IEntity entity, final EntityRenderEvent renderEvent) {
+    if (entity instanceof EntityRenderListener erl) {
+      erl.rendering(renderEvent);
+    }
+
+    for (final EntityRenderListener listener : this.entityRenderListener) {
+      listener.rendering(renderEvent);
+    }
+  }
+
+  private void fireRendered(final IEntity entity, final EntityRenderEvent renderEvent) {
+    if (entity instanceof EntityRenderListener erl) {
+      erl.rendered(renderEvent);
+    }
+
+    for (final EntityRenderListener listener : this.entityRenderListener) {
+      listener.rendered(renderEvent);
+    }
+
+    for (final EntityRenderedListener listener : this.entityRenderedListener) {
+      listener.rendered(renderEvent);
+    }
+  }
+
+  private static boolean isRenderingWorld() {
+    return Game.world().environment() != null && Game.world().environment().isRendering();
+  }
+
+  private AffineTransform getScreenTransform() {
+    // transforms map coordinates relative to the viewport to screen coordinates
+    final Point2D offset = this.getWorldOffset();
+    final AffineTransform t = AffineTransform.getTranslateInstance(offset.getX(), offset.getY());
+    t.scale(this.getWorldScale(), this.getWorldScale());
+    return t;
+  }
 }
@@ -0,0 +1,36 @@
+package de.gurkenlabs.litiengine.graphics;
+
+/**
+ * This enum defines how the game world is scaled to the resolution of the game window.
+ *
+ * @see RenderEngine#setRenderScaleMode(RenderScaleMode)
+ * @see ICamera#getRenderScale()
+ */
+public enum RenderScaleMode {
+  /**
+   * Every tile, sprite and shape of the world is scaled by the render scale while it is being rendered.
+   */
+  DIRECT,
+
+  /**
+   * The world is rendered at its native (unscaled) resolution into one offscreen image, which is then scaled to the game
+   * window at once. This is much cheaper for pixel-art games because the individual images don't need to be scaled.
+   */
+  OFFSCREEN,
+
+  /**
+   * Like {@link #OFFSCREEN}, but the offscreen image is only scaled by the integer part of the render scale, so that
+   * every pixel of the world covers the same number of screen pixels. The camera keeps its render scale and viewport;
+   * the unused part of the game window is letterboxed.
+   */
+  OFFSCREEN_INTEGER;
+
+  /**
+   * Determines whether this mode renders the world into an offscreen image.
+   *
+   * @return True if the world is rendered offscreen; otherwise false.
+   */
+  public boolean isOffscreen() {
+    return this != DIRECT;
+  }
+}
@@ -2,7 +2,7 @@ package de.gurkenlabs.litiengine.graphics;
 
 import de.gurkenlabs.litiengine.util.Imaging;
 import java.awt.Graphics2D;
-import java.awt.geom.Point2D;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
 public class RotationImageEffect extends ImageEffect {
@@ -30,12 +30,23 @@ public class RotationImageEffect extends ImageEffect {
     final int size = Math.max(image.getWidth(), image.getHeight()) * 2;
     final BufferedImage img = Imaging.getCompatibleImage(size, size);
     final Graphics2D g = img.createGraphics();
-    ImageRenderer.renderRotated(g, image, new Point2D.Double(0, 0), this.getAngle());
+
+    // the image is rotated by the angle of its rotation variant, so that the result can be cached per variant
+    final double angle = RotationVariants.quantize(this.getAngle());
+    ImageRenderer.renderTransformed(
+        g,
+        image,
+        AffineTransform.getRotateInstance(Math.toRadians(angle), image.getWidth() * 0.5, image.getHeight() * 0.5));
     g.dispose();
 
     return img;
   }
 
+  @Override
+  public int getVariant() {
+    return RotationVariants.getVariant(this.getAngle());
+  }
+
   public double getAngle() {
     return this.angle;
   }
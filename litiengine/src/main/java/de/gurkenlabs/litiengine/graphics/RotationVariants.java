@@ -0,0 +1,167 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.resources.ImageCache;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Quantizes rotation angles into a fixed number of variants and provides pre-rendered rotated images for them, so that
+ * rotating sprites (e.g. projectiles or particles) can be drawn with a single image blit instead of a rotated draw.
+ *
+ * <p>
+ * Each variant covers an equal part of a full rotation. The number of variants is configured by
+ * {@link de.gurkenlabs.litiengine.configuration.GraphicConfiguration#getRotationVariants()}; a value of 0 disables the
+ * quantization and every angle is rendered exactly.
+ * </p>
+ *
+ * <p>
+ * The rotated images are held by an {@link ImageCache} whose memory budget is configured by
+ * {@link de.gurkenlabs.litiengine.configuration.GraphicConfiguration#getRotationVariantCacheSize()}.
+ * </p>
+ *
+ * @see ImageRenderer#renderRotationVariant(Graphics2D, Image, double, double, double)
+ */
+final class RotationVariants {
+  private static final ImageCache<Key> images =
+      new ImageCache<>(() -> Game.config().graphics().getRotationVariantCacheSize());
+
+  private RotationVariants() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Determines whether rotation angles are quantized into variants.
+   *
+   * @return True if the number of configured rotation variants is greater than 0; otherwise false.
+   */
+  static boolean isEnabled() {
+    return getCount() > 0;
+  }
+
+  /**
+   * Gets the variant of the specified angle.
+   *
+   * @param angle
+   *          The rotation angle in degrees.
+   * @return The index of the variant that the angle is quantized to or, if the quantization is disabled, an identifier
+   *         of the exact angle.
+   */
+  static int getVariant(double angle) {
+    final int count = getCount();
+    if (count <= 0) {
+      return Double.hashCode(normalize(angle));
+    }
+
+    return (int) (Math.round(normalize(angle) * count / 360.0) % count);
+  }
+
+  /**
+   * Quantizes the specified angle to the angle of its variant.
+   *
+   * @param angle
+   *          The rotation angle in degrees.
+   * @return The angle of the variant in degrees or the specified angle if the quantization is disabled.
+   */
+  static double quantize(double angle) {
+    final int count = getCount();
+    if (count <= 0) {
+      return angle;
+    }
+
+    return getVariant(angle) * 360.0 / count;
+  }
+
+  /**
+   * Draws the pre-rendered variant of the specified image that is rotated around its center by the quantized angle.
+   *
+   * @param g
+   *          The graphics object to render on.
+   * @param image
+   *          The image to render.
+   * @param x
+   *          The x-coordinate of the unrotated image.
+   * @param y
+   *          The y-coordinate of the unrotated image.
+   * @param angle
+   *          The rotation angle in degrees.
+   */
+  static void render(Graphics2D g, Image image, double x, double y, double angle) {
+    final int width = image.getWidth(null);
+    final int height = image.getHeight(null);
+    final int variant = getVariant(angle);
+    if (width <= 0 || height <= 0 || variant == 0) {
+      ImageRenderer.render(g, image, x, y);
+      return;
+    }
+
+    final BufferedImage rotated = get(image, width, height, variant, quantize(angle));
+    ImageRenderer.render(g, rotated, x + (width - rotated.getWidth()) / 2.0, y + (height - rotated.getHeight()) / 2.0);
+  }
+
+  private static BufferedImage get(Image image, int width, int height, int variant, double angle) {
+    final Key key = new Key(image, variant, getCount());
+    final BufferedImage cached = images.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    // the variant is large enough to contain the image in any rotation
+    final int size = (int) Math.ceil(Math.sqrt((double) width * width + (double) height * height));
+    final BufferedImage rotated = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+    final Graphics2D g = rotated.createGraphics();
+    final AffineTransform transform = AffineTransform.getTranslateInstance(size / 2.0, size / 2.0);
+    transform.rotate(Math.toRadians(angle));
+    transform.translate(-width / 2.0, -height / 2.0);
+    g.drawImage(image, transform, null);
+    g.dispose();
+
+    images.add(key, rotated);
+    return rotated;
+  }
+
+  static ImageCache<?> getCache() {
+    return images;
+  }
+
+  private static int getCount() {
+    return Game.config().graphics().getRotationVariants();
+  }
+
+  private static double normalize(double angle) {
+    final double normalized = angle % 360;
+    return normalized < 0 ? normalized + 360 : normalized;
+  }
+
+  private static final class Key {
+    private final Image image;
+    private final int variant;
+    private final int count;
+
+    private Key(Image image, int variant, int count) {
+      this.image = image;
+      this.variant = variant;
+      this.count = count;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof Key other)) {
+        return false;
+      }
+
+      return this.image == other.image && this.variant == other.variant && this.count == other.count;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * System.identityHashCode(this.image) + this.variant) + this.count;
+    }
+  }
+}
@@ -15,12 +15,14 @@ import java.util.logging.Logger;
 public final class Spritesheet implements Comparable<Spritesheet> {
   private static final Logger log = Logger.getLogger(Spritesheet.class.getName());
 
-  private final BufferedImage image;
+  // the image and the sprite arrays are replaced when the spritesheet is packed into a texture atlas
+  private volatile BufferedImage image;
   private final String name;
   private final ImageFormat imageFormat;
 
-  private BufferedImage[] sprites;
-  private boolean[] emptySprites;
+  private volatile BufferedImage[] sprites;
+  private volatile boolean[] emptySprites;
+  private volatile boolean packed;
   private int columns;
   private int rows;
   private int spriteHeight;
@@ -99,6 +101,39 @@ public final class Spritesheet implements Comparable<Spritesheet> {
     return this.image;
   }
 
+  /**
+   * Moves the image of this spritesheet to the specified region of a texture atlas page. Afterwards, the image and all
+   * sprites of this spritesheet are sub-images of the page. The {@code ImageRenderer} draws such sub-images as source
+   * regions of the page, so that they are rendered from the same (accelerated) surface as the other images of the page.
+   *
+   * @param page The texture atlas page that contains a copy of this spritesheet's image.
+   * @param x    The x-coordinate of the image on the page.
+   * @param y    The y-coordinate of the image on the page.
+   * @see de.gurkenlabs.litiengine.resources.Spritesheets#pack()
+   */
+  public void setAtlasRegion(final BufferedImage page, final int x, final int y) {
+    if (page == null || x < 0 || y < 0 || x + this.image.getWidth() > page.getWidth() || y + this.image.getHeight() > page.getHeight()) {
+      throw new IllegalArgumentException("The atlas page doesn't contain the image of the spritesheet '" + this.getName() + "' at [" + x + "," + y + "].");
+    }
+
+    // the image is replaced before the sprite arrays so that sprites which are cropped into the new arrays are always
+    // regions of the page
+    this.image = page.getSubimage(x, y, this.image.getWidth(), this.image.getHeight());
+    this.emptySprites = new boolean[this.getTotalNumberOfSprites()];
+    this.sprites = new BufferedImage[this.getTotalNumberOfSprites()];
+    this.packed = true;
+  }
+
+  /**
+   * Determines whether the image of this spritesheet has been moved to a texture atlas page.
+   *
+   * @return True if this spritesheet has been packed; otherwise false.
+   * @see #setAtlasRegion(BufferedImage, int, int)
+   */
+  public boolean isPacked() {
+    return this.packed;
+  }
+
   public ImageFormat getImageFormat() {
     return this.imageFormat;
   }
@@ -0,0 +1,143 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import de.gurkenlabs.litiengine.entities.StaticShadow;
+import de.gurkenlabs.litiengine.util.MathUtilities;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A uniform grid that buckets static shadows by their bounds, so that the shadows within a section of the map can be
+ * found without testing every shadow of the environment.
+ *
+ * <p>
+ * A grid is not modified once it has been built. Updating a section creates a new grid that shares all buckets outside
+ * the section with this grid, so it can be safely queried by multiple threads while it is being replaced.
+ * </p>
+ */
+final class StaticShadowGrid {
+  private final Map<Long, List<StaticShadow>> buckets = new HashMap<>();
+  private final Function<StaticShadow, Rectangle2D> bounds;
+  private final int bucketSize;
+
+  /**
+   * Initializes a new grid that buckets the specified shadows by their bounding boxes.
+   *
+   * @param shadows
+   *          The shadows to add to the grid.
+   * @param bucketSize
+   *          The width and height of a bucket in pixels.
+   */
+  StaticShadowGrid(Collection<StaticShadow> shadows, int bucketSize) {
+    this(shadows, bucketSize, StaticShadow::getBoundingBox);
+  }
+
+  /**
+   * Initializes a new grid that buckets the specified shadows by custom bounds.
+   *
+   * @param shadows
+   *          The shadows to add to the grid.
+   * @param bucketSize
+   *          The width and height of a bucket in pixels.
+   * @param bounds
+   *          The function that provides the bounds of a shadow or null if the shadow is not added to the grid.
+   */
+  StaticShadowGrid(Collection<StaticShadow> shadows, int bucketSize, Function<StaticShadow, Rectangle2D> bounds) {
+    this.bounds = bounds;
+    this.bucketSize = bucketSize;
+    for (StaticShadow shadow : shadows) {
+      this.add(shadow, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+  }
+
+  private StaticShadowGrid(StaticShadowGrid grid) {
+    this.bounds = grid.bounds;
+    this.bucketSize = grid.bucketSize;
+    this.buckets.putAll(grid.buckets);
+  }
+
+  /**
+   * Creates a new grid in which the buckets that intersect with the specified section are rebuilt from the specified
+   * shadows. All other buckets are shared with this grid.
+   *
+   * @param shadows
+   *          All shadows of the environment.
+   * @param section
+   *          The section of the map in which shadows have been added, removed or moved.
+   * @return The updated grid.
+   */
+  StaticShadowGrid update(Collection<StaticShadow> shadows, Rectangle2D section) {
+    final int minColumn = this.getIndex(section.getMinX());
+    final int maxColumn = this.getIndex(section.getMaxX());
+    final int minRow = this.getIndex(section.getMinY());
+    final int maxRow = this.getIndex(section.getMaxY());
+
+    final StaticShadowGrid grid = new StaticShadowGrid(this);
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int column = minColumn; column <= maxColumn; column++) {
+        grid.buckets.remove(MathUtilities.getGridKey(column, row));
+      }
+    }
+
+    for (StaticShadow shadow : shadows) {
+      grid.add(shadow, minColumn, maxColumn, minRow, maxRow);
+    }
+
+    return grid;
+  }
+
+  /**
+   * Gets all shadows whose bounds intersect with the specified section.
+   *
+   * @param section
+   *          The section of the map.
+   * @return The shadows within the section.
+   */
+  Collection<StaticShadow> getShadows(Rectangle2D section) {
+    final Set<StaticShadow> shadows = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (int row = this.getIndex(section.getMinY()); row <= this.getIndex(section.getMaxY()); row++) {
+      for (int column = this.getIndex(section.getMinX()); column <= this.getIndex(section.getMaxX()); column++) {
+        final List<StaticShadow> bucket = this.buckets.get(MathUtilities.getGridKey(column, row));
+        if (bucket == null) {
+          continue;
+        }
+
+        for (StaticShadow shadow : bucket) {
+          final Rectangle2D box = this.bounds.apply(shadow);
+          if (box != null && box.intersects(section)) {
+            shadows.add(shadow);
+          }
+        }
+      }
+    }
+
+    return shadows;
+  }
+
+  private void add(StaticShadow shadow, int minColumn, int maxColumn, int minRow, int maxRow) {
+    final Rectangle2D box = this.bounds.apply(shadow);
+    if (box == null) {
+      return;
+    }
+
+    // only the buckets within the specified range are filled
+    final int lastRow = Math.min(maxRow, this.getIndex(box.getMaxY()));
+    final int lastColumn = Math.min(maxColumn, this.getIndex(box.getMaxX()));
+    for (int row = Math.max(minRow, this.getIndex(box.getMinY())); row <= lastRow; row++) {
+      for (int column = Math.max(minColumn, this.getIndex(box.getMinX())); column <= lastColumn; column++) {
+        this.buckets.computeIfAbsent(MathUtilities.getGridKey(column, row), k -> new ArrayList<>()).add(shadow);
+      }
+    }
+  }
+
+  private int getIndex(double coordinate) {
+    return (int) Math.floor(coordinate / this.bucketSize);
+  }
+}
@@ -2,14 +2,29 @@ package de.gurkenlabs.litiengine.graphics;
 
 import de.gurkenlabs.litiengine.entities.StaticShadow;
 import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.util.MathUtilities;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * The {@code StaticShadowLayer} renders the areas of all static shadows of an environment.
+ *
+ * <p>
+ * The shadow areas are merged into one area per bucket of {@link #TILE_SIZE} pixels, which is aligned with the tiles
+ * of the layer. The merged areas are cached and only the buckets that intersect with an updated section are merged
+ * again.
+ * </p>
+ */
 public class StaticShadowLayer extends ColorLayer {
+  private final Map<Long, Area> buckets = new ConcurrentHashMap<>();
+  private volatile StaticShadowGrid shadowGrid;
+  private final AtomicInteger generation = new AtomicInteger();
 
   /**
    * Instantiates a new {@code StaticShadowLayer} instance.
@@ -21,22 +36,39 @@ public class StaticShadowLayer extends ColorLayer {
     super(environment, color);
   }
 
+  @Override
+  public void updateSection(Rectangle2D section) {
+    if (section != null) {
+      // the merged shadow areas of all buckets within the section are outdated and merged again when they are rendered
+      this.generation.incrementAndGet();
+      final StaticShadowGrid grid = this.shadowGrid;
+      if (grid != null) {
+        this.shadowGrid = grid.update(this.getEnvironment().getStaticShadows(), section);
+      }
+
+      this.buckets.keySet().removeIf(key -> getBucketBounds(key).intersects(section));
+    }
+
+    super.updateSection(section);
+  }
+
   @Override
   protected void renderSection(Graphics2D g, Rectangle2D section) {
     final Color color = this.getColor();
     g.setColor(color);
 
-    final Area ar = new Area();
-    for (final StaticShadow staticShadow : this.getEnvironment().getStaticShadows()) {
-      if (staticShadow.getArea()==null || !staticShadow.getArea().intersects(section)) {
-        continue;
+    final int minColumn = (int) Math.floor(section.getMinX() / TILE_SIZE);
+    final int minRow = (int) Math.floor(section.getMinY() / TILE_SIZE);
+    final int maxColumn = (int) Math.ceil(section.getMaxX() / TILE_SIZE) - 1;
+    final int maxRow = (int) Math.ceil(section.getMaxY() / TILE_SIZE) - 1;
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int column = minColumn; column <= maxColumn; column++) {
+        final Area area = this.getBucketArea(MathUtilities.getGridKey(column, row));
+        if (!area.isEmpty()) {
+          ShapeRenderer.render(g, area);
+        }
       }
-
-      final Area staticShadowArea = staticShadow.getArea();
-      ar.add(staticShadowArea);
     }
-
-    ShapeRenderer.render(g, ar);
   }
 
   @Override
@@ -45,4 +77,45 @@ public class StaticShadowLayer extends ColorLayer {
     g.fill(section);
     g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER));
   }
+
+  Area getBucketArea(long key) {
+    Area area = this.buckets.get(key);
+    if (area != null) {
+      return area;
+    }
+
+    final int currentGeneration = this.generation.get();
+    final Rectangle2D bounds = getBucketBounds(key);
+    area = new Area();
+    for (final StaticShadow staticShadow : this.getShadowGrid().getShadows(bounds)) {
+      final Area staticShadowArea = staticShadow.getArea();
+      if (staticShadowArea != null) {
+        area.add(staticShadowArea);
+      }
+    }
+
+    // only keep the part of the merged shadows that is located within the bucket
+    area.intersect(new Area(bounds));
+
+    // don't cache areas that were merged while the section was updated concurrently
+    if (currentGeneration == this.generation.get()) {
+      this.buckets.put(key, area);
+    }
+
+    return area;
+  }
+
+  private StaticShadowGrid getShadowGrid() {
+    StaticShadowGrid grid = this.shadowGrid;
+    if (grid == null) {
+      grid = new StaticShadowGrid(this.getEnvironment().getStaticShadows(), TILE_SIZE, shadow -> shadow.getArea() != null ? shadow.getArea().getBounds2D() : null);
+      this.shadowGrid = grid;
+    }
+
+    return grid;
+  }
+
+  private static Rectangle2D getBucketBounds(long key) {
+    return new Rectangle2D.Double((double) MathUtilities.getColumn(key) * TILE_SIZE, (double) MathUtilities.getRow(key) * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+  }
 }
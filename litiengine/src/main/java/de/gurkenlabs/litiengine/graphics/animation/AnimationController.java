@@ -8,12 +8,10 @@ import de.gurkenlabs.litiengine.resources.Resources;
 import de.gurkenlabs.litiengine.util.Imaging;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -195,14 +193,16 @@ public class AnimationController implements IAnimationController {
       return null;
     }
 
-    final String cacheKey = this.buildCurrentCacheKey();
-    final Optional<BufferedImage> opt = Resources.images().tryGet(cacheKey);
-    if (opt.isPresent()) {
-      return opt.get();
+    final Spritesheet spritesheet = current.getSpritesheet();
+    final int spriteIndex = current.getCurrentKeyFrame().getSpriteIndex();
+    final long effects = this.getCurrentEffectChain();
+    final int variant = this.getCurrentVariant();
+    final BufferedImage cached = Resources.frames().get(spritesheet, spriteIndex, effects, variant, 0, 0);
+    if (cached != null) {
+      return cached;
     }
 
-    BufferedImage sprite =
-        current.getSpritesheet().getSprite(current.getCurrentKeyFrame().getSpriteIndex());
+    BufferedImage sprite = spritesheet.getSprite(spriteIndex);
     if (sprite == null) {
       return null;
     }
@@ -210,24 +210,30 @@ public class AnimationController implements IAnimationController {
       sprite = effect.apply(sprite);
     }
 
-    Resources.images().add(cacheKey, sprite);
+    Resources.frames().add(spritesheet, spriteIndex, effects, variant, 0, 0, sprite);
 
     return sprite;
   }
 
   @Override
   public BufferedImage getCurrentImage(final int width, final int height) {
-    if (this.getCurrentImage() == null) {
+    final BufferedImage image = this.getCurrentImage();
+    if (image == null) {
       return null;
     }
 
-    final String cacheKey = this.buildCurrentCacheKey() + "_" + width + "_" + height;
-    final Optional<BufferedImage> opt = Resources.images().tryGet(cacheKey);
-    if (opt.isPresent()) {
-      return opt.get();
+    final Spritesheet spritesheet = this.getCurrent().getSpritesheet();
+    final int spriteIndex = this.getCurrent().getCurrentKeyFrame().getSpriteIndex();
+    final long effects = this.getCurrentEffectChain();
+    final int variant = this.getCurrentVariant();
+    final BufferedImage cached = Resources.frames().get(spritesheet, spriteIndex, effects, variant, width, height);
+    if (cached != null) {
+      return cached;
     }
 
-    return Imaging.scale(this.getCurrentImage(), width, height);
+    final BufferedImage scaled = Imaging.scale(image, width, height);
+    Resources.frames().add(spritesheet, spriteIndex, effects, variant, width, height, scaled);
+    return scaled;
   }
 
   @Override
@@ -398,19 +404,38 @@ public class AnimationController implements IAnimationController {
     return cacheKey.toString();
   }
 
-  private void removeFinishedImageEffects() {
-    final List<ImageEffect> effectsToRemove = new ArrayList<>();
-    for (final ImageEffect effect : this.imageEffects) {
-      if (effect == null) {
-        continue;
-      }
-
-      if (effect.timeToLiveReached()) {
-        effectsToRemove.add(effect);
-      }
+  /**
+   * Gets an identifier of the chain of {@code ImageEffect}s that are currently applied to the frames of this controller.
+   * The identifier is derived from the names and the {@link ImageEffect#getVariant() variants} of the effects in the
+   * order in which they are applied.
+   *
+   * @return The identifier of the current image effect chain.
+   * @see de.gurkenlabs.litiengine.resources.FrameCache
+   */
+  protected long getCurrentEffectChain() {
+    long chain = 1;
+    for (final ImageEffect effect : this.getImageEffects()) {
+      chain = 31 * chain + effect.getName().hashCode();
+      chain = 31 * chain + effect.getVariant();
     }
 
-    this.imageEffects.removeAll(effectsToRemove);
-    this.imageEffects.removeAll(Collections.singleton(null));
+    return chain;
+  }
+
+  /**
+   * Gets an identifier of additional transformations that this controller applies to the current frame on top of its
+   * image effects, e.g. the rotation or the flip of a prop. Subclasses that transform the current image must return a
+   * different value for each distinct transformation, so that the transformed frames are cached separately.
+   *
+   * @return The identifier of the current frame variant or 0 if the frame is not transformed.
+   * @see de.gurkenlabs.litiengine.resources.FrameCache
+   */
+  protected int getCurrentVariant() {
+    return 0;
+  }
+
+  private void removeFinishedImageEffects() {
+    // only copies the underlying array if any effect is actually removed
+    this.imageEffects.removeIf(effect -> effect == null || effect.timeToLiveReached());
   }
 }
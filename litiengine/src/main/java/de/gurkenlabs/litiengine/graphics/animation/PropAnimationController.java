@@ -7,7 +7,6 @@ import de.gurkenlabs.litiengine.graphics.Spritesheet;
 import de.gurkenlabs.litiengine.resources.Resources;
 import de.gurkenlabs.litiengine.util.Imaging;
 import java.awt.image.BufferedImage;
-import java.util.Optional;
 
 public class PropAnimationController<T extends Prop> extends EntityAnimationController<T> {
   public static final String PROP_IDENTIFIER = "prop-";
@@ -68,24 +67,22 @@ public class PropAnimationController<T extends Prop> extends EntityAnimationCont
   @Override
   public BufferedImage getCurrentImage() {
     final Animation animation = this.getCurrent();
-    if (animation == null || animation.getSpritesheet() == null) {
+    if (animation == null || animation.getSpritesheet() == null || animation.getCurrentKeyFrame() == null) {
       return null;
     }
 
-    String cacheKey = this.buildCurrentCacheKey();
-    cacheKey += "_" + this.getEntity().isAddShadow();
-    cacheKey += "_" + this.getEntity().getState();
-    cacheKey += "_" + this.getEntity().getSpriteRotation();
-    cacheKey += "_" + this.getEntity().flipHorizontally();
-    cacheKey += "_" + this.getEntity().flipVertically();
-    Optional<BufferedImage> opt = Resources.images().tryGet(cacheKey);
-    if (opt.isPresent()) {
-      return opt.get();
+    final Spritesheet spritesheet = animation.getSpritesheet();
+    final int spriteIndex = animation.getCurrentKeyFrame().getSpriteIndex();
+    final long effects = this.getCurrentEffectChain();
+    final int variant = this.getCurrentVariant();
+    final BufferedImage cached = Resources.frames().get(spritesheet, spriteIndex, effects, variant, 0, 0);
+    if (cached != null) {
+      return cached;
     }
 
     BufferedImage currentImage = super.getCurrentImage();
-    if (currentImage == null) {
-      return null;
+    if (currentImage == null || variant == 0) {
+      return currentImage;
     }
 
     if (this.getEntity().getSpriteRotation() != Rotation.NONE) {
@@ -100,16 +97,38 @@ public class PropAnimationController<T extends Prop> extends EntityAnimationCont
       currentImage = Imaging.verticalFlip(currentImage);
     }
 
-    if (!this.getEntity().isAddShadow()) {
-      return currentImage;
+    if (this.getEntity().isAddShadow()) {
+      // add a shadow at the lower end of the current sprite.
+      final int shadowYOffset = currentImage.getHeight();
+      currentImage = Imaging.addShadow(currentImage, 0, shadowYOffset);
+    }
+
+    Resources.frames().add(spritesheet, spriteIndex, effects, variant, 0, 0, currentImage);
+    return currentImage;
+  }
+
+  /**
+   * Gets the shadow, flip and rotation of the prop as a bit mask. The state of the prop is not part of the variant
+   * because it already determines the spritesheet of the current animation.
+   *
+   * @return The current variant of the prop's frame.
+   */
+  @Override
+  protected int getCurrentVariant() {
+    int variant = this.getEntity().getSpriteRotation().ordinal() << 3;
+    if (this.getEntity().isAddShadow()) {
+      variant |= 1;
+    }
+
+    if (this.getEntity().flipHorizontally()) {
+      variant |= 1 << 1;
     }
 
-    // add a shadow at the lower end of the current sprite.
-    final int ShadowYOffset = currentImage.getHeight();
-    final BufferedImage shadow = Imaging.addShadow(currentImage, 0, ShadowYOffset);
-    Resources.images().add(cacheKey, shadow);
+    if (this.getEntity().flipVertically()) {
+      variant |= 1 << 2;
+    }
 
-    return shadow;
+    return variant;
   }
 
   @Override
@@ -1,6 +1,7 @@
 package de.gurkenlabs.litiengine.graphics.emitters;
 
 import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameRandom;
 import de.gurkenlabs.litiengine.ITimeToLive;
 import de.gurkenlabs.litiengine.IUpdateable;
 import de.gurkenlabs.litiengine.entities.CollisionInfo;
@@ -14,6 +15,7 @@ import de.gurkenlabs.litiengine.graphics.Spritesheet;
 import de.gurkenlabs.litiengine.graphics.emitters.particles.EllipseParticle;
 import de.gurkenlabs.litiengine.graphics.emitters.particles.LineParticle;
 import de.gurkenlabs.litiengine.graphics.emitters.particles.Particle;
+import de.gurkenlabs.litiengine.graphics.emitters.particles.ParticleBuffer;
 import de.gurkenlabs.litiengine.graphics.emitters.particles.PolygonParticle;
 import de.gurkenlabs.litiengine.graphics.emitters.particles.RectangleParticle;
 import de.gurkenlabs.litiengine.graphics.emitters.particles.SpriteParticle;
@@ -21,28 +23,43 @@ import de.gurkenlabs.litiengine.graphics.emitters.particles.TextParticle;
 import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
 import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterLoader;
 import de.gurkenlabs.litiengine.graphics.emitters.xml.ParticleParameter;
+import de.gurkenlabs.litiengine.physics.Collision;
+import de.gurkenlabs.litiengine.physics.CollisionSnapshot;
 import de.gurkenlabs.litiengine.resources.Resources;
 import java.awt.Graphics2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EventListener;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A standard implementation for emitters that provide a particle effect.
+ *
+ * <p>
+ * If {@link EmitterData#isBufferingParticles()} is enabled, shape particles are stored in a {@link ParticleBuffer}
+ * instead of individual {@link Particle} objects. Text and sprite particles as well as particles that are added via
+ * {@link #addParticle(Particle)} are always kept in the particle list that is provided by {@link #getParticles()}.
+ * </p>
  */
 @CollisionInfo(collision = false)
 @EmitterInfo
 @TmxType(MapObjectType.EMITTER)
 public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRenderable {
+  // the default seeds are derived from a sequence instead of Game.random(), so that creating an emitter doesn't advance
+  // the random stream of the game
+  private static final AtomicLong seeds = new AtomicLong();
 
   private final Collection<EmitterFinishedListener> finishedListeners;
   private final CopyOnWriteArrayList<Particle> particles;
+  private final ParticleBuffer particleBuffer;
+  private final GameRandom random;
+  private EmitterSystem system;
   private final Map<RenderType, IRenderable> renderables;
   private EmitterData emitterData;
   private boolean activateOnInit;
@@ -57,6 +74,8 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
   public Emitter() {
     this.finishedListeners = ConcurrentHashMap.newKeySet();
     this.particles = new CopyOnWriteArrayList<>();
+    this.particleBuffer = new ParticleBuffer();
+    this.random = new GameRandom(new SplittableRandom(seeds.getAndIncrement()).nextLong());
     this.renderables = new ConcurrentHashMap<>();
 
     for (RenderType type : RenderType.values()) {
@@ -128,7 +147,8 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
 
     this.activated = true;
     this.activationTick = Game.time().now();
-    Game.loop().attach(this);
+    this.system = EmitterSystem.get(Game.loop());
+    this.system.add(this);
   }
 
   /**
@@ -151,10 +171,14 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
 
     this.activated = false;
     this.getParticles().clear();
+    this.particleBuffer.clear();
     this.aliveTime = 0;
     this.activationTick = 0;
     this.lastSpawn = 0;
-    Game.loop().detach(this);
+    if (this.system != null) {
+      this.system.remove(this);
+      this.system = null;
+    }
   }
 
   public void delete() {
@@ -200,14 +224,25 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
   }
 
   /**
-   * Gets the particles.
+   * Gets the particles that are stored as individual objects. Particles that are stored in the particle buffer of this
+   * emitter are not contained in this list.
    *
    * @return the particles
+   * @see #getParticleCount()
    */
   public List<Particle> getParticles() {
     return this.particles;
   }
 
+  /**
+   * Gets the total number of particles of this emitter, including the particles that are stored in its particle buffer.
+   *
+   * @return the number of particles
+   */
+  public int getParticleCount() {
+    return this.particles.size() + this.particleBuffer.size();
+  }
+
   public boolean isActivateOnInit() {
     return this.activateOnInit;
   }
@@ -272,6 +307,18 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
     this.emitterData = emitterData;
   }
 
+  /**
+   * Sets the seed of the random stream that this emitter draws the values of its particles from. Emitters with the same
+   * seed and data spawn the same particles. By default, every emitter gets its own seed without drawing from
+   * {@link Game#random()}.
+   *
+   * @param seed
+   *          The seed of the random stream.
+   */
+  public void setSeed(long seed) {
+    this.random.setSeed(seed);
+  }
+
   public void setEmitterData(final String emitterXmlPath) {
     EmitterData loaded = EmitterLoader.load(emitterXmlPath);
     setEmitterData(loaded);
@@ -304,8 +351,22 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
 
   @Override
   public void update() {
+    if (this.beginUpdate()) {
+      this.particleBuffer.update(0, this.particleBuffer.size());
+      this.endUpdate();
+    }
+  }
+
+  /**
+   * Performs the first step of an update: removes expired particles, updates the particle objects and prepares the
+   * update of the particle buffer.
+   *
+   * @return True if the particle buffer of this emitter needs to be updated in this tick; otherwise false.
+   * @see EmitterSystem
+   */
+  boolean beginUpdate() {
     if (this.isPaused()) {
-      return;
+      return false;
     }
 
     // clear particles if the effect time to life is reached
@@ -315,22 +376,32 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
       }
 
       this.delete();
-      return;
+      return false;
     }
 
     this.updateOrigin();
 
     final float updateRatio = (float) this.data().getUpdateRate() / Game.loop().getTickRate();
-    for (final Particle p : new ArrayList<>(this.getParticles())) {
-      if (this.particleCanBeRemoved(p)) {
-        // remove dead particles
-        this.particles.remove(p);
-        continue;
-      }
 
-      p.update(this.getOrigin(), updateRatio);
+    // remove dead particles with a single copy of the underlying array instead of one copy per particle
+    this.particles.removeIf(this::particleCanBeRemoved);
+    final CollisionSnapshot collisions = this.createCollisionSnapshot(updateRatio);
+    for (final Particle p : this.particles) {
+      p.update(this.getOrigin(), updateRatio, collisions);
     }
 
+    this.particleBuffer.beginUpdate(this.data(), this.getOrigin(), updateRatio);
+    return true;
+  }
+
+  /**
+   * Performs the last step of an update: resolves the collisions of the buffered particles and spawns new particles.
+   *
+   * @see EmitterSystem
+   */
+  void endUpdate() {
+    this.particleBuffer.endUpdate();
+
     this.aliveTime = Game.time().since(this.activationTick);
     if ((this.data().getSpawnRate() == 0
         || Game.time().since(this.lastSpawn) >= this.data().getSpawnRate())) {
@@ -339,13 +410,70 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
     }
   }
 
+  /**
+   * Captures the collision geometry that the colliding particles of this emitter can reach within the current tick, so
+   * that the particles are checked against this small local set instead of all collision entities of the environment.
+   *
+   * @param updateRatio
+   *          The update ratio of the particles.
+   * @return A snapshot of the collision geometry around the particles or null if no particle checks for collisions.
+   */
+  private CollisionSnapshot createCollisionSnapshot(float updateRatio) {
+    if (Game.physics() == null) {
+      return null;
+    }
+
+    double minX = Double.MAX_VALUE;
+    double minY = Double.MAX_VALUE;
+    double maxX = -Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    for (final Particle p : this.particles) {
+      if (p.getCollisionType() == Collision.NONE) {
+        continue;
+      }
+
+      // covers the bounding box and the continuous collision ray after the particle moved and grew within this update
+      final double x = this.getOrigin().getX() + p.getX();
+      final double y = this.getOrigin().getY() + p.getY();
+      final double reachX =
+          Math.abs(p.getWidth()) + (Math.abs(p.getVelocityX()) + Math.abs(p.getDeltaWidth())) * updateRatio;
+      final double reachY =
+          Math.abs(p.getHeight()) + (Math.abs(p.getVelocityY()) + Math.abs(p.getDeltaHeight())) * updateRatio;
+      minX = Math.min(minX, x - reachX);
+      minY = Math.min(minY, y - reachY);
+      maxX = Math.max(maxX, x + reachX);
+      maxY = Math.max(maxY, y + reachY);
+    }
+
+    if (minX > maxX) {
+      return null;
+    }
+
+    return Game.physics().snapshot(new Rectangle2D.Double(minX, minY, maxX - minX, maxY - minY));
+  }
+
+  ParticleBuffer getParticleBuffer() {
+    return this.particleBuffer;
+  }
+
   /**
    * Can take new particles.
    *
    * @return Whether-or-not the effect can hold any more particles.
    */
   protected boolean canTakeNewParticles() {
-    return this.particles.size() < this.data().getMaxParticles();
+    return this.getParticleCount() < this.data().getMaxParticles();
+  }
+
+  /**
+   * Determines whether new particles are stored in the particle buffer of this emitter. Subclasses that customize
+   * {@link #createNewParticle()} or {@link #particleCanBeRemoved(Particle)} should return false here, because buffered
+   * particles are created and removed without these methods.
+   *
+   * @return True if new particles are buffered; otherwise false.
+   */
+  protected boolean usesParticleBuffer() {
+    return this.data().isBufferingParticles() && ParticleBuffer.supports(this.data().getParticleType());
   }
 
   /**
@@ -355,26 +483,26 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
    */
   protected Particle createNewParticle() {
 
-    float width = (float) data().getParticleWidth().get();
-    float height = (float) data().getParticleHeight().get();
+    float width = (float) data().getParticleWidth().get(this.random);
+    float height = (float) data().getParticleHeight().get(this.random);
 
     switch (data().getParticleType()) {
       case ELLIPSE -> {
-        return new EllipseParticle(width, height).init(data());
+        return new EllipseParticle(width, height).init(data(), this.random);
       }
       case TRIANGLE -> {
-        return new PolygonParticle(width, height, 3).init(data());
+        return new PolygonParticle(width, height, 3).init(data(), this.random);
       }
       case DIAMOND -> {
-        return new PolygonParticle(width, height, 4).init(data());
+        return new PolygonParticle(width, height, 4).init(data(), this.random);
       }
       case LINE -> {
-        return new LineParticle(width, height).init(data());
+        return new LineParticle(width, height).init(data(), this.random);
       }
       case TEXT -> {
         String text = data().getTexts().isEmpty() ? EmitterData.DEFAULT_TEXT
-            : Game.random().choose(data().getTexts());
-        return new TextParticle(text).init(data());
+            : this.random.choose(data().getTexts());
+        return new TextParticle(text).init(data(), this.random);
       }
       case SPRITE -> {
         Spritesheet sprite = Resources.spritesheets().get(data().getSpritesheet());
@@ -382,10 +510,10 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
           return null;
         }
         return new SpriteParticle(sprite).setAnimateSprite(data().isAnimatingSprite())
-            .setLoopSprite(data().isLoopingSprite()).init(data());
+            .setLoopSprite(data().isLoopingSprite()).init(data(), this.random);
       }
       default -> {
-        return new RectangleParticle(width, height).init(data());
+        return new RectangleParticle(width, height).init(data(), this.random);
       }
     }
   }
@@ -407,6 +535,14 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
         return;
       }
 
+      if (this.usesParticleBuffer()) {
+        if (!this.isStopped()) {
+          this.particleBuffer.add(this.data(), this.random);
+        }
+
+        continue;
+      }
+
       Particle part = this.createNewParticle();
       if (part != null) {
         this.addParticle(part);
@@ -441,6 +577,10 @@ public class Emitter extends Entity implements IUpdateable, ITimeToLive, IRender
         particle.render(g, getOrigin());
       }
     }
+
+    if (renderType == RenderType.NONE && viewport != null) {
+      this.particleBuffer.render(g, this.data(), this.getOrigin(), viewport);
+    }
   }
 
   @FunctionalInterface
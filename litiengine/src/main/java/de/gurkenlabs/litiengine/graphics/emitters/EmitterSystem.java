@@ -0,0 +1,155 @@
+package de.gurkenlabs.litiengine.graphics.emitters;
+
+import de.gurkenlabs.litiengine.ILoop;
+import de.gurkenlabs.litiengine.IUpdateable;
+import de.gurkenlabs.litiengine.graphics.emitters.particles.ParticleBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code EmitterSystem} updates all active emitters of a loop in a dedicated phase instead of updating every
+ * emitter separately.
+ *
+ * <p>
+ * Each tick is split into three steps:
+ * </p>
+ * <ol>
+ * <li>Every emitter removes its expired particles and updates its particle objects on the thread of the loop.</li>
+ * <li>The particle buffers of all emitters are simulated in chunks of {@link #CHUNK_SIZE} particles in parallel on the
+ * common {@code ForkJoinPool}, because buffered particles are independent of each other.</li>
+ * <li>Every emitter resolves the collision checks of its buffered particles in one batch and spawns new particles on
+ * the thread of the loop. Each emitter spawns from its own seeded random stream, so spawning is deterministic
+ * regardless of the order in which emitters are updated.</li>
+ * </ol>
+ *
+ * <p>
+ * There is one system per loop (e.g. the game loop or the loop of a background simulation). The system is attached to
+ * its loop as long as it contains any emitters.
+ * </p>
+ *
+ * @see Emitter#activate()
+ * @see Emitter#setSeed(long)
+ */
+public final class EmitterSystem implements IUpdateable {
+  /**
+   * The number of buffered particles that are simulated by a single task of the parallel update.
+   */
+  public static final int CHUNK_SIZE = 1024;
+
+  // only contains systems that have emitters, so that the loops of finished background simulations are not retained
+  private static final Map<ILoop, EmitterSystem> systems = new HashMap<>();
+
+  // emitters that override update() are updated as a whole, so that their custom behavior is preserved
+  private static final ClassValue<Boolean> customUpdate = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        return type.getMethod("update").getDeclaringClass() != Emitter.class;
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
+    }
+  };
+
+  private final ILoop loop;
+  private final Set<Emitter> emitters = ConcurrentHashMap.newKeySet();
+
+  private EmitterSystem(ILoop loop) {
+    this.loop = loop;
+  }
+
+  /**
+   * Gets the emitter system that updates the emitters of the specified loop.
+   *
+   * @param loop
+   *          The loop that updates the emitters.
+   * @return The emitter system of the loop.
+   */
+  public static EmitterSystem get(ILoop loop) {
+    synchronized (systems) {
+      return systems.computeIfAbsent(loop, EmitterSystem::new);
+    }
+  }
+
+  /**
+   * Adds the specified emitter to this system, so that it is updated once per tick of the loop.
+   *
+   * @param emitter
+   *          The emitter to add.
+   */
+  public void add(Emitter emitter) {
+    synchronized (systems) {
+      if (this.emitters.add(emitter) && this.emitters.size() == 1) {
+        systems.put(this.loop, this);
+        this.loop.attach(this);
+      }
+    }
+  }
+
+  /**
+   * Removes the specified emitter from this system.
+   *
+   * @param emitter
+   *          The emitter to remove.
+   */
+  public void remove(Emitter emitter) {
+    synchronized (systems) {
+      if (this.emitters.remove(emitter) && this.emitters.isEmpty()) {
+        systems.remove(this.loop, this);
+        this.loop.detach(this);
+      }
+    }
+  }
+
+  /**
+   * Gets all emitters that are updated by this system.
+   *
+   * @return The emitters of this system.
+   */
+  public Collection<Emitter> getEmitters() {
+    return Collections.unmodifiableCollection(this.emitters);
+  }
+
+  @Override
+  public void update() {
+    final List<Emitter> updating = new ArrayList<>();
+    for (Emitter emitter : this.emitters) {
+      if (customUpdate.get(emitter.getClass()).booleanValue()) {
+        emitter.update();
+        continue;
+      }
+
+      if (emitter.beginUpdate()) {
+        updating.add(emitter);
+      }
+    }
+
+    final List<Runnable> chunks = new ArrayList<>();
+    for (Emitter emitter : updating) {
+      final ParticleBuffer buffer = emitter.getParticleBuffer();
+      final int size = buffer.size();
+      for (int from = 0; from < size; from += CHUNK_SIZE) {
+        final int start = from;
+        final int end = Math.min(size, from + CHUNK_SIZE);
+        chunks.add(() -> buffer.update(start, end));
+      }
+    }
+
+    if (chunks.size() > 1) {
+      // every chunk covers a disjoint range of a single buffer, so the chunks can be simulated concurrently
+      chunks.parallelStream().forEach(Runnable::run);
+    } else {
+      chunks.forEach(Runnable::run);
+    }
+
+    for (Emitter emitter : updating) {
+      emitter.endUpdate();
+    }
+  }
+}
@@ -13,14 +13,17 @@ public class LineParticle extends ShapeParticle {
 
   @Override
   protected Shape getShape(Point2D emitterOrigin) {
-    float x = this.getAbsoluteX(emitterOrigin);
-    float y = this.getAbsoluteY(emitterOrigin);
+    return createShape(
+        this.getAbsoluteX(emitterOrigin),
+        this.getAbsoluteY(emitterOrigin),
+        this.getWidth(),
+        this.getHeight(),
+        this.getAngle());
+  }
+
+  static Shape createShape(float x, float y, float width, float height, float angle) {
     final AffineTransform rotate =
-        AffineTransform.getRotateInstance(
-            Math.toRadians(this.getAngle()),
-            this.getAbsoluteX(emitterOrigin) + this.getWidth() * 0.5,
-            this.getAbsoluteY(emitterOrigin) + this.getHeight() * 0.5);
-    return rotate.createTransformedShape(
-        new Line2D.Double(x, y, x + this.getWidth(), y + this.getHeight()));
+        AffineTransform.getRotateInstance(Math.toRadians(angle), x + width * 0.5, y + height * 0.5);
+    return rotate.createTransformedShape(new Line2D.Double(x, y, x + width, y + height));
   }
 }
@@ -1,11 +1,13 @@
 package de.gurkenlabs.litiengine.graphics.emitters.particles;
 
 import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameRandom;
 import de.gurkenlabs.litiengine.ITimeToLive;
 import de.gurkenlabs.litiengine.graphics.RenderType;
 import de.gurkenlabs.litiengine.graphics.emitters.Emitter;
 import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
 import de.gurkenlabs.litiengine.physics.Collision;
+import de.gurkenlabs.litiengine.physics.CollisionSnapshot;
 import de.gurkenlabs.litiengine.util.MathUtilities;
 import java.awt.Color;
 import java.awt.Graphics2D;
@@ -72,6 +74,12 @@ public abstract class Particle implements ITimeToLive {
 
   private boolean stopOnCollision;
 
+  /**
+   * The collision geometry around the emitter that is used for collision checks during the current update or null if
+   * the physics engine is queried directly.
+   */
+  private CollisionSnapshot collisions;
+
   /**
    * Constructs a new particle.
    *
@@ -340,23 +348,35 @@ public abstract class Particle implements ITimeToLive {
   }
 
   public Particle init(final EmitterData data) {
-    this.setX((float) data.getParticleOffsetX().get());
-    this.setY((float) data.getParticleOffsetY().get());
+    return this.init(data, Game.random());
+  }
 
-    this.setAccelerationX((float) data.getAccelerationX().get());
-    this.setAccelerationY((float) data.getAccelerationY().get());
+  /**
+   * Initializes this particle with values from the specified emitter data that are drawn from the specified random
+   * stream. Emitters use their own seeded stream, so that the particles they spawn are deterministic.
+   *
+   * @param data   The emitter data to initialize the particle from.
+   * @param random The random stream to draw the values of the particle from.
+   * @return This particle instance.
+   */
+  public Particle init(final EmitterData data, final GameRandom random) {
+    this.setX((float) data.getParticleOffsetX().get(random));
+    this.setY((float) data.getParticleOffsetY().get(random));
+
+    this.setAccelerationX((float) data.getAccelerationX().get(random));
+    this.setAccelerationY((float) data.getAccelerationY().get(random));
 
-    this.setVelocityX((float) data.getVelocityX().get());
-    this.setVelocityY((float) data.getVelocityY().get());
+    this.setVelocityX((float) data.getVelocityX().get(random));
+    this.setVelocityY((float) data.getVelocityY().get(random));
 
-    this.setDeltaWidth((float) data.getDeltaWidth().get());
-    this.setDeltaHeight((float) data.getDeltaHeight().get());
+    this.setDeltaWidth((float) data.getDeltaWidth().get(random));
+    this.setDeltaHeight((float) data.getDeltaHeight().get(random));
 
-    this.setAngle((float) data.getAngle().get());
-    this.setDeltaAngle((float) data.getDeltaAngle().get());
+    this.setAngle((float) data.getAngle().get(random));
+    this.setDeltaAngle((float) data.getDeltaAngle().get(random));
 
-    this.setTimeToLive((int) data.getParticleTTL().get());
-    this.setColor(Game.random().choose(data.getDecodedColors()));
+    this.setTimeToLive((int) data.getParticleTTL().get(random));
+    this.setColor(random.choose(data.getDecodedColors()));
 
     this.setCollisionType(data.getCollision());
     this.setOutlineOnly(data.isOutlineOnly());
@@ -419,6 +439,24 @@ public abstract class Particle implements ITimeToLive {
   }
 
 
+  /**
+   * Updates the particle like {@link #update(Point2D, float)}, but checks its collisions against the specified snapshot
+   * of the collision geometry around the emitter instead of scanning all collision entities of the physics engine.
+   *
+   * @param emitterOrigin The current {@link Emitter} origin
+   * @param updateRatio   The update ratio for this particle.
+   * @param collisions    The collision geometry around the emitter for the current tick.
+   * @see de.gurkenlabs.litiengine.physics.PhysicsEngine#snapshot(Rectangle2D)
+   */
+  public void update(final Point2D emitterOrigin, final float updateRatio, final CollisionSnapshot collisions) {
+    this.collisions = collisions;
+    try {
+      this.update(emitterOrigin, updateRatio);
+    } finally {
+      this.collisions = null;
+    }
+  }
+
   /**
    * Test for ray cast collisions
    *
@@ -459,13 +497,12 @@ public abstract class Particle implements ITimeToLive {
       double endX = emitterOrigin.getX() + targetX;
       double endY = emitterOrigin.getY() + targetY;
       Line2D ray = new Line2D.Double(start.getX(), start.getY(), endX, endY);
-      if (this.getCollisionType() != Collision.NONE && Game.physics() != null && Game.physics()
-        .collides(ray, this.getCollisionType())) {
+      if (this.getCollisionType() != Collision.NONE && this.collides(ray)) {
         collide();
         return true;
       }
-    } else if (this.getCollisionType() != Collision.NONE && Game.physics() != null && Game.physics()
-      .collides(this.getBoundingBox(emitterOrigin).getBounds2D(), this.getCollisionType())) {
+    } else if (this.getCollisionType() != Collision.NONE
+      && this.collides(this.getBoundingBox(emitterOrigin).getBounds2D())) {
       collide();
       return true;
     }
@@ -473,6 +510,22 @@ public abstract class Particle implements ITimeToLive {
     return false;
   }
 
+  private boolean collides(Line2D ray) {
+    if (this.collisions != null) {
+      return this.collisions.collides(ray, this.getCollisionType());
+    }
+
+    return Game.physics() != null && Game.physics().collides(ray, this.getCollisionType());
+  }
+
+  private boolean collides(Rectangle2D boundingBox) {
+    if (this.collisions != null) {
+      return this.collisions.collides(boundingBox, this.getCollisionType());
+    }
+
+    return Game.physics() != null && Game.physics().collides(boundingBox, this.getCollisionType());
+  }
+
   private void collide() {
     if (!this.colliding) {
       this.colliding = true;
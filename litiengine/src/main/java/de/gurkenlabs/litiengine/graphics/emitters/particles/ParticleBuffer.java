@@ -0,0 +1,479 @@
+package de.gurkenlabs.litiengine.graphics.emitters.particles;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameRandom;
+import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
+import de.gurkenlabs.litiengine.physics.Collision;
+import de.gurkenlabs.litiengine.physics.PhysicsEngine;
+import de.gurkenlabs.litiengine.util.MathUtilities;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+/**
+ * A struct-of-arrays storage for shape particles that keeps the state of all particles of an emitter in primitive
+ * arrays instead of allocating a {@link Particle} object for each of them.
+ *
+ * <p>
+ * The buffer simulates and renders particles exactly like the corresponding {@link ShapeParticle} implementations.
+ * Particles whose time to live is reached are removed by moving the last particle into their slot, so the order in
+ * which particles are rendered is not stable. The capacity of the buffer only grows, which allows emitters to reuse the
+ * slots of dead particles without any allocations.
+ * </p>
+ *
+ * <p>
+ * Only one thread may modify the buffer. Rendering is allowed concurrently; a particle that is removed while the buffer
+ * is rendered may be drawn for one more frame.
+ * </p>
+ *
+ * @see #supports(ParticleType)
+ */
+public final class ParticleBuffer {
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int DIAMOND_SIDES = 4;
+  private static final int TRIANGLE_SIDES = 3;
+
+  private static final byte FLAG_FADE = 1;
+  private static final byte FLAG_COLLIDING = 1 << 1;
+  private static final byte FLAG_PENDING = 1 << 2;
+
+  private float[] x = new float[0];
+  private float[] y = new float[0];
+  private float[] velocityX = new float[0];
+  private float[] velocityY = new float[0];
+  private float[] accelerationX = new float[0];
+  private float[] accelerationY = new float[0];
+  private float[] width = new float[0];
+  private float[] height = new float[0];
+  private float[] deltaWidth = new float[0];
+  private float[] deltaHeight = new float[0];
+  private float[] angle = new float[0];
+  private float[] deltaAngle = new float[0];
+  private int[] timeToLive = new int[0];
+  private int[] color = new int[0];
+  private long[] aliveTick = new long[0];
+  private long[] aliveTime = new long[0];
+  private byte[] flags = new byte[0];
+
+  // the bounds of particles whose collision check is pending until the end of the current update
+  private float[] boxX = new float[0];
+  private float[] boxY = new float[0];
+  private float[] boxWidth = new float[0];
+  private float[] boxHeight = new float[0];
+
+  // the state of the current update that is captured on the thread of the game loop
+  private EmitterData updateData;
+  private double updateOriginX;
+  private double updateOriginY;
+  private float updateRatio;
+  private long updateTick;
+  private int updateTickRate;
+  private PhysicsEngine updatePhysics;
+
+  // written after the arrays so that concurrent renderers never see a size that exceeds the arrays they read
+  private volatile int size;
+
+  /**
+   * Determines whether particles of the specified type can be stored in a {@code ParticleBuffer}. Text and sprite
+   * particles are not supported because they carry object state that cannot be expressed with primitive values.
+   *
+   * @param type
+   *          The particle type.
+   * @return True if the particle type is supported; otherwise false.
+   */
+  public static boolean supports(ParticleType type) {
+    return type != null && type != ParticleType.TEXT && type != ParticleType.SPRITE;
+  }
+
+  /**
+   * Gets the number of particles in this buffer.
+   *
+   * @return The number of particles.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Removes all particles from this buffer while keeping its capacity.
+   */
+  public void clear() {
+    this.size = 0;
+  }
+
+  /**
+   * Adds a new particle that is initialized with random values from the specified emitter data, analogous to
+   * {@link Particle#init(EmitterData)}.
+   *
+   * @param data
+   *          The emitter data to initialize the particle from.
+   */
+  public void add(EmitterData data) {
+    this.add(data, Game.random());
+  }
+
+  /**
+   * Adds a new particle that is initialized with values from the specified emitter data that are drawn from the
+   * specified random stream, analogous to {@link Particle#init(EmitterData, GameRandom)}.
+   *
+   * @param data
+   *          The emitter data to initialize the particle from.
+   * @param random
+   *          The random stream to draw the values of the particle from.
+   */
+  public void add(EmitterData data, GameRandom random) {
+    final int index = this.size;
+    if (index == this.x.length) {
+      this.grow(Math.max(INITIAL_CAPACITY, index * 2));
+    }
+
+    this.width[index] = (float) data.getParticleWidth().get(random);
+    this.height[index] = (float) data.getParticleHeight().get(random);
+    this.x[index] = (float) data.getParticleOffsetX().get(random);
+    this.y[index] = (float) data.getParticleOffsetY().get(random);
+    this.accelerationX[index] = (float) data.getAccelerationX().get(random);
+    this.accelerationY[index] = (float) data.getAccelerationY().get(random);
+    this.velocityX[index] = (float) data.getVelocityX().get(random);
+    this.velocityY[index] = (float) data.getVelocityY().get(random);
+    this.deltaWidth[index] = (float) data.getDeltaWidth().get(random);
+    this.deltaHeight[index] = (float) data.getDeltaHeight().get(random);
+    this.angle[index] = (float) data.getAngle().get(random);
+    this.deltaAngle[index] = (float) data.getDeltaAngle().get(random);
+    this.timeToLive[index] = (int) data.getParticleTTL().get(random);
+
+    final Color particleColor = random.choose(data.getDecodedColors());
+    this.color[index] = particleColor != null ? particleColor.getRGB() : Color.BLACK.getRGB();
+    this.aliveTick[index] = 0;
+    this.aliveTime[index] = 0;
+    this.flags[index] = data.isFading() ? FLAG_FADE : 0;
+
+    this.size = index + 1;
+  }
+
+  /**
+   * Removes all particles whose time to live is reached and updates the remaining particles, analogous to
+   * {@link Particle#update(Point2D, float)}.
+   *
+   * @param data
+   *          The data of the emitter that owns this buffer.
+   * @param emitterOrigin
+   *          The current origin of the emitter.
+   * @param updateRatio
+   *          The update ratio for the particles.
+   */
+  public void update(EmitterData data, Point2D emitterOrigin, float updateRatio) {
+    this.beginUpdate(data, emitterOrigin, updateRatio);
+    this.update(0, this.size);
+    this.endUpdate();
+  }
+
+  /**
+   * Removes all particles whose time to live is reached and prepares the update of the remaining particles.
+   *
+   * <p>
+   * An update is split into three steps that allow to simulate the particles in parallel: {@code beginUpdate} and
+   * {@link #endUpdate()} must be called on the thread of the game loop, whereas {@link #update(int, int)} may be called
+   * concurrently for disjoint ranges of particles in between. The game time and the physics engine are captured on the
+   * calling thread because they depend on the loop that is currently updating.
+   * </p>
+   *
+   * @param data
+   *          The data of the emitter that owns this buffer.
+   * @param emitterOrigin
+   *          The current origin of the emitter.
+   * @param updateRatio
+   *          The update ratio for the particles.
+   */
+  public void beginUpdate(EmitterData data, Point2D emitterOrigin, float updateRatio) {
+    int index = 0;
+    while (index < this.size) {
+      if (this.timeToLiveReached(index)) {
+        this.remove(index);
+        continue;
+      }
+
+      index++;
+    }
+
+    final Collision collision = data.getCollision();
+    this.updateData = data;
+    this.updateOriginX = emitterOrigin.getX();
+    this.updateOriginY = emitterOrigin.getY();
+    this.updateRatio = updateRatio;
+    this.updateTick = Game.time().now();
+    this.updateTickRate = Game.loop().getTickRate();
+    this.updatePhysics = collision != null && collision != Collision.NONE ? Game.physics() : null;
+  }
+
+  /**
+   * Updates the particles within the specified range. Collision checks are deferred until {@link #endUpdate()}, so
+   * that they can be resolved in one batch.
+   *
+   * @param from
+   *          The index of the first particle to update (inclusive).
+   * @param to
+   *          The index of the last particle to update (exclusive).
+   */
+  public void update(int from, int to) {
+    for (int index = from; index < to; index++) {
+      if (this.aliveTick[index] == 0) {
+        this.aliveTick[index] = this.updateTick;
+      }
+
+      this.aliveTime[index] = Game.time().toMilliseconds(this.updateTick - this.aliveTick[index], this.updateTickRate);
+      if (!this.timeToLiveReached(index) && (this.flags[index] & FLAG_COLLIDING) == 0) {
+        this.update(index);
+      }
+    }
+  }
+
+  /**
+   * Resolves the collision checks of all particles that have been updated since {@link #beginUpdate(EmitterData,
+   * Point2D, float)} with a single batch query on the physics engine.
+   *
+   * @see PhysicsEngine#collides(Rectangle2D[], Collision)
+   */
+  public void endUpdate() {
+    if (this.updatePhysics == null) {
+      return;
+    }
+
+    int pending = 0;
+    for (int i = 0; i < this.size; i++) {
+      if ((this.flags[i] & FLAG_PENDING) != 0) {
+        pending++;
+      }
+    }
+
+    if (pending == 0) {
+      return;
+    }
+
+    final int[] indices = new int[pending];
+    final Rectangle2D[] boxes = new Rectangle2D[pending];
+    for (int i = 0, j = 0; i < this.size; i++) {
+      if ((this.flags[i] & FLAG_PENDING) != 0) {
+        indices[j] = i;
+        boxes[j++] = new Rectangle2D.Float(this.boxX[i], this.boxY[i], this.boxWidth[i], this.boxHeight[i]);
+      }
+    }
+
+    final boolean[] collisions = this.updatePhysics.collides(boxes, this.updateData.getCollision());
+    for (int j = 0; j < pending; j++) {
+      final int index = indices[j];
+      this.flags[index] &= ~FLAG_PENDING;
+      if (collisions[j]) {
+        this.flags[index] |= FLAG_COLLIDING;
+        if (this.updateData.isFadingOnCollision()) {
+          this.flags[index] |= FLAG_FADE;
+        }
+
+        continue;
+      }
+
+      this.move(index);
+    }
+  }
+
+  /**
+   * Renders all particles of this buffer that intersect with the specified viewport.
+   *
+   * @param g
+   *          The graphics object to draw on.
+   * @param data
+   *          The data of the emitter that owns this buffer.
+   * @param emitterOrigin
+   *          The current origin of the emitter.
+   * @param viewport
+   *          The viewport in map coordinates.
+   */
+  public void render(Graphics2D g, EmitterData data, Point2D emitterOrigin, Rectangle2D viewport) {
+    final int count = this.size;
+    final ParticleType type = data.getParticleType();
+    final boolean outline = data.isOutlineOnly() || type == ParticleType.LINE;
+    final boolean stamped = ParticleStamps.supports(type, outline);
+    for (int i = 0; i < count; i++) {
+      // conservative bounds of the particle for any rotation, so that only visible shapes are created
+      final double centerX = emitterOrigin.getX() + this.x[i];
+      final double centerY = emitterOrigin.getY() + this.y[i];
+      final double extent = Math.max(Math.abs(this.width[i]), Math.abs(this.height[i]));
+      if (!viewport.intersects(centerX - extent, centerY - extent, extent * 2, extent * 2)) {
+        continue;
+      }
+
+      if (stamped) {
+        ParticleStamps.render(
+            g,
+            type,
+            centerX,
+            centerY,
+            this.width[i],
+            this.height[i],
+            this.angle[i],
+            this.color[i],
+            this.getOpacity(i),
+            data.isAntiAliased());
+        continue;
+      }
+
+      final Color particleColor = new Color(this.color[i], true);
+      g.setColor(
+          new Color(
+              particleColor.getRed() / 255f,
+              particleColor.getGreen() / 255f,
+              particleColor.getBlue() / 255f,
+              this.getOpacity(i)));
+
+      ShapeParticle.render(g, this.getShape(i, type, emitterOrigin.getX(), emitterOrigin.getY()), outline, data.isAntiAliased());
+    }
+  }
+
+  float getOpacity(int index) {
+    if ((this.flags[index] & FLAG_FADE) != 0 && this.timeToLive[index] > 0) {
+      float maxAlpha = (this.color[index] >>> 24) / 255f;
+      float progress = (float) this.aliveTime[index] / this.timeToLive[index];
+      return MathUtilities.clamp(maxAlpha - progress * maxAlpha, 0, 1);
+    }
+
+    return 1;
+  }
+
+  /**
+   * Gets the x-coordinate of the particle at the specified index relative to the origin of its emitter.
+   *
+   * @param index
+   *          The index of the particle.
+   * @return The x-coordinate of the particle.
+   */
+  public float getX(int index) {
+    return this.x[index];
+  }
+
+  /**
+   * Gets the y-coordinate of the particle at the specified index relative to the origin of its emitter.
+   *
+   * @param index
+   *          The index of the particle.
+   * @return The y-coordinate of the particle.
+   */
+  public float getY(int index) {
+    return this.y[index];
+  }
+
+  private void update(int index) {
+    if (this.deltaWidth[index] != 0) {
+      this.width[index] += this.deltaWidth[index] * this.updateRatio;
+    }
+
+    if (this.deltaHeight[index] != 0) {
+      this.height[index] += this.deltaHeight[index] * this.updateRatio;
+    }
+
+    if (this.deltaAngle[index] != 0) {
+      this.angle[index] += this.deltaAngle[index] * this.updateRatio;
+    }
+
+    final float targetX = this.x[index] + this.velocityX[index] * this.updateRatio;
+    final float targetY = this.y[index] + this.velocityY[index] * this.updateRatio;
+    if (targetX == this.x[index] && targetY == this.y[index]) {
+      return;
+    }
+
+    if (this.updatePhysics != null) {
+      // the collision check is resolved in the batch of endUpdate, based on the bounds before the particle moves
+      final Rectangle2D bounds =
+          this.getShape(index, this.updateData.getParticleType(), this.updateOriginX, this.updateOriginY).getBounds2D();
+      this.boxX[index] = (float) bounds.getX();
+      this.boxY[index] = (float) bounds.getY();
+      this.boxWidth[index] = (float) bounds.getWidth();
+      this.boxHeight[index] = (float) bounds.getHeight();
+      this.flags[index] |= FLAG_PENDING;
+      return;
+    }
+
+    this.move(index);
+  }
+
+  private void move(int index) {
+    this.x[index] += this.velocityX[index] * this.updateRatio;
+    this.y[index] += this.velocityY[index] * this.updateRatio;
+
+    if (this.accelerationX[index] != 0) {
+      this.velocityX[index] += this.accelerationX[index] * this.updateRatio;
+    }
+
+    if (this.accelerationY[index] != 0) {
+      this.velocityY[index] += this.accelerationY[index] * this.updateRatio;
+    }
+  }
+
+  private boolean timeToLiveReached(int index) {
+    return this.timeToLive[index] > 0 && this.aliveTime[index] >= this.timeToLive[index];
+  }
+
+  private Shape getShape(int index, ParticleType type, double originX, double originY) {
+    final float absoluteX = (float) (originX + this.x[index] - this.width[index] / 2.0);
+    final float absoluteY = (float) (originY + this.y[index] - this.height[index] / 2.0);
+    return switch (type) {
+      case ELLIPSE -> EllipseParticle.createShape(absoluteX, absoluteY, this.width[index], this.height[index], this.angle[index]);
+      case TRIANGLE -> PolygonParticle.createShape(
+          absoluteX, absoluteY, this.width[index], this.height[index], this.angle[index], TRIANGLE_SIDES);
+      case DIAMOND -> PolygonParticle.createShape(
+          absoluteX, absoluteY, this.width[index], this.height[index], this.angle[index], DIAMOND_SIDES);
+      case LINE -> LineParticle.createShape(absoluteX, absoluteY, this.width[index], this.height[index], this.angle[index]);
+      default -> RectangleParticle.createShape(absoluteX, absoluteY, this.width[index], this.height[index], this.angle[index]);
+    };
+  }
+
+  private void remove(int index) {
+    final int last = this.size - 1;
+    if (index != last) {
+      this.x[index] = this.x[last];
+      this.y[index] = this.y[last];
+      this.velocityX[index] = this.velocityX[last];
+      this.velocityY[index] = this.velocityY[last];
+      this.accelerationX[index] = this.accelerationX[last];
+      this.accelerationY[index] = this.accelerationY[last];
+      this.width[index] = this.width[last];
+      this.height[index] = this.height[last];
+      this.deltaWidth[index] = this.deltaWidth[last];
+      this.deltaHeight[index] = this.deltaHeight[last];
+      this.angle[index] = this.angle[last];
+      this.deltaAngle[index] = this.deltaAngle[last];
+      this.timeToLive[index] = this.timeToLive[last];
+      this.color[index] = this.color[last];
+      this.aliveTick[index] = this.aliveTick[last];
+      this.aliveTime[index] = this.aliveTime[last];
+      this.flags[index] = this.flags[last];
+    }
+
+    this.size = last;
+  }
+
+  private void grow(int capacity) {
+    this.x = Arrays.copyOf(this.x, capacity);
+    this.y = Arrays.copyOf(this.y, capacity);
+    this.velocityX = Arrays.copyOf(this.velocityX, capacity);
+    this.velocityY = Arrays.copyOf(this.velocityY, capacity);
+    this.accelerationX = Arrays.copyOf(this.accelerationX, capacity);
+    this.accelerationY = Arrays.copyOf(this.accelerationY, capacity);
+    this.width = Arrays.copyOf(this.width, capacity);
+    this.height = Arrays.copyOf(this.height, capacity);
+    this.deltaWidth = Arrays.copyOf(this.deltaWidth, capacity);
+    this.deltaHeight = Arrays.copyOf(this.deltaHeight, capacity);
+    this.angle = Arrays.copyOf(this.angle, capacity);
+    this.deltaAngle = Arrays.copyOf(this.deltaAngle, capacity);
+    this.timeToLive = Arrays.copyOf(this.timeToLive, capacity);
+    this.color = Arrays.copyOf(this.color, capacity);
+    this.aliveTick = Arrays.copyOf(this.aliveTick, capacity);
+    this.aliveTime = Arrays.copyOf(this.aliveTime, capacity);
+    this.flags = Arrays.copyOf(this.flags, capacity);
+    this.boxX = Arrays.copyOf(this.boxX, capacity);
+    this.boxY = Arrays.copyOf(this.boxY, capacity);
+    this.boxWidth = Arrays.copyOf(this.boxWidth, capacity);
+    this.boxHeight = Arrays.copyOf(this.boxHeight, capacity);
+  }
+}
@@ -0,0 +1,213 @@
+package de.gurkenlabs.litiengine.graphics.emitters.particles;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.resources.ImageCache;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * Provides pre-rasterized stamp images of particles that allow to draw a particle with a single image blit instead of
+ * rasterizing its shape every frame.
+ *
+ * <p>
+ * Stamps are shared between all particles with the same shape, size bucket, color and antialiasing setting. The size
+ * bucket is the size of the particle in screen pixels, rounded up to the next power of two, and the stamp is scaled
+ * down to the actual size of the particle when it is drawn. The opacity and the rotation of a particle are not part of
+ * its stamp because they are applied when the stamp is drawn.
+ * </p>
+ *
+ * <p>
+ * The stamps are held by an {@link ImageCache} whose memory budget is configured by
+ * {@link de.gurkenlabs.litiengine.configuration.GraphicConfiguration#getParticleStampCacheSize()}.
+ * </p>
+ */
+final class ParticleStamps {
+  private static final int STAMP_PADDING = 1;
+  private static final int DIAMOND_SIDES = 4;
+  private static final int TRIANGLE_SIDES = 3;
+
+  private static final ImageCache<Key> stamps =
+      new ImageCache<>(() -> Game.config().graphics().getParticleStampCacheSize());
+
+  private ParticleStamps() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Determines whether particles of the specified type can be rendered with stamps. Lines and outlines are always
+   * stroked because a stroke is cheaper than a blit for them and their stroke width must not be scaled with the stamp.
+   *
+   * @param type
+   *          The particle type.
+   * @param outline
+   *          True if only the outline of the particle is rendered.
+   * @return True if the particle can be stamped; otherwise false.
+   */
+  static boolean supports(ParticleType type, boolean outline) {
+    return !outline
+        && (type == ParticleType.RECTANGLE
+            || type == ParticleType.ELLIPSE
+            || type == ParticleType.TRIANGLE
+            || type == ParticleType.DIAMOND);
+  }
+
+  /**
+   * Draws the stamp of a shape particle that is centered on the specified map location.
+   *
+   * @param g
+   *          The graphics object to render on.
+   * @param type
+   *          The type of the particle; must be supported by {@link #supports(ParticleType, boolean)}.
+   * @param centerX
+   *          The x-coordinate of the particle's center in map coordinates.
+   * @param centerY
+   *          The y-coordinate of the particle's center in map coordinates.
+   * @param width
+   *          The width of the particle.
+   * @param height
+   *          The height of the particle.
+   * @param angle
+   *          The rotation of the particle in degrees.
+   * @param rgb
+   *          The color of the particle; its alpha channel is ignored.
+   * @param opacity
+   *          The opacity that the stamp is drawn with.
+   * @param antiAliased
+   *          True if the stamp is rasterized with antialiasing.
+   */
+  static void render(
+      Graphics2D g,
+      ParticleType type,
+      double centerX,
+      double centerY,
+      float width,
+      float height,
+      float angle,
+      int rgb,
+      float opacity,
+      boolean antiAliased) {
+    if (width <= 0 || height <= 0 || opacity <= 0) {
+      return;
+    }
+
+    final float scale = Game.world().camera().getRenderScale();
+    final int stampWidth = getBucketSize(width * scale);
+    final int stampHeight = getBucketSize(height * scale);
+    final Key key = new Key(type, stampWidth, stampHeight, rgb | 0xFF000000, antiAliased);
+    BufferedImage stamp = stamps.get(key);
+    if (stamp == null) {
+      stamp = createStamp(key);
+      stamps.add(key, stamp);
+    }
+
+    // the shape is centered on the stamp, which is scaled down to the size of the particle
+    final AffineTransform transform = AffineTransform.getTranslateInstance(centerX, centerY);
+    transform.rotate(Math.toRadians(angle));
+    transform.scale(width / stampWidth, height / stampHeight);
+    transform.translate(-stamp.getWidth() / 2.0, -stamp.getHeight() / 2.0);
+
+    final Composite composite = g.getComposite();
+    if (opacity < 1) {
+      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
+    }
+
+    Game.graphics().renderImage(g, stamp, transform);
+    g.setComposite(composite);
+  }
+
+  /**
+   * Releases all stamps.
+   */
+  static void clear() {
+    stamps.clear();
+  }
+
+  static ImageCache<?> getCache() {
+    return stamps;
+  }
+
+  /**
+   * Gets the size bucket of the specified size in screen pixels.
+   *
+   * @param size
+   *          The size in screen pixels.
+   * @return The smallest power of two that is not less than the size.
+   */
+  static int getBucketSize(float size) {
+    final int pixels = Math.max(1, (int) Math.ceil(size));
+    return pixels == 1 ? 1 : Integer.highestOneBit(pixels - 1) << 1;
+  }
+
+  private static BufferedImage createStamp(Key key) {
+    final float x = -key.width / 2f;
+    final float y = -key.height / 2f;
+    final Shape shape = switch (key.type) {
+      case ELLIPSE -> EllipseParticle.createShape(x, y, key.width, key.height, 0);
+      case TRIANGLE -> PolygonParticle.createShape(x, y, key.width, key.height, 0, TRIANGLE_SIDES);
+      case DIAMOND -> PolygonParticle.createShape(x, y, key.width, key.height, 0, DIAMOND_SIDES);
+      default -> RectangleParticle.createShape(x, y, key.width, key.height, 0);
+    };
+
+    // the image is symmetric around the center of the particle, so that it can be centered without an offset
+    final Rectangle2D bounds = shape.getBounds2D();
+    final int halfWidth = (int) Math.ceil(Math.max(-bounds.getMinX(), bounds.getMaxX()) + STAMP_PADDING);
+    final int halfHeight = (int) Math.ceil(Math.max(-bounds.getMinY(), bounds.getMaxY()) + STAMP_PADDING);
+
+    final BufferedImage image = new BufferedImage(halfWidth * 2, halfHeight * 2, BufferedImage.TYPE_INT_ARGB_PRE);
+    final Graphics2D g = image.createGraphics();
+    g.setRenderingHint(
+        RenderingHints.KEY_ANTIALIASING,
+        key.antiAliased ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+    g.translate(halfWidth, halfHeight);
+    g.setColor(new Color(key.color, true));
+    g.fill(shape);
+    g.dispose();
+    return image;
+  }
+
+  private static final class Key {
+    private final ParticleType type;
+    private final int width;
+    private final int height;
+    private final int color;
+    private final boolean antiAliased;
+
+    private Key(ParticleType type, int width, int height, int color, boolean antiAliased) {
+      this.type = type;
+      this.width = width;
+      this.height = height;
+      this.color = color;
+      this.antiAliased = antiAliased;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof Key other)) {
+        return false;
+      }
+
+      return this.type == other.type
+          && this.width == other.width
+          && this.height == other.height
+          && this.color == other.color
+          && this.antiAliased == other.antiAliased;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.type, this.width, this.height, this.color, this.antiAliased);
+    }
+  }
+}
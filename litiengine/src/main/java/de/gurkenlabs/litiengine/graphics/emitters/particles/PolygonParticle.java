@@ -15,22 +15,35 @@ public class PolygonParticle extends ShapeParticle {
 
   @Override
   protected Shape getShape(Point2D emitterOrigin) {
+    return createShape(
+        this.getAbsoluteX(emitterOrigin),
+        this.getAbsoluteY(emitterOrigin),
+        this.getWidth(),
+        this.getHeight(),
+        this.getAngle(),
+        this.sides);
+  }
+
+  @Override
+  ParticleType getStampType() {
+    return switch (this.sides) {
+      case 3 -> ParticleType.TRIANGLE;
+      case 4 -> ParticleType.DIAMOND;
+      default -> null;
+    };
+  }
+
+  static Shape createShape(float x, float y, float width, float height, float angle, int sides) {
     Path2D path = new Path2D.Double();
-    double x = this.getAbsoluteX(emitterOrigin) + this.getWidth() / 2;
-    double y = this.getAbsoluteY(emitterOrigin) + this.getHeight() / 2;
-    double theta = 2 * Math.PI / this.sides;
-    path.moveTo(x + this.getWidth(), y + 0);
-    for (int i = 0; i < this.sides; i++) {
-      path.lineTo(
-          x + this.getWidth() * Math.cos(theta * i),
-          y + this.getHeight() * Math.sin(theta * i));
+    double centerX = x + width / 2.0;
+    double centerY = y + height / 2.0;
+    double theta = 2 * Math.PI / sides;
+    path.moveTo(centerX + width, centerY);
+    for (int i = 0; i < sides; i++) {
+      path.lineTo(centerX + width * Math.cos(theta * i), centerY + height * Math.sin(theta * i));
     }
     path.closePath();
-    final AffineTransform rotate =
-        AffineTransform.getRotateInstance(
-            Math.toRadians(this.getAngle()),
-            this.getAbsoluteX(emitterOrigin) + this.getWidth() * 0.5,
-            this.getAbsoluteY(emitterOrigin) + this.getHeight() * 0.5);
+    final AffineTransform rotate = AffineTransform.getRotateInstance(Math.toRadians(angle), centerX, centerY);
     return rotate.createTransformedShape(path);
   }
 }
@@ -13,16 +13,22 @@ public class RectangleParticle extends ShapeParticle {
 
   @Override
   protected Shape getShape(Point2D emitterOrigin) {
+    return createShape(
+        this.getAbsoluteX(emitterOrigin),
+        this.getAbsoluteY(emitterOrigin),
+        this.getWidth(),
+        this.getHeight(),
+        this.getAngle());
+  }
+
+  @Override
+  ParticleType getStampType() {
+    return ParticleType.RECTANGLE;
+  }
+
+  static Shape createShape(float x, float y, float width, float height, float angle) {
     final AffineTransform rotate =
-        AffineTransform.getRotateInstance(
-            Math.toRadians(this.getAngle()),
-            this.getAbsoluteX(emitterOrigin) + this.getWidth() * 0.5,
-            this.getAbsoluteY(emitterOrigin) + this.getHeight() * 0.5);
-    return rotate.createTransformedShape(
-        new Rectangle2D.Float(
-            this.getAbsoluteX(emitterOrigin),
-            this.getAbsoluteY(emitterOrigin),
-            this.getWidth(),
-            this.getHeight()));
+        AffineTransform.getRotateInstance(Math.toRadians(angle), x + width * 0.5, y + height * 0.5);
+    return rotate.createTransformedShape(new Rectangle2D.Float(x, y, width, height));
   }
 }
@@ -7,13 +7,23 @@ import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.util.Set;
 
 public abstract class ShapeParticle extends Particle {
+  private static final Set<Class<?>> STAMPED_PARTICLES = Set.of(EllipseParticle.class, PolygonParticle.class, RectangleParticle.class);
 
   protected ShapeParticle(float width, float height) {
     super(width, height);
   }
 
+  /**
+   * Releases the pre-rasterized stamp images that are shared by the shape particles of all emitters. This is called when
+   * an environment is unloaded and when all resources are cleared.
+   */
+  public static void clearStamps() {
+    ParticleStamps.clear();
+  }
+
   protected abstract Shape getShape(final Point2D emitterOrigin);
 
   @Override
@@ -23,6 +33,23 @@ public abstract class ShapeParticle extends Particle {
 
   @Override
   public void render(final Graphics2D g, final Point2D emitterOrigin) {
+    // subclasses may customize the shape, so only the plain built-in particles are stamped
+    final ParticleType stampType = STAMPED_PARTICLES.contains(this.getClass()) ? this.getStampType() : null;
+    if (stampType != null && ParticleStamps.supports(stampType, this.isOutlineOnly())) {
+      ParticleStamps.render(
+          g,
+          stampType,
+          emitterOrigin.getX() + this.getX(),
+          emitterOrigin.getY() + this.getY(),
+          this.getWidth(),
+          this.getHeight(),
+          this.getAngle(),
+          this.getColor().getRGB(),
+          this.getOpacity(),
+          this.isAntiAliased());
+      return;
+    }
+
     g.setColor(
         new Color(
             this.getColor().getRed() / 255f,
@@ -30,15 +57,23 @@ public abstract class ShapeParticle extends Particle {
             this.getColor().getBlue() / 255f,
             this.getOpacity()));
 
-    if (this.isOutlineOnly() || this instanceof LineParticle) {
-      Game.graphics()
-          .renderOutline(
-              g,
-              this.getShape(emitterOrigin),
-              new BasicStroke(1.0f / Game.graphics().getBaseRenderScale()),
-              this.isAntiAliased());
+    render(g, this.getShape(emitterOrigin), this.isOutlineOnly() || this instanceof LineParticle, this.isAntiAliased());
+  }
+
+  /**
+   * Gets the type of the pre-rasterized stamp that is rendered instead of the shape of this particle.
+   *
+   * @return The stamp type or null if the shape of this particle cannot be stamped.
+   */
+  ParticleType getStampType() {
+    return null;
+  }
+
+  static void render(final Graphics2D g, final Shape shape, final boolean outline, final boolean antiAliased) {
+    if (outline) {
+      Game.graphics().renderOutline(g, shape, new BasicStroke(1.0f / Game.graphics().getBaseRenderScale()), antiAliased);
     } else {
-      Game.graphics().renderShape(g, this.getShape(emitterOrigin), this.isAntiAliased());
+      Game.graphics().renderShape(g, shape, antiAliased);
     }
   }
 }
@@ -38,7 +38,7 @@ public class SpriteParticle extends Particle {
     Composite oldComp = g.getComposite();
     g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, getOpacity()));
     if (getAngle() != 0) {
-      ImageRenderer.renderRotated(g, currentImage, renderLocation, getAngle());
+      ImageRenderer.renderRotationVariant(g, currentImage, renderLocation.getX(), renderLocation.getY(), getAngle());
     } else {
       ImageRenderer.render(g, currentImage, renderLocation);
     }
@@ -1,19 +1,32 @@
 package de.gurkenlabs.litiengine.graphics.emitters.particles;
 
 import de.gurkenlabs.litiengine.graphics.TextRenderer;
+import java.awt.AlphaComposite;
 import java.awt.Color;
+import java.awt.Composite;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 public class TextParticle extends Particle {
+  private static final int GLYPH_PADDING = 2;
+
   private Font font;
   private final String text;
 
+  // the laid-out glyphs of the text, which are only rasterized again if the font, color, antialiasing or scale changes
+  private BufferedImage glyphs;
+  private Font glyphFont;
+  private int glyphColor;
+  private boolean glyphAntiAliased;
+  private double glyphScale;
+  private float ascent;
+  private float textWidth;
+
   public TextParticle(final String text) {
     super(1, 1);
     this.text = text;
@@ -29,39 +42,40 @@ public class TextParticle extends Particle {
 
   @Override
   public void render(final Graphics2D g, final Point2D emitterOrigin) {
-    if (this.getText() == null || this.getText().isEmpty()) {
+    if (this.getText() == null || this.getText().isEmpty() || this.getOpacity() <= 0) {
       return;
     }
 
-    final Font oldFont = g.getFont();
-    if (this.getFont() != null) {
-      g.setFont(this.getFont());
+    final Font textFont = this.getFont() != null ? this.getFont() : g.getFont();
+    final AffineTransform deviceTransform = g.getTransform();
+    final double scale = Math.max(1, Math.hypot(deviceTransform.getScaleX(), deviceTransform.getShearY()));
+    final int rgb = this.getColor().getRGB() | 0xFF000000;
+    if (this.glyphs == null
+        || !textFont.equals(this.glyphFont)
+        || rgb != this.glyphColor
+        || this.isAntiAliased() != this.glyphAntiAliased
+        || scale != this.glyphScale) {
+      this.rasterizeGlyphs(g.getFontMetrics(textFont), rgb, scale);
     }
-    final FontMetrics fm = g.getFontMetrics();
-    this.setWidth(fm.stringWidth(this.getText()));
-    this.setHeight(g.getFont().getSize2D());
 
+    this.setWidth(this.textWidth);
+    this.setHeight(textFont.getSize2D());
+
+    // maps the glyph image to the baseline of the text, rotated around the center of the particle
     final Point2D renderLocation = this.getRenderLocation(emitterOrigin);
-    final AffineTransform rotate =
-        AffineTransform.getRotateInstance(
-            Math.toRadians(this.getAngle()), this.getWidth() * 0.5, this.getHeight() * 0.5);
-    g.setFont(g.getFont().deriveFont(rotate));
-
-    RenderingHints originalHints = g.getRenderingHints();
-    g.setColor(
-        new Color(
-            this.getColor().getRed() / 255f,
-            this.getColor().getGreen() / 255f,
-            this.getColor().getBlue() / 255f,
-            this.getOpacity()));
+    final AffineTransform transform = AffineTransform.getTranslateInstance(renderLocation.getX(), renderLocation.getY());
+    transform.rotate(Math.toRadians(this.getAngle()), this.getWidth() * 0.5, this.getHeight() * 0.5);
+    transform.translate(0, -this.ascent);
+    transform.scale(1 / scale, 1 / scale);
+    transform.translate(-GLYPH_PADDING, -GLYPH_PADDING);
 
-    if (this.isAntiAliased()) {
-      TextRenderer.enableTextAntiAliasing(g);
+    final Composite composite = g.getComposite();
+    if (this.getOpacity() < 1) {
+      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, this.getOpacity()));
     }
 
-    g.drawString(text, (float) renderLocation.getX(), (float) renderLocation.getY());
-    g.setFont(oldFont);
-    g.setRenderingHints(originalHints);
+    g.drawImage(this.glyphs, transform, null);
+    g.setComposite(composite);
   }
 
   public void setFont(final Font font) {
@@ -76,4 +90,34 @@ public class TextParticle extends Particle {
         this.getWidth(),
         this.getHeight());
   }
+
+  BufferedImage getGlyphs() {
+    return this.glyphs;
+  }
+
+  private void rasterizeGlyphs(FontMetrics metrics, int rgb, double scale) {
+    this.textWidth = metrics.stringWidth(this.getText());
+    final int width = (int) Math.ceil(this.textWidth * scale) + GLYPH_PADDING * 2;
+    final int height = (int) Math.ceil((metrics.getAscent() + metrics.getDescent()) * scale) + GLYPH_PADDING * 2;
+
+    final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    final Graphics2D g = image.createGraphics();
+    if (this.isAntiAliased()) {
+      TextRenderer.enableTextAntiAliasing(g);
+    }
+
+    g.translate(GLYPH_PADDING, GLYPH_PADDING);
+    g.scale(scale, scale);
+    g.setFont(metrics.getFont());
+    g.setColor(new Color(rgb, true));
+    g.drawString(this.getText(), 0, metrics.getAscent());
+    g.dispose();
+
+    this.glyphs = image;
+    this.glyphFont = metrics.getFont();
+    this.glyphColor = rgb;
+    this.glyphAntiAliased = this.isAntiAliased();
+    this.glyphScale = scale;
+    this.ascent = metrics.getAscent();
+  }
 }
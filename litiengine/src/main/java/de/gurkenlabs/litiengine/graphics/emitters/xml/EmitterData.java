@@ -37,6 +37,7 @@ public class EmitterData implements Serializable, Resource {
   public static final boolean DEFAULT_FADE_ON_COLLISION = false;
   public static final boolean DEFAULT_OUTLINE_ONLY = false;
   public static final boolean DEFAULT_ANTIALIASING = false;
+  public static final boolean DEFAULT_BUFFER_PARTICLES = false;
   public static final Collision DEFAULT_COLLISION = Collision.NONE;
   public static final ParticleType DEFAULT_PARTICLE_TYPE = ParticleType.RECTANGLE;
   public static final Quality DEFAULT_REQUIRED_QUALITY = Quality.VERYLOW;
@@ -131,6 +132,9 @@ public class EmitterData implements Serializable, Resource {
   @XmlElement
   private boolean antiAliasing;
 
+  @XmlElement
+  private boolean bufferParticles;
+
   @XmlElement
   private ParticleParameter accelerationX;
 
@@ -551,6 +555,21 @@ public class EmitterData implements Serializable, Resource {
     return this.antiAliasing;
   }
 
+  /**
+   * Determines whether the emitter stores its shape particles in a struct-of-arrays
+   * {@link de.gurkenlabs.litiengine.graphics.emitters.particles.ParticleBuffer} instead of allocating a particle object
+   * for each of them. This is recommended for emitters with thousands of particles.
+   *
+   * @return True if shape particles are buffered; otherwise false.
+   */
+  public boolean isBufferingParticles() {
+    return this.bufferParticles;
+  }
+
+  public void setBufferParticles(final boolean bufferParticles) {
+    this.bufferParticles = bufferParticles;
+  }
+
   public void setAnimateSprite(final boolean animateSprite) {
     this.animateSprite = animateSprite;
   }
@@ -614,6 +633,7 @@ public class EmitterData implements Serializable, Resource {
     this.fadeOnCollision = DEFAULT_FADE_ON_COLLISION;
     this.outlineOnly = DEFAULT_OUTLINE_ONLY;
     this.antiAliasing = DEFAULT_ANTIALIASING;
+    this.bufferParticles = DEFAULT_BUFFER_PARTICLES;
   }
 
   public void setDeltaRotation(final ParticleParameter deltaRotation) {
@@ -1,6 +1,7 @@
 package de.gurkenlabs.litiengine.graphics.emitters.xml;
 
 import java.io.Serializable;
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import jakarta.xml.bind.annotation.XmlAttribute;
 import jakarta.xml.bind.annotation.XmlRootElement;
@@ -41,6 +42,22 @@ public class ParticleParameter implements Serializable {
     }
   }
 
+  /**
+   * Gets either the actual value or a random value that is drawn from the specified random stream, depending on the
+   * random number flag being set.
+   *
+   * @param random
+   *          The random stream to draw the value from.
+   * @return The value of this parameter.
+   */
+  public double get(final Random random) {
+    if (minValue < maxValue) {
+      return (float) random.nextDouble(this.getMinValue(), this.getMaxValue());
+    } else {
+      return this.getMinValue();
+    }
+  }
+
   @XmlTransient
   public double getMaxValue() {
     return this.maxValue;
@@ -17,10 +17,17 @@ import net.java.games.input.Event;
  * The {@code Gamepad} class is designed as a wrapper implementation for any gamepad input that provides events and
  * information about player input via gamepad.
  *
+ * <p>
+ * A gamepad is either backed by a physical device or it is virtual. A virtual gamepad is not polled from any device but
+ * reports the poll data that is injected into it, e.g. by a replay of recorded input.
+ * </p>
+ *
  * @see Controller
+ * @see GamepadManager#addVirtual(int, Map)
  */
 public final class Gamepad extends GamepadEvents implements IUpdateable {
   private static final Map<String, Identifier> components = new HashMap<>();
+  private static final String UNKNOWN_TYPE = "Unknown";
 
   private final Controller controller;
 
@@ -35,6 +42,8 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
 
   private String type;
 
+  private volatile Map<String, Float> pollDataOverride;
+
   Gamepad(final int index, final Controller controller) {
     this.pressedComponents = ConcurrentHashMap.newKeySet();
 
@@ -50,6 +59,18 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
     this.type = guessGamepadType(this);
   }
 
+  Gamepad(final int index, final Map<String, Float> pollData) {
+    this.pressedComponents = ConcurrentHashMap.newKeySet();
+
+    this.id = index;
+    this.controller = null;
+    this.pollDataOverride = pollData;
+
+    // the components of a virtual gamepad are the ones that have been injected so far
+    this.gamepadComponents = Collections.unmodifiableSet(pollData.keySet());
+    this.type = UNKNOWN_TYPE;
+  }
+
   /**
    * Gets the unique id of this gamepad by which it is identified.
    *
@@ -65,7 +86,18 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
    * @return The name of this gamepad.
    */
   public String getName() {
-    return this.controller.getName();
+    return this.controller != null ? this.controller.getName() : "Virtual Gamepad " + this.id;
+  }
+
+  /**
+   * Determines whether this gamepad is virtual, i.e. it is not backed by a physical device but only reports injected poll
+   * data.
+   *
+   * @return True if this gamepad is virtual; otherwise false.
+   * @see GamepadManager#addVirtual(int, Map)
+   */
+  public boolean isVirtual() {
+    return this.controller == null;
   }
 
   /**
@@ -81,7 +113,12 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
    *         requested component.
    */
   public float getPollData(final String component) {
-    if (components.containsKey(component)) {
+    final Map<String, Float> override = this.pollDataOverride;
+    if (override != null) {
+      return override.getOrDefault(component, 0f);
+    }
+
+    if (this.controller != null && components.containsKey(component)) {
       final Component comp = this.controller.getComponent(components.get(component));
       if (comp == null) {
         return 0;
@@ -131,6 +168,10 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
   }
 
   public boolean hasComponent(String gamepadComponent) {
+    if (this.controller == null) {
+      return this.gamepadComponents.contains(gamepadComponent);
+    }
+
     for (Component comp : this.controller.getComponents()) {
       if (comp.getIdentifier().getName().equals(gamepadComponent)) {
         return true;
@@ -162,31 +203,62 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
     this.triggerDeadzone = triggerDeadzone;
   }
 
+  /**
+   * Overrides the poll data of this gamepad with the specified values instead of polling the physical device. This is
+   * used to inject recorded gamepad input.
+   *
+   * @param pollData
+   *          The poll data by component identifier; components without a value are considered to be idle. Pass null to
+   *          poll the physical device again.
+   * @see #getPollData(String)
+   */
+  public void setPollDataOverride(Map<String, Float> pollData) {
+    this.pollDataOverride = pollData;
+  }
+
   @Override
   public void update() {
-    final boolean couldPoll = this.controller.poll();
-    if (!couldPoll) {
-      this.dispose();
+    final Map<String, Float> override = this.pollDataOverride;
+    if (this.controller == null) {
+      for (String component : this.gamepadComponents) {
+        final float value = override != null ? override.getOrDefault(component, 0f) : 0f;
+        if (Math.abs(value) > this.getDeadZone(component)) {
+          this.handlePressed(component, null, value);
+        } else {
+          this.handleRelease(component, null, value);
+        }
+      }
+
+      return;
     }
 
-    final Event event = new Event();
-    while (this.controller.getEventQueue().getNextEvent(event)) {
-      this.handlePollEvents(event);
+    if (override == null) {
+      final boolean couldPoll = this.controller.poll();
+      if (!couldPoll) {
+        this.dispose();
+      }
+
+      final Event event = new Event();
+      while (this.controller.getEventQueue().getNextEvent(event)) {
+        this.handlePollEvents(event);
+      }
     }
 
     for (Component comp : this.controller.getComponents()) {
-
-      if (Math.abs(comp.getPollData()) > this.getDeadZone(comp.getIdentifier())) {
-        this.handlePressed(comp);
+      final float value =
+          override != null ? override.getOrDefault(comp.getIdentifier().getName(), 0f) : comp.getPollData();
+      final String name = comp.getIdentifier().getName();
+      if (Math.abs(value) > this.getDeadZone(name)) {
+        this.handlePressed(name, comp, value);
       } else {
-        this.handleRelease(comp);
+        this.handleRelease(name, comp, value);
       }
     }
   }
 
   @Override
   public String toString() {
-    return "Gamepad " + this.getId() + " - " + this.controller.toString();
+    return "Gamepad " + this.getId() + " - " + (this.controller != null ? this.controller.toString() : this.getName());
   }
 
   public String getType() {
@@ -243,7 +315,7 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
 
     if (xboxScore < 0.5 && dualshockScore < 0.5) {
       // if the score is less than 0.5 for both, Xbox and DualShock, we can't guess the type
-      return "Unknown";
+      return UNKNOWN_TYPE;
     }
 
     // return the type with a higher score
@@ -259,10 +331,8 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
     return identifier.getName();
   }
 
-  private void handlePressed(Component comp) {
-    final String name = comp.getIdentifier().getName();
-
-    final GamepadEvent event = new GamepadEvent(this, comp);
+  private void handlePressed(String name, Component comp, float value) {
+    final GamepadEvent event = this.createEvent(name, comp, value);
 
     for (final GamepadPressedListener listener : this.pressedListeners) {
       listener.pressed(event);
@@ -279,15 +349,23 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
     }
   }
 
-  private float getDeadZone(final Identifier ident) {
-    if (ident.getName().equals(Axis.X)
-        || ident.getName().equals(Axis.Y)
-        || ident.getName().equals(Axis.RX)
-        || ident.getName().equals(Axis.RY)) {
+  private GamepadEvent createEvent(String name, Component comp, float value) {
+    if (comp != null) {
+      return new GamepadEvent(this, comp, value);
+    }
+
+    return new GamepadEvent(this, name, components.get(name) instanceof Identifier.Axis, value);
+  }
+
+  private float getDeadZone(final String name) {
+    if (name.equals(Axis.X)
+        || name.equals(Axis.Y)
+        || name.equals(Axis.RX)
+        || name.equals(Axis.RY)) {
       return this.getAxisDeadzone();
     }
 
-    if (ident.getName().equals(Axis.Z)) {
+    if (name.equals(Axis.Z)) {
       return this.getTriggerDeadzone();
     }
 
@@ -316,21 +394,20 @@ public final class Gamepad extends GamepadEvents implements IUpdateable {
     }
   }
 
-  private void handleRelease(Component comp) {
-    final String name = comp.getIdentifier().getName();
+  private void handleRelease(String name, Component comp, float value) {
     if (!this.pressedComponents.contains(name)) {
       return;
     }
 
     this.pressedComponents.remove(name);
 
-    final GamepadEvent event = new GamepadEvent(this, comp);
+    final GamepadEvent event = this.createEvent(name, comp, value);
 
     for (final GamepadReleasedListener listener : this.releasedListeners) {
       listener.released(event);
     }
 
-    final Collection<GamepadReleasedListener> listeners = this.componentReleasedListeners.get(comp.getIdentifier().getName());
+    final Collection<GamepadReleasedListener> listeners = this.componentReleasedListeners.get(name);
     if (listeners != null) {
       for (final GamepadReleasedListener listener : listeners) {
         listener.released(event);
@@ -14,15 +14,29 @@ public class GamepadEvent extends EventObject {
   private final boolean analog;
 
   GamepadEvent(Gamepad source, Component component) {
+    this(source, component, component.getPollData());
+  }
+
+  GamepadEvent(Gamepad source, Component component, float value) {
     super(source);
     this.gamepad = source;
     this.component = component.getIdentifier().getName();
     this.componentName = component.getName();
-    this.value = component.getPollData();
+    this.value = value;
     this.relative = component.isRelative();
     this.analog = component.isAnalog();
   }
 
+  GamepadEvent(Gamepad source, String component, boolean analog, float value) {
+    super(source);
+    this.gamepad = source;
+    this.component = component;
+    this.componentName = component;
+    this.value = value;
+    this.relative = false;
+    this.analog = analog;
+  }
+
   /**
    * Gets the data from the last time the component has been polled. If this axis is a button, the value returned will be
    * either 0.0f or 1.0f. If this axis is normalized, the value returned will be between -1.0f and 1.0f.
@@ -192,6 +192,43 @@ public final class GamepadManager extends GamepadEvents implements ILaunchable {
     return null;
   }
 
+  /**
+   * Adds a virtual gamepad with the specified id. A virtual gamepad is not backed by a physical device; instead, it
+   * reports the specified poll data, which allows to inject gamepad input (e.g. when replaying a recorded session) while
+   * no physical gamepad is connected. Listeners of this instance receive the events of the virtual gamepad just like
+   * those of a physical one.
+   *
+   * @param id
+   *          The id of the virtual gamepad.
+   * @param pollData
+   *          The poll data by component identifier that is reported by the virtual gamepad. Changes to this map are
+   *          reflected with the next update of the gamepad.
+   * @return The added virtual gamepad.
+   * @see #removeVirtual(Gamepad)
+   */
+  public Gamepad addVirtual(final int id, final Map<String, Float> pollData) {
+    final Gamepad gamepad = new Gamepad(id, pollData);
+    this.getAll().add(gamepad);
+    for (final GamepadAddedListener listener : this.gamepadAddedConsumer) {
+      listener.added(gamepad);
+    }
+
+    return gamepad;
+  }
+
+  /**
+   * Removes the specified virtual gamepad. Gamepads that are backed by a physical device are not affected.
+   *
+   * @param gamepad
+   *          The virtual gamepad to remove.
+   * @see #addVirtual(int, Map)
+   */
+  public void removeVirtual(final Gamepad gamepad) {
+    if (gamepad != null && gamepad.isVirtual()) {
+      this.remove(gamepad);
+    }
+  }
+
   @Override
   public boolean isPressed(String gamepadComponent) {
     final Gamepad current = this.current();
@@ -446,8 +483,8 @@ public final class GamepadManager extends GamepadEvents implements ILaunchable {
         }
 
         final Gamepad existing = this.getById(i);
-        if (existing != null && existing.getName().equals(controller.getName())) {
-          // already added
+        if (existing != null && (existing.isVirtual() || existing.getName().equals(controller.getName()))) {
+          // already added or taken by a virtual gamepad
           continue;
         }
 
@@ -3,6 +3,11 @@ package de.gurkenlabs.litiengine.input;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.GameListener;
 import java.awt.AWTException;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,6 +26,7 @@ public final class Input {
   private static GamepadManager gamePadManager;
   private static IKeyboard keyboard;
   private static IMouse mouse;
+  private static volatile InputInterceptor interceptor;
 
   private Input() {
     throw new UnsupportedOperationException();
@@ -69,6 +75,69 @@ public final class Input {
     return mouse;
   }
 
+  /**
+   * Gets the interceptor that currently receives all raw keyboard and mouse events.
+   *
+   * @return The current input interceptor or null if events are directly processed by the input devices.
+   */
+  public static InputInterceptor getInterceptor() {
+    return interceptor;
+  }
+
+  /**
+   * Sets the interceptor that receives all raw keyboard and mouse events instead of the input devices. Pass null to
+   * process events directly again.
+   *
+   * @param inputInterceptor
+   *          The input interceptor to set.
+   */
+  public static void setInterceptor(InputInterceptor inputInterceptor) {
+    interceptor = inputInterceptor;
+  }
+
+  /**
+   * Dispatches the specified event directly to the corresponding input device, bypassing any {@code InputInterceptor}.
+   *
+   * @param event
+   *          The keyboard or mouse event to dispatch.
+   */
+  public static void dispatch(InputEvent event) {
+    if (event instanceof KeyEvent keyEvent) {
+      if (keyboard instanceof Keyboard kb) {
+        kb.process(keyEvent);
+      }
+
+      return;
+    }
+
+    if (!(event instanceof MouseEvent mouseEvent) || !(mouse instanceof Mouse m)) {
+      return;
+    }
+
+    switch (mouseEvent.getID()) {
+      case MouseEvent.MOUSE_CLICKED -> m.mouseClicked(mouseEvent);
+      case MouseEvent.MOUSE_DRAGGED -> m.mouseDragged(mouseEvent);
+      case MouseEvent.MOUSE_ENTERED -> m.mouseEntered(mouseEvent);
+      case MouseEvent.MOUSE_EXITED -> m.mouseExited(mouseEvent);
+      case MouseEvent.MOUSE_MOVED -> m.mouseMoved(mouseEvent);
+      case MouseEvent.MOUSE_PRESSED -> m.mousePressed(mouseEvent);
+      case MouseEvent.MOUSE_RELEASED -> m.mouseReleased(mouseEvent);
+      case MouseEvent.MOUSE_WHEEL -> m.mouseWheelMoved((MouseWheelEvent) mouseEvent);
+      default -> {
+        // other mouse events are not handled by the input devices
+      }
+    }
+  }
+
+  static void intercept(InputEvent event) {
+    final InputInterceptor current = interceptor;
+    if (current != null) {
+      current.intercept(event);
+    } else {
+      dispatch(event);
+    }
+  }
+
   public static final class InputGameAdapter implements GameListener {
     @Override
     public void terminated() {
@@ -95,9 +164,10 @@ public final class Input {
         Mouse m = new Mouse();
 
         if (!Game.isInNoGUIMode()) {
-          Game.window().getRenderComponent().addMouseListener(m);
-          Game.window().getRenderComponent().addMouseMotionListener(m);
-          Game.window().getRenderComponent().addMouseWheelListener(m);
+          MouseEventAdapter adapter = new MouseEventAdapter();
+          Game.window().getRenderComponent().addMouseListener(adapter);
+          Game.window().getRenderComponent().addMouseMotionListener(adapter);
+          Game.window().getRenderComponent().addMouseWheelListener(adapter);
         }
 
         mouse = m;
@@ -109,4 +179,50 @@ public final class Input {
       }
     }
   }
+
+  /**
+   * Passes all mouse events of the render component through the current {@code InputInterceptor} before they reach the
+   * mouse.
+   */
+  private static final class MouseEventAdapter extends MouseAdapter {
+    @Override
+    public void mouseClicked(MouseEvent e) {
+      intercept(e);
+    }
+
+    @Override
+    public void mousePressed(MouseEvent e) {
+      intercept(e);
+    }
+
+    @Override
+    public void mouseReleased(MouseEvent e) {
+      intercept(e);
+    }
+
+    @Override
+    public void mouseEntered(MouseEvent e) {
+      intercept(e);
+    }
+
+    @Override
+    public void mouseExited(MouseEvent e) {
+      intercept(e);
+    }
+
+    @Override
+    public void mouseWheelMoved(MouseWheelEvent e) {
+      intercept(e);
+    }
+
+    @Override
+    public void mouseDragged(MouseEvent e) {
+      intercept(e);
+    }
+
+    @Override
+    public void mouseMoved(MouseEvent e) {
+      intercept(e);
+    }
+  }
 }
@@ -0,0 +1,30 @@
+package de.gurkenlabs.litiengine.input;
+
+import java.awt.event.InputEvent;
+
+/**
+ * An {@code InputInterceptor} receives all raw keyboard and mouse events before they are processed by the input devices.
+ * It decides whether and at which point of time an event is passed on to the devices by calling
+ * {@link Input#dispatch(InputEvent)}.
+ *
+ * <p>
+ * This is used to record the player's input or to replace it with previously recorded input.
+ * </p>
+ *
+ * @see Input#setInterceptor(InputInterceptor)
+ */
+public interface InputInterceptor {
+  /**
+   * Intercepts the specified raw input event. This is called on the thread that delivers the event (usually the AWT event
+   * dispatch thread).
+   *
+   * @param event
+   *          The raw keyboard or mouse event.
+   */
+  void intercept(InputEvent event);
+
+  /**
+   * This is called once per tick by the game loop, right before the input devices are updated.
+   */
+  void update();
+}
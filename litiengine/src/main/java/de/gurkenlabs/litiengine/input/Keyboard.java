@@ -44,6 +44,18 @@ public final class Keyboard implements KeyEventDispatcher, IKeyboard, IUpdateabl
     if (this.consumeAlt && e.getKeyCode() == KeyEvent.VK_ALT) {
       e.consume();
     }
+
+    Input.intercept(e);
+    return false;
+  }
+
+  /**
+   * Processes the specified key event by updating the pressed, released and typed keys.
+   *
+   * @param e
+   *          The key event to process.
+   */
+  void process(final KeyEvent e) {
     final int eventId = e.getID();
     switch (eventId) {
       case KeyEvent.KEY_PRESSED:
@@ -60,8 +72,6 @@ public final class Keyboard implements KeyEventDispatcher, IKeyboard, IUpdateabl
       default:
         break;
     }
-
-    return false;
   }
 
   @Override
@@ -105,12 +105,13 @@ public final class Mouse
 
   @Override
   public Point2D getMapLocation() {
+    final Point2D worldOffset = Game.graphics().getWorldOffset();
     return Game.world()
         .camera()
         .getMapLocation(
             new Point2D.Double(
-                this.getLocation().getX() / Game.world().camera().getRenderScale(),
-                this.getLocation().getY() / Game.world().camera().getRenderScale()));
+                (this.getLocation().getX() - worldOffset.getX()) / Game.graphics().getWorldScale(),
+                (this.getLocation().getY() - worldOffset.getY()) / Game.graphics().getWorldScale()));
   }
 
   @Override
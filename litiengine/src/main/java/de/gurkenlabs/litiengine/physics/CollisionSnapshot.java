@@ -0,0 +1,97 @@
+package de.gurkenlabs.litiengine.physics;
+
+import de.gurkenlabs.litiengine.util.geom.GeometricUtilities;
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * An immutable copy of the collision boxes of a {@code PhysicsEngine} within a certain area. It
+ * allows to check large amounts of small objects (e.g. particles) for collisions without scanning
+ * all collision entities of the environment for each check.
+ *
+ * <p>
+ * The checks of a snapshot behave exactly like the corresponding {@code collides} methods of the
+ * {@code PhysicsEngine} as long as the checked geometry lies within the area of the snapshot.
+ * Changes to the collision entities after the snapshot was taken are not reflected.
+ * </p>
+ *
+ * @see PhysicsEngine#snapshot(Rectangle2D)
+ */
+public final class CollisionSnapshot {
+  private final Rectangle2D environmentBounds;
+  private final Rectangle2D[] boxes;
+  private final Collision[] types;
+
+  CollisionSnapshot(Rectangle2D environmentBounds, Rectangle2D[] boxes, Collision[] types) {
+    this.environmentBounds = environmentBounds;
+    this.boxes = boxes;
+    this.types = types;
+  }
+
+  /**
+   * Gets the number of collision boxes in this snapshot.
+   *
+   * @return The number of collision boxes.
+   */
+  public int size() {
+    return this.boxes.length;
+  }
+
+  /**
+   * Checks if a rectangle collides with anything of the given {@code Collision} type in this
+   * snapshot.
+   *
+   * @param rect      The {@code Rectangle2D} to check for collision.
+   * @param collision The {@code Collision} type to check for collisions.
+   * @return {@code true} if the rectangle collides with anything of the given {@code Collision}
+   * type or lies outside the environment bounds. {@code false} otherwise.
+   * @see PhysicsEngine#collides(Rectangle2D, Collision)
+   */
+  public boolean collides(Rectangle2D rect, Collision collision) {
+    if (this.environmentBounds != null && !this.environmentBounds.intersects(rect)) {
+      return true;
+    }
+
+    for (int i = 0; i < this.boxes.length; i++) {
+      if (matches(this.types[i], collision) && GeometricUtilities.intersects(this.boxes[i], rect)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Checks if a line collides with anything of the given {@code Collision} type in this snapshot.
+   *
+   * @param line      The {@code Line2D} to check for collision.
+   * @param collision The {@code Collision} type to check for collisions.
+   * @return {@code true} if the line intersects anything of the given {@code Collision} type.
+   * {@code false} otherwise.
+   * @see PhysicsEngine#collides(Line2D, Collision)
+   */
+  public boolean collides(Line2D line, Collision collision) {
+    final double minX = Math.min(line.getX1(), line.getX2());
+    final double minY = Math.min(line.getY1(), line.getY2());
+    final double maxX = Math.max(line.getX1(), line.getX2());
+    final double maxY = Math.max(line.getY1(), line.getY2());
+    for (int i = 0; i < this.boxes.length; i++) {
+      final Rectangle2D box = this.boxes[i];
+      if (!matches(this.types[i], collision)
+        || box.getMaxX() < minX || box.getMinX() > maxX
+        || box.getMaxY() < minY || box.getMinY() > maxY) {
+        continue;
+      }
+
+      if (GeometricUtilities.getIntersectionPoint(line, box) != null) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean matches(Collision type, Collision collision) {
+    return collision == Collision.ANY || collision == type;
+  }
+}
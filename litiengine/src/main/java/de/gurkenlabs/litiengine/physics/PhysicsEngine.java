@@ -12,6 +12,7 @@ import java.awt.Shape;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -44,7 +45,11 @@ public final class PhysicsEngine implements IUpdateable {
    * @see Game#physics()
    */
   public PhysicsEngine() {
-    if (Game.physics() != null) {
+    this(false);
+  }
+
+  private PhysicsEngine(boolean isolated) {
+    if (!isolated && Game.physics() != null) {
       throw new UnsupportedOperationException(
         "Never initialize a PhysicsEngine manually. Use Game.physics() instead.");
     }
@@ -56,6 +61,18 @@ public final class PhysicsEngine implements IUpdateable {
     collisionBoxes.put(Collision.STATIC, new CopyOnWriteArrayList<>());
   }
 
+  /**
+   * Creates a new {@code PhysicsEngine} that is independent of the global {@code Game.physics()} instance. This is used
+   * to simulate environments that are not currently active without interfering with the collision state of the active
+   * one.
+   *
+   * @return A new, isolated physics engine.
+   * @see de.gurkenlabs.litiengine.environment.BackgroundSimulation
+   */
+  public static PhysicsEngine createIsolated() {
+    return new PhysicsEngine(true);
+  }
+
   /**
    * Adds the specified collision aware entity to the physics engine which will make it respect the
    * entity's collision box for upcoming calls.
@@ -308,6 +325,66 @@ public final class PhysicsEngine implements IUpdateable {
       otherEntity -> GeometricUtilities.intersects(otherEntity.getCollisionBox(), rect));
   }
 
+  /**
+   * Checks multiple rectangles for collisions with anything of the given {@code Collision} type in a single batch. The
+   * rectangles are checked against a single {@link #snapshot(Rectangle2D) snapshot} of the collision boxes around them,
+   * which makes this considerably faster than checking each rectangle separately, e.g. for large amounts of particles.
+   *
+   * @param rects     The rectangles to check for collision.
+   * @param collision The {@code Collision} type to check for collisions.
+   * @return An array that contains {@code true} at the index of each rectangle that collides with anything of the
+   * given {@code Collision} type and {@code false} otherwise.
+   * @see #collides(Rectangle2D, Collision)
+   */
+  public boolean[] collides(Rectangle2D[] rects, Collision collision) {
+    final boolean[] result = new boolean[rects.length];
+    if (rects.length == 0) {
+      return result;
+    }
+
+    final Rectangle2D area = rects[0].getBounds2D();
+    for (final Rectangle2D rect : rects) {
+      Rectangle2D.union(area, rect, area);
+    }
+
+    final CollisionSnapshot snapshot = this.snapshot(area);
+    for (int i = 0; i < rects.length; i++) {
+      result[i] = snapshot.collides(rects[i], collision);
+    }
+
+    return result;
+  }
+
+  /**
+   * Takes a snapshot of the collision boxes of all collision aware entities that intersect the
+   * specified area. Checks against the snapshot only consider this small local set of collision
+   * boxes instead of all collision entities, which makes them considerably cheaper for many small
+   * objects in the same area, e.g. the particles of an emitter.
+   *
+   * @param area The area for which the collision boxes are captured.
+   * @return A {@code CollisionSnapshot} of the collision boxes within the area.
+   * @see CollisionSnapshot
+   */
+  public CollisionSnapshot snapshot(Rectangle2D area) {
+    final List<Rectangle2D> boxes = new ArrayList<>();
+    final List<Collision> types = new ArrayList<>();
+    for (final ICollisionEntity entity : getCollisionEntities(Collision.ANY)) {
+      if (!canCollide(null, entity)) {
+        continue;
+      }
+
+      final Rectangle2D box = entity.getCollisionBox();
+      if (box.getMaxX() >= area.getMinX() && box.getMinX() <= area.getMaxX()
+        && box.getMaxY() >= area.getMinY() && box.getMinY() <= area.getMaxY()) {
+        boxes.add(box);
+        types.add(entity.getCollisionType());
+      }
+    }
+
+    return new CollisionSnapshot(this.environmentBounds, boxes.toArray(new Rectangle2D[0]),
+      types.toArray(new Collision[0]));
+  }
+
   /**
    * Checks if a given point collides with anything registered in the {@code PhysicsEngine}.
    *
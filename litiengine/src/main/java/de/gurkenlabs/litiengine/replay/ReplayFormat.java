@@ -0,0 +1,112 @@
+package de.gurkenlabs.litiengine.replay;
+
+import java.awt.Component;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Defines the binary layout of replay logs. A log starts with a header that contains the seed of {@code Game.random()}
+ * and the tick rate of the recording, followed by one frame per recorded tick. Each frame starts with a {@link #TICK}
+ * record and is followed by the records that were captured for this tick. The log is terminated by an {@link #END}
+ * record.
+ */
+final class ReplayFormat {
+  static final int MAGIC = 0x4C524550; // "LREP"
+  static final short VERSION = 1;
+
+  static final byte END = 0;
+  static final byte TICK = 1;
+  static final byte KEY = 2;
+  static final byte MOUSE = 3;
+  static final byte MOUSE_WHEEL = 4;
+  static final byte GAMEPAD = 5;
+  static final byte ENVIRONMENT = 6;
+
+  private ReplayFormat() {
+    throw new UnsupportedOperationException();
+  }
+
+  static void write(DataOutput out, InputEvent event) throws IOException {
+    if (event instanceof KeyEvent keyEvent) {
+      out.writeByte(KEY);
+      out.writeShort(keyEvent.getID());
+      out.writeInt(keyEvent.getModifiersEx());
+      out.writeInt(keyEvent.getKeyCode());
+      out.writeChar(keyEvent.getKeyChar());
+      out.writeByte(keyEvent.getKeyLocation());
+      return;
+    }
+
+    if (!(event instanceof MouseEvent mouseEvent)) {
+      return;
+    }
+
+    out.writeByte(mouseEvent instanceof MouseWheelEvent ? MOUSE_WHEEL : MOUSE);
+    out.writeShort(mouseEvent.getID());
+    out.writeInt(mouseEvent.getModifiersEx());
+    out.writeInt(mouseEvent.getX());
+    out.writeInt(mouseEvent.getY());
+    out.writeInt(mouseEvent.getXOnScreen());
+    out.writeInt(mouseEvent.getYOnScreen());
+    out.writeShort(mouseEvent.getClickCount());
+    out.writeBoolean(mouseEvent.isPopupTrigger());
+    out.writeByte(mouseEvent.getButton());
+
+    if (mouseEvent instanceof MouseWheelEvent wheelEvent) {
+      out.writeByte(wheelEvent.getScrollType());
+      out.writeInt(wheelEvent.getScrollAmount());
+      out.writeInt(wheelEvent.getWheelRotation());
+      out.writeDouble(wheelEvent.getPreciseWheelRotation());
+    }
+  }
+
+  static KeyEvent readKeyEvent(DataInput in, Component source) throws IOException {
+    final int id = in.readShort();
+    final int modifiers = in.readInt();
+    final int keyCode = in.readInt();
+    final char keyChar = in.readChar();
+    final int keyLocation = in.readByte();
+    return new KeyEvent(source, id, 0, modifiers, keyCode, keyChar, keyLocation);
+  }
+
+  static MouseEvent readMouseEvent(DataInput in, Component source, boolean wheel) throws IOException {
+    final int id = in.readShort();
+    final int modifiers = in.readInt();
+    final int x = in.readInt();
+    final int y = in.readInt();
+    final int xOnScreen = in.readInt();
+    final int yOnScreen = in.readInt();
+    final int clickCount = in.readShort();
+    final boolean popupTrigger = in.readBoolean();
+    final int button = in.readByte();
+
+    if (!wheel) {
+      return new MouseEvent(source, id, 0, modifiers, x, y, xOnScreen, yOnScreen, clickCount, popupTrigger, button);
+    }
+
+    final int scrollType = in.readByte();
+    final int scrollAmount = in.readInt();
+    final int wheelRotation = in.readInt();
+    final double preciseWheelRotation = in.readDouble();
+    return new MouseWheelEvent(
+        source,
+        id,
+        0,
+        modifiers,
+        x,
+        y,
+        xOnScreen,
+        yOnScreen,
+        clickCount,
+        popupTrigger,
+        scrollType,
+        scrollAmount,
+        wheelRotation,
+        preciseWheelRotation);
+  }
+}
@@ -0,0 +1,336 @@
+package de.gurkenlabs.litiengine.replay;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.ILaunchable;
+import de.gurkenlabs.litiengine.UpdateLoop;
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.input.Gamepad;
+import de.gurkenlabs.litiengine.input.Input;
+import de.gurkenlabs.litiengine.input.InputInterceptor;
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.event.InputEvent;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EventListener;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The {@code ReplayPlayer} drives the game from a log that was captured by the {@code ReplayRecorder}. While a replay is
+ * running, the player's physical keyboard and mouse input is ignored; instead, the recorded events, gamepad states and
+ * delta times are fed to the game loop tick by tick. This works in GUI mode as well as in headless mode
+ * ({@code Game.COMMANDLINE_ARG_NOGUI}).
+ *
+ * <p>
+ * Combined with the tick metrics of the game, this allows to reproduce performance issues of a recorded session
+ * repeatably.
+ * </p>
+ *
+ * @see ReplayRecorder
+ * @see Game#COMMANDLINE_ARG_REPLAY
+ */
+public class ReplayPlayer implements InputInterceptor, ILaunchable {
+  private static final Logger log = Logger.getLogger(ReplayPlayer.class.getName());
+
+  private final Path file;
+  private final Collection<ReplayFinishedListener> finishedListeners = new CopyOnWriteArrayList<>();
+  private final Map<Integer, Map<String, Float>> gamepadStates = new HashMap<>();
+  private final List<Gamepad> virtualGamepads = new ArrayList<>();
+
+  private List<Frame> frames;
+  private long seed;
+  private int tickRate;
+  private int currentFrame;
+  private volatile boolean armed;
+  private volatile boolean running;
+
+  /**
+   * Initializes a new player for the specified log file.
+   *
+   * @param file
+   *          The log that was written by a {@code ReplayRecorder}.
+   */
+  public ReplayPlayer(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Adds the specified listener that is notified when all recorded ticks have been replayed.
+   *
+   * @param listener
+   *          The listener to add.
+   */
+  public void onFinished(ReplayFinishedListener listener) {
+    this.finishedListeners.add(listener);
+  }
+
+  /**
+   * Removes the specified finished listener.
+   *
+   * @param listener
+   *          The listener to remove.
+   */
+  public void removeFinishedListener(ReplayFinishedListener listener) {
+    this.finishedListeners.remove(listener);
+  }
+
+  /**
+   * Gets the total number of ticks in the loaded log.
+   *
+   * @return The number of recorded frames or 0 if the log has not been loaded.
+   */
+  public int getFrames() {
+    return this.frames != null ? this.frames.size() : 0;
+  }
+
+  /**
+   * Gets the number of ticks that have already been replayed.
+   *
+   * @return The index of the next frame to be replayed.
+   */
+  public int getCurrentFrame() {
+    return this.currentFrame;
+  }
+
+  /**
+   * Determines whether this player is currently driving the game.
+   *
+   * @return True if the replay is running; otherwise false.
+   */
+  public boolean isRunning() {
+    return this.running;
+  }
+
+  /**
+   * Arms this player. The log is loaded and replayed from the next tick of the game loop on, on the loop's thread, so
+   * the first recorded frame is applied before any game logic of that tick is updated. The physical input is ignored from
+   * now on.
+   */
+  @Override
+  public void start() {
+    if (this.armed || this.running) {
+      return;
+    }
+
+    this.armed = true;
+    Input.setInterceptor(this);
+  }
+
+  /**
+   * Stops the replay and restores the processing of the physical input devices.
+   */
+  @Override
+  public void terminate() {
+    this.armed = false;
+    if (Input.getInterceptor() == this) {
+      Input.setInterceptor(null);
+    }
+
+    if (Game.config().input().isGamepadSupport() && Input.gamepads() != null) {
+      for (Gamepad gamepad : this.virtualGamepads) {
+        Input.gamepads().removeVirtual(gamepad);
+      }
+
+      for (Gamepad gamepad : Input.gamepads().getAll()) {
+        gamepad.setPollDataOverride(null);
+      }
+    }
+
+    this.virtualGamepads.clear();
+    this.running = false;
+  }
+
+  @Override
+  public void intercept(InputEvent event) {
+    // the physical input is ignored while the replay is running
+  }
+
+  @Override
+  public void update() {
+    if (this.armed) {
+      this.armed = false;
+      this.begin();
+    }
+
+    if (!this.running) {
+      return;
+    }
+
+    if (this.currentFrame >= this.frames.size()) {
+      this.terminate();
+      log.log(Level.INFO, "Finished replay of {0}", this.file);
+      for (ReplayFinishedListener listener : this.finishedListeners) {
+        listener.finished(this);
+      }
+
+      return;
+    }
+
+    final Frame frame = this.frames.get(this.currentFrame++);
+    if (Game.loop() instanceof UpdateLoop loop) {
+      loop.overrideDeltaTime(frame.deltaTime);
+    }
+
+    if (frame.environment != null) {
+      this.loadEnvironment(frame.environment);
+    }
+
+    // each frame contains the gamepad state that was polled in the previous tick, so we need to look ahead by one frame
+    if (this.currentFrame < this.frames.size()) {
+      this.applyGamepadChanges(this.frames.get(this.currentFrame));
+    }
+
+    frame.events.forEach(Input::dispatch);
+  }
+
+  private void begin() {
+    try {
+      this.load();
+    } catch (IOException e) {
+      log.log(Level.SEVERE, "Could not load replay " + this.file, e);
+      this.terminate();
+      return;
+    }
+
+    this.currentFrame = 0;
+    this.gamepadStates.clear();
+    if (!this.frames.isEmpty()) {
+      this.applyGamepadChanges(this.frames.get(0));
+    }
+
+    Game.random().setSeed(this.seed);
+    Game.loop().setTickRate(this.tickRate);
+    this.running = true;
+    log.log(Level.INFO, "Started replay of {0} ticks from {1}", new Object[] {this.frames.size(), this.file});
+  }
+
+  private void loadEnvironment(String mapName) {
+    final Environment current = Game.world().environment();
+    if (current != null && current.getMap() != null && mapName.equals(current.getMap().getName())) {
+      return;
+    }
+
+    // the game logic didn't load the same environment as during the recording, so we enforce it
+    log.log(Level.FINE, "Replay loads environment {0}", mapName);
+    Game.world().loadEnvironment(Game.world().getEnvironment(mapName));
+  }
+
+  private void applyGamepadChanges(Frame frame) {
+    if (frame.gamepadChanges.isEmpty() || !Game.config().input().isGamepadSupport()) {
+      return;
+    }
+
+    for (GamepadChange change : frame.gamepadChanges) {
+      Map<String, Float> state = this.gamepadStates.get(change.gamepad);
+      if (state == null) {
+        state = new ConcurrentHashMap<>();
+        this.gamepadStates.put(change.gamepad, state);
+
+        final Gamepad gamepad = Input.gamepads().getById(change.gamepad);
+        if (gamepad != null) {
+          // a connected gamepad only reports the recorded input while the replay is running
+          gamepad.setPollDataOverride(state);
+        } else {
+          this.virtualGamepads.add(Input.gamepads().addVirtual(change.gamepad, state));
+        }
+      }
+
+      state.put(change.component, change.value);
+    }
+  }
+
+  private void load() throws IOException {
+    // recorded events are dispatched on behalf of the render component, just like the physical input
+    final Component source =
+        Game.window() != null && Game.window().getRenderComponent() != null ? Game.window().getRenderComponent() : new Canvas();
+    final List<Frame> loadedFrames = new ArrayList<>();
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(this.file))))) {
+      if (in.readInt() != ReplayFormat.MAGIC) {
+        throw new IOException("The file is not a replay log.");
+      }
+
+      final short version = in.readShort();
+      if (version != ReplayFormat.VERSION) {
+        throw new IOException("Unsupported replay version " + version);
+      }
+
+      this.seed = in.readLong();
+      this.tickRate = in.readInt();
+
+      Frame frame = null;
+      byte tag;
+      while ((tag = in.readByte()) != ReplayFormat.END) {
+        if (tag == ReplayFormat.TICK) {
+          frame = new Frame(in.readInt());
+          loadedFrames.add(frame);
+          continue;
+        }
+
+        if (frame == null) {
+          throw new IOException("Replay record " + tag + " is not part of a frame.");
+        }
+
+        switch (tag) {
+          case ReplayFormat.KEY -> frame.events.add(ReplayFormat.readKeyEvent(in, source));
+          case ReplayFormat.MOUSE -> frame.events.add(ReplayFormat.readMouseEvent(in, source, false));
+          case ReplayFormat.MOUSE_WHEEL -> frame.events.add(ReplayFormat.readMouseEvent(in, source, true));
+          case ReplayFormat.GAMEPAD -> frame.gamepadChanges.add(new GamepadChange(in.readByte(), in.readUTF(), in.readFloat()));
+          case ReplayFormat.ENVIRONMENT -> frame.environment = in.readUTF();
+          default -> throw new IOException("Unknown replay record " + tag);
+        }
+      }
+    }
+
+    this.frames = loadedFrames;
+  }
+
+  /**
+   * This listener interface receives events when a replay has finished.
+   */
+  @FunctionalInterface
+  public interface ReplayFinishedListener extends EventListener {
+    /**
+     * Invoked on the game loop's thread after the last recorded tick has been replayed.
+     *
+     * @param player
+     *          The player that has finished.
+     */
+    void finished(ReplayPlayer player);
+  }
+
+  private static final class Frame {
+    private final int deltaTime;
+    private final List<InputEvent> events = new ArrayList<>();
+    private final List<GamepadChange> gamepadChanges = new ArrayList<>();
+    private String environment;
+
+    private Frame(int deltaTime) {
+      this.deltaTime = deltaTime;
+    }
+  }
+
+  private static final class GamepadChange {
+    private final int gamepad;
+    private final String component;
+    private final float value;
+
+    private GamepadChange(int gamepad, String component, float value) {
+      this.gamepad = gamepad;
+      this.component = component;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package de.gurkenlabs.litiengine.replay;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.ILaunchable;
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.environment.EnvironmentLoadedListener;
+import de.gurkenlabs.litiengine.input.Gamepad;
+import de.gurkenlabs.litiengine.input.Input;
+import de.gurkenlabs.litiengine.input.InputInterceptor;
+import java.awt.event.InputEvent;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@code ReplayRecorder} captures everything that is required to reproduce a session of the game into a compact
+ * binary log: the seed of {@code Game.random()}, the delta time of every tick, all keyboard and mouse events, the state
+ * of all gamepads and the environments that were loaded.
+ *
+ * <p>
+ * While recording, raw keyboard and mouse events are not processed as soon as they arrive but at the beginning of the
+ * next tick of the game loop. This way, every event is recorded together with the exact tick in which it affects the
+ * game, which allows the {@code ReplayPlayer} to reproduce the session deterministically.
+ * </p>
+ *
+ * <p>
+ * <i>Randomness that doesn't originate from {@code Game.random()} (e.g. {@code Math.random()}) is not captured.</i>
+ * </p>
+ *
+ * @see ReplayPlayer
+ * @see Game#COMMANDLINE_ARG_RECORD
+ */
+public class ReplayRecorder implements InputInterceptor, ILaunchable {
+  private static final Logger log = Logger.getLogger(ReplayRecorder.class.getName());
+
+  private final Path file;
+  private final long seed;
+  private final Queue<InputEvent> events = new ConcurrentLinkedQueue<>();
+  private final List<InputEvent> tickEvents = new ArrayList<>();
+  private final Map<Integer, Map<String, Float>> gamepadStates = new HashMap<>();
+  private final EnvironmentLoadedListener loadedListener = this::environmentLoaded;
+
+  private DataOutputStream out;
+  private boolean armed;
+  private volatile String loadedEnvironment;
+  private String recordedEnvironment;
+  private long frames;
+
+  /**
+   * Initializes a new recorder that writes to the specified file, using a random seed.
+   *
+   * @param file
+   *          The file to write the log to.
+   */
+  public ReplayRecorder(Path file) {
+    this(file, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Initializes a new recorder that writes to the specified file.
+   *
+   * @param file
+   *          The file to write the log to.
+   * @param seed
+   *          The seed that is applied to {@code Game.random()} when the recording starts.
+   */
+  public ReplayRecorder(Path file, long seed) {
+    this.file = file;
+    this.seed = seed;
+  }
+
+  /**
+   * Gets the seed that is applied to {@code Game.random()} when the recording starts.
+   *
+   * @return The seed of this recording.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * Gets the number of ticks that have been recorded so far.
+   *
+   * @return The number of recorded frames.
+   */
+  public synchronized long getFrames() {
+    return this.frames;
+  }
+
+  /**
+   * Determines whether this instance is currently recording.
+   *
+   * @return True if this instance is recording; otherwise false.
+   */
+  public synchronized boolean isRecording() {
+    return this.out != null;
+  }
+
+  /**
+   * Arms this recorder. The recording begins with the next tick of the game loop on the loop's thread, so the seed is
+   * applied and the first frame is captured before any game logic of that tick is updated.
+   */
+  @Override
+  public synchronized void start() {
+    if (this.armed || this.out != null) {
+      return;
+    }
+
+    this.armed = true;
+    Input.setInterceptor(this);
+    log.log(Level.INFO, "Recording to {0} begins with the next tick", this.file);
+  }
+
+  @Override
+  public synchronized void terminate() {
+    this.armed = false;
+    if (Input.getInterceptor() == this) {
+      Input.setInterceptor(null);
+    }
+
+    Game.world().removeLoadedListener(this.loadedListener);
+    if (this.out == null) {
+      return;
+    }
+
+    try {
+      this.out.writeByte(ReplayFormat.END);
+      log.log(Level.INFO, "Recorded {0} ticks to {1}", new Object[] {this.frames, this.file});
+    } catch (IOException e) {
+      log.log(Level.SEVERE, e.getMessage(), e);
+    } finally {
+      this.close();
+    }
+  }
+
+  @Override
+  public void intercept(InputEvent event) {
+    this.events.add(event);
+  }
+
+  @Override
+  public synchronized void update() {
+    if (this.armed) {
+      this.armed = false;
+      this.begin();
+    }
+
+    InputEvent event;
+    while ((event = this.events.poll()) != null) {
+      this.tickEvents.add(event);
+    }
+
+    if (this.out != null) {
+      try {
+        this.writeFrame();
+      } catch (IOException e) {
+        log.log(Level.SEVERE, "Recording to " + this.file + " failed", e);
+        this.close();
+      }
+    }
+
+    this.tickEvents.forEach(Input::dispatch);
+    this.tickEvents.clear();
+  }
+
+  private void begin() {
+    try {
+      this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(this.file))));
+      this.out.writeInt(ReplayFormat.MAGIC);
+      this.out.writeShort(ReplayFormat.VERSION);
+      this.out.writeLong(this.seed);
+      this.out.writeInt(Game.loop().getTickRate());
+    } catch (IOException e) {
+      log.log(Level.SEVERE, "Could not start recording to " + this.file, e);
+      this.close();
+      return;
+    }
+
+    Game.random().setSeed(this.seed);
+    if (Game.world().environment() != null) {
+      this.environmentLoaded(Game.world().environment());
+    }
+
+    Game.world().onLoaded(this.loadedListener);
+    log.log(Level.INFO, "Started recording to {0}", this.file);
+  }
+
+  private void writeFrame() throws IOException {
+    this.out.writeByte(ReplayFormat.TICK);
+    this.out.writeInt((int) Game.loop().getDeltaTime());
+
+    final String environment = this.loadedEnvironment;
+    if (environment != null && !environment.equals(this.recordedEnvironment)) {
+      this.out.writeByte(ReplayFormat.ENVIRONMENT);
+      this.out.writeUTF(environment);
+      this.recordedEnvironment = environment;
+    }
+
+    if (Game.config().input().isGamepadSupport()) {
+      for (Gamepad gamepad : Input.gamepads().getAll()) {
+        this.writeGamepadChanges(gamepad);
+      }
+    }
+
+    for (InputEvent event : this.tickEvents) {
+      ReplayFormat.write(this.out, event);
+    }
+
+    this.frames++;
+  }
+
+  private void writeGamepadChanges(Gamepad gamepad) throws IOException {
+    final Map<String, Float> state = this.gamepadStates.computeIfAbsent(gamepad.getId(), id -> new HashMap<>());
+    for (String component : gamepad.getComponents()) {
+      final float value = gamepad.getPollData(component);
+      if (value == state.getOrDefault(component, 0f)) {
+        continue;
+      }
+
+      state.put(component, value);
+      this.out.writeByte(ReplayFormat.GAMEPAD);
+      this.out.writeByte(gamepad.getId());
+      this.out.writeUTF(component);
+      this.out.writeFloat(value);
+    }
+  }
+
+  private void environmentLoaded(Environment environment) {
+    if (environment.getMap() != null) {
+      this.loadedEnvironment = environment.getMap().getName();
+    }
+  }
+
+  private void close() {
+    if (this.out == null) {
+      return;
+    }
+
+    try {
+      this.out.close();
+    } catch (IOException e) {
+      log.log(Level.SEVERE, e.getMessage(), e);
+    }
+
+    this.out = null;
+  }
+}
@@ -0,0 +1,191 @@
+package de.gurkenlabs.litiengine.resources;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.graphics.Spritesheet;
+import java.awt.image.BufferedImage;
+
+/**
+ * A bounded in-memory cache for the rendered frames of animations, i.e. sprites with all their image effects applied.
+ *
+ * <p>
+ * Frames are identified by a composite key of primitive values: the spritesheet, the index of the sprite, an identifier
+ * of the applied image effect chain, an additional variant (e.g. the flip and rotation of a prop) and an optional
+ * target size. Looking up a frame does not allocate any objects.
+ * </p>
+ *
+ * <p>
+ * The cache evicts the least recently used frames once the estimated memory of all cached frames exceeds the memory
+ * budget that is configured by {@link de.gurkenlabs.litiengine.configuration.GraphicConfiguration#getFrameCacheSize()}.
+ * </p>
+ *
+ * @see ImageCache
+ * @see Resources#frames()
+ * @see de.gurkenlabs.litiengine.graphics.animation.AnimationController#getCurrentImage()
+ */
+public final class FrameCache {
+  private final ImageCache<Key> frames = new ImageCache<>(() -> Game.config().graphics().getFrameCacheSize());
+
+  // the key that is used for lookups, so that a lookup does not need to allocate a new key; guarded by this cache
+  private final Key probe = new Key();
+
+  FrameCache() {}
+
+  /**
+   * Gets the cached frame with the specified key.
+   *
+   * @param spritesheet
+   *          The spritesheet of the frame.
+   * @param spriteIndex
+   *          The index of the sprite on the spritesheet.
+   * @param effects
+   *          The identifier of the image effect chain that was applied to the frame.
+   * @param variant
+   *          An additional variant of the frame or 0 if the frame has no further transformations.
+   * @param width
+   *          The width that the frame was scaled to or 0 if the frame is not scaled.
+   * @param height
+   *          The height that the frame was scaled to or 0 if the frame is not scaled.
+   * @return The cached frame or null if no frame with the specified key is cached.
+   */
+  public synchronized BufferedImage get(
+      Spritesheet spritesheet, int spriteIndex, long effects, int variant, int width, int height) {
+    this.probe.set(spritesheet, spriteIndex, effects, variant, width, height);
+    final BufferedImage frame = this.frames.get(this.probe);
+    this.probe.set(null, 0, 0, 0, 0, 0);
+    return frame;
+  }
+
+  /**
+   * Adds the specified frame to the cache and evicts the least recently used frames if the memory budget is exceeded.
+   * Frames that are larger than the whole memory budget are not cached.
+   *
+   * @param spritesheet
+   *          The spritesheet of the frame.
+   * @param spriteIndex
+   *          The index of the sprite on the spritesheet.
+   * @param effects
+   *          The identifier of the image effect chain that was applied to the frame.
+   * @param variant
+   *          An additional variant of the frame or 0 if the frame has no further transformations.
+   * @param width
+   *          The width that the frame was scaled to or 0 if the frame is not scaled.
+   * @param height
+   *          The height that the frame was scaled to or 0 if the frame is not scaled.
+   * @param frame
+   *          The frame to cache.
+   */
+  public void add(
+      Spritesheet spritesheet,
+      int spriteIndex,
+      long effects,
+      int variant,
+      int width,
+      int height,
+      BufferedImage frame) {
+    this.frames.add(new Key(spritesheet, spriteIndex, effects, variant, width, height), frame);
+  }
+
+  /**
+   * Removes all frames from the cache and resets its metrics.
+   */
+  public void clear() {
+    this.frames.clear();
+  }
+
+  /**
+   * Gets the number of frames in the cache.
+   *
+   * @return The number of cached frames.
+   */
+  public int size() {
+    return this.frames.size();
+  }
+
+  /**
+   * Gets the estimated memory of all cached frames.
+   *
+   * @return The memory usage of the cache in bytes.
+   */
+  public long getMemoryUsage() {
+    return this.frames.getMemoryUsage();
+  }
+
+  /**
+   * Gets the memory that the cached frames may occupy before the least recently used frames are evicted.
+   *
+   * @return The memory budget of the cache in bytes.
+   */
+  public long getMemoryBudget() {
+    return this.frames.getMemoryBudget();
+  }
+
+  /**
+   * Gets the number of lookups that returned a cached frame since the cache was last cleared.
+   *
+   * @return The number of cache hits.
+   */
+  public long getHits() {
+    return this.frames.getHits();
+  }
+
+  /**
+   * Gets the number of lookups that did not find a cached frame since the cache was last cleared.
+   *
+   * @return The number of cache misses.
+   */
+  public long getMisses() {
+    return this.frames.getMisses();
+  }
+
+  private static final class Key {
+    private Spritesheet spritesheet;
+    private int spriteIndex;
+    private long effects;
+    private int variant;
+    private int width;
+    private int height;
+
+    private Key() {}
+
+    private Key(Spritesheet spritesheet, int spriteIndex, long effects, int variant, int width, int height) {
+      this.set(spritesheet, spriteIndex, effects, variant, width, height);
+    }
+
+    private void set(Spritesheet spritesheet, int spriteIndex, long effects, int variant, int width, int height) {
+      this.spritesheet = spritesheet;
+      this.spriteIndex = spriteIndex;
+      this.effects = effects;
+      this.variant = variant;
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof Key other)) {
+        return false;
+      }
+
+      return this.spritesheet == other.spritesheet
+          && this.spriteIndex == other.spriteIndex
+          && this.effects == other.effects
+          && this.variant == other.variant
+          && this.width == other.width
+          && this.height == other.height;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = System.identityHashCode(this.spritesheet);
+      hash = 31 * hash + this.spriteIndex;
+      hash = 31 * hash + Long.hashCode(this.effects);
+      hash = 31 * hash + this.variant;
+      hash = 31 * hash + this.width;
+      return 31 * hash + this.height;
+    }
+  }
+}
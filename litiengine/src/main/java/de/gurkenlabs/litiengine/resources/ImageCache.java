@@ -0,0 +1,148 @@
+package de.gurkenlabs.litiengine.resources;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * A thread-safe in-memory cache for images that is bounded by the estimated memory of all cached images.
+ *
+ * <p>
+ * The cache evicts the least recently used images once the estimated memory of all cached images exceeds its memory
+ * budget. Every cache has its own budget, which is usually provided by a dedicated setting of the
+ * {@link de.gurkenlabs.litiengine.configuration.GraphicConfiguration}.
+ * </p>
+ *
+ * @param <K>
+ *          The type of the keys that identify the cached images.
+ */
+public final class ImageCache<K> {
+  private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+  private final Map<K, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+  private final IntSupplier memoryBudget;
+
+  private long memoryUsage;
+  private long hits;
+  private long misses;
+
+  /**
+   * Initializes a new cache with the specified memory budget. The budget is requested whenever an image is added, so
+   * changes of the underlying setting take effect with the next added image.
+   *
+   * @param memoryBudget
+   *          The supplier of the memory budget in megabytes.
+   */
+  public ImageCache(IntSupplier memoryBudget) {
+    this.memoryBudget = memoryBudget;
+  }
+
+  /**
+   * Gets the cached image with the specified key.
+   *
+   * @param key
+   *          The key of the image.
+   * @return The cached image or null if no image with the specified key is cached.
+   */
+  public synchronized BufferedImage get(K key) {
+    final BufferedImage image = this.images.get(key);
+    if (image != null) {
+      this.hits++;
+    } else {
+      this.misses++;
+    }
+
+    return image;
+  }
+
+  /**
+   * Adds the specified image to the cache and evicts the least recently used images if the memory budget is exceeded.
+   * Images that are larger than the whole memory budget are not cached.
+   *
+   * @param key
+   *          The key of the image.
+   * @param image
+   *          The image to cache.
+   */
+  public synchronized void add(K key, BufferedImage image) {
+    final long budget = this.getMemoryBudget();
+    final long size = getMemorySize(image);
+    if (size > budget) {
+      return;
+    }
+
+    final BufferedImage previous = this.images.put(key, image);
+    if (previous != null) {
+      this.memoryUsage -= getMemorySize(previous);
+    }
+
+    this.memoryUsage += size;
+    final Iterator<BufferedImage> eldest = this.images.values().iterator();
+    while (this.memoryUsage > budget && eldest.hasNext()) {
+      this.memoryUsage -= getMemorySize(eldest.next());
+      eldest.remove();
+    }
+  }
+
+  /**
+   * Removes all images from the cache and resets its metrics.
+   */
+  public synchronized void clear() {
+    this.images.clear();
+    this.memoryUsage = 0;
+    this.hits = 0;
+    this.misses = 0;
+  }
+
+  /**
+   * Gets the number of images in the cache.
+   *
+   * @return The number of cached images.
+   */
+  public synchronized int size() {
+    return this.images.size();
+  }
+
+  /**
+   * Gets the estimated memory of all cached images.
+   *
+   * @return The memory usage of the cache in bytes.
+   */
+  public synchronized long getMemoryUsage() {
+    return this.memoryUsage;
+  }
+
+  /**
+   * Gets the memory that the cached images may occupy before the least recently used images are evicted.
+   *
+   * @return The memory budget of the cache in bytes.
+   */
+  public long getMemoryBudget() {
+    return this.memoryBudget.getAsInt() * BYTES_PER_MEGABYTE;
+  }
+
+  /**
+   * Gets the number of lookups that returned a cached image since the cache was last cleared.
+   *
+   * @return The number of cache hits.
+   */
+  public synchronized long getHits() {
+    return this.hits;
+  }
+
+  /**
+   * Gets the number of lookups that did not find a cached image since the cache was last cleared.
+   *
+   * @return The number of cache misses.
+   */
+  public synchronized long getMisses() {
+    return this.misses;
+  }
+
+  private static long getMemorySize(BufferedImage image) {
+    final int bytesPerPixel = Math.max(1, (image.getColorModel().getPixelSize() + 7) / 8);
+    return (long) image.getWidth() * image.getHeight() * bytesPerPixel;
+  }
+}
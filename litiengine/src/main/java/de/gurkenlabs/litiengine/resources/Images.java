@@ -19,7 +19,7 @@ public final class Images extends ResourcesContainer<BufferedImage> {
    *          The texture atlas that contains all the images.
    */
   public void load(TextureAtlas textureAtlas) {
-    BufferedImage atlasImage = Resources.images().get(textureAtlas.getAbsoluteImagePath());
+    BufferedImage atlasImage = textureAtlas.getImage();
     if (atlasImage == null || atlasImage.getWidth() == 0 || atlasImage.getHeight() == 0) {
       return;
     }
@@ -17,10 +17,14 @@ import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import de.gurkenlabs.litiengine.environment.tilemap.ITileset;
 import de.gurkenlabs.litiengine.environment.tilemap.xml.Blueprint;
 import de.gurkenlabs.litiengine.environment.tilemap.xml.Tileset;
+import de.gurkenlabs.litiengine.graphics.ImageRenderer;
 import de.gurkenlabs.litiengine.graphics.Spritesheet;
+import de.gurkenlabs.litiengine.graphics.emitters.particles.ShapeParticle;
 import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
 import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterLoader;
 import de.gurkenlabs.litiengine.sound.Sound;
@@ -55,6 +59,7 @@ public final class Resources {
   private static Images images = new Images();
   private static Spritesheets spritesheets = new Spritesheets();
   private static Blueprints blueprints = new Blueprints();
+  private static FrameCache frames = new FrameCache();
 
   private Resources() {
     throw new UnsupportedOperationException();
@@ -149,6 +154,17 @@ public final class Resources {
     return blueprints;
   }
 
+  /**
+   * Gets the cache that holds the rendered frames of animations.
+   * 
+   * @return The animation frame cache.
+   * 
+   * @see FrameCache
+   */
+  public static FrameCache frames() {
+    return frames;
+  }
+
   /**
    * Load {@code Spritesheets}, {@code Tilesets} and {@code Maps} from a game resource file created with the utiLITI
    * editor. After loading, these resources can be accessed via this API (e.g. {@code Resources.maps().get("mapname")}.
@@ -211,6 +227,20 @@ public final class Resources {
 
     log.log(Level.INFO, "{0} sounds loaded from {1}", new Object[] {loadedSounds.size(), gameResourceFile});
 
+    if (Game.config().graphics().packTextureAtlas()) {
+      // make sure that the images of all tilesets are available before packing them with the spritesheets; spritesheets
+      // that have been packed by a previous load keep their atlas region
+      for (final Tileset tileset : file.getTilesets()) {
+        tileset.getSpritesheet();
+      }
+
+      for (final IMap map : file.getMaps()) {
+        map.getTilesets().forEach(ITileset::getSpritesheet);
+      }
+
+      Resources.spritesheets().pack();
+    }
+
     int spriteload = 0;
     for (final Spritesheet s : loadedSprites) {
       for (int i = 0; i < s.getRows() * s.getColumns(); i++) {
@@ -332,6 +362,9 @@ public final class Resources {
     tilesets().clear();
     images().clear();
     spritesheets().clear();
+    frames().clear();
+    ShapeParticle.clearStamps();
+    ImageRenderer.clearRotationVariants();
   }
 
   public static URL getLocation(String name) {
@@ -319,6 +319,24 @@ public abstract class ResourcesContainer<T> {
     return this.remove(resourceName.toString());
   }
 
+  /**
+   * Removes all entries of the specified resource instance from this container.
+   *
+   * @param resource The resource instance that should be removed.
+   * @return True if the resource was removed; otherwise false.
+   * @see #remove(String)
+   */
+  public boolean remove(T resource) {
+    boolean removed = false;
+    for (Map.Entry<String, T> entry : this.resources.entrySet()) {
+      if (entry.getValue() == resource) {
+        removed |= this.remove(entry.getKey()) != null;
+      }
+    }
+
+    return removed;
+  }
+
   /**
    * Tries to get a resource with the specified name from this container.
    * <p>
@@ -7,6 +7,7 @@ import de.gurkenlabs.litiengine.util.io.Codec;
 import de.gurkenlabs.litiengine.util.io.FileUtilities;
 import de.gurkenlabs.litiengine.util.io.ImageSerializer;
 import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -29,6 +30,7 @@ import java.util.logging.Logger;
 public final class Spritesheets {
   private final Map<String, int[]> customKeyFrameDurations = new ConcurrentHashMap<>();
   private final Map<String, Spritesheet> loadedSpritesheets = new ConcurrentHashMap<>();
+  private final Map<Raster, BufferedImage> atlasPages = new ConcurrentHashMap<>();
   private final Collection<ResourcesContainerClearedListener> listeners = ConcurrentHashMap.newKeySet();
   private static final Logger log = Logger.getLogger(Spritesheets.class.getName());
   private static final String SPRITE_INFO_COMMENT_CHAR = "#";
@@ -50,6 +52,7 @@ public final class Spritesheets {
 
   public void clear() {
     this.loadedSpritesheets.clear();
+    this.atlasPages.clear();
     listeners.forEach(ResourcesContainerClearedListener::cleared);
   }
 
@@ -85,6 +88,72 @@ public final class Spritesheets {
     return this.loadedSpritesheets.values();
   }
 
+  /**
+   * Packs the images of all loaded spritesheets that haven't been packed yet into a few large texture atlas pages.
+   *
+   * @return The texture atlas pages that contain the spritesheet images.
+   * @see #pack(Collection)
+   */
+  public List<TextureAtlas> pack() {
+    return this.pack(this.getAll());
+  }
+
+  /**
+   * Packs the images of the specified spritesheets into a few large texture atlas pages. Afterwards, the sprites of the
+   * packed spritesheets are provided as regions of these pages and their original images are removed from
+   * {@link Resources#images()}. Spritesheets that have already been packed and spritesheets whose image is too large for
+   * a page keep their current image.
+   *
+   * @param spritesheets The spritesheets to pack.
+   * @return The texture atlas pages that contain the spritesheet images.
+   * @see TextureAtlasBuilder
+   * @see Spritesheet#setAtlasRegion(BufferedImage, int, int)
+   */
+  public List<TextureAtlas> pack(final Collection<Spritesheet> spritesheets) {
+    final Map<String, Spritesheet> packed = new ConcurrentHashMap<>();
+    final TextureAtlasBuilder builder = new TextureAtlasBuilder();
+    for (final Spritesheet spritesheet : spritesheets) {
+      if (spritesheet != null && spritesheet.getImage() != null && !spritesheet.isPacked()) {
+        packed.put(spritesheet.getName(), spritesheet);
+        builder.add(spritesheet.getName(), spritesheet.getImage());
+      }
+    }
+
+    if (packed.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<TextureAtlas> atlases = builder.build();
+    int cnt = 0;
+    for (final TextureAtlas atlas : atlases) {
+      this.atlasPages.put(atlas.getImage().getRaster(), atlas.getImage());
+      for (final TextureAtlas.Sprite sprite : atlas.getSprites()) {
+        final Spritesheet spritesheet = packed.get(sprite.getName());
+        final BufferedImage original = spritesheet.getImage();
+        spritesheet.setAtlasRegion(atlas.getImage(), sprite.getX(), sprite.getY());
+
+        // the page contains a copy of the original image, so it doesn't need to be kept in memory anymore
+        Resources.images().remove(original);
+        cnt++;
+      }
+    }
+
+    log.log(Level.INFO, "{0} spritesheets packed into {1} texture atlas pages", new Object[] {cnt, atlases.size()});
+    return atlases;
+  }
+
+  /**
+   * Gets the texture atlas page that owns the specified raster.
+   *
+   * @param raster
+   *          The root raster of an image, i.e. a raster without a parent.
+   * @return The atlas page whose raster is the specified raster or null if the raster doesn't belong to an atlas page.
+   * @see #pack(Collection)
+   */
+  public BufferedImage getAtlasPage(final Raster raster) {
+    return raster != null && !this.atlasPages.isEmpty() ? this.atlasPages.get(raster) : null;
+  }
+
   public int[] getCustomKeyFrameDurations(final String name) {
     return this.customKeyFrameDurations.getOrDefault(FileUtilities.getFileName(name), new int[0]);
   }
@@ -1,5 +1,6 @@
 package de.gurkenlabs.litiengine.resources;
 
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -34,10 +35,18 @@ public class TextureAtlas {
 
   private String absoluteImagePath;
 
+  private BufferedImage image;
+
   TextureAtlas() {
     // keep for serialization
   }
 
+  TextureAtlas(BufferedImage image) {
+    this.image = image;
+    this.width = image.getWidth();
+    this.height = image.getHeight();
+  }
+
   public static TextureAtlas read(String textureAtlasFile) {
     try {
       TextureAtlas atlas = XmlUtilities.read(TextureAtlas.class, Resources.getLocation(textureAtlasFile));
@@ -59,6 +68,22 @@ public class TextureAtlas {
     return this.absoluteImagePath;
   }
 
+  /**
+   * Gets the image of this texture atlas. For atlases that were packed at runtime, this is the page image that was
+   * rendered by the {@code TextureAtlasBuilder}; otherwise, the image is loaded from the image path of the atlas.
+   *
+   * @return The image that contains all sprites of this atlas.
+   * @see TextureAtlasBuilder
+   */
+  @XmlTransient
+  public BufferedImage getImage() {
+    if (this.image != null) {
+      return this.image;
+    }
+
+    return this.getAbsoluteImagePath() != null ? Resources.images().get(this.getAbsoluteImagePath()) : null;
+  }
+
   @XmlTransient
   public int getWidth() {
     return this.width;
@@ -0,0 +1,267 @@
+package de.gurkenlabs.litiengine.resources;
+
+import de.gurkenlabs.litiengine.util.Imaging;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@code TextureAtlasBuilder} packs a set of images into a few large texture atlas pages at runtime.
+ *
+ * <p>
+ * Java2D can only accelerate images that are not modified after they have been loaded, and switching between many small
+ * source images is expensive. Drawing sub-images of a few large pages allows the pipeline to keep the image data in
+ * accelerated (managed) surfaces. The images are placed with the MaxRects algorithm using the "best short side fit"
+ * heuristic, which produces dense packings for the typical mix of spritesheet and tileset images.
+ * </p>
+ *
+ * <p>
+ * The result is a list of {@code TextureAtlas} instances, one per page, that provide the page image and the region of
+ * each packed image as {@code TextureAtlas.Sprite}. Images that exceed the dimensions of a page are not packed.
+ * </p>
+ *
+ * @see Spritesheets#pack()
+ * @see TextureAtlas#getImage()
+ */
+public final class TextureAtlasBuilder {
+  private static final Logger log = Logger.getLogger(TextureAtlasBuilder.class.getName());
+
+  public static final int DEFAULT_PAGE_SIZE = 2048;
+  public static final int DEFAULT_PADDING = 1;
+
+  private final Map<String, BufferedImage> images = new LinkedHashMap<>();
+  private final int pageWidth;
+  private final int pageHeight;
+  private final int padding;
+
+  /**
+   * Initializes a new {@code TextureAtlasBuilder} with the default page size and padding.
+   *
+   * @see #DEFAULT_PAGE_SIZE
+   * @see #DEFAULT_PADDING
+   */
+  public TextureAtlasBuilder() {
+    this(DEFAULT_PAGE_SIZE, DEFAULT_PAGE_SIZE, DEFAULT_PADDING);
+  }
+
+  /**
+   * Initializes a new {@code TextureAtlasBuilder}.
+   *
+   * @param pageWidth
+   *          The maximum width of an atlas page.
+   * @param pageHeight
+   *          The maximum height of an atlas page.
+   * @param padding
+   *          The number of transparent pixels between two packed images, which prevents colors from bleeding into
+   *          neighboring images when they are rendered with interpolation.
+   */
+  public TextureAtlasBuilder(int pageWidth, int pageHeight, int padding) {
+    if (pageWidth <= 0 || pageHeight <= 0) {
+      throw new IllegalArgumentException("The page dimensions must be greater than 0 (" + pageWidth + "x" + pageHeight + ").");
+    }
+
+    if (padding < 0) {
+      throw new IllegalArgumentException("The padding must not be negative (" + padding + ").");
+    }
+
+    this.pageWidth = pageWidth;
+    this.pageHeight = pageHeight;
+    this.padding = padding;
+  }
+
+  /**
+   * Adds an image that will be packed by this builder.
+   *
+   * @param name
+   *          The unique name of the image, which is used as the name of its {@code TextureAtlas.Sprite}.
+   * @param image
+   *          The image to pack.
+   * @return This builder.
+   */
+  public TextureAtlasBuilder add(String name, BufferedImage image) {
+    if (name == null || image == null) {
+      return this;
+    }
+
+    if (image.getWidth() + this.padding > this.pageWidth || image.getHeight() + this.padding > this.pageHeight) {
+      log.log(Level.FINE, "The image {0} ({1}x{2}) is too large to be packed into a texture atlas page.",
+          new Object[] {name, image.getWidth(), image.getHeight()});
+      return this;
+    }
+
+    this.images.put(name, image);
+    return this;
+  }
+
+  /**
+   * Packs all added images and renders them to the atlas pages.
+   *
+   * @return A list with one {@code TextureAtlas} per page.
+   */
+  public List<TextureAtlas> build() {
+    final List<Map.Entry<String, BufferedImage>> pending = new ArrayList<>(this.images.entrySet());
+
+    // placing large images first yields much denser packings
+    pending.sort(Comparator.comparingInt((Map.Entry<String, BufferedImage> e) -> Math.max(e.getValue().getWidth(), e.getValue().getHeight()))
+        .thenComparingInt(e -> e.getValue().getWidth() * e.getValue().getHeight())
+        .reversed());
+
+    final List<TextureAtlas> pages = new ArrayList<>();
+    while (!pending.isEmpty()) {
+      final MaxRectsPage page = new MaxRectsPage(this.pageWidth, this.pageHeight);
+      final List<TextureAtlas.Sprite> sprites = new ArrayList<>();
+      final List<Map.Entry<String, BufferedImage>> remaining = new ArrayList<>();
+      for (Map.Entry<String, BufferedImage> entry : pending) {
+        final BufferedImage image = entry.getValue();
+        final Rectangle region = page.insert(image.getWidth() + this.padding, image.getHeight() + this.padding);
+        if (region == null) {
+          remaining.add(entry);
+          continue;
+        }
+
+        final TextureAtlas.Sprite sprite = new TextureAtlas.Sprite();
+        sprite.setName(entry.getKey());
+        sprite.setX(region.x);
+        sprite.setY(region.y);
+        sprite.setWidth(image.getWidth());
+        sprite.setHeight(image.getHeight());
+        sprites.add(sprite);
+      }
+
+      pages.add(this.render(sprites, pages.size()));
+      pending.clear();
+      pending.addAll(remaining);
+    }
+
+    return pages;
+  }
+
+  private TextureAtlas render(List<TextureAtlas.Sprite> sprites, int index) {
+    // trim the page to the area that is actually used
+    int width = 1;
+    int height = 1;
+    for (TextureAtlas.Sprite sprite : sprites) {
+      width = Math.max(width, sprite.getX() + sprite.getWidth());
+      height = Math.max(height, sprite.getY() + sprite.getHeight());
+    }
+
+    final BufferedImage pageImage = GraphicsEnvironment.isHeadless()
+        ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+        : Imaging.getCompatibleImage(width, height);
+    final Graphics2D g = pageImage.createGraphics();
+    for (TextureAtlas.Sprite sprite : sprites) {
+      g.drawImage(this.images.get(sprite.getName()), sprite.getX(), sprite.getY(), null);
+    }
+
+    g.dispose();
+
+    final TextureAtlas atlas = new TextureAtlas(pageImage);
+    atlas.setImagePath("atlas-page-" + index + ".png");
+    atlas.setSprites(sprites);
+    return atlas;
+  }
+
+  /**
+   * A single atlas page that keeps track of its maximal free rectangles.
+   */
+  static final class MaxRectsPage {
+    private final List<Rectangle> freeRectangles = new ArrayList<>();
+
+    MaxRectsPage(int width, int height) {
+      this.freeRectangles.add(new Rectangle(0, 0, width, height));
+    }
+
+    /**
+     * Finds the free position with the best short side fit for a rectangle of the specified size and occupies it.
+     *
+     * @param width
+     *          The width of the rectangle to insert.
+     * @param height
+     *          The height of the rectangle to insert.
+     * @return The occupied area or null if the rectangle doesn't fit into this page anymore.
+     */
+    Rectangle insert(int width, int height) {
+      Rectangle best = null;
+      int bestShortSide = Integer.MAX_VALUE;
+      int bestLongSide = Integer.MAX_VALUE;
+      for (Rectangle free : this.freeRectangles) {
+        if (free.width < width || free.height < height) {
+          continue;
+        }
+
+        final int leftoverX = free.width - width;
+        final int leftoverY = free.height - height;
+        final int shortSide = Math.min(leftoverX, leftoverY);
+        final int longSide = Math.max(leftoverX, leftoverY);
+        if (shortSide < bestShortSide || (shortSide == bestShortSide && longSide < bestLongSide)) {
+          best = new Rectangle(free.x, free.y, width, height);
+          bestShortSide = shortSide;
+          bestLongSide = longSide;
+        }
+      }
+
+      if (best != null) {
+        this.place(best);
+      }
+
+      return best;
+    }
+
+    private void place(Rectangle used) {
+      final List<Rectangle> split = new ArrayList<>();
+      this.freeRectangles.removeIf(free -> {
+        if (!free.intersects(used)) {
+          return false;
+        }
+
+        // keep the maximal free rectangles on each side of the used area
+        if (used.x > free.x) {
+          split.add(new Rectangle(free.x, free.y, used.x - free.x, free.height));
+        }
+
+        if (used.x + used.width < free.x + free.width) {
+          split.add(new Rectangle(used.x + used.width, free.y, free.x + free.width - used.x - used.width, free.height));
+        }
+
+        if (used.y > free.y) {
+          split.add(new Rectangle(free.x, free.y, free.width, used.y - free.y));
+        }
+
+        if (used.y + used.height < free.y + free.height) {
+          split.add(new Rectangle(free.x, used.y + used.height, free.width, free.y + free.height - used.y - used.height));
+        }
+
+        return true;
+      });
+
+      this.freeRectangles.addAll(split);
+      this.prune();
+    }
+
+    private void prune() {
+      // remove free rectangles that are fully contained in another free rectangle
+      for (int i = 0; i < this.freeRectangles.size(); i++) {
+        for (int j = i + 1; j < this.freeRectangles.size(); j++) {
+          final Rectangle a = this.freeRectangles.get(i);
+          final Rectangle b = this.freeRectangles.get(j);
+          if (b.contains(a)) {
+            this.freeRectangles.remove(i--);
+            break;
+          }
+
+          if (a.contains(b)) {
+            this.freeRectangles.remove(j--);
+          }
+        }
+      }
+    }
+  }
+}
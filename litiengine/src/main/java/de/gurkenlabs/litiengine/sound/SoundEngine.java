@@ -29,6 +29,13 @@ import javax.sound.sampled.LineUnavailableException;
  * <p>
  * The sound engine supports .wav, .mp3 and .ogg by default. If you need other file extensions, you
  * have to write an own SPI implementation and inject it in your project.
+ *
+ * <p>
+ * Operations that affect the state processed by {@link #update()} (e.g. fading music or changing the
+ * listener location callback) are marshalled onto the game loop's thread when called from a foreign
+ * thread.
+ *
+ * @see Game#invokeOnLoop(Runnable)
  */
 public final class SoundEngine implements IUpdateable, ILaunchable {
 
@@ -172,7 +179,7 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
    * @param duration The fade duration in milliseconds
    */
   public void fadeMusic(int duration) {
-    this.allMusic.forEach(m -> m.fade(duration));
+    Game.invokeOnLoop(() -> this.allMusic.forEach(m -> m.fade(duration)));
   }
 
   /**
@@ -183,7 +190,7 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
    * @param easeType The easing Function used for Tweening the volume
    */
   public void fadeMusic(int duration, float target, TweenFunction easeType) {
-    this.allMusic.forEach(m -> m.fade(duration, target, easeType));
+    Game.invokeOnLoop(() -> this.allMusic.forEach(m -> m.fade(duration, target, easeType)));
   }
 
   /**
@@ -571,7 +578,7 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
    * @param callback The callback that determines the location of the sound listener.
    */
   public void setListenerLocationCallback(UnaryOperator<Point2D> callback) {
-    listenerLocationCallback = callback;
+    Game.invokeOnLoop(() -> listenerLocationCallback = callback);
   }
 
   @Override
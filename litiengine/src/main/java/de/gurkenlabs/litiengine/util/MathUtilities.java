@@ -192,6 +192,45 @@ public class MathUtilities {
     return max;
   }
 
+  /**
+   * Packs the specified column and row of a grid into a single key that can be used to look up the cell in a map.
+   *
+   * @param column
+   *          The column of the grid cell.
+   * @param row
+   *          The row of the grid cell.
+   * @return The key of the grid cell.
+   * @see #getColumn(long)
+   * @see #getRow(long)
+   */
+  public static long getGridKey(final int column, final int row) {
+    return ((long) column << 32) | (row & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Gets the column of the grid cell with the specified key.
+   *
+   * @param key
+   *          The key of the grid cell.
+   * @return The column of the grid cell.
+   * @see #getGridKey(int, int)
+   */
+  public static int getColumn(final long key) {
+    return (int) (key >> 32);
+  }
+
+  /**
+   * Gets the row of the grid cell with the specified key.
+   *
+   * @param key
+   *          The key of the grid cell.
+   * @return The row of the grid cell.
+   * @see #getGridKey(int, int)
+   */
+  public static int getRow(final long key) {
+    return (int) key;
+  }
+
   public static boolean isInt(final double value) {
     return value == Math.floor(value) && !Double.isInfinite(value);
   }
@@ -13,12 +13,14 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.geom.RectangularShape;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 public class GeometricUtilities {
   private static final double RAYCAST_EPSILON = 0.01;
+  private static final double VISIBILITY_EPSILON = 1e-5;
 
   private GeometricUtilities() {
     throw new UnsupportedOperationException();
@@ -528,6 +530,72 @@ public class GeometricUtilities {
     return line;
   }
 
+  /**
+   * Computes the polygon of the area within the specified bounds that is visible from the origin, if the specified lines
+   * block the sight.
+   *
+   * <p>
+   * The polygon is constructed by casting rays from the origin towards the end points of all lines (and slightly past
+   * them) and connecting the closest intersection of each ray in angular order.
+   * </p>
+   *
+   * @param origin
+   *          The point from which the visible area is computed. It must be located within the bounds.
+   * @param bounds
+   *          The bounds that limit the visible area.
+   * @param occluders
+   *          The lines that block the sight.
+   * @return The visibility polygon.
+   */
+  public static Path2D getVisibilityPolygon(final Point2D origin, final Rectangle2D bounds, final Collection<? extends Line2D> occluders) {
+    final List<Line2D> lines = new ArrayList<>(occluders.size() + 4);
+    lines.addAll(occluders);
+    Collections.addAll(lines, getLines(bounds));
+
+    final double ox = origin.getX();
+    final double oy = origin.getY();
+    final double[] angles = new double[lines.size() * 6];
+    int count = 0;
+    for (final Line2D line : lines) {
+      count = addVisibilityAngles(angles, count, Math.atan2(line.getY1() - oy, line.getX1() - ox));
+      count = addVisibilityAngles(angles, count, Math.atan2(line.getY2() - oy, line.getX2() - ox));
+    }
+
+    Arrays.sort(angles, 0, count);
+
+    final Path2D polygon = new Path2D.Double();
+    boolean first = true;
+    for (int i = 0; i < count; i++) {
+      if (i > 0 && angles[i] == angles[i - 1]) {
+        continue;
+      }
+
+      final double dx = Math.cos(angles[i]);
+      final double dy = Math.sin(angles[i]);
+      double closest = Double.MAX_VALUE;
+      for (final Line2D line : lines) {
+        final double distance = castRay(ox, oy, dx, dy, line);
+        if (distance < closest) {
+          closest = distance;
+        }
+      }
+
+      if (closest == Double.MAX_VALUE) {
+        continue;
+      }
+
+      if (first) {
+        polygon.moveTo(ox + dx * closest, oy + dy * closest);
+        first = false;
+      } else {
+        polygon.lineTo(ox + dx * closest, oy + dy * closest);
+      }
+    }
+
+    polygon.closePath();
+    return polygon;
+  }
+
   public static boolean intersects(final Rectangle2D a, final Rectangle2D b) {
     return Math.abs(a.getCenterX() - b.getCenterX()) < a.getWidth() * 0.5 + b.getWidth() * 0.5
         && Math.abs(a.getCenterY() - b.getCenterY()) < a.getHeight() * 0.5 + b.getHeight() * 0.5;
@@ -705,6 +773,40 @@ public class GeometricUtilities {
     return t.createTransformedShape(shape);
   }
 
+  private static int addVisibilityAngles(final double[] angles, int count, final double angle) {
+    // the rays slightly past the end point reach the area behind the line
+    angles[count++] = angle - VISIBILITY_EPSILON;
+    angles[count++] = angle;
+    angles[count++] = angle + VISIBILITY_EPSILON;
+    return count;
+  }
+
+  /**
+   * Gets the distance from the origin of a ray to its intersection with the specified line.
+   *
+   * @return The distance or {@code Double.MAX_VALUE} if the ray doesn't intersect the line.
+   */
+  private static double castRay(final double ox, final double oy, final double dx, final double dy, final Line2D line) {
+    final double sx = line.getX2() - line.getX1();
+    final double sy = line.getY2() - line.getY1();
+    final double denominator = dx * sy - dy * sx;
+    if (Math.abs(denominator) < 1e-12) {
+      return Double.MAX_VALUE;
+    }
+
+    final double qx = line.getX1() - ox;
+    final double qy = line.getY1() - oy;
+    final double distance = (qx * sy - qy * sx) / denominator;
+    final double position = (qx * dy - qy * dx) / denominator;
+
+    // lines that pass through the origin don't block the sight
+    if (distance <= VISIBILITY_EPSILON || position < 0 || position > 1) {
+      return Double.MAX_VALUE;
+    }
+
+    return distance;
+  }
+
   /**
    * Normalizes the specified angle to the range between 0-360 degree.
    *
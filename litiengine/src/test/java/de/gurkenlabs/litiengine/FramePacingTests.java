@@ -0,0 +1,51 @@
+package de.gurkenlabs.litiengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class FramePacingTests {
+
+  @Test
+  void testSleepIsDefaultPacing() {
+    // the spinning PRECISE pacing is opt-in, so that games don't burn a core by default
+    assertEquals(FramePacing.SLEEP, Game.config().client().getFramePacing());
+  }
+
+  @ParameterizedTest
+  @EnumSource(FramePacing.class)
+  void testWaitUntilDeadline(FramePacing pacing) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(5);
+
+    pacing.waitUntil(deadline);
+
+    assertTrue(System.nanoTime() - deadline >= 0);
+  }
+
+  @ParameterizedTest
+  @EnumSource(FramePacing.class)
+  void testPassedDeadlineReturnsImmediately(FramePacing pacing) throws InterruptedException {
+    final long start = System.nanoTime();
+
+    pacing.waitUntil(start - TimeUnit.SECONDS.toNanos(1));
+
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @ParameterizedTest
+  @EnumSource(FramePacing.class)
+  void testInterruptThrows(FramePacing pacing) {
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(InterruptedException.class, () -> pacing.waitUntil(System.nanoTime() + TimeUnit.SECONDS.toNanos(10)));
+    } finally {
+      Thread.interrupted();
+    }
+  }
+}
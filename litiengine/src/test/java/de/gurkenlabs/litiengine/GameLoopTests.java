@@ -0,0 +1,37 @@
+package de.gurkenlabs.litiengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GameLoopTests {
+
+  @Test
+  void testExecuteRunsImmediatelyIfLoopIsNotRunning() {
+    GameLoop loop = new GameLoop("Test Loop", 60);
+    List<Integer> executed = new ArrayList<>();
+
+    loop.execute(() -> executed.add(1));
+    loop.execute(() -> executed.add(2));
+
+    assertEquals(List.of(1, 2), executed);
+  }
+
+  @Test
+  void testExecuteRunsImmediatelyIfLockIsHeld() {
+    GameLoop loop = new GameLoop("Test Loop", 60);
+    List<Integer> executed = new ArrayList<>();
+
+    loop.getLock().lock();
+    try {
+      loop.execute(() -> executed.add(1));
+    } finally {
+      loop.getLock().unlock();
+    }
+
+    assertEquals(List.of(1), executed);
+  }
+}
@@ -0,0 +1,116 @@
+package de.gurkenlabs.litiengine.coroutines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CoroutineEngineTests {
+  private CoroutineEngine engine;
+
+  @BeforeEach
+  void setup() {
+    this.engine = new CoroutineEngine();
+  }
+
+  @Test
+  void testAwaitTicksResumesAtExpectedTick() {
+    List<Long> resumedTicks = new ArrayList<>();
+    Coroutine coroutine = this.engine.start(co -> {
+      resumedTicks.add(this.engine.getTicks());
+      co.awaitTicks(3);
+      resumedTicks.add(this.engine.getTicks());
+    });
+
+    for (int i = 0; i < 5; i++) {
+      this.engine.update();
+    }
+
+    assertEquals(List.of(1L, 4L), resumedTicks);
+    assertTrue(coroutine.isDone());
+    assertTrue(this.engine.getCoroutines().isEmpty());
+  }
+
+  @Test
+  void testAwaitCondition() {
+    AtomicBoolean condition = new AtomicBoolean();
+    AtomicBoolean finished = new AtomicBoolean();
+    Coroutine coroutine = this.engine.start(co -> {
+      co.awaitCondition(condition::get);
+      finished.set(true);
+    });
+
+    this.engine.update();
+    this.engine.update();
+    assertFalse(finished.get());
+
+    condition.set(true);
+    this.engine.update();
+    assertTrue(finished.get());
+    assertTrue(coroutine.isDone());
+  }
+
+  @Test
+  void testAwaitEventReturnsFiredValue() {
+    CoroutineSignal<String> signal = new CoroutineSignal<>();
+    List<String> received = new ArrayList<>();
+    this.engine.start(co -> received.add(co.awaitEvent(signal)));
+
+    this.engine.update();
+    this.engine.update();
+    assertTrue(received.isEmpty());
+
+    signal.fire("test");
+    this.engine.update();
+    assertEquals(List.of("test"), received);
+  }
+
+  @Test
+  void testCoroutinesAreResumedInStartOrder() {
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final int index = i;
+      this.engine.start(co -> {
+        co.awaitTicks(1);
+        order.add(index);
+      });
+    }
+
+    this.engine.update();
+    this.engine.update();
+
+    assertEquals(100, order.size());
+    for (int i = 0; i < order.size(); i++) {
+      assertEquals(i, order.get(i));
+    }
+  }
+
+  @Test
+  void testCancelUnwindsSuspendedCoroutine() {
+    AtomicBoolean cleanedUp = new AtomicBoolean();
+    AtomicBoolean continued = new AtomicBoolean();
+    Coroutine coroutine = this.engine.start(co -> {
+      try {
+        co.awaitTicks(100);
+        continued.set(true);
+      } finally {
+        cleanedUp.set(true);
+      }
+    });
+
+    this.engine.update();
+    coroutine.cancel();
+    this.engine.update();
+
+    assertTrue(coroutine.isCancelled());
+    assertTrue(coroutine.isDone());
+    assertTrue(cleanedUp.get());
+    assertFalse(continued.get());
+  }
+}
@@ -2,7 +2,9 @@ package de.gurkenlabs.litiengine.entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyDouble;
@@ -23,6 +25,7 @@ import de.gurkenlabs.litiengine.graphics.AmbientLight;
 import de.gurkenlabs.litiengine.graphics.StaticShadowLayer;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.RadialGradientPaint;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -198,6 +201,35 @@ class LightSourceTests {
     }
   }
 
+  @Test
+  void updateAmbientLayers_skipsDynamicLights() {
+    // arrange
+    lightSourceInactiveSpy.setDynamic(true);
+    when(lightSourceInactiveSpy.isLoaded()).thenReturn(true);
+
+    GameWorld actualWorld = spy(Game.world());
+    try (var gameMockedStatic = mockStatic(Game.class)) {
+      gameMockedStatic
+        .when(Game::world)
+        .thenReturn(actualWorld); // otherwise it is null because of the mock
+      Environment environmentMock = mock(Environment.class);
+      when(actualWorld.environment()).thenReturn(environmentMock);
+
+      AmbientLight ambientLightMock = mock(AmbientLight.class);
+      when(environmentMock.getAmbientLight()).thenReturn(ambientLightMock);
+      StaticShadowLayer staticShadowLayerMock = mock(StaticShadowLayer.class);
+      when(environmentMock.getStaticShadowLayer()).thenReturn(staticShadowLayerMock);
+
+      // act
+      lightSourceInactiveSpy.setColor(Color.GREEN);
+      lightSourceInactiveSpy.setIntensity(200);
+
+      // assert
+      verify(ambientLightMock, times(0)).updateSection(any(Rectangle2D.class));
+      verify(staticShadowLayerMock, times(0)).updateSection(any(Rectangle2D.class));
+    }
+  }
+
   @Test
   void updateAmbientLayers_doesNothingWhenNotLoaded() {
     // arrange
@@ -376,6 +408,19 @@ class LightSourceTests {
     assertEquals(newShape, lightSourceInactiveSpy.getLightShape());
   }
 
+  @Test
+  void getGradientPaint_isCachedUntilColorChanges() {
+    // arrange
+    lightSourceInactiveSpy.setLocation(new Point2D.Double(42, 42));
+    RadialGradientPaint paint = lightSourceInactiveSpy.getGradientPaint();
+
+    // act, assert
+    assertSame(paint, lightSourceInactiveSpy.getGradientPaint());
+
+    lightSourceInactiveSpy.setColor(Color.GREEN);
+    assertNotSame(paint, lightSourceInactiveSpy.getGradientPaint());
+  }
+
   // ACCESSORS
 
   @Test
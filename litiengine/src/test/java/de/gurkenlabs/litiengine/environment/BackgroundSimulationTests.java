@@ -0,0 +1,197 @@
+package de.gurkenlabs.litiengine.environment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTest;
+import de.gurkenlabs.litiengine.IGameLoop;
+import de.gurkenlabs.litiengine.IUpdateable;
+import de.gurkenlabs.litiengine.abilities.Ability;
+import de.gurkenlabs.litiengine.abilities.effects.Effect;
+import de.gurkenlabs.litiengine.abilities.effects.EffectTarget;
+import de.gurkenlabs.litiengine.entities.Creature;
+import de.gurkenlabs.litiengine.entities.Entity;
+import de.gurkenlabs.litiengine.entities.Trigger;
+import de.gurkenlabs.litiengine.entities.Trigger.TriggerActivation;
+import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import de.gurkenlabs.litiengine.test.GameTestSuite;
+import java.awt.Dimension;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameTestSuite.class)
+class BackgroundSimulationTests {
+  private BackgroundSimulation simulation;
+  private Environment environment;
+
+  @BeforeAll
+  public static void initGame() {
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+  }
+
+  @AfterAll
+  public static void terminateGame() {
+    GameTest.terminateGame();
+  }
+
+  @BeforeEach
+  public void init() {
+    this.environment = createEnvironment();
+    this.simulation = new BackgroundSimulation(Game.loop());
+  }
+
+  @AfterEach
+  public void terminate() {
+    this.simulation.terminate();
+    Game.world().unloadEnvironment();
+  }
+
+  @Test
+  void testEntitiesAreLoadedIntoIsolatedPhysics() {
+    Creature creature = new Creature();
+    this.environment.add(creature);
+
+    this.simulation.add(this.environment);
+
+    assertTrue(this.environment.isSimulated());
+    assertTrue(this.simulation.isSimulated(this.environment));
+    assertEquals(this.environment, creature.getEnvironment());
+    assertFalse(Game.physics().getCollisionEntities().contains(creature));
+
+    this.simulation.remove(this.environment);
+
+    assertFalse(this.environment.isSimulated());
+    assertFalse(this.simulation.isSimulated(this.environment));
+  }
+
+  @Test
+  void testUpdatableEntitiesAreUpdatedOnWorkerThread() throws InterruptedException {
+    TestEntity entity = new TestEntity();
+    this.environment.add(entity);
+
+    this.simulation.add(this.environment);
+
+    assertTrue(entity.updated.await(5, TimeUnit.SECONDS));
+    assertEquals(this.simulation, entity.updateThread);
+  }
+
+  @Test
+  void testTimedActionsArePerformedOnWorkerThread() throws InterruptedException {
+    TimedActionEntity entity = new TimedActionEntity();
+    this.environment.add(entity);
+
+    this.simulation.add(this.environment);
+
+    assertTrue(entity.performed.await(5, TimeUnit.SECONDS));
+    assertEquals(this.simulation, entity.performThread);
+    assertNotSame(Game.loop(), entity.performLoop);
+  }
+
+  @Test
+  void testEffectsAffectEntitiesOfExecutorEnvironment() {
+    Environment foreground = createEnvironment();
+    foreground.add(createCreature(1));
+    Game.world().loadEnvironment(foreground);
+
+    Creature executor = createCreature(0);
+    Creature enemy = createCreature(1);
+    this.environment.add(executor);
+    this.environment.add(enemy);
+    this.simulation.add(this.environment);
+
+    TestEffect effect = new TestEffect(new TestAbility(executor), EffectTarget.ENEMY);
+    effect.apply(new Rectangle2D.Double(0, 0, 100, 100));
+
+    // the creature on the active map at the same location is not hit
+    assertEquals(List.of(enemy), effect.getActiveAppliances().get(0).getAffectedEntities());
+  }
+
+  @Test
+  void testCollisionTriggersActivateWithoutActiveEnvironment() throws InterruptedException {
+    Trigger trigger = new Trigger(TriggerActivation.COLLISION, "testtrigger", "testmessage");
+    trigger.setSize(16, 16);
+    trigger.setLocation(0, 0);
+    CountDownLatch activated = new CountDownLatch(1);
+    trigger.addActivatedListener(e -> activated.countDown());
+    this.environment.add(trigger);
+    this.environment.add(createCreature(0));
+
+    this.simulation.add(this.environment);
+
+    assertNull(Game.world().environment());
+    assertTrue(activated.await(5, TimeUnit.SECONDS));
+  }
+
+  private static Environment createEnvironment() {
+    IMap map = mock(IMap.class);
+    when(map.getSizeInPixels()).thenReturn(new Dimension(100, 100));
+    when(map.getSizeInTiles()).thenReturn(new Dimension(10, 10));
+    return new Environment(map);
+  }
+
+  private static Creature createCreature(int team) {
+    Creature creature = new Creature();
+    creature.setTeam(team);
+    creature.setSize(10, 10);
+    creature.setLocation(4, 4);
+    return creature;
+  }
+
+  private static class TestAbility extends Ability {
+    protected TestAbility(Creature executor) {
+      super(executor);
+    }
+  }
+
+  private static class TestEffect extends Effect {
+    protected TestEffect(Ability ability, EffectTarget... targets) {
+      super(ability, targets);
+    }
+  }
+
+  private static class TimedActionEntity extends Entity implements IUpdateable {
+    private final CountDownLatch performed = new CountDownLatch(1);
+    private volatile boolean scheduled;
+    private volatile Thread performThread;
+    private volatile IGameLoop performLoop;
+
+    @Override
+    public void update() {
+      if (this.scheduled) {
+        return;
+      }
+
+      this.scheduled = true;
+      Game.loop().perform(0, () -> {
+        this.performThread = Thread.currentThread();
+        this.performLoop = Game.loop();
+        this.performed.countDown();
+      });
+    }
+  }
+
+  private static class TestEntity extends Entity implements IUpdateable {
+    private final CountDownLatch updated = new CountDownLatch(1);
+    private volatile Thread updateThread;
+
+    @Override
+    public void update() {
+      this.updateThread = Thread.currentThread();
+      this.updated.countDown();
+    }
+  }
+}
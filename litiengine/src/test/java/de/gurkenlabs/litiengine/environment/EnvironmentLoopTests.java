@@ -0,0 +1,96 @@
+package de.gurkenlabs.litiengine.environment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTest;
+import de.gurkenlabs.litiengine.entities.CollisionBox;
+import de.gurkenlabs.litiengine.entities.IEntity;
+import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import de.gurkenlabs.litiengine.environment.tilemap.IMapObject;
+import de.gurkenlabs.litiengine.environment.tilemap.IMapObjectLayer;
+import de.gurkenlabs.litiengine.test.GameTestSuite;
+
+import java.awt.Dimension;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameTestSuite.class)
+class EnvironmentLoopTests {
+  private static final String LOOP_TEST_TYPE = "LoopTest";
+
+  @BeforeAll
+  public static void startGame() {
+    // the game loop needs to be running so that changes from other threads are marshalled onto it
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+    Game.start();
+    Environment.registerMapObjectLoader(new IMapObjectLoader() {
+      @Override
+      public String getMapObjectType() {
+        return LOOP_TEST_TYPE;
+      }
+
+      @Override
+      public Collection<IEntity> load(Environment environment, IMapObject mapObject) {
+        CollisionBox box = new CollisionBox(10, 10);
+        box.setMapId(mapObject.getId());
+        box.setRenderWithLayer(true);
+        return List.of(box);
+      }
+
+      @Override
+      public void afterLoad(Collection<IEntity> entities, IMapObject mapObject) {
+        // nothing to do after loading the test entity
+      }
+    });
+  }
+
+  @AfterAll
+  public static void terminateGame() {
+    GameTest.terminateGame();
+  }
+
+  @Test
+  void testReloadFromForeignThreadKeepsMapId() throws InterruptedException {
+    IMapObjectLayer layer = mock(IMapObjectLayer.class);
+    IMapObject mapObject = mock(IMapObject.class);
+    when(mapObject.getId()).thenReturn(5);
+    when(mapObject.getType()).thenReturn(LOOP_TEST_TYPE);
+    when(mapObject.getLayer()).thenReturn(layer);
+    when(layer.getMapObjects()).thenReturn(List.of(mapObject));
+
+    IMap map = mock(IMap.class);
+    when(map.getSizeInPixels()).thenReturn(new Dimension(100, 100));
+    when(map.getSizeInTiles()).thenReturn(new Dimension(10, 10));
+    when(map.getMapObjectLayers()).thenReturn(List.of(layer));
+
+    Environment environment = new Environment(map);
+    environment.load();
+    IEntity original = environment.get(5);
+
+    // the test thread is not the loop thread, so the reload is queued as a command of the running loop
+    assertTrue(Game.hasStarted());
+    environment.reloadFromMap(5);
+
+    CountDownLatch processed = new CountDownLatch(1);
+    Game.loop().execute(processed::countDown);
+    assertTrue(processed.await(5, TimeUnit.SECONDS));
+
+    IEntity reloaded = environment.get(5);
+    assertNotSame(original, reloaded);
+    assertSame(reloaded, environment.getEntities().iterator().next());
+    assertEquals(1, environment.getEntities().size());
+    assertEquals(5, reloaded.getMapId());
+  }
+}
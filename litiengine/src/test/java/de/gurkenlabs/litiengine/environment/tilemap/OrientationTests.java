@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import org.junit.jupiter.api.Test;
@@ -186,5 +187,30 @@ class OrientationTests {
       Shape tileShape = map.getOrientation().getShape(tile.x, tile.y, map);
       assertTrue(tileShape.contains(x, y));
     }
+
+    testVisibleTileRange(map, rand);
+  }
+
+  private static void testVisibleTileRange(IMap map, Random rand) {
+    IMapOrientation orientation = map.getOrientation();
+    Point location = new Point();
+    for (int i = 0; i < 20; i++) {
+      Rectangle2D locations = new Rectangle2D.Double(rand.nextGaussian() * 200.0, rand.nextGaussian() * 200.0, rand.nextDouble() * 150.0, rand.nextDouble() * 150.0);
+      int firstRow = orientation.getFirstRow(locations, map);
+      int lastRow = orientation.getLastRow(locations, map);
+      for (int y = 0; y < map.getHeight(); y++) {
+        for (int x = 0; x < map.getWidth(); x++) {
+          Point expected = orientation.getLocation(x, y, map);
+          assertEquals(expected, orientation.getLocation(x, y, map, location));
+          if (!locations.contains(expected)) {
+            continue;
+          }
+
+          // every tile with a location within the bounds must be part of the visible range
+          assertTrue(y >= firstRow && y <= lastRow);
+          assertTrue(x >= orientation.getFirstColumn(y, locations, map) && x <= orientation.getLastColumn(y, locations, map));
+        }
+      }
+    }
   }
 }
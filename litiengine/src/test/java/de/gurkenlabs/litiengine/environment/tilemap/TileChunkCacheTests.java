@@ -0,0 +1,157 @@
+package de.gurkenlabs.litiengine.environment.tilemap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.List;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TileLayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TileChunkCacheTests {
+  private static final int TILE_SIZE = 16;
+
+  private IMap map;
+  private TileLayer layer;
+  private ITile tile;
+
+  @BeforeEach
+  void setup() {
+    this.map = mock(IMap.class);
+    when(this.map.getOrientation()).thenReturn(MapOrientations.ORTHOGONAL);
+    when(this.map.getRenderOrder()).thenReturn(RenderOrder.RIGHT_DOWN);
+    when(this.map.getTileWidth()).thenReturn(TILE_SIZE);
+    when(this.map.getTileHeight()).thenReturn(TILE_SIZE);
+    when(this.map.getWidth()).thenReturn(40);
+    when(this.map.getHeight()).thenReturn(40);
+    when(this.map.getTilesets()).thenReturn(Collections.emptyList());
+
+    ITileset tileset = mock(ITileset.class);
+    ITilesetEntry entry = mock(ITilesetEntry.class);
+    when(entry.getTileset()).thenReturn(tileset);
+
+    this.tile = mock(ITile.class);
+    when(this.tile.getTilesetEntry()).thenReturn(entry);
+    when(this.tile.getImage()).thenReturn(createTileImage(Color.RED));
+
+    this.layer = mock(TileLayer.class);
+    when(this.layer.getTile(anyInt(), anyInt())).thenReturn(this.tile);
+  }
+
+  @Test
+  void testChunksMatchTileRendering() {
+    Rectangle2D viewport = new Rectangle2D.Double(10, 20, 300, 200);
+
+    BufferedImage expected = new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = expected.createGraphics();
+    MapRenderer.renderTiles(g, this.layer, this.map, viewport, true);
+    g.dispose();
+
+    BufferedImage actual = new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+    g = actual.createGraphics();
+    new TileChunkCache(this.layer).render(g, this.layer, this.map, viewport);
+    g.dispose();
+
+    for (int y = 0; y < actual.getHeight(); y++) {
+      for (int x = 0; x < actual.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  void testAnimatedTallTilesKeepRenderOrder() {
+    // tiles that are twice as high as a grid cell overlap the row above them
+    ITileset tileset = mock(ITileset.class);
+    when(tileset.getTileWidth()).thenReturn(TILE_SIZE);
+    when(tileset.getTileHeight()).thenReturn(TILE_SIZE * 2);
+    when(this.map.getTilesets()).thenReturn(List.of(tileset));
+    when(this.tile.getTilesetEntry().getTileset()).thenReturn(tileset);
+    when(this.tile.getImage()).thenReturn(createTileImage(Color.RED, TILE_SIZE * 2));
+
+    ITileAnimationFrame frame = mock(ITileAnimationFrame.class);
+    ITileAnimation animation = mock(ITileAnimation.class);
+    when(animation.getCurrentFrame()).thenReturn(frame);
+    ITilesetEntry animatedEntry = mock(ITilesetEntry.class);
+    when(animatedEntry.getTileset()).thenReturn(tileset);
+    when(animatedEntry.getAnimation()).thenReturn(animation);
+    ITile animatedTile = mock(ITile.class);
+    when(animatedTile.getTilesetEntry()).thenReturn(animatedEntry);
+    when(animatedTile.getImage()).thenReturn(createTileImage(Color.BLUE, TILE_SIZE * 2));
+    when(animatedTile.getTileCoordinate()).thenReturn(new Point(1, 1));
+    when(this.layer.getTile(1, 1)).thenReturn(animatedTile);
+
+    Rectangle2D viewport = new Rectangle2D.Double(0, 0, 100, 100);
+    BufferedImage expected = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = expected.createGraphics();
+    MapRenderer.renderTiles(g, this.layer, this.map, viewport, true);
+    g.dispose();
+
+    BufferedImage actual = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+    g = actual.createGraphics();
+    new TileChunkCache(this.layer).render(g, this.layer, this.map, viewport);
+    g.dispose();
+
+    // the lower half of the animated tile is covered by the tile of the next row
+    assertEquals(Color.RED.getRGB(), actual.getRGB(TILE_SIZE + 1, TILE_SIZE + 1));
+    for (int y = 0; y < actual.getHeight(); y++) {
+      for (int x = 0; x < actual.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  void testChangedTileInvalidatesChunk() {
+    Rectangle2D viewport = new Rectangle2D.Double(0, 0, 300, 200);
+    TileChunkCache cache = new TileChunkCache(this.layer);
+    ArgumentCaptor<TileChangedListener> listener = ArgumentCaptor.forClass(TileChangedListener.class);
+    verify(this.layer).onTileChanged(listener.capture());
+
+    BufferedImage target = new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+    cache.render(g, this.layer, this.map, viewport);
+
+    // all tiles now provide another image, but only the chunk of the changed tile is updated
+    when(this.tile.getImage()).thenReturn(createTileImage(Color.BLUE));
+    when(this.tile.getTileCoordinate()).thenReturn(new Point(1, 1));
+    listener.getValue().changed(this.tile);
+    cache.render(g, this.layer, this.map, viewport);
+    g.dispose();
+
+    assertEquals(Color.BLUE.getRGB(), target.getRGB(20, 20));
+    assertEquals(Color.RED.getRGB(), target.getRGB(TileChunkCache.CHUNK_SIZE + 10, 20));
+  }
+
+  @Test
+  void testDisposeRemovesListener() {
+    TileChunkCache cache = new TileChunkCache(this.layer);
+    cache.dispose(this.layer);
+
+    verify(this.layer).removeTileChangedListener(any(TileChangedListener.class));
+  }
+
+  private static BufferedImage createTileImage(Color color) {
+    return createTileImage(color, TILE_SIZE);
+  }
+
+  private static BufferedImage createTileImage(Color color, int height) {
+    BufferedImage image = new BufferedImage(TILE_SIZE, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(color);
+    g.fillRect(0, 0, TILE_SIZE, height);
+    g.dispose();
+    return image;
+  }
+}
@@ -0,0 +1,46 @@
+package de.gurkenlabs.litiengine.environment.tilemap.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.gurkenlabs.litiengine.environment.tilemap.ITileAnimationFrame;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TileAnimationTests {
+  @Test
+  void testTotalDuration() {
+    TileAnimation animation = new TileAnimation(List.of(new Frame(0, 100), new Frame(1, 50), new Frame(2, 250)));
+
+    assertEquals(400, animation.getTotalDuration());
+  }
+
+  @Test
+  void testFrameIndex() {
+    TileAnimation animation = new TileAnimation(List.of(new Frame(0, 100), new Frame(1, 50), new Frame(2, 0), new Frame(3, 250)));
+
+    // a frame is displayed until its end time, including the end time itself
+    assertEquals(0, animation.getFrameIndex(0));
+    assertEquals(0, animation.getFrameIndex(100));
+    assertEquals(1, animation.getFrameIndex(101));
+    assertEquals(1, animation.getFrameIndex(150));
+    assertEquals(3, animation.getFrameIndex(151));
+    assertEquals(3, animation.getFrameIndex(399));
+  }
+
+  @Test
+  void testFrameIndexMatchesFrameDurations() {
+    List<ITileAnimationFrame> frames = List.of(new Frame(0, 16), new Frame(1, 33), new Frame(2, 7), new Frame(3, 120), new Frame(4, 1));
+    TileAnimation animation = new TileAnimation(frames);
+
+    for (int time = 0; time < animation.getTotalDuration(); time++) {
+      int remaining = time;
+      int expected = 0;
+      while (remaining - frames.get(expected).getDuration() > 0) {
+        remaining -= frames.get(expected).getDuration();
+        expected++;
+      }
+
+      assertEquals(expected, animation.getFrameIndex(time));
+    }
+  }
+}
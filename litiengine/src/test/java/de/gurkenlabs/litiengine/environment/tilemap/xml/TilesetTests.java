@@ -45,6 +45,24 @@ class TilesetTests {
     assertEquals(10f, collision.getHeight());
   }
 
+  @Test
+  void testTransformedImagesAreCached() {
+    IMap map = Resources.maps().get("de/gurkenlabs/litiengine/environment/tilemap/xml/test-map.tmx");
+
+    var tileset = map.getTilesets().getFirst();
+    var tile = new Tile(1 | Tile.FLIPPED_HORIZONTALLY_FLAG);
+    tile.setTilesetEntry(tileset.getTile(0));
+    var rotatedTile = new Tile(1 | Tile.FLIPPED_DIAGONALLY_FLAG);
+    rotatedTile.setTilesetEntry(tileset.getTile(0));
+
+    var image = tile.getImage();
+    assertNotNull(image);
+    assertNotSame(tileset.getTile(0).getImage(), image);
+    assertSame(image, tile.getImage());
+    assertNotSame(image, rotatedTile.getImage());
+    assertSame(rotatedTile.getImage(), rotatedTile.getImage());
+  }
+
   @Test
   void testWangSets() {
     IMap map = Resources.maps().get("de/gurkenlabs/litiengine/environment/tilemap/xml/test-tileset.tmx");
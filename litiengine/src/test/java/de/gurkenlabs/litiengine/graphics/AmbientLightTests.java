@@ -0,0 +1,105 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gurkenlabs.litiengine.entities.LightSource;
+import de.gurkenlabs.litiengine.entities.StaticShadow;
+import de.gurkenlabs.litiengine.environment.Environment;
+import java.awt.Color;
+import java.awt.Shape;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AmbientLightTests {
+  private final List<StaticShadow> shadows = new ArrayList<>();
+  private AmbientLight ambientLight;
+
+  @BeforeEach
+  void setup() {
+    this.shadows.clear();
+    Environment environment = mock(Environment.class);
+    when(environment.getStaticShadows()).thenReturn(this.shadows);
+    this.ambientLight = new AmbientLight(environment, Color.BLACK);
+  }
+
+  @Test
+  void testLightAreaIsCachedUntilLightMoves() {
+    LightSource light = createLight(0, 0);
+
+    Shape area = this.ambientLight.getLightArea(light);
+    assertSame(area, this.ambientLight.getLightArea(light));
+
+    light.setLocation(new Point2D.Double(10, 0));
+    assertNotSame(area, this.ambientLight.getLightArea(light));
+  }
+
+  @Test
+  void testOnlyLightAreasWithinUpdatedSectionAreInvalidated() {
+    LightSource light = createLight(0, 0);
+    LightSource farAwayLight = createLight(1000, 1000);
+    Shape farAwayArea = this.ambientLight.getLightArea(farAwayLight);
+
+    // without any shadows, the light is not blocked at all
+    assertSame(light.getLightShape(), this.ambientLight.getLightArea(light));
+
+    StaticShadow shadow = new StaticShadow(40, 60, 20, 10, StaticShadowType.NONE);
+    this.shadows.add(shadow);
+    this.ambientLight.updateSection(shadow.getBoundingBox());
+
+    // the added shadow is found by the updated shadow grid and blocks the light
+    Shape area = this.ambientLight.getLightArea(light);
+    assertNotSame(light.getLightShape(), area);
+    assertFalse(area.contains(50, 90));
+    assertTrue(area.contains(50, 30));
+    assertSame(farAwayArea, this.ambientLight.getLightArea(farAwayLight));
+  }
+
+  @Test
+  void testAllEdgesOfShadowedBoxBlockLight() {
+    // the light is located above the bottom of the box, so the whole box is shadowed
+    assertEquals(4, getOccluders(new Point2D.Double(50, 0)).size());
+    assertEquals(4, getOccluders(new Point2D.Double(0, 25)).size());
+  }
+
+  @Test
+  void testLightFallsOutOfBoxThroughBottomEdge() {
+    List<Line2D> occluders = getOccluders(new Point2D.Double(50, 20));
+
+    assertEquals(3, occluders.size());
+    for (Line2D occluder : occluders) {
+      assertFalse(occluder.getY1() == 30 && occluder.getY2() == 30);
+    }
+  }
+
+  @Test
+  void testOnlyEdgesFacingAwayFromLightBelowBoxBlockLight() {
+    // the light below the box is blocked by the top edge and by the side edges it can see the back of
+    assertEquals(3, getOccluders(new Point2D.Double(50, 50)).size());
+    assertEquals(2, getOccluders(new Point2D.Double(0, 50)).size());
+    assertEquals(2, getOccluders(new Point2D.Double(100, 50)).size());
+  }
+
+  private static List<Line2D> getOccluders(Point2D center) {
+    List<Line2D> occluders = new ArrayList<>();
+    AmbientLight.addOccluders(occluders, new Rectangle2D.Double(40, 10, 20, 20), center);
+    return occluders;
+  }
+
+  private static LightSource createLight(double x, double y) {
+    LightSource light = new LightSource(100, Color.WHITE, LightSource.Type.ELLIPSE, true);
+    light.setSize(100, 100);
+    light.setLocation(new Point2D.Double(x, y));
+    return light;
+  }
+}
@@ -0,0 +1,86 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ColorLayerTests {
+  private TestColorLayer layer;
+  private Graphics2D g;
+
+  @BeforeEach
+  void setup() {
+    IMap map = mock(IMap.class);
+    when(map.getSizeInPixels()).thenReturn(new Dimension(ColorLayer.TILE_SIZE * 20, ColorLayer.TILE_SIZE * 20));
+    when(map.getBounds()).thenReturn(new Rectangle2D.Double(0, 0, ColorLayer.TILE_SIZE * 20, ColorLayer.TILE_SIZE * 20));
+    Environment environment = mock(Environment.class);
+    when(environment.getMap()).thenReturn(map);
+
+    this.layer = new TestColorLayer(environment);
+    this.g = new BufferedImage(ColorLayer.TILE_SIZE, ColorLayer.TILE_SIZE, BufferedImage.TYPE_INT_ARGB).createGraphics();
+  }
+
+  @Test
+  void testOnlyVisibleTilesAreRendered() {
+    this.layer.render(this.g, new Rectangle2D.Double(10, 10, ColorLayer.TILE_SIZE, ColorLayer.TILE_SIZE));
+
+    assertEquals(4, this.layer.getTileCount());
+    assertEquals(4, this.layer.renderedSections.size());
+  }
+
+  @Test
+  void testOnlyDirtyTilesAreRenderedAgain() {
+    Rectangle2D viewport = new Rectangle2D.Double(0, 0, ColorLayer.TILE_SIZE * 2, ColorLayer.TILE_SIZE);
+    this.layer.render(this.g, viewport);
+    this.layer.renderedSections.clear();
+
+    this.layer.updateSection(new Rectangle2D.Double(ColorLayer.TILE_SIZE + 10, 10, 10, 10));
+    this.layer.render(this.g, viewport);
+
+    assertEquals(1, this.layer.renderedSections.size());
+    assertEquals(ColorLayer.TILE_SIZE, this.layer.renderedSections.get(0).getX());
+  }
+
+  @Test
+  void testFarAwayTilesAreEvicted() {
+    Rectangle2D viewport = new Rectangle2D.Double(0, 0, ColorLayer.TILE_SIZE, ColorLayer.TILE_SIZE);
+    for (int i = 0; i < 20; i++) {
+      viewport.setRect(i * ColorLayer.TILE_SIZE, 0, ColorLayer.TILE_SIZE, ColorLayer.TILE_SIZE);
+      this.layer.render(this.g, viewport);
+    }
+
+    // a single visible tile keeps at most the surrounding ring of tiles in memory
+    assertEquals(9, this.layer.getTileCount());
+  }
+
+  private static class TestColorLayer extends ColorLayer {
+    private final List<Rectangle2D> renderedSections = Collections.synchronizedList(new ArrayList<>());
+
+    TestColorLayer(Environment environment) {
+      super(environment, Color.BLACK);
+    }
+
+    @Override
+    protected void renderSection(Graphics2D g, Rectangle2D section) {
+      this.renderedSections.add(section);
+    }
+
+    @Override
+    protected void clearSection(Graphics2D g, Rectangle2D section) {
+      // nothing to clear
+    }
+  }
+}
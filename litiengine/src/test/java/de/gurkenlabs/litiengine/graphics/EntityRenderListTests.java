@@ -0,0 +1,121 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gurkenlabs.litiengine.entities.IEntity;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EntityRenderListTests {
+
+  @Test
+  void testEntitiesAreSortedByMaxY() {
+    IEntity a = createEntity(30);
+    IEntity b = createEntity(10);
+    IEntity c = createEntity(20);
+
+    EntityRenderList list = new EntityRenderList();
+    list.update(Arrays.asList(a, b, c));
+
+    assertEquals(3, list.size());
+    assertSame(b, list.get(0));
+    assertSame(c, list.get(1));
+    assertSame(a, list.get(2));
+  }
+
+  @Test
+  void testOrderIsRestoredAfterMovement() {
+    IEntity a = createEntity(10);
+    IEntity b = createEntity(20);
+    List<IEntity> entities = Arrays.asList(a, b);
+
+    EntityRenderList list = new EntityRenderList();
+    list.update(entities);
+
+    when(a.getBoundingBox()).thenReturn(new Rectangle2D.Double(0, 25, 10, 10));
+    list.update(entities);
+
+    assertSame(b, list.get(0));
+    assertSame(a, list.get(1));
+  }
+
+  @Test
+  void testRemovedEntitiesAreNotRendered() {
+    IEntity a = createEntity(10);
+    IEntity b = createEntity(20);
+
+    EntityRenderList list = new EntityRenderList();
+    list.update(Arrays.asList(a, b));
+    list.update(Arrays.asList(b));
+
+    assertEquals(1, list.size());
+    assertSame(b, list.get(0));
+  }
+
+  @Test
+  void testUnsortedListKeepsInsertionOrder() {
+    IEntity a = createEntity(30);
+    IEntity b = createEntity(10);
+
+    EntityRenderList list = new EntityRenderList(false);
+    list.update(Arrays.asList(a, b));
+
+    assertSame(a, list.get(0));
+    assertSame(b, list.get(1));
+  }
+
+  @Test
+  void testEntitiesOutsideViewportAreNotSorted() {
+    IEntity a = createEntity(30);
+    IEntity b = createEntity(500);
+    IEntity c = createEntity(10);
+    List<IEntity> entities = Arrays.asList(a, b, c);
+    Rectangle2D viewport = new Rectangle2D.Double(0, 0, 100, 100);
+
+    EntityRenderList list = new EntityRenderList();
+    list.update(entities, viewport);
+
+    assertEquals(2, list.size());
+    assertSame(c, list.get(0));
+    assertSame(a, list.get(1));
+
+    // once the entity enters the viewport, it is sorted into the render order
+    when(b.getBoundingBox()).thenReturn(new Rectangle2D.Double(0, 10, 10, 10));
+    list.update(entities, viewport);
+
+    assertEquals(3, list.size());
+    assertSame(c, list.get(0));
+    assertSame(b, list.get(1));
+    assertSame(a, list.get(2));
+  }
+
+  @Test
+  void testUnsortedListKeepsCollectionOrderWithViewport() {
+    IEntity a = createEntity(30);
+    IEntity b = createEntity(500);
+    IEntity c = createEntity(10);
+    List<IEntity> entities = Arrays.asList(a, b, c);
+    Rectangle2D viewport = new Rectangle2D.Double(0, 0, 100, 100);
+
+    EntityRenderList list = new EntityRenderList(false);
+    list.update(entities, viewport);
+    when(b.getBoundingBox()).thenReturn(new Rectangle2D.Double(0, 10, 10, 10));
+    list.update(entities, viewport);
+
+    assertEquals(3, list.size());
+    assertSame(a, list.get(0));
+    assertSame(b, list.get(1));
+    assertSame(c, list.get(2));
+  }
+
+  private static IEntity createEntity(double maxY) {
+    IEntity entity = mock(IEntity.class);
+    when(entity.getBoundingBox()).thenReturn(new Rectangle2D.Double(0, maxY - 10, 10, 10));
+    return entity;
+  }
+}
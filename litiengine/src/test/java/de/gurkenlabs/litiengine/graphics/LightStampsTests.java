@@ -0,0 +1,95 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.entities.LightSource;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LightStampsTests {
+  private BufferedImage target;
+  private Graphics2D g;
+
+  @BeforeEach
+  void setup() {
+    LightStamps.clear();
+    this.target = new BufferedImage(600, 300, BufferedImage.TYPE_INT_ARGB);
+    this.g = this.target.createGraphics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.g.dispose();
+    LightStamps.clear();
+    Game.config().graphics().setLightStampCacheSize(16);
+  }
+
+  @Test
+  void testStampIsSharedByLightsWithSameSizeAndColor() {
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 100, Color.RED, 50, 50, 0), null, 1);
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 200, Color.RED, 50, 50, 100), null, 1);
+
+    assertEquals(1, LightStamps.getCache().size());
+    assertEquals(1, LightStamps.getCache().getMisses());
+    assertEquals(1, LightStamps.getCache().getHits());
+
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 100, Color.BLUE, 50, 50, 0), null, 1);
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 100, Color.RED, 50, 50, 0), null, 2);
+    assertEquals(3, LightStamps.getCache().size());
+  }
+
+  @Test
+  void testStampsAreBoundedByMemory() {
+    // 1 MB fits exactly two stamps of 512 x 256 ARGB pixels
+    Game.config().graphics().setLightStampCacheSize(1);
+
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 100, Color.RED, 512, 256, 0), null, 1);
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 100, Color.GREEN, 512, 256, 0), null, 1);
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 100, Color.BLUE, 512, 256, 0), null, 1);
+
+    assertEquals(2, LightStamps.getCache().size());
+    assertEquals(1024L * 1024L, LightStamps.getCache().getMemoryUsage());
+  }
+
+  @Test
+  void testStampsHaveTheirOwnBudget() {
+    Game.config().graphics().setLightStampCacheSize(16);
+    Game.config().graphics().setFrameCacheSize(1);
+
+    assertEquals(16L * 1024L * 1024L, LightStamps.getCache().getMemoryBudget());
+    Game.config().graphics().setFrameCacheSize(64);
+  }
+
+  @Test
+  void testRectangleLightsAreFilledWithoutStamp() {
+    LightStamps.render(this.g, createLight(LightSource.Type.RECTANGLE, 100, Color.RED, 50, 50, 0), null, 1);
+
+    assertEquals(0, LightStamps.getCache().size());
+    assertEquals(Color.RED.getRGB(), this.target.getRGB(25, 25));
+  }
+
+  @Test
+  void testClearReleasesStamps() {
+    LightStamps.render(this.g, createLight(LightSource.Type.ELLIPSE, 100, Color.RED, 50, 50, 0), null, 1);
+    assertTrue(LightStamps.getCache().size() > 0);
+
+    AmbientLight.clearLightStamps();
+
+    assertEquals(0, LightStamps.getCache().size());
+    assertEquals(0, LightStamps.getCache().getMemoryUsage());
+  }
+
+  private static LightSource createLight(LightSource.Type type, int intensity, Color color, double width, double height, double x) {
+    LightSource light = new LightSource(intensity, color, type, true);
+    light.setSize(width, height);
+    light.setLocation(new Point2D.Double(x, 0));
+    return light;
+  }
+}
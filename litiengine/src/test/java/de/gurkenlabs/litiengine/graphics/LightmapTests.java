@@ -0,0 +1,105 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gurkenlabs.litiengine.entities.LightSource;
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LightmapTests {
+  private static final Rectangle2D VIEWPORT = new Rectangle2D.Double(0, 0, 200, 100);
+
+  private final List<LightSource> lights = new ArrayList<>();
+  private AmbientLight ambientLight;
+  private LightSource dynamicLight;
+
+  @BeforeEach
+  void setup() {
+    IMap map = mock(IMap.class);
+    when(map.getSizeInPixels()).thenReturn(new Dimension(400, 400));
+    Environment environment = mock(Environment.class);
+    when(environment.getMap()).thenReturn(map);
+    when(environment.getLightSources()).thenReturn(this.lights);
+    when(environment.getStaticShadows()).thenReturn(Collections.emptyList());
+
+    this.lights.clear();
+    this.lights.add(createLight(10, 10, 30, false));
+    this.dynamicLight = createLight(150, 50, 40, true);
+    this.lights.add(this.dynamicLight);
+    this.ambientLight = new AmbientLight(environment, new Color(0, 0, 0, 200));
+  }
+
+  @Test
+  void testOnlyDynamicLightsUseReducedResolution() {
+    Lightmap lightmap = new Lightmap();
+    render(lightmap, 4);
+
+    assertEquals(50, lightmap.getLightImage().getWidth());
+    assertEquals(25, lightmap.getLightImage().getHeight());
+    assertEquals(200, lightmap.getAmbientImage().getWidth());
+    assertEquals(100, lightmap.getAmbientImage().getHeight());
+  }
+
+  @Test
+  void testAmbientLightKeepsFullResolution() {
+    BufferedImage ambientOnly = this.renderAmbientOnly();
+    BufferedImage lightmapped = render(new Lightmap(), 4);
+
+    // away from the dynamic light, the lightmap is identical to the ambient light including the static light
+    for (int y = 0; y < 100; y++) {
+      for (int x = 0; x < 100; x++) {
+        assertEquals(ambientOnly.getRGB(x, y), lightmapped.getRGB(x, y), "pixel " + x + "," + y);
+      }
+    }
+  }
+
+  @Test
+  void testDynamicLightsAreCompositedWithAmbientLight() {
+    BufferedImage ambientOnly = this.renderAmbientOnly();
+    BufferedImage target = render(new Lightmap(), 2);
+
+    // the ambient light is carved out at the center of the dynamic light and the light color is drawn on top of it
+    assertEquals(ambientOnly.getRGB(100, 90), target.getRGB(100, 90));
+    assertNotEquals(ambientOnly.getRGB(170, 70), target.getRGB(170, 70));
+    assertTrue(new Color(target.getRGB(170, 70), true).getRed() > 0);
+  }
+
+  private BufferedImage renderAmbientOnly() {
+    BufferedImage target = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+    this.ambientLight.render(g, VIEWPORT);
+    g.dispose();
+    return target;
+  }
+
+  private BufferedImage render(Lightmap lightmap, int resolution) {
+    BufferedImage target = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+    lightmap.render(g, VIEWPORT, this.ambientLight, List.of(this.dynamicLight), resolution);
+    g.dispose();
+    return target;
+  }
+
+  private static LightSource createLight(double x, double y, double size, boolean dynamic) {
+    LightSource light = new LightSource(255, Color.WHITE, LightSource.Type.ELLIPSE, true);
+    light.setDynamic(dynamic);
+    light.setSize(size, size);
+    light.setLocation(new Point2D.Double(x, y));
+    return light;
+  }
+}
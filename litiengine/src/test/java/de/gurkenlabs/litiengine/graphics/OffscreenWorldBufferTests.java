@@ -0,0 +1,68 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.Test;
+
+class OffscreenWorldBufferTests {
+
+  @Test
+  void testWorldIsUpscaled() {
+    BufferedImage target = new BufferedImage(30, 30, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+
+    OffscreenWorldBuffer buffer = new OffscreenWorldBuffer();
+    buffer.render(g, OffscreenWorldBufferTests::renderPixel, 30, 30, 3, false);
+    g.dispose();
+
+    assertEquals(new Point2D.Double(), buffer.getOffset());
+    assertEquals(Color.RED.getRGB(), target.getRGB(3, 3));
+    assertEquals(Color.RED.getRGB(), target.getRGB(5, 5));
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(6, 6));
+  }
+
+  @Test
+  void testWorldIsLetterboxed() {
+    BufferedImage target = new BufferedImage(32, 31, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+
+    OffscreenWorldBuffer buffer = new OffscreenWorldBuffer();
+    buffer.render(g, OffscreenWorldBufferTests::renderPixel, 32, 31, 3, true);
+    g.dispose();
+
+    // 10 x 10 world pixels are scaled to 30 x 30 screen pixels and centered
+    assertEquals(new Point2D.Double(1, 0), buffer.getOffset());
+    assertEquals(0, target.getRGB(0, 0));
+    assertEquals(Color.RED.getRGB(), target.getRGB(4, 3));
+    assertEquals(0, target.getRGB(31, 30));
+  }
+
+  @Test
+  void testFractionalScaleOnlyUsesIntegerScaleForUpscale() {
+    BufferedImage target = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+
+    OffscreenWorldBuffer buffer = new OffscreenWorldBuffer();
+    buffer.render(g, OffscreenWorldBufferTests::renderPixel, 50, 50, 2.5, true);
+    g.dispose();
+
+    // the viewport of 20 x 20 world pixels is scaled by 2 to 40 x 40 screen pixels and centered
+    assertEquals(new Point2D.Double(5, 5), buffer.getOffset());
+    assertEquals(0, target.getRGB(4, 4));
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(5, 5));
+    assertEquals(Color.RED.getRGB(), target.getRGB(7, 7));
+    assertEquals(Color.RED.getRGB(), target.getRGB(8, 8));
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(9, 9));
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(44, 44));
+    assertEquals(0, target.getRGB(45, 45));
+  }
+
+  private static void renderPixel(Graphics2D g) {
+    g.setColor(Color.RED);
+    g.fillRect(1, 1, 1, 1);
+  }
+}
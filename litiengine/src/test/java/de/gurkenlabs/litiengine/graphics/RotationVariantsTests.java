@@ -0,0 +1,89 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.resources.Resources;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RotationVariantsTests {
+
+  @AfterEach
+  void tearDown() {
+    Game.config().graphics().setRotationVariants(0);
+    RotationVariants.getCache().clear();
+  }
+
+  @Test
+  void testAnglesAreQuantizedIntoVariants() {
+    Game.config().graphics().setRotationVariants(64);
+
+    assertEquals(1, RotationVariants.getVariant(3));
+    assertEquals(5.625, RotationVariants.quantize(3), 0.0001);
+    assertEquals(0, RotationVariants.getVariant(359));
+    assertEquals(48, RotationVariants.getVariant(-90));
+    assertEquals(RotationVariants.getVariant(90), RotationVariants.getVariant(450));
+  }
+
+  @Test
+  void testQuantizationCanBeDisabled() {
+    Game.config().graphics().setRotationVariants(0);
+
+    assertEquals(3, RotationVariants.quantize(3), 0.0001);
+    assertNotEquals(RotationVariants.getVariant(3), RotationVariants.getVariant(3.5));
+  }
+
+  @Test
+  void testRotationEffectVariantFollowsAngle() {
+    Game.config().graphics().setRotationVariants(64);
+
+    assertEquals(new RotationImageEffect(0, 90).getVariant(), new RotationImageEffect(0, 91).getVariant());
+    assertNotEquals(new RotationImageEffect(0, 90).getVariant(), new RotationImageEffect(0, 180).getVariant());
+  }
+
+  @Test
+  void testRenderRotatedUsesExactAngle() {
+    Game.config().graphics().setRotationVariants(64);
+    RotationVariants.getCache().clear();
+    Graphics2D g = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+    ImageRenderer.renderRotated(g, new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB), 10, 10, 33);
+    g.dispose();
+
+    assertEquals(0, RotationVariants.getCache().size());
+  }
+
+  @Test
+  void testRotationVariantIsRenderedOncePerVariant() {
+    Game.config().graphics().setRotationVariants(64);
+    RotationVariants.getCache().clear();
+    Graphics2D g = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    BufferedImage image = new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB);
+
+    ImageRenderer.renderRotationVariant(g, image, 10, 10, 90);
+    ImageRenderer.renderRotationVariant(g, image, 10, 10, 91);
+    ImageRenderer.renderRotationVariant(g, image, 10, 10, 180);
+    g.dispose();
+
+    assertEquals(2, RotationVariants.getCache().size());
+    assertEquals(1, RotationVariants.getCache().getHits());
+    assertEquals(2, RotationVariants.getCache().getMisses());
+  }
+
+  @Test
+  void testRotationVariantsAreReleasedWithResources() {
+    Game.config().graphics().setRotationVariants(64);
+    Graphics2D g = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    ImageRenderer.renderRotationVariant(g, new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB), 10, 10, 90);
+    g.dispose();
+    assertEquals(1, RotationVariants.getCache().size());
+
+    Resources.clearAll();
+
+    assertEquals(0, RotationVariants.getCache().size());
+  }
+}
@@ -0,0 +1,82 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gurkenlabs.litiengine.entities.StaticShadow;
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.util.MathUtilities;
+import java.awt.Color;
+import java.awt.geom.Area;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StaticShadowLayerTests {
+  private final List<StaticShadow> shadows = new ArrayList<>();
+  private StaticShadowLayer layer;
+
+  @BeforeEach
+  void setup() {
+    this.shadows.clear();
+    Environment environment = mock(Environment.class);
+    when(environment.getStaticShadows()).thenReturn(this.shadows);
+    this.layer = new StaticShadowLayer(environment, StaticShadow.DEFAULT_COLOR);
+  }
+
+  @Test
+  void testBucketAreaIsCached() {
+    this.shadows.add(new StaticShadow(10, 10, 20, 20, StaticShadowType.DOWN));
+
+    Area area = this.layer.getBucketArea(MathUtilities.getGridKey(0, 0));
+    assertTrue(area.contains(20, 35));
+    assertSame(area, this.layer.getBucketArea(MathUtilities.getGridKey(0, 0)));
+  }
+
+  @Test
+  void testBucketAreaOnlyContainsShadowsWithinBucket() {
+    this.shadows.add(new StaticShadow(250, 10, 20, 20, StaticShadowType.NOOFFSET));
+
+    Area left = this.layer.getBucketArea(MathUtilities.getGridKey(0, 0));
+    Area right = this.layer.getBucketArea(MathUtilities.getGridKey(1, 0));
+    assertTrue(left.contains(252, 20));
+    assertFalse(left.contains(260, 20));
+    assertTrue(right.contains(260, 20));
+  }
+
+  @Test
+  void testOnlyBucketsWithinUpdatedSectionAreMergedAgain() {
+    Area area = this.layer.getBucketArea(MathUtilities.getGridKey(0, 0));
+    Area farAwayArea = this.layer.getBucketArea(MathUtilities.getGridKey(4, 4));
+    assertTrue(area.isEmpty());
+
+    StaticShadow shadow = new StaticShadow(10, 10, 20, 20, StaticShadowType.DOWN);
+    this.shadows.add(shadow);
+
+    // the shadow is not part of the cached area until its section is updated
+    assertSame(area, this.layer.getBucketArea(MathUtilities.getGridKey(0, 0)));
+
+    this.layer.updateSection(shadow.getArea().getBounds2D());
+    Area updated = this.layer.getBucketArea(MathUtilities.getGridKey(0, 0));
+    assertNotSame(area, updated);
+    assertTrue(updated.contains(20, 35));
+    assertSame(farAwayArea, this.layer.getBucketArea(MathUtilities.getGridKey(4, 4)));
+  }
+
+  @Test
+  void testRemovedShadowIsRemovedFromUpdatedBuckets() {
+    StaticShadow shadow = new StaticShadow(10, 10, 20, 20, StaticShadowType.NOOFFSET);
+    this.shadows.add(shadow);
+    assertTrue(this.layer.getBucketArea(MathUtilities.getGridKey(0, 0)).contains(20, 20));
+
+    this.shadows.remove(shadow);
+    this.layer.updateSection(shadow.getArea().getBounds2D());
+
+    assertTrue(this.layer.getBucketArea(MathUtilities.getGridKey(0, 0)).isEmpty());
+  }
+}
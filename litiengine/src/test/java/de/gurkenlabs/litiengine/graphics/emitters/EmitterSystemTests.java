@@ -0,0 +1,89 @@
+package de.gurkenlabs.litiengine.graphics.emitters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTest;
+import de.gurkenlabs.litiengine.graphics.emitters.particles.ParticleBuffer;
+import de.gurkenlabs.litiengine.graphics.emitters.particles.ParticleType;
+import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
+import de.gurkenlabs.litiengine.graphics.emitters.xml.ParticleParameter;
+import de.gurkenlabs.litiengine.test.GameTestSuite;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameTestSuite.class)
+class EmitterSystemTests {
+  private static final int TICKS = 5;
+
+  @BeforeAll
+  public static void setup() {
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+  }
+
+  @AfterAll
+  public static void terminateGame() {
+    GameTest.terminateGame();
+  }
+
+  @Test
+  void testParallelUpdateEqualsSerialUpdate() {
+    Emitter parallel = createEmitter();
+    Emitter serial = createEmitter();
+
+    EmitterSystem system = EmitterSystem.get(Game.loop());
+    system.add(parallel);
+    try {
+      for (int tick = 0; tick < TICKS; tick++) {
+        system.update();
+        serial.update();
+      }
+    } finally {
+      system.remove(parallel);
+    }
+
+    ParticleBuffer expected = serial.getParticleBuffer();
+    ParticleBuffer actual = parallel.getParticleBuffer();
+
+    // the buffer is large enough to be split into multiple chunks that are simulated concurrently
+    assertTrue(actual.size() > EmitterSystem.CHUNK_SIZE);
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.getX(i), actual.getX(i), "x of particle " + i);
+      assertEquals(expected.getY(i), actual.getY(i), "y of particle " + i);
+    }
+  }
+
+  @Test
+  void testCreatingEmitterDoesNotAdvanceGameRandom() {
+    Game.random().setSeed(42);
+    long expected = Game.random().nextLong();
+
+    Game.random().setSeed(42);
+    createEmitter();
+
+    assertEquals(expected, Game.random().nextLong());
+  }
+
+  private static Emitter createEmitter() {
+    EmitterData data = new EmitterData();
+    data.setParticleType(ParticleType.RECTANGLE);
+    data.setBufferParticles(true);
+    data.setEmitterDuration(0);
+    data.setMaxParticles(10000);
+    data.setSpawnAmount(1000);
+    data.setSpawnRate(0);
+    data.setParticleTTL(new ParticleParameter(100000, 100000));
+    data.setVelocityX(new ParticleParameter(-5, 5));
+    data.setVelocityY(new ParticleParameter(-5, 5));
+    data.setAccelerationX(new ParticleParameter(-1, 1));
+    data.setAccelerationY(new ParticleParameter(-1, 1));
+
+    Emitter emitter = new Emitter(100, 100, data);
+    emitter.setSeed(1234);
+    return emitter;
+  }
+}
@@ -0,0 +1,122 @@
+package de.gurkenlabs.litiengine.graphics.emitters.particles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTest;
+import de.gurkenlabs.litiengine.resources.Resources;
+import de.gurkenlabs.litiengine.test.GameTestSuite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@ExtendWith(GameTestSuite.class)
+class ParticleStampsTests {
+  private Graphics2D g;
+
+  @BeforeAll
+  public static void setup() {
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+  }
+
+  @AfterAll
+  public static void terminateGame() {
+    GameTest.terminateGame();
+  }
+
+  @BeforeEach
+  void setUp() {
+    ParticleStamps.clear();
+    this.g = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB).createGraphics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.g.dispose();
+    ParticleStamps.clear();
+    Game.config().graphics().setParticleStampCacheSize(8);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0.5, 1", "1, 1", "2, 2", "3, 4", "4, 4", "5, 8", "100, 128"})
+  void testSizesAreBucketedToPowersOfTwo(float size, int expectedBucket) {
+    assertEquals(expectedBucket, ParticleStamps.getBucketSize(size));
+  }
+
+  @Test
+  void testStampIsSharedWithinSizeBucket() {
+    float scale = Game.world().camera().getRenderScale();
+    render(ParticleType.ELLIPSE, 9 / scale, 10 / scale, Color.RED);
+    render(ParticleType.ELLIPSE, 12 / scale, 15 / scale, Color.RED);
+
+    assertEquals(1, ParticleStamps.getCache().size());
+    assertEquals(1, ParticleStamps.getCache().getMisses());
+    assertEquals(1, ParticleStamps.getCache().getHits());
+  }
+
+  @Test
+  void testStampIsMissedForOtherShapeColorOrBucket() {
+    float scale = Game.world().camera().getRenderScale();
+    render(ParticleType.ELLIPSE, 10 / scale, 10 / scale, Color.RED);
+    render(ParticleType.RECTANGLE, 10 / scale, 10 / scale, Color.RED);
+    render(ParticleType.ELLIPSE, 10 / scale, 10 / scale, Color.BLUE);
+    render(ParticleType.ELLIPSE, 20 / scale, 10 / scale, Color.RED);
+
+    assertEquals(4, ParticleStamps.getCache().size());
+    assertEquals(4, ParticleStamps.getCache().getMisses());
+    assertEquals(0, ParticleStamps.getCache().getHits());
+  }
+
+  @Test
+  void testLeastRecentlyUsedStampsAreEvictedWhenBudgetIsExceeded() {
+    // 1 MB fits three stamps of the 256 pixel bucket, which are padded to 258 x 258 ARGB pixels
+    Game.config().graphics().setParticleStampCacheSize(1);
+    float scale = Game.world().camera().getRenderScale();
+
+    render(ParticleType.RECTANGLE, 250 / scale, 250 / scale, Color.RED);
+    render(ParticleType.RECTANGLE, 250 / scale, 250 / scale, Color.GREEN);
+    render(ParticleType.RECTANGLE, 250 / scale, 250 / scale, Color.BLUE);
+    render(ParticleType.RECTANGLE, 250 / scale, 250 / scale, Color.YELLOW);
+    assertEquals(3, ParticleStamps.getCache().size());
+    assertEquals(4, ParticleStamps.getCache().getMisses());
+
+    // the red stamp was the least recently used one and has to be rasterized again
+    render(ParticleType.RECTANGLE, 250 / scale, 250 / scale, Color.RED);
+    assertEquals(5, ParticleStamps.getCache().getMisses());
+    render(ParticleType.RECTANGLE, 250 / scale, 250 / scale, Color.YELLOW);
+    assertEquals(1, ParticleStamps.getCache().getHits());
+  }
+
+  @Test
+  void testOutlinesAndLinesAreNotStamped() {
+    assertTrue(ParticleStamps.supports(ParticleType.ELLIPSE, false));
+    assertFalse(ParticleStamps.supports(ParticleType.ELLIPSE, true));
+    assertFalse(ParticleStamps.supports(ParticleType.LINE, false));
+  }
+
+  @Test
+  void testStampsAreReleasedWithResources() {
+    float scale = Game.world().camera().getRenderScale();
+    render(ParticleType.ELLIPSE, 10 / scale, 10 / scale, Color.RED);
+    assertEquals(1, ParticleStamps.getCache().size());
+
+    Resources.clearAll();
+
+    assertEquals(0, ParticleStamps.getCache().size());
+    assertEquals(0, ParticleStamps.getCache().getMemoryUsage());
+  }
+
+  private void render(ParticleType type, float width, float height, Color color) {
+    ParticleStamps.render(this.g, type, 50, 50, width, height, 0, color.getRGB(), 1, true);
+  }
+}
@@ -3,6 +3,8 @@ package de.gurkenlabs.litiengine.graphics.emitters.particles;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -10,13 +12,19 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameRandom;
 import de.gurkenlabs.litiengine.GameTest;
+import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
+import de.gurkenlabs.litiengine.graphics.emitters.xml.ParticleParameter;
 import de.gurkenlabs.litiengine.physics.Collision;
 import de.gurkenlabs.litiengine.physics.PhysicsEngine;
 import de.gurkenlabs.litiengine.test.GameTestSuite;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -139,4 +147,81 @@ class ParticleTests {
     assertEquals(0.21f, part.getX(), 0.0001);
     assertEquals(0.21f, part.getY(), 0.0001);
   }
+
+  @Test
+  void testParticleBufferDeltaLocation() {
+    EmitterData data = new EmitterData();
+    data.setParticleWidth(new ParticleParameter(10));
+    data.setParticleHeight(new ParticleParameter(10));
+    data.setVelocityX(new ParticleParameter(0.1f));
+    data.setVelocityY(new ParticleParameter(0.1f));
+    data.setAccelerationX(new ParticleParameter(0.01f));
+    data.setAccelerationY(new ParticleParameter(0.01f));
+
+    ParticleBuffer buffer = new ParticleBuffer();
+    for (int i = 0; i < 100; i++) {
+      buffer.add(data);
+    }
+
+    buffer.update(data, new Point2D.Double(0, 0), 1);
+    buffer.update(data, new Point2D.Double(0, 0), 1);
+
+    // the buffer behaves exactly like the particle objects
+    assertEquals(100, buffer.size());
+    assertEquals(0.21f, buffer.getX(99), 0.0001);
+    assertEquals(0.21f, buffer.getY(99), 0.0001);
+
+    buffer.clear();
+    assertEquals(0, buffer.size());
+  }
+
+  @Test
+  void testParticleBufferSeededSpawningIsDeterministic() {
+    EmitterData data = new EmitterData();
+    data.setParticleWidth(new ParticleParameter(1, 10));
+    data.setVelocityX(new ParticleParameter(-1, 1));
+
+    ParticleBuffer first = new ParticleBuffer();
+    ParticleBuffer second = new ParticleBuffer();
+    GameRandom firstRandom = new GameRandom(42);
+    GameRandom secondRandom = new GameRandom(42);
+    for (int i = 0; i < 10; i++) {
+      first.add(data, firstRandom);
+      second.add(data, secondRandom);
+    }
+
+    first.update(data, new Point2D.Double(0, 0), 1);
+    second.update(data, new Point2D.Double(0, 0), 1);
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals(first.getX(i), second.getX(i));
+      assertEquals(first.getY(i), second.getY(i));
+    }
+  }
+
+  @Test
+  void testParticleBufferSupportsShapeParticlesOnly() {
+    assertTrue(ParticleBuffer.supports(ParticleType.RECTANGLE));
+    assertTrue(ParticleBuffer.supports(ParticleType.DIAMOND));
+    assertFalse(ParticleBuffer.supports(ParticleType.TEXT));
+    assertFalse(ParticleBuffer.supports(ParticleType.SPRITE));
+  }
+
+  @Test
+  void testTextGlyphsAreOnlyRasterizedWhenTheirAppearanceChanges() {
+    TextParticle text = new TextParticle("test");
+    text.setColor(Color.RED);
+    Graphics2D g = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+    text.render(g, new Point2D.Double(50, 50));
+    BufferedImage glyphs = text.getGlyphs();
+    text.setAngle(45);
+    text.render(g, new Point2D.Double(60, 50));
+    assertSame(glyphs, text.getGlyphs());
+
+    text.setColor(Color.BLUE);
+    text.render(g, new Point2D.Double(60, 50));
+    assertNotSame(glyphs, text.getGlyphs());
+    g.dispose();
+  }
 }
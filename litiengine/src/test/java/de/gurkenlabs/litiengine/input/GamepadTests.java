@@ -1,7 +1,13 @@
 package de.gurkenlabs.litiengine.input;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
 
 class GamepadTests {
@@ -14,4 +20,29 @@ class GamepadTests {
     assertEquals("0", a);
     assertEquals(0.0f, off);
   }
+
+  @Test
+  void testVirtualGamepadReportsInjectedPollData() {
+    Map<String, Float> pollData = new ConcurrentHashMap<>();
+    Gamepad gamepad = new Gamepad(3, pollData);
+    List<String> pressed = new ArrayList<>();
+    List<String> released = new ArrayList<>();
+    gamepad.onPressed(e -> pressed.add(e.getComponentId()));
+    gamepad.onReleased(e -> released.add(e.getComponentId()));
+
+    pollData.put(Gamepad.Xbox.A, 1f);
+    gamepad.update();
+
+    assertTrue(gamepad.isVirtual());
+    assertTrue(gamepad.hasComponent(Gamepad.Xbox.A));
+    assertTrue(gamepad.isPressed(Gamepad.Xbox.A));
+    assertEquals(1f, gamepad.getPollData(Gamepad.Xbox.A));
+    assertEquals(List.of(Gamepad.Xbox.A), pressed);
+
+    pollData.put(Gamepad.Xbox.A, 0f);
+    gamepad.update();
+
+    assertFalse(gamepad.isPressed(Gamepad.Xbox.A));
+    assertEquals(List.of(Gamepad.Xbox.A), released);
+  }
 }
@@ -19,9 +19,11 @@ import java.awt.geom.Rectangle2D;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(GameTestSuite.class)
 class PhysicsEngineTests {
@@ -178,6 +180,37 @@ class PhysicsEngineTests {
     assertNull(hit);
   }
 
+  @Test
+  void testCollidesBatch() {
+    // arrange
+    Game.physics().add(new CollisionBox(10, 10, 10, 10));
+    Rectangle2D[] rects = {new Rectangle2D.Double(15, 15, 2, 2), new Rectangle2D.Double(0, 0, 2, 2)};
+
+    // act
+    boolean[] hits = Game.physics().collides(rects, Collision.ANY);
+
+    // assert
+    assertTrue(hits[0]);
+    assertFalse(hits[1]);
+  }
+
+  @Test
+  void testSnapshotOnlyContainsLocalCollisionBoxes() {
+    // arrange
+    Game.physics().add(new CollisionBox(10, 10, 10, 10));
+    Game.physics().add(new CollisionBox(100, 100, 10, 10));
+
+    // act
+    CollisionSnapshot snapshot = Game.physics().snapshot(new Rectangle2D.Double(0, 0, 50, 50));
+
+    // assert
+    assertEquals(1, snapshot.size());
+    assertTrue(snapshot.collides(new Rectangle2D.Double(15, 15, 2, 2), Collision.ANY));
+    assertTrue(snapshot.collides(new Line2D.Double(0, 15, 30, 15), Collision.ANY));
+    assertFalse(snapshot.collides(new Rectangle2D.Double(0, 0, 2, 2), Collision.ANY));
+    assertFalse(snapshot.collides(new Rectangle2D.Double(15, 15, 2, 2), Collision.DYNAMIC));
+  }
+
   @Test
   void testRaycastLine2DCollisionHit() {
     // arrange
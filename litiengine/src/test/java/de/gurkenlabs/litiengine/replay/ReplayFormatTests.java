@@ -0,0 +1,75 @@
+package de.gurkenlabs.litiengine.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+class ReplayFormatTests {
+  private final Component source = new Canvas();
+
+  @Test
+  void testKeyEventRoundTrip() throws IOException {
+    KeyEvent event = new KeyEvent(this.source, KeyEvent.KEY_PRESSED, 0, InputEvent.SHIFT_DOWN_MASK, KeyEvent.VK_W, 'W', KeyEvent.KEY_LOCATION_STANDARD);
+
+    DataInputStream in = this.roundTrip(event);
+    assertEquals(ReplayFormat.KEY, in.readByte());
+    KeyEvent read = ReplayFormat.readKeyEvent(in, this.source);
+
+    assertEquals(event.getID(), read.getID());
+    assertEquals(event.getKeyCode(), read.getKeyCode());
+    assertEquals(event.getKeyChar(), read.getKeyChar());
+    assertEquals(event.getModifiersEx(), read.getModifiersEx());
+    assertEquals(event.getKeyLocation(), read.getKeyLocation());
+  }
+
+  @Test
+  void testMouseEventRoundTrip() throws IOException {
+    MouseEvent event = new MouseEvent(this.source, MouseEvent.MOUSE_PRESSED, 0, InputEvent.BUTTON1_DOWN_MASK, 10, 20, 110, 120, 1, false, MouseEvent.BUTTON1);
+
+    DataInputStream in = this.roundTrip(event);
+    assertEquals(ReplayFormat.MOUSE, in.readByte());
+    MouseEvent read = ReplayFormat.readMouseEvent(in, this.source, false);
+
+    assertEquals(event.getID(), read.getID());
+    assertEquals(event.getPoint(), read.getPoint());
+    assertEquals(event.getLocationOnScreen(), read.getLocationOnScreen());
+    assertEquals(event.getButton(), read.getButton());
+    assertEquals(event.getClickCount(), read.getClickCount());
+  }
+
+  @Test
+  void testMouseWheelEventRoundTrip() throws IOException {
+    MouseWheelEvent event = new MouseWheelEvent(this.source, MouseEvent.MOUSE_WHEEL, 0, 0, 5, 5, 5, 5, 0, false, MouseWheelEvent.WHEEL_UNIT_SCROLL, 3, -1, -1.5);
+
+    DataInputStream in = this.roundTrip(event);
+    assertEquals(ReplayFormat.MOUSE_WHEEL, in.readByte());
+    MouseEvent read = ReplayFormat.readMouseEvent(in, this.source, true);
+
+    assertTrue(read instanceof MouseWheelEvent);
+    assertEquals(event.getWheelRotation(), ((MouseWheelEvent) read).getWheelRotation());
+    assertEquals(event.getPreciseWheelRotation(), ((MouseWheelEvent) read).getPreciseWheelRotation());
+    assertEquals(event.getScrollAmount(), ((MouseWheelEvent) read).getScrollAmount());
+  }
+
+  private DataInputStream roundTrip(InputEvent event) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      ReplayFormat.write(out, event);
+    }
+
+    return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+  }
+}
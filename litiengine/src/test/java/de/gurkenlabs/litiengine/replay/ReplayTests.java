@@ -0,0 +1,103 @@
+package de.gurkenlabs.litiengine.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTest;
+import de.gurkenlabs.litiengine.input.Input;
+import de.gurkenlabs.litiengine.test.GameTestSuite;
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(GameTestSuite.class)
+class ReplayTests {
+  private static final int TICKS = 5;
+
+  private final Component source = new Canvas();
+
+  @TempDir
+  Path tempPath;
+
+  @BeforeAll
+  public static void initGame() {
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+    new Input.InputGameAdapter().initialized();
+  }
+
+  @AfterAll
+  public static void terminateGame() {
+    Input.setInterceptor(null);
+    GameTest.terminateGame();
+  }
+
+  @Test
+  void testRecordedSessionIsReplayedTickByTick() {
+    Path file = this.tempPath.resolve("session.replay");
+    ReplayRecorder recorder = new ReplayRecorder(file, 42);
+    List<Boolean> recordedPressed = new ArrayList<>();
+    List<Integer> recordedRandom = new ArrayList<>();
+
+    // the recording only begins with the first tick after it was started
+    recorder.start();
+    assertFalse(recorder.isRecording());
+
+    for (int tick = 0; tick < TICKS; tick++) {
+      if (tick == 2) {
+        Input.getInterceptor().intercept(this.keyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_W));
+      } else if (tick == 4) {
+        Input.getInterceptor().intercept(this.keyEvent(KeyEvent.KEY_RELEASED, KeyEvent.VK_W));
+      }
+
+      recorder.update();
+      recordedPressed.add(Input.keyboard().isPressed(KeyEvent.VK_W));
+      recordedRandom.add(Game.random().nextInt(1000));
+    }
+
+    recorder.terminate();
+    assertEquals(TICKS, recorder.getFrames());
+
+    ReplayPlayer player = new ReplayPlayer(file);
+    AtomicBoolean finished = new AtomicBoolean();
+    player.onFinished(p -> finished.set(true));
+    List<Boolean> replayedPressed = new ArrayList<>();
+    List<Integer> replayedRandom = new ArrayList<>();
+
+    player.start();
+
+    // the physical input is ignored while the replay is running
+    Input.getInterceptor().intercept(this.keyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_S));
+
+    for (int tick = 0; tick < TICKS; tick++) {
+      player.update();
+      replayedPressed.add(Input.keyboard().isPressed(KeyEvent.VK_W));
+      replayedRandom.add(Game.random().nextInt(1000));
+    }
+
+    assertEquals(List.of(false, false, true, true, false), recordedPressed);
+    assertEquals(recordedPressed, replayedPressed);
+    assertEquals(recordedRandom, replayedRandom);
+    assertFalse(Input.keyboard().isPressed(KeyEvent.VK_S));
+    assertEquals(TICKS, player.getCurrentFrame());
+
+    assertFalse(finished.get());
+    player.update();
+    assertTrue(finished.get());
+    assertFalse(player.isRunning());
+  }
+
+  private KeyEvent keyEvent(int id, int keyCode) {
+    return new KeyEvent(this.source, id, 0, 0, keyCode, KeyEvent.CHAR_UNDEFINED);
+  }
+}
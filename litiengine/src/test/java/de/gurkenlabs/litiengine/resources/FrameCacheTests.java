@@ -0,0 +1,72 @@
+package de.gurkenlabs.litiengine.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.graphics.Spritesheet;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FrameCacheTests {
+
+  @AfterEach
+  void tearDown() {
+    Game.config().graphics().setFrameCacheSize(64);
+  }
+
+  @Test
+  void testFrameIsIdentifiedByItsCompositeKey() {
+    FrameCache cache = new FrameCache();
+    Spritesheet spritesheet = mock(Spritesheet.class);
+    BufferedImage frame = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+
+    cache.add(spritesheet, 1, 42, 0, 0, 0, frame);
+
+    assertSame(frame, cache.get(spritesheet, 1, 42, 0, 0, 0));
+    assertNull(cache.get(spritesheet, 2, 42, 0, 0, 0));
+    assertNull(cache.get(spritesheet, 1, 43, 0, 0, 0));
+    assertNull(cache.get(spritesheet, 1, 42, 1, 0, 0));
+    assertNull(cache.get(spritesheet, 1, 42, 0, 10, 10));
+    assertNull(cache.get(mock(Spritesheet.class), 1, 42, 0, 0, 0));
+    assertEquals(1, cache.getHits());
+    assertEquals(5, cache.getMisses());
+  }
+
+  @Test
+  void testLeastRecentlyUsedFramesAreEvictedWhenBudgetIsExceeded() {
+    // 1 MB fits exactly two frames of 256 x 512 ARGB pixels
+    Game.config().graphics().setFrameCacheSize(1);
+    FrameCache cache = new FrameCache();
+    Spritesheet spritesheet = mock(Spritesheet.class);
+
+    cache.add(spritesheet, 0, 0, 0, 0, 0, new BufferedImage(256, 512, BufferedImage.TYPE_INT_ARGB));
+    cache.add(spritesheet, 1, 0, 0, 0, 0, new BufferedImage(256, 512, BufferedImage.TYPE_INT_ARGB));
+
+    // accessing the first frame makes the second one the least recently used
+    cache.get(spritesheet, 0, 0, 0, 0, 0);
+    cache.add(spritesheet, 2, 0, 0, 0, 0, new BufferedImage(256, 512, BufferedImage.TYPE_INT_ARGB));
+
+    assertEquals(2, cache.size());
+    assertEquals(1024L * 1024L, cache.getMemoryUsage());
+    assertNull(cache.get(spritesheet, 1, 0, 0, 0, 0));
+  }
+
+  @Test
+  void testClearResetsMetrics() {
+    FrameCache cache = new FrameCache();
+    Spritesheet spritesheet = mock(Spritesheet.class);
+    cache.add(spritesheet, 0, 0, 0, 0, 0, new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+    cache.get(spritesheet, 0, 0, 0, 0, 0);
+
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getMemoryUsage());
+    assertEquals(0, cache.getHits());
+    assertEquals(0, cache.getMisses());
+  }
+}
@@ -0,0 +1,127 @@
+package de.gurkenlabs.litiengine.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.graphics.ImageRenderer;
+import de.gurkenlabs.litiengine.graphics.Spritesheet;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TextureAtlasBuilderTests {
+
+  @Test
+  void testImagesArePackedWithoutOverlap() {
+    TextureAtlasBuilder builder = new TextureAtlasBuilder(128, 128, 1);
+    for (int i = 0; i < 20; i++) {
+      builder.add("image" + i, createImage(10 + i, 30 - i, Color.RED));
+    }
+
+    List<TextureAtlas> pages = builder.build();
+    int packed = 0;
+    for (TextureAtlas page : pages) {
+      assertNotNull(page.getImage());
+      List<TextureAtlas.Sprite> sprites = page.getSprites();
+      for (int i = 0; i < sprites.size(); i++) {
+        Rectangle region = getRegion(sprites.get(i));
+        assertEquals(new Rectangle(0, 0, page.getWidth(), page.getHeight()).union(region), new Rectangle(0, 0, page.getWidth(), page.getHeight()));
+        for (int j = i + 1; j < sprites.size(); j++) {
+          assertFalse(region.intersects(getRegion(sprites.get(j))));
+        }
+      }
+
+      packed += sprites.size();
+    }
+
+    assertEquals(20, packed);
+  }
+
+  @Test
+  void testImagesAreSplitAcrossPages() {
+    TextureAtlasBuilder builder = new TextureAtlasBuilder(64, 64, 0);
+    builder.add("a", createImage(64, 40, Color.RED));
+    builder.add("b", createImage(64, 40, Color.BLUE));
+
+    assertEquals(2, builder.build().size());
+  }
+
+  @Test
+  void testTooLargeImagesAreNotPacked() {
+    TextureAtlasBuilder builder = new TextureAtlasBuilder(64, 64, 1);
+    builder.add("large", createImage(64, 10, Color.RED));
+
+    assertEquals(0, builder.build().size());
+  }
+
+  @Test
+  void testSpritesheetSpritesAreAtlasRegions() {
+    BufferedImage image = createImage(32, 16, Color.RED);
+    image.setRGB(16, 0, Color.BLUE.getRGB());
+    Spritesheet spritesheet = new Spritesheet(image, "atlas-test.png", 16, 16);
+
+    List<TextureAtlas> pages = Resources.spritesheets().pack(Collections.singletonList(spritesheet));
+
+    assertEquals(1, pages.size());
+    BufferedImage page = pages.get(0).getImage();
+    TextureAtlas.Sprite region = pages.get(0).getSprite("atlas-test");
+    assertNotNull(region);
+    assertEquals(Color.RED.getRGB(), spritesheet.getSprite(0).getRGB(0, 0));
+    assertEquals(Color.BLUE.getRGB(), spritesheet.getSprite(1).getRGB(0, 0));
+    assertSame(page.getRaster().getDataBuffer(), spritesheet.getSprite(1).getRaster().getDataBuffer());
+  }
+
+  @Test
+  void testSpritesheetsArePackedOnlyOnce() {
+    BufferedImage image = createImage(16, 16, Color.RED);
+    Resources.images().add("atlas-once.png", image);
+    Spritesheet spritesheet = new Spritesheet(image, "atlas-once.png", 16, 16);
+
+    assertEquals(1, Resources.spritesheets().pack(Collections.singletonList(spritesheet)).size());
+    assertTrue(spritesheet.isPacked());
+    BufferedImage packedImage = spritesheet.getImage();
+
+    // the original image is released once it has been copied to the page
+    assertFalse(Resources.images().contains("atlas-once.png"));
+    assertTrue(Resources.spritesheets().pack(Collections.singletonList(spritesheet)).isEmpty());
+    assertSame(packedImage, spritesheet.getImage());
+  }
+
+  @Test
+  void testAtlasRegionsAreRenderedFromPage() {
+    BufferedImage image = createImage(32, 16, Color.RED);
+    image.setRGB(16, 0, Color.BLUE.getRGB());
+    Spritesheet spritesheet = new Spritesheet(image, "atlas-render.png", 16, 16);
+    Resources.spritesheets().pack(Collections.singletonList(spritesheet));
+
+    BufferedImage target = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+    ImageRenderer.render(g, spritesheet.getSprite(1), 2, 3);
+    g.dispose();
+
+    assertEquals(Color.BLUE.getRGB(), target.getRGB(2, 3));
+    assertEquals(Color.RED.getRGB(), target.getRGB(17, 18));
+    assertEquals(0, target.getRGB(18, 19));
+    assertEquals(0, target.getRGB(1, 3));
+  }
+
+  private static Rectangle getRegion(TextureAtlas.Sprite sprite) {
+    return new Rectangle(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight());
+  }
+
+  private static BufferedImage createImage(int width, int height, Color color) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(color);
+    g.fillRect(0, 0, width, height);
+    g.dispose();
+    return image;
+  }
+}
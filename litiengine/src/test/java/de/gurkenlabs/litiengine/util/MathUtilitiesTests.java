@@ -151,4 +151,13 @@ class MathUtilitiesTests {
     assertEquals(0, MathUtilities.getPercent(percent3, fraction2));
     assertEquals(25.0, MathUtilities.getPercent(percent4, fraction2), 0.0001);
   }
+
+  @ParameterizedTest
+  @CsvSource({"0, 0", "3, 7", "-1, 5", "4, -2", "-2147483648, 2147483647"})
+  void testGridKey(int column, int row) {
+    long key = MathUtilities.getGridKey(column, row);
+
+    assertEquals(column, MathUtilities.getColumn(key));
+    assertEquals(row, MathUtilities.getRow(key));
+  }
 }
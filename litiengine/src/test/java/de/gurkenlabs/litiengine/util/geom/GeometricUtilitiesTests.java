@@ -82,6 +82,24 @@ class GeometricUtilitiesTests {
     assertEquals(new Point2D.Double(0, 0.5), mid);
   }
 
+  @Test
+  void testGetVisibilityPolygon() {
+    // arrange
+    Point2D origin = new Point2D.Double(50, 50);
+    Rectangle2D bounds = new Rectangle2D.Double(0, 0, 100, 100);
+    List<Line2D> occluders = List.of(new Line2D.Double(60, 40, 60, 60));
+
+    // act
+    Area visible = new Area(GeometricUtilities.getVisibilityPolygon(origin, bounds, occluders));
+
+    // assert
+    assertTrue(visible.contains(40, 50));
+    assertTrue(visible.contains(55, 50));
+    assertTrue(visible.contains(90, 0.5));
+    assertFalse(visible.contains(70, 50));
+    assertFalse(visible.contains(90, 50));
+  }
+
   @Test
   void testGetCenterLine() {
     // arrange